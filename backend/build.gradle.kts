@@ -5,6 +5,7 @@ plugins {
     id("org.springframework.boot") version "3.3.2"
     id("io.spring.dependency-management") version "1.1.6"
     id("org.flywaydb.flyway") version "10.17.0"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.flip"
@@ -24,6 +25,7 @@ flyway {
 
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
     implementation("org.springframework.boot:spring-boot-starter")
     implementation("org.springframework.boot:spring-boot-starter-logging")
     implementation("org.springframework.boot:spring-boot-starter-validation")
@@ -49,3 +51,22 @@ dependencies {
 }
 
 tasks.withType<Test> { useJUnitPlatform() }
+
+// Engine micro-benchmarks live in src/jmh/java. Run with `./gradlew jmh`; narrow the run with
+// -PjmhIncludes=<regex>. Results are written as JSON so runs can be diffed against a baseline.
+jmh {
+    jmhVersion.set("1.37")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    (findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+}
+
+// Headless bot-vs-bot UNO self-play, e.g.
+// ./gradlew simulateUno -PsimArgs="--games=1000000 --players=4 --seed=42 --threads=16"
+tasks.register<JavaExec>("simulateUno") {
+    group = "verification"
+    description = "Runs seeded multi-core UNO self-play and prints throughput, turn and win-rate statistics."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.flip.backend.uno.sim.UnoSimulatorCli")
+    (findProperty("simArgs") as String?)?.let { args(it.trim().split(Regex("\\s+"))) }
+}
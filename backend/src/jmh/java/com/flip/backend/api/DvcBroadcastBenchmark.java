@@ -0,0 +1,54 @@
+package com.flip.backend.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
+import com.flip.backend.dvc.engine.phase.DVCStartPhase;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payloads of one DVC runtime broadcast: every player's view built and encoded in full (the old path) against one
+ * public projection spliced around per-player entries ({@link DvcFrames}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DvcBroadcastBenchmark {
+
+    @Param({"2", "3", "4"})
+    public int players;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private DVCRuntimePhase runtime;
+    private List<String> ids;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ids = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) ids.add("P" + i);
+        DVCStartPhase start = new DVCStartPhase(ids);
+        start.enter();
+        for (String id : ids) start.settled(id);
+        runtime = start.transit();
+        runtime.enter();
+        runtime.provideDrawColor(runtime.board().currentPlayer().getId(), "BLACK");
+    }
+
+    @Benchmark
+    public int perPlayerViews() throws Exception {
+        int bytes = 0;
+        for (String id : ids) bytes += mapper.writeValueAsBytes(runtime.buildView(id)).length;
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[][] splicedFrames() {
+        return DvcFrames.encode(mapper, runtime.buildPublicView(), runtime::selfView);
+    }
+}
@@ -0,0 +1,77 @@
+package com.flip.backend.api;
+
+import com.flip.backend.dvc.engine.DVCGameRegistry;
+import com.flip.backend.service.game.UnoBotTurns;
+import com.flip.backend.uno.engine.UnoGameRegistry;
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.engine.phase.UnoStartPhase;
+import com.flip.backend.uno.engine.view.UnoView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning an engine view into the map served to the frontend (REST and full SSE views), against the
+ * per-turn SSE delta (capture the public state and diff it with the previous turn's) and a projection cache hit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UnoTransformViewBenchmark {
+
+    @Param({"2", "4", "6", "8", "10"})
+    public int players;
+
+    private UnoController controller;
+    private UnoRuntimePhase runtime;
+    private UnoView view;
+    private UnoViewDeltas.PublicState previous;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<String> ids = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) ids.add("BOT" + i);
+        UnoStartPhase start = new UnoStartPhase(ids);
+        start.enter();
+        runtime = start.transit();
+        // play a few turns so the action log carries a realistic number of events
+        for (int i = 0; i < 40 && runtime.winnerId() == null; i++) runtime.runSingleTurn();
+        previous = UnoViewDeltas.capture(runtime);
+        if (runtime.winnerId() == null) runtime.runSingleTurn();
+        UnoGameRegistry registry = new UnoGameRegistry();
+        controller = new UnoController(registry, new UnoSseService(new ObjectMapper(),
+            new SseFanout(new SimpleMeterRegistry(), 1, 8, Duration.ofSeconds(15), Duration.ofSeconds(5)), 32), null, null,
+            new ViewProjections(registry, new DVCGameRegistry(), new SimpleMeterRegistry()), null,
+            new UnoBotTurns(registry, null, null, null, new SimpleMeterRegistry(), Duration.ZERO, Duration.ZERO));
+        view = runtime.buildView(ids.get(0));
+    }
+
+    @Benchmark
+    public Map<String, Object> transformView() {
+        return controller.transformView(runtime, view);
+    }
+
+    @Benchmark
+    public Map<String, Object> buildAndTransformView() {
+        return controller.transformView(runtime, runtime.buildView(null));
+    }
+
+    @Benchmark
+    public Map<String, Object> captureAndDelta() {
+        return UnoViewDeltas.delta(previous, UnoViewDeltas.capture(runtime), runtime);
+    }
+
+    @Benchmark
+    public Map<String, Object> cachedViewerView() {
+        return controller.viewFor("bench", runtime, "BOT0");
+    }
+}
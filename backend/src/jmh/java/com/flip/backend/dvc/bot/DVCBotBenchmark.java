@@ -0,0 +1,58 @@
+package com.flip.backend.dvc.bot;
+
+import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
+import com.flip.backend.dvc.engine.phase.DVCStartPhase;
+import com.flip.backend.game.rng.RandomSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DVC bot cost: {@code infer} builds the inference of the player to move at a mid-game 4-player position and
+ * picks its guess; {@code botGame} plays a whole 4-bot game from the deal.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DVCBotBenchmark {
+    private static final List<String> IDS = List.of("BOT1", "BOT2", "BOT3", "BOT4");
+
+    private DVCRuntimePhase position;
+    private String observer;
+    private long seed;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        position = newGame(11);
+        // a few turns in: some cards revealed, some guesses failed
+        for (int i = 0; i < 40 && !position.isFinished(); i++) {
+            if (position.awaiting() == DVCRuntimePhase.Awaiting.GUESS_SELECTION && i > 20) break;
+            DVCBot.act(position);
+        }
+        observer = position.board().currentPlayer().getId();
+    }
+
+    private static DVCRuntimePhase newGame(long seed) {
+        DVCStartPhase start = new DVCStartPhase(IDS, RandomSource.seeded(seed));
+        start.enter();
+        DVCRuntimePhase rt = start.transit();
+        rt.enter();
+        return rt;
+    }
+
+    @Benchmark
+    public DVCInference.Guess infer() {
+        return DVCInference.observe(position, observer).best();
+    }
+
+    @Benchmark
+    public String botGame() {
+        DVCRuntimePhase rt = newGame(seed++);
+        rt.playBots();
+        return rt.winnerId();
+    }
+}
@@ -0,0 +1,65 @@
+package com.flip.backend.dvc.engine;
+
+import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
+import com.flip.backend.dvc.engine.phase.DVCStartPhase;
+import com.flip.backend.dvc.entities.DVCCard;
+import com.flip.backend.dvc.entities.DVCPlayer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full DVC turn: draw color -> guess -> reveal (decision) -> settle.
+ * Guesses alternate between a correct guess (reveal + stop) and a miss (pending card revealed), but never reveal a
+ * player's last hidden card so the table stays alive; the game is restarted once the deck runs dry.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DVCRuntimeCycleBenchmark {
+
+    @Param({"2", "3", "4"})
+    public int players;
+
+    private DVCRuntimePhase runtime;
+    private boolean hit;
+
+    @Setup(Level.Iteration)
+    public void newGame() {
+        List<String> ids = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) ids.add("P" + i);
+        DVCStartPhase start = new DVCStartPhase(ids);
+        start.enter();
+        for (String id : ids) start.settled(id);
+        runtime = start.transit();
+        runtime.enter();
+    }
+
+    @Benchmark
+    public long drawGuessRevealSettle() {
+        if (runtime.isFinished() || runtime.deck().remaining() == 0) newGame();
+        DVCPlayer me = (DVCPlayer) runtime.board().currentPlayer();
+        String id = me.getId();
+        runtime.provideDrawColor(id, runtime.deck().remaining() % 2 == 0 ? "BLACK" : "WHITE");
+
+        DVCPlayer target = (DVCPlayer) runtime.board().peekNext();
+        List<DVCCard> cards = target.hand().snapshot();
+        int idx = 0;
+        while (cards.get(idx).isFaceUp()) idx++;
+        DVCCard card = cards.get(idx);
+        hit = !hit && target.hiddenCount() > 1;
+        if (hit) {
+            runtime.provideGuess(id, target.getId(), idx, card.isJoker(), card.isJoker() ? null : card.getNumber());
+            runtime.provideRevealDecision(id, false);
+        } else {
+            runtime.provideGuess(id, target.getId(), idx, false, 99);
+        }
+        runtime.provideSettleHand(id, null);
+        return runtime.turnId();
+    }
+}
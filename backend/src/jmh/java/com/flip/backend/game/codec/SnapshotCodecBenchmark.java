@@ -0,0 +1,87 @@
+package com.flip.backend.game.codec;
+
+import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
+import com.flip.backend.dvc.engine.phase.DVCStartPhase;
+import com.flip.backend.dvc.engine.state.DVCRuntimeSnapshot;
+import com.flip.backend.dvc.engine.state.DVCSnapshotCodec;
+import com.flip.backend.game.rng.RandomSource;
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.engine.phase.UnoStartPhase;
+import com.flip.backend.uno.engine.state.UnoSnapshot;
+import com.flip.backend.uno.engine.state.UnoSnapshotCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Passivation cost per game: capture + binary encode, and decode + restore, for a mid-game UNO table (full
+ * 50-entry action log) and a DVC table that has drawn a few cards.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotCodecBenchmark {
+
+    @Param({"2", "4"})
+    public int players;
+
+    private UnoRuntimePhase uno;
+    private UnoSnapshot unoSnapshot;
+    private byte[] unoBlob;
+    private DVCRuntimePhase dvc;
+    private DVCRuntimeSnapshot dvcSnapshot;
+    private byte[] dvcBlob;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<String> ids = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) ids.add("BOT" + i);
+        UnoStartPhase start = new UnoStartPhase(ids, RandomSource.seeded(17));
+        start.enter();
+        uno = start.transit();
+        for (int i = 0; i < 40 && uno.winnerId() == null; i++) uno.runSingleTurn();
+        unoSnapshot = uno.snapshot();
+        unoBlob = UnoSnapshotCodec.encode(unoSnapshot);
+
+        DVCStartPhase dvcStart = new DVCStartPhase(ids, RandomSource.seeded(17));
+        dvcStart.enter();
+        ids.forEach(dvcStart::settled);
+        dvc = dvcStart.transit();
+        dvc.enter();
+        for (int i = 0; i < players * 2 && !dvc.isFinished(); i++) {
+            String id = dvc.board().currentPlayer().getId();
+            dvc.provideDrawColor(id, i % 2 == 0 ? "BLACK" : "WHITE");
+            String target = dvc.board().peekNext().getId();
+            dvc.provideGuess(id, target, 0, false, 99);
+            if (dvc.awaiting() == DVCRuntimePhase.Awaiting.SETTLE_POSITION) dvc.provideSettlePosition(id, null);
+        }
+        dvcSnapshot = dvc.snapshot();
+        dvcBlob = DVCSnapshotCodec.encode(dvcSnapshot);
+    }
+
+    @Benchmark
+    public byte[] unoEncode() { return UnoSnapshotCodec.encode(unoSnapshot); }
+
+    @Benchmark
+    public UnoSnapshot unoDecode() { return UnoSnapshotCodec.decode(unoBlob); }
+
+    @Benchmark
+    public byte[] unoPassivate() { return UnoSnapshotCodec.encode(uno.snapshot()); }
+
+    @Benchmark
+    public UnoRuntimePhase unoRehydrate() { return UnoRuntimePhase.restore(UnoSnapshotCodec.decode(unoBlob)); }
+
+    @Benchmark
+    public byte[] dvcEncode() { return DVCSnapshotCodec.encode(dvcSnapshot); }
+
+    @Benchmark
+    public DVCRuntimeSnapshot dvcDecode() { return DVCSnapshotCodec.decodeRuntime(dvcBlob); }
+
+    @Benchmark
+    public DVCRuntimePhase dvcRehydrate() { return DVCRuntimePhase.restore(DVCSnapshotCodec.decodeRuntime(dvcBlob)); }
+}
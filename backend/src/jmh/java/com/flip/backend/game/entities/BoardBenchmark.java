@@ -0,0 +1,48 @@
+package com.flip.backend.game.entities;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Seat navigation primitives used on every turn and every view build. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+
+    static final class BenchPlayer extends Player { BenchPlayer(String id) { super(id); } }
+
+    @Param({"2", "4", "6", "8", "10"})
+    public int players;
+
+    private Board<BenchPlayer> board;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<BenchPlayer> seats = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) seats.add(new BenchPlayer("P" + i));
+        board = new Board<>(seats);
+    }
+
+    @Benchmark
+    public Player step() {
+        board.step(1);
+        return board.currentPlayer();
+    }
+
+    @Benchmark
+    public Player stepSkip() {
+        board.step(2);
+        return board.currentPlayer();
+    }
+
+    @Benchmark
+    public List<BenchPlayer> snapshotOrder() {
+        return board.snapshotOrder();
+    }
+}
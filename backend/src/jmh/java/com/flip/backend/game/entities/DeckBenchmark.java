@@ -0,0 +1,57 @@
+package com.flip.backend.game.entities;
+
+import com.flip.backend.uno.entities.UnoCard;
+import com.flip.backend.uno.entities.UnoDeck;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** Draw / discard cycling and discard reshuffles on a full 108 card UNO deck. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeckBenchmark {
+
+    /** Exposes the protected reshuffle so it can be measured on its own. */
+    static final class BenchDeck extends UnoDeck {
+        void reshuffle() { reshuffleFromDiscards(); }
+    }
+
+    private BenchDeck deck;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        deck = new BenchDeck();
+        deck.initialize();
+    }
+
+    /** Draw then immediately discard, so every ~107 calls include a reshuffle (as in a long game). */
+    @Benchmark
+    public UnoCard drawDiscardCycle() {
+        UnoCard c = deck.draw();
+        deck.discard(c);
+        return c;
+    }
+
+    @State(Scope.Thread)
+    public static class FullDiscards {
+        BenchDeck deck;
+
+        @Setup(Level.Invocation)
+        public void moveAllToDiscards() {
+            deck = new BenchDeck();
+            deck.initialize();
+            UnoCard c;
+            while (deck.remaining() > 0 && (c = deck.draw()) != null) deck.discard(c);
+        }
+    }
+
+    @Benchmark
+    public int reshuffleFromDiscards(FullDiscards s) {
+        s.deck.reshuffle();
+        return s.deck.remaining();
+    }
+}
@@ -0,0 +1,70 @@
+package com.flip.backend.game.rng;
+
+import com.flip.backend.uno.entities.UnoCard;
+import com.flip.backend.uno.entities.UnoDeck;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shuffle throughput of a 108 card list: the previous per-deck SecureRandom + Collections.shuffle against the
+ * RandomSource strategies, plus a whole UnoDeck construction + initialize (what every new game pays).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShuffleBenchmark {
+
+    private List<UnoCard> cards;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final RandomSource seeded = RandomSource.seeded(42L);
+    private final RandomSource secure = RandomSource.secure();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        UnoDeck deck = new UnoDeck(RandomSource.seeded(1L));
+        deck.initialize();
+        cards = new ArrayList<>(deck.total());
+        UnoCard c;
+        while ((c = deck.draw()) != null) cards.add(c);
+    }
+
+    @Benchmark
+    public List<UnoCard> collectionsShuffleSecureRandom() {
+        Collections.shuffle(cards, secureRandom);
+        return cards;
+    }
+
+    @Benchmark
+    public List<UnoCard> seededSource() {
+        seeded.shuffle(cards);
+        return cards;
+    }
+
+    @Benchmark
+    public List<UnoCard> secureSource() {
+        secure.shuffle(cards);
+        return cards;
+    }
+
+    @Benchmark
+    public UnoDeck newDeckSeeded() {
+        UnoDeck deck = new UnoDeck(RandomSource.seeded(seeded.nextLong()));
+        deck.initialize();
+        return deck;
+    }
+
+    @Benchmark
+    public UnoDeck newDeckSecure() {
+        UnoDeck deck = new UnoDeck(RandomSource.secure());
+        deck.initialize();
+        return deck;
+    }
+}
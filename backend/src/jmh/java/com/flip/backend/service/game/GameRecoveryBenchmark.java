@@ -0,0 +1,79 @@
+package com.flip.backend.service.game;
+
+import com.flip.backend.dvc.engine.DVCGameRegistry;
+import com.flip.backend.dvc.engine.DVCStartRegistry;
+import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
+import com.flip.backend.dvc.engine.phase.DVCStartPhase;
+import com.flip.backend.dvc.engine.state.DVCSnapshotCodec;
+import com.flip.backend.game.rng.RandomSource;
+import com.flip.backend.uno.engine.UnoGameRegistry;
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.engine.phase.UnoStartPhase;
+import com.flip.backend.uno.engine.state.UnoSnapshotCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup recovery of {@code games} persisted tables (2/3 UNO mid-game, 1/3 DVC runtime), from blobs already
+ * fetched to fully resident registries. {@code parallelism = 0} uses every core.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameRecoveryBenchmark {
+
+    @Param({"100000"})
+    public int games;
+
+    @Param({"1", "0"})
+    public int parallelism;
+
+    private List<GameRecovery.Row> rows;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        rows = rows(games);
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() { pool.shutdown(); }
+
+    @Benchmark
+    public GameRecovery.Report recover() {
+        return new GameRecovery(new UnoGameRegistry(), new DVCGameRegistry(), new DVCStartRegistry()).recover(rows, pool);
+    }
+
+    /** Distinct blobs for a few hundred seeds, repeated under unique ids (encoding 100k live games would dominate setup). */
+    static List<GameRecovery.Row> rows(int games) {
+        List<byte[]> blobs = new ArrayList<>();
+        for (long seed = 0; seed < 300; seed++) {
+            List<String> ids = List.of("BOT1", "BOT2", "BOT3", "BOT4");
+            if (seed % 3 == 2) {
+                DVCStartPhase start = new DVCStartPhase(ids, RandomSource.seeded(seed));
+                start.enter();
+                ids.forEach(start::settled);
+                DVCRuntimePhase rt = start.transit();
+                rt.enter();
+                blobs.add(DVCSnapshotCodec.encode(rt.snapshot()));
+            } else {
+                UnoStartPhase start = new UnoStartPhase(ids, RandomSource.seeded(seed));
+                start.enter();
+                UnoRuntimePhase rt = start.transit();
+                for (int i = 0; i < 30 && rt.winnerId() == null; i++) rt.runSingleTurn();
+                blobs.add(UnoSnapshotCodec.encode(rt.snapshot()));
+            }
+        }
+        List<GameRecovery.Row> rows = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) rows.add(new GameRecovery.Row("g" + i, blobs.get(i % blobs.size())));
+        return rows;
+    }
+}
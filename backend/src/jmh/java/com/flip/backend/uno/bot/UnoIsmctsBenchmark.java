@@ -0,0 +1,71 @@
+package com.flip.backend.uno.bot;
+
+import com.flip.backend.game.rng.RandomSource;
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.engine.phase.UnoStartPhase;
+import com.flip.backend.uno.entities.UnoPlayer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bot search cost and strength. {@code decide} is one ISMCTS move from a mid-game position at a fixed iteration
+ * budget. {@code match} plays a whole 4-seat game with one searching seat (rotating) against the built-in rule;
+ * the {@code wins}/{@code games} counters give its win rate (a quarter is parity).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 4)
+@Fork(1)
+@State(Scope.Thread)
+public class UnoIsmctsBenchmark {
+
+    @Param({"100", "1000"})
+    public int iterations;
+
+    private UnoInfoSet position;
+    private SplittableRandom rng;
+    private long game;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Outcome {
+        public long games;
+        public long wins;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        UnoRuntimePhase rt = newGame(7);
+        for (int i = 0; i < 12 && rt.winnerId() == null; i++) rt.runSingleTurn();
+        position = UnoInfoSet.capture(rt, (UnoPlayer) rt.board().currentPlayer());
+        rng = new SplittableRandom(7);
+    }
+
+    private static UnoRuntimePhase newGame(long seed) {
+        UnoStartPhase start = new UnoStartPhase(List.of("BOT0", "BOT1", "BOT2", "BOT3"), RandomSource.seeded(seed));
+        start.enter();
+        return start.transit();
+    }
+
+    @Benchmark
+    public UnoIsmcts.Result decide() {
+        return UnoIsmcts.search(position, rng, Long.MAX_VALUE, iterations);
+    }
+
+    @Benchmark
+    public String match(Outcome outcome) {
+        long seed = game++;
+        String searcher = "BOT" + (seed % 4);
+        UnoRuntimePhase rt = newGame(1000 + seed);
+        UnoIsmctsPolicy search = new UnoIsmctsPolicy(seed, Long.MAX_VALUE, iterations);
+        rt.setBotPolicy((runtime, bot) -> bot.getId().equals(searcher) ? search.choose(runtime, bot) : null);
+        for (int t = 0; t < 3000 && rt.winnerId() == null; t++) rt.runSingleTurn();
+        outcome.games++;
+        if (searcher.equals(rt.winnerId())) outcome.wins++;
+        return rt.winnerId();
+    }
+}
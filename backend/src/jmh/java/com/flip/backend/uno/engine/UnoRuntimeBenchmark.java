@@ -0,0 +1,88 @@
+package com.flip.backend.uno.engine;
+
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.engine.phase.UnoStartPhase;
+import com.flip.backend.uno.entities.UnoCard;
+import com.flip.backend.uno.entities.UnoPlayer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot paths of the UNO runtime: one automated turn, one human command and one perspective view.
+ * Games are restarted in place once a winner is found, so a measured turn always runs on a live table.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UnoRuntimeBenchmark {
+
+    @Param({"2", "4", "6", "8", "10"})
+    public int players;
+
+    private UnoStartPhase start;
+    private UnoRuntimePhase runtime;
+
+    @Setup(Level.Iteration)
+    public void newGame() {
+        List<String> ids = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) ids.add("P" + i);
+        start = new UnoStartPhase(ids);
+        start.enter();
+        runtime = start.transit();
+    }
+
+    private void ensureRunning() {
+        if (runtime.winnerId() != null) newGame();
+    }
+
+    @Benchmark
+    public void runSingleTurn(Blackhole bh) {
+        ensureRunning();
+        runtime.runSingleTurn();
+        bh.consume(runtime.lastEventSeq());
+    }
+
+    @Benchmark
+    public UnoRuntimePhase.CommandResult applyPlayerCommand() {
+        ensureRunning();
+        UnoPlayer current = (UnoPlayer) start.board().currentPlayer();
+        UnoRuntimePhase.CommandResult result = runtime.applyPlayerCommand(nextCommand(current));
+        if (runtime.isAwaitingColorChoice()) {
+            result = runtime.applyPlayerCommand(new UnoRuntimePhase.PlayerCommand("CHOOSE_COLOR", current.getId(), "RED", null));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object buildView() {
+        return runtime.buildView(start.board().currentPlayer().getId());
+    }
+
+    /** First legal play in hand order, otherwise a draw (mirrors what a human client would send). */
+    private UnoRuntimePhase.PlayerCommand nextCommand(UnoPlayer current) {
+        if (runtime.pendingDrawPenalty() == 0) {
+            UnoCard top = start.board().lastPlayedCard();
+            UnoCard.Color active = start.board().activeColor();
+            for (UnoCard c : current.getHand().view()) {
+                if (!playable(c, top, active)) continue;
+                String value = c.getType() == UnoCard.Type.NUMBER ? String.valueOf(c.getNumber()) : c.getType().name();
+                return new UnoRuntimePhase.PlayerCommand("PLAY_CARD", current.getId(), c.getColor().name(), value);
+            }
+        }
+        return new UnoRuntimePhase.PlayerCommand("DRAW_CARD", current.getId(), null, null);
+    }
+
+    private static boolean playable(UnoCard c, UnoCard top, UnoCard.Color active) {
+        if (c.getType() == UnoCard.Type.WILD || c.getType() == UnoCard.Type.WILD_DRAW_FOUR) return true;
+        if (top == null || c.getColor() == active) return true;
+        if (c.getType() != UnoCard.Type.NUMBER) return c.getType() == top.getType();
+        return top.getType() == UnoCard.Type.NUMBER && c.getNumber().equals(top.getNumber());
+    }
+}
@@ -0,0 +1,92 @@
+package com.flip.backend.api;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Small-int card faces for the compact wire format ({@link WireFormat#CBOR}), replacing display strings.
+ * <ul>
+ *   <li>UNO: {@code colour * 13 + rank} for RED, YELLOW, GREEN, BLUE (rank 0-9, SKIP 10, REVERSE 11, DRAW_TWO 12),
+ *   52 WILD, 53 WILD_DRAW_FOUR.</li>
+ *   <li>DVC: {@code colour * 14 + face} for BLACK, WHITE (face 0-11, joker 12, hidden 13).</li>
+ * </ul>
+ * These are faces, not the physical ids of the snapshot codecs: clients render them, they never identify a copy.
+ */
+final class CardIds {
+    private static final List<String> UNO_COLORS = List.of("RED", "YELLOW", "GREEN", "BLUE");
+    private static final List<String> UNO_ACTIONS = List.of("SKIP", "REVERSE", "DRAW_TWO");
+    static final int UNO_WILD = 52;
+    static final int UNO_WILD_DRAW_FOUR = 53;
+    static final int DVC_JOKER = 12;
+    static final int DVC_HIDDEN = 13;
+
+    private CardIds() {}
+
+    /** UNO display ("RED 5", "BLUE SKIP", "WILD") to its id. */
+    static int uno(String display) {
+        if (display.equals("WILD")) return UNO_WILD;
+        if (display.equals("WILD_DRAW_FOUR")) return UNO_WILD_DRAW_FOUR;
+        int sp = display.indexOf(' ');
+        int color = sp > 0 ? UNO_COLORS.indexOf(display.substring(0, sp)) : -1;
+        if (color < 0) throw new IllegalArgumentException("Bad UNO card " + display);
+        String value = display.substring(sp + 1);
+        int rank = value.length() == 1 && Character.isDigit(value.charAt(0)) ? value.charAt(0) - '0' : 10 + UNO_ACTIONS.indexOf(value);
+        if (rank < 0 || rank > 12) throw new IllegalArgumentException("Bad UNO card " + display);
+        return color * 13 + rank;
+    }
+
+    /** Inverse of {@link #uno(String)}: the frontend's {color, value} pair (color null for wilds). */
+    static String[] unoFace(int id) {
+        if (id == UNO_WILD) return new String[] { null, "WILD" };
+        if (id == UNO_WILD_DRAW_FOUR) return new String[] { null, "WILD_DRAW_FOUR" };
+        if (id < 0 || id >= UNO_WILD) throw new IllegalArgumentException("Bad UNO card id " + id);
+        int rank = id % 13;
+        return new String[] { UNO_COLORS.get(id / 13), rank < 10 ? Integer.toString(rank) : UNO_ACTIONS.get(rank - 10) };
+    }
+
+    /** DVC display ("BLACK 7", "WHITE -" joker, "BLACK ≤" hidden) to its id. */
+    static int dvc(String display) {
+        int sp = display.indexOf(' ');
+        int color = sp < 0 ? -1 : switch (display.substring(0, sp)) {
+            case "BLACK" -> 0;
+            case "WHITE" -> 1;
+            default -> -1;
+        };
+        if (color < 0) throw new IllegalArgumentException("Bad DVC card " + display);
+        String face = display.substring(sp + 1);
+        int f = switch (face) {
+            case "-" -> DVC_JOKER;
+            case "≤" -> DVC_HIDDEN;
+            default -> {
+                int n = Integer.parseInt(face);
+                yield n < DVC_JOKER ? n : -1; // 12 and 13 are the joker and hidden ids, not numbers
+            }
+        };
+        if (f < 0) throw new IllegalArgumentException("Bad DVC card " + display);
+        return color * 14 + f;
+    }
+
+    /**
+     * Copy of a UNO frontend payload (view, delta, hand) with every {color, value} card replaced by its id. Other
+     * maps and lists are copied as they are; the input (possibly a shared cached view) is not modified.
+     */
+    static Object compactUno(Object node) {
+        if (node instanceof Map<?, ?> map) {
+            if (map.size() == 2 && map.containsKey("color") && map.get("value") instanceof String value) {
+                Object color = map.get("color");
+                return uno(color == null ? value : color + " " + value);
+            }
+            Map<Object, Object> out = new LinkedHashMap<>(map.size() * 2);
+            map.forEach((k, v) -> out.put(k, compactUno(v)));
+            return out;
+        }
+        if (node instanceof List<?> list) {
+            List<Object> out = new ArrayList<>(list.size());
+            for (Object o : list) out.add(compactUno(o));
+            return out;
+        }
+        return node;
+    }
+}
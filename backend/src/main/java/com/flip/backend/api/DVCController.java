@@ -5,30 +5,91 @@ import com.flip.backend.dvc.engine.DVCStartRegistry;
 import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
 import com.flip.backend.dvc.engine.phase.DVCStartPhase;
 import com.flip.backend.dvc.engine.view.DVCView;
+import com.flip.backend.service.game.DVCBotTurns;
 import com.flip.backend.service.game.DVCGameService;
+import com.flip.backend.service.game.GameActorService;
+import com.flip.backend.service.game.GameStateStore;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 /** Minimal REST controller for DVC interactions (prototype). */
 @RestController
 @RequestMapping("/api/dvc")
 public class DVCController {
+	/** Longest accepted step batch: a batch holds its game's actor for its whole run. */
+	static final int MAX_BATCH = 16;
+
 	private final DVCGameRegistry runtimeRegistry;
 	private final DVCStartRegistry startRegistry;
 	private final DvcWsService ws;
-	public DVCController(DVCGameRegistry runtimeRegistry, DVCStartRegistry startRegistry, DVCGameService gameService, DvcWsService ws) {
-		this.runtimeRegistry = runtimeRegistry; this.startRegistry = startRegistry; this.ws = ws; }
+	private final GameActorService actors;
+	private final GameStateStore states;
+	private final DVCBotTurns botTurns;
+	public DVCController(DVCGameRegistry runtimeRegistry, DVCStartRegistry startRegistry, DVCGameService gameService, DvcWsService ws, GameActorService actors, GameStateStore states, DVCBotTurns botTurns) {
+		this.runtimeRegistry = runtimeRegistry; this.startRegistry = startRegistry; this.ws = ws; this.actors = actors; this.states = states; this.botTurns = botTurns;
+		// bots move in their own scheduled actor tasks: on entering the runtime, after rehydration, after each human input
+		runtimeRegistry.setResidentHook(botTurns::schedule);
+		botTurns.setListener(this::broadcast);
+	}
+
+	/** Stage the new state for the write-behind flush (encoded here on the actor, written to the database later). */
+	private void persist(String gameId, DVCRuntimePhase rt) { states.stage(gameId, GameStateStore.Kind.DVC, rt.snapshot(), rt.isFinished()); }
+	private void persist(String gameId, DVCStartPhase sp) { states.stage(gameId, GameStateStore.Kind.DVC_START, sp.snapshot(), false); }
+
+	/** Persist and broadcast the game's current state once (after a settle or a batch of steps). */
+	private void publish(String gameId) {
+		var rt = runtime(gameId);
+		if (rt != null) {
+			persist(gameId, rt);
+			broadcast(gameId, rt);
+			return;
+		}
+		var sp = startPhase(gameId);
+		if (sp != null) { persist(gameId, sp); ws.broadcastStart(gameId, sp); }
+	}
+
+	/** Push the runtime state and any reveals it recorded since the last push. */
+	private void broadcast(String gameId, DVCRuntimePhase rt) {
+		ws.broadcastRuntime(gameId, rt);
+		var reveals = rt.drainRecentReveals();
+		if (!reveals.isEmpty()) ws.broadcastDvcPublicReveals(gameId, reveals);
+	}
+
+	/** After an accepted human input, schedule the next bot input if a bot is now to move. */
+	private boolean thenBots(String gameId, DVCRuntimePhase rt, boolean accepted) {
+		if (accepted) botTurns.schedule(gameId, rt);
+		return accepted;
+	}
 
 	private DVCRuntimePhase runtime(String gameId) { return runtimeRegistry.get(gameId); }
 	private DVCStartPhase startPhase(String gameId) { return startRegistry.get(gameId); }
+	/** False only for ids both registries recently missed; never loads (a passivated game is restored on its actor). */
+	private boolean known(String gameId) {
+		return !runtimeRegistry.knownAbsent(gameId) || !startRegistry.knownAbsent(gameId);
+	}
+
+	/**
+	 * Run on the game's actor (start phase and runtime alike), where a passivated game is loaded; ids known to be
+	 * absent answer {@code missing} without queueing.
+	 */
+	private <T> CompletableFuture<T> onGame(String gameId, T missing, Supplier<T> body) {
+		if (!known(gameId)) return CompletableFuture.completedFuture(missing);
+		return actors.submit(gameId, body);
+	}
 
 	@GetMapping("/{gameId}/view/{playerId}")
-	public ResponseEntity<DVCView> view(@PathVariable String gameId, @PathVariable String playerId) {
+	public CompletableFuture<ResponseEntity<DVCView>> view(@PathVariable String gameId, @PathVariable String playerId) {
+		return onGame(gameId, ResponseEntity.notFound().build(), () -> viewNow(gameId, playerId));
+	}
+
+	private ResponseEntity<DVCView> viewNow(String gameId, String playerId) {
 		var rt = runtime(gameId);
-		if (rt!=null) {
-			var v = rt.buildView(playerId);
-			return ResponseEntity.ok(v);
-		}
+		if (rt!=null) return ResponseEntity.ok(ws.view(gameId, rt, playerId));
 		var sp = startPhase(gameId);
 		if (sp==null) return ResponseEntity.notFound().build();
 		var v = sp.buildView(playerId);
@@ -37,39 +98,60 @@ public class DVCController {
 
 	/** Public snapshot of currently revealed tokens per player (no private info). */
 	@GetMapping("/{gameId}/public-tokens")
-	public ResponseEntity<java.util.Map<String, java.util.List<String>>> publicTokens(@PathVariable String gameId) {
-		var rt = runtime(gameId);
-		if (rt == null) return ResponseEntity.notFound().build();
-		return ResponseEntity.ok(rt.publicTokensSnapshot());
+	public CompletableFuture<ResponseEntity<java.util.Map<String, java.util.List<String>>>> publicTokens(@PathVariable String gameId) {
+		return onGame(gameId, ResponseEntity.notFound().build(), () -> {
+			var rt = runtime(gameId);
+			if (rt == null) return ResponseEntity.<java.util.Map<String, java.util.List<String>>>notFound().build();
+			return ResponseEntity.ok(rt.publicTokensSnapshot());
+		});
 	}
 
 	public record DrawColorRequest(String playerId, String color) {}
 	@PostMapping("/{gameId}/drawColor")
-	public boolean drawColor(@PathVariable String gameId, @RequestBody DrawColorRequest req) {
-		var rt = runtime(gameId); if (rt==null) return false; boolean ok = rt.provideDrawColor(req.playerId(), req.color()); if (ok) ws.broadcastRuntime(gameId, rt); return ok;
+	public CompletableFuture<Boolean> drawColor(@PathVariable String gameId, @RequestBody DrawColorRequest req) {
+		return onGame(gameId, false, () -> {
+			var rt = runtime(gameId); if (rt==null) return false; boolean ok = rt.provideDrawColor(req.playerId(), req.color()); if (ok) { persist(gameId, rt); broadcast(gameId, rt); } return ok;
+		});
 	}
 
 	public record GuessRequest(String playerId, String targetPlayerId, int targetIndex, boolean joker, Integer number) {}
 	@PostMapping("/{gameId}/guess")
-	public boolean guess(@PathVariable String gameId, @RequestBody GuessRequest req) {
-		var rt = runtime(gameId); if (rt==null) return false; boolean ok = rt.provideGuess(req.playerId(), req.targetPlayerId(), req.targetIndex(), req.joker(), req.number()); if (ok) { ws.broadcastRuntime(gameId, rt); ws.broadcastDvcPublicReveals(gameId, (java.util.Collection<?>) rt.drainRecentReveals()); } return ok;
+	public CompletableFuture<Boolean> guess(@PathVariable String gameId, @RequestBody GuessRequest req) {
+		return onGame(gameId, false, () -> {
+			var rt = runtime(gameId); if (rt==null) return false; boolean ok = thenBots(gameId, rt, rt.provideGuess(req.playerId(), req.targetPlayerId(), req.targetIndex(), req.joker(), req.number())); if (ok) { persist(gameId, rt); broadcast(gameId, rt); } return ok;
+		});
 	}
 
 	public record RevealDecisionRequest(String playerId, boolean cont) {}
 	@PostMapping("/{gameId}/revealDecision")
-	public boolean revealDecision(@PathVariable String gameId, @RequestBody RevealDecisionRequest req) {
-		var rt = runtime(gameId); if (rt==null) return false; boolean ok = rt.provideRevealDecision(req.playerId(), req.cont()); if (ok) { ws.broadcastRuntime(gameId, rt); ws.broadcastDvcPublicReveals(gameId, (java.util.Collection<?>) rt.drainRecentReveals()); } return ok;
+	public CompletableFuture<Boolean> revealDecision(@PathVariable String gameId, @RequestBody RevealDecisionRequest req) {
+		return onGame(gameId, false, () -> {
+			var rt = runtime(gameId); if (rt==null) return false; boolean ok = thenBots(gameId, rt, rt.provideRevealDecision(req.playerId(), req.cont())); if (ok) { persist(gameId, rt); broadcast(gameId, rt); } return ok;
+		});
 	}
 
 	public record SelfRevealRequest(String playerId, int ownIndex) {}
 	@PostMapping("/{gameId}/selfReveal")
-	public boolean selfReveal(@PathVariable String gameId, @RequestBody SelfRevealRequest req) {
-		var rt = runtime(gameId); if (rt==null) return false; boolean ok = rt.provideSelfReveal(req.playerId(), req.ownIndex()); if (ok) { ws.broadcastRuntime(gameId, rt); ws.broadcastDvcPublicReveals(gameId, (java.util.Collection<?>) rt.drainRecentReveals()); } return ok;
+	public CompletableFuture<Boolean> selfReveal(@PathVariable String gameId, @RequestBody SelfRevealRequest req) {
+		return onGame(gameId, false, () -> {
+			var rt = runtime(gameId); if (rt==null) return false; boolean ok = thenBots(gameId, rt, rt.provideSelfReveal(req.playerId(), req.ownIndex())); if (ok) { persist(gameId, rt); broadcast(gameId, rt); } return ok;
+		});
 	}
 
 	public record SettleRequest(String playerId, Boolean isSettled, String hand) {}
 	@PostMapping("/{gameId}/settle")
-	public boolean settle(@PathVariable String gameId, @RequestBody SettleRequest req) {
+	public CompletableFuture<Boolean> settle(@PathVariable String gameId, @RequestBody SettleRequest req) {
+		return onGame(gameId, false, () -> settleNow(gameId, req));
+	}
+
+	private boolean settleNow(String gameId, SettleRequest req) {
+		if (!settleStep(gameId, req)) return false;
+		publish(gameId);
+		return true;
+	}
+
+	/** Apply a settle without persisting or broadcasting; in the start phase the last settle enters the runtime. */
+	private boolean settleStep(String gameId, SettleRequest req) {
 		// If still in start phase interpret as initial arrange + settle
 		var sp = startPhase(gameId);
 		if (sp != null) {
@@ -83,14 +165,53 @@ public class DVCController {
 			if (sp.allSettled()) {
 				var runtime = sp.transit();
 				runtime.enter();
+				runtimeRegistry.put(gameId, runtime); // publish runtime before dropping start so the game never looks unknown; schedules a bot to move
 				startRegistry.remove(gameId);
-				runtimeRegistry.put(gameId, runtime);
-				ws.broadcastRuntime(gameId, runtime);
-			} else {
-				ws.broadcastStart(gameId, sp);
 			}
 			return true;
 		}
-		var rt = runtime(gameId); if (rt==null) return false; boolean ok = rt.provideSettleHand(req.playerId(), req.hand()); if (ok) { ws.broadcastRuntime(gameId, rt); ws.broadcastDvcPublicReveals(gameId, (java.util.Collection<?>) rt.drainRecentReveals()); } return ok;
+		var rt = runtime(gameId); return rt != null && thenBots(gameId, rt, rt.provideSettleHand(req.playerId(), req.hand()));
+	}
+
+	/**
+	 * One step of a batch. {@code type} is DRAW_COLOR, GUESS, REVEAL_DECISION, SELF_REVEAL or SETTLE; only the
+	 * fields of the matching single-step request are read.
+	 */
+	public record DvcStep(String type, String playerId, String color, String targetPlayerId, Integer targetIndex, boolean joker,
+						  Integer number, Boolean cont, Integer ownIndex, Boolean isSettled, String hand) {
+		public DvcStep { type = Objects.requireNonNullElse(type, "").toUpperCase(); }
+	}
+	/** Batch outcome: {@code appliedCount} steps ran before the first rejected one (if any). */
+	public record BatchResult(boolean applied, int appliedCount) {}
+
+	/**
+	 * Apply an ordered batch of steps (e.g. several continued guesses) as one task on the game's actor, so nothing
+	 * interleaves with it. The batch stops at the first rejected step; the steps before it stay applied. The
+	 * resulting state is persisted and broadcast once.
+	 */
+	@PostMapping("/{gameId}/batch")
+	public CompletableFuture<ResponseEntity<BatchResult>> batch(@PathVariable String gameId, @RequestBody List<DvcStep> steps) {
+		if (steps == null || steps.isEmpty() || steps.size() > MAX_BATCH) return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+		return onGame(gameId, ResponseEntity.notFound().build(), () -> {
+			int applied = 0;
+			for (DvcStep step : steps) {
+				if (!applyStep(gameId, step)) break;
+				applied++;
+			}
+			if (applied > 0) publish(gameId);
+			return ResponseEntity.ok(new BatchResult(applied == steps.size(), applied));
+		});
+	}
+
+	private boolean applyStep(String gameId, DvcStep s) {
+		if (s.type().equals("SETTLE")) return settleStep(gameId, new SettleRequest(s.playerId(), s.isSettled(), s.hand()));
+		var rt = runtime(gameId); if (rt==null) return false;
+		return thenBots(gameId, rt, switch (s.type()) {
+			case "DRAW_COLOR" -> rt.provideDrawColor(s.playerId(), s.color());
+			case "GUESS" -> s.targetIndex() != null && rt.provideGuess(s.playerId(), s.targetPlayerId(), s.targetIndex(), s.joker(), s.number());
+			case "REVEAL_DECISION" -> s.cont() != null && rt.provideRevealDecision(s.playerId(), s.cont());
+			case "SELF_REVEAL" -> s.ownIndex() != null && rt.provideSelfReveal(s.playerId(), s.ownIndex());
+			default -> false;
+		});
 	}
 }
@@ -0,0 +1,85 @@
+package com.flip.backend.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flip.backend.dvc.engine.view.DVCPlayerView;
+import com.flip.backend.dvc.engine.view.DVCView;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Per-player DVC runtime payloads from one public projection. The board and every public player entry are encoded
+ * once; each player's payload splices those bytes around its own private entry, so a broadcast encodes
+ * O(players + hand) JSON instead of every view in full for every player. The result is the JSON of
+ * {@code DVCView(board, players-with-own-entry, playerId)}.
+ */
+final class DvcFrames {
+    private static final byte[] BOARD = "{\"board\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PLAYERS = ",\"players\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PERSPECTIVE = "],\"perspectivePlayerId\":".getBytes(StandardCharsets.UTF_8);
+
+    private DvcFrames() {}
+
+    /** JSON payload for each entry of {@code publicView.players()}, in order; {@code own} renders a player's own entry. */
+    static byte[][] encode(ObjectMapper mapper, DVCView publicView, UnaryOperator<DVCPlayerView> own) {
+        try {
+            byte[] board = mapper.writeValueAsBytes(publicView.board());
+            List<DVCPlayerView> players = publicView.players();
+            int n = players.size();
+            byte[][] entries = new byte[n][];
+            int shared = BOARD.length + board.length + PLAYERS.length + PERSPECTIVE.length + 1;
+            for (int i = 0; i < n; i++) {
+                entries[i] = mapper.writeValueAsBytes(players.get(i));
+                shared += entries[i].length + 1;
+            }
+            byte[][] out = new byte[n][];
+            for (int self = 0; self < n; self++) {
+                byte[] mine = mapper.writeValueAsBytes(own.apply(players.get(self)));
+                byte[] id = mapper.writeValueAsBytes(players.get(self).playerId());
+                ByteArrayOutputStream buf = new ByteArrayOutputStream(shared + mine.length + id.length);
+                buf.writeBytes(BOARD);
+                buf.writeBytes(board);
+                buf.writeBytes(PLAYERS);
+                for (int i = 0; i < n; i++) {
+                    if (i > 0) buf.write(',');
+                    buf.writeBytes(i == self ? mine : entries[i]);
+                }
+                buf.writeBytes(PERSPECTIVE);
+                buf.writeBytes(id);
+                buf.write('}');
+                out[self] = buf.toByteArray();
+            }
+            return out;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unserialisable DVC view", e);
+        }
+    }
+
+    /** {@code view} for compact formats: same shape, card displays replaced by {@link CardIds#dvc} ids. */
+    static Map<String, Object> compact(DVCView view) {
+        List<Map<String, Object>> players = new ArrayList<>(view.players().size());
+        for (DVCPlayerView p : view.players()) {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("playerId", p.playerId());
+            m.put("bot", p.bot());
+            m.put("handSize", p.handSize());
+            m.put("hiddenCount", p.hiddenCount());
+            int[] cards = new int[p.cards().size()];
+            for (int i = 0; i < cards.length; i++) cards[i] = CardIds.dvc(p.cards().get(i));
+            m.put("cards", cards);
+            m.put("pending", p.pending() != null ? CardIds.dvc(p.pending()) : null);
+            players.add(m);
+        }
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("board", view.board());
+        out.put("players", players);
+        out.put("perspectivePlayerId", view.perspectivePlayerId());
+        return out;
+    }
+}
@@ -1,16 +1,36 @@
 package com.flip.backend.api;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
 import com.flip.backend.dvc.engine.phase.DVCStartPhase;
 import com.flip.backend.dvc.engine.view.DVCView;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
 import java.util.List;
 
 @Service
 public class DvcWsService {
+    /** Appended to a player's topic for the opt-in CBOR frames (card ids, see {@link WireFormat#CBOR}). */
+    public static final String CBOR_SUFFIX = "/cbor";
+
     private final SimpMessagingTemplate messaging;
-    public DvcWsService(SimpMessagingTemplate messaging) { this.messaging = messaging; }
+    private final ViewProjections projections;
+    private final ObjectMapper mapper;
+    private final StompSubscriptions subscriptions;
+    public DvcWsService(SimpMessagingTemplate messaging, ViewProjections projections, ObjectMapper mapper, StompSubscriptions subscriptions) {
+        this.messaging = messaging; this.projections = projections; this.mapper = mapper; this.subscriptions = subscriptions; }
+
+    /** Runtime view for one player, projected once per state version (public part shared by all players). */
+    public DVCView view(String gameId, DVCRuntimePhase rt, String playerId) {
+        return projections.dvc().get(gameId, rt.stateVersion(), playerId, rt::buildPublicView, rt::withPerspective);
+    }
 
     public void broadcastStart(String gameId, DVCStartPhase sp) {
         if (sp == null) return;
@@ -20,11 +40,23 @@ public class DvcWsService {
         }
     }
 
+    /**
+     * Every player's runtime view: the public projection (cached per state version) is encoded once and spliced
+     * around each player's own entry ({@link DvcFrames}); all frames are encoded up front and handed to the broker
+     * in one pass as ready JSON messages, with no per-message conversion. Players subscribed to the
+     * {@value #CBOR_SUFFIX} variant of their topic also get a CBOR frame; nothing is encoded for it otherwise.
+     */
     public void broadcastRuntime(String gameId, DVCRuntimePhase rt) {
         if (rt == null) return;
-        for (var p : rt.players()) {
-            DVCView v = rt.buildView(p.getId());
-            messaging.convertAndSend("/topic/dvc/" + gameId + "/" + p.getId(), v);
+        DVCView pub = view(gameId, rt, null);
+        byte[][] frames = DvcFrames.encode(mapper, pub, rt::selfView);
+        String prefix = "/topic/dvc/" + gameId + "/";
+        for (int i = 0; i < frames.length; i++) {
+            String playerId = pub.players().get(i).playerId();
+            messaging.send(prefix + playerId, jsonMessage(frames[i]));
+            if (subscriptions.hasSubscribers(prefix + playerId + CBOR_SUFFIX)) {
+                send(prefix + playerId + CBOR_SUFFIX, WireFormat.CBOR, DvcFrames.compact(view(gameId, rt, playerId)));
+            }
         }
     }
 
@@ -32,12 +64,33 @@ public class DvcWsService {
     public void broadcastDvcPublicReveals(String gameId, List<DVCRuntimePhase.PublicReveal> events) {
         if (events == null || events.isEmpty()) return;
         // Broadcast as-is; clients maintain their own set per playerId
-        messaging.convertAndSend("/topic/dvc/" + gameId + "/public-reveals", events);
+        sendJson("/topic/dvc/" + gameId + "/public-reveals", events);
     }
 
     // Overload accepting any collection
     public void broadcastDvcPublicReveals(String gameId, java.util.Collection<?> events) {
         if (events == null || events.isEmpty()) return;
-        messaging.convertAndSend("/topic/dvc/" + gameId + "/public-reveals", events);
+        sendJson("/topic/dvc/" + gameId + "/public-reveals", events);
+    }
+
+    /** Encode once to JSON bytes; the broker hands the same message to every subscriber of the topic. */
+    private void sendJson(String destination, Object payload) {
+        send(destination, WireFormat.JSON, payload);
+    }
+
+    private void send(String destination, WireFormat format, Object payload) {
+        byte[] bytes;
+        try {
+            bytes = format.encode(mapper, payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unserialisable payload for " + destination, e);
+        }
+        messaging.send(destination, message(bytes, format.mimeType()));
+    }
+
+    private static Message<byte[]> jsonMessage(byte[] json) { return message(json, MimeTypeUtils.APPLICATION_JSON); }
+
+    private static Message<byte[]> message(byte[] payload, MimeType type) {
+        return MessageBuilder.withPayload(payload).setHeader(MessageHeaders.CONTENT_TYPE, type).build();
     }
 }
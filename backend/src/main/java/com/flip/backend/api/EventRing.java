@@ -0,0 +1,64 @@
+package com.flip.backend.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Last {@code capacity} events of one stream, each taking the client from {@code baseVersion} to {@code version}.
+ * Entries are contiguous (every base is the previous entry's version); a jump in versions must {@link #clear} the
+ * ring first. Not thread-safe: used on the owning game's actor only.
+ */
+final class EventRing<F> {
+    private final long[] bases;
+    private final long[] versions;
+    private final Object[] frames;
+    private int head; // oldest entry
+    private int size;
+
+    EventRing(int capacity) {
+        int n = Math.max(1, capacity);
+        bases = new long[n];
+        versions = new long[n];
+        frames = new Object[n];
+    }
+
+    void append(long baseVersion, long version, F frame) {
+        if (size > 0 && versions[index(size - 1)] != baseVersion) clear(); // not a continuation: older entries are useless
+        int i;
+        if (size == frames.length) { i = head; head = index(1); } else { i = index(size++); }
+        bases[i] = baseVersion;
+        versions[i] = version;
+        frames[i] = frame;
+    }
+
+    /**
+     * Events a client holding {@code version} missed, oldest first, up to the newest entry; empty when it is current,
+     * null when the gap is not covered (too old, or a version this ring never saw).
+     */
+    @SuppressWarnings("unchecked")
+    List<F> since(long version) {
+        if (size == 0) return null;
+        if (versions[index(size - 1)] == version) return List.of();
+        for (int k = 0; k < size; k++) {
+            if (bases[index(k)] != version) continue;
+            List<F> out = new ArrayList<>(size - k);
+            for (int j = k; j < size; j++) out.add((F) frames[index(j)]);
+            return out;
+        }
+        return null;
+    }
+
+    /** Version reached by the newest entry, or -1 when empty. */
+    long lastVersion() { return size == 0 ? -1 : versions[index(size - 1)]; }
+
+    int size() { return size; }
+
+    void clear() {
+        Arrays.fill(frames, null);
+        head = 0;
+        size = 0;
+    }
+
+    private int index(int k) { return (head + k) % frames.length; }
+}
@@ -31,11 +31,12 @@ public class GameController {
         GameService svc = services.stream().filter(s -> s.supports(type)).findFirst()
             .orElseThrow(() -> new IllegalStateException("No service for game type: "+type));
         var resp = svc.startFirst(sessionId, req);
-        // Broadcast start to all members with per-user myPlayerId mapping by nickname
+        // Broadcast start to all members with per-user myPlayerId: the seat bound to the member, else by nickname
         var mlist = members.findBySessionId(sessionId);
         for (var m : mlist) {
             String nick = m.getNickname();
-            String my = resp.players().stream().filter(p -> nick.equals(p.name())).map(PlayerStartInfo::playerId).findFirst().orElse(null);
+            String my = resp.players().stream().filter(p -> m.getUserId().equals(p.userId())).map(PlayerStartInfo::playerId).findFirst()
+                .orElse(resp.players().stream().filter(p -> p.userId() == null && nick.equals(p.name())).map(PlayerStartInfo::playerId).findFirst().orElse(null));
             var payload = new StartGameResponse(resp.gameId(), resp.roundIndex(), my, resp.players(), resp.view());
             messaging.convertAndSend("/topic/lobby/" + sessionId + "/" + m.getUserId(), payload);
         }
@@ -0,0 +1,159 @@
+package com.flip.backend.api;
+
+import com.flip.backend.service.game.SeatAccessService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * STOMP command channel (under {@code /app}) for clients that are connected for broadcasts anyway: the same
+ * commands as the REST endpoints, without an HTTP request each. The connection was authenticated once on CONNECT
+ * ({@link com.flip.backend.ws.StompAuthInterceptor}), and a command is only routed to the game if every seat it
+ * names is recorded for the caller ({@link SeatAccessService#holdsSeat}); otherwise the answer is
+ * {@code {"error": "NOT_YOUR_SEAT"}}. Results go to the sender's {@code /user/queue/uno/results} or
+ * {@code /user/queue/dvc/results} with the {@code request-id} header echoed; view updates keep arriving on the usual
+ * streams and topics.
+ * <p>
+ * Handling time, from receipt to the result being sent, is {@code games.command.latency{game,transport=stomp}};
+ * compare with {@code http.server.requests} for the REST endpoints. No STOMP-versus-REST round-trip comparison has
+ * been measured yet; it needs a deployed server and is left to be read from these two metrics.
+ */
+@Controller
+public class GameStompController {
+    static final String REQUEST_ID = "request-id";
+    private static final String UNO_RESULTS = "/queue/uno/results";
+    private static final String DVC_RESULTS = "/queue/dvc/results";
+
+    private final UnoController uno;
+    private final DVCController dvc;
+    private final SimpMessagingTemplate messaging;
+    private final SeatAccessService seats;
+    private final Timer unoLatency;
+    private final Timer dvcLatency;
+
+    public GameStompController(UnoController uno, DVCController dvc, SimpMessagingTemplate messaging, SeatAccessService seats,
+                               MeterRegistry meters) {
+        this.uno = uno; this.dvc = dvc; this.messaging = messaging; this.seats = seats;
+        this.unoLatency = latency(meters, "uno");
+        this.dvcLatency = latency(meters, "dvc");
+    }
+
+    private static Timer latency(MeterRegistry meters, String game) {
+        return Timer.builder("games.command.latency").tag("game", game).tag("transport", "stomp")
+            .description("Command handling time").publishPercentiles(0.5, 0.99).register(meters);
+    }
+
+    @MessageMapping("/uno/{gameId}/commands")
+    public void unoCommand(@DestinationVariable String gameId, @Payload UnoController.UnoCommand cmd,
+                           @Header(name = REQUEST_ID, required = false) String requestId, Principal user) {
+        long start = System.nanoTime();
+        route(user, gameId, List.of(cmd.playerId()), () -> uno.submitCommand(gameId, cmd, null), UNO_RESULTS, requestId, unoLatency, start);
+    }
+
+    @MessageMapping("/uno/{gameId}/commands/batch")
+    public void unoBatch(@DestinationVariable String gameId, @Payload List<UnoController.UnoCommand> cmds,
+                         @Header(name = REQUEST_ID, required = false) String requestId, Principal user) {
+        long start = System.nanoTime();
+        route(user, gameId, seatsOf(cmds, UnoController.UnoCommand::playerId), () -> uno.submitBatch(gameId, cmds, null), UNO_RESULTS, requestId, unoLatency, start);
+    }
+
+    @MessageMapping("/dvc/{gameId}/drawColor")
+    public void dvcDrawColor(@DestinationVariable String gameId, @Payload DVCController.DrawColorRequest req,
+                             @Header(name = REQUEST_ID, required = false) String requestId, Principal user) {
+        long start = System.nanoTime();
+        route(user, gameId, List.of(req.playerId()), () -> dvc.drawColor(gameId, req), DVC_RESULTS, requestId, dvcLatency, start);
+    }
+
+    @MessageMapping("/dvc/{gameId}/guess")
+    public void dvcGuess(@DestinationVariable String gameId, @Payload DVCController.GuessRequest req,
+                         @Header(name = REQUEST_ID, required = false) String requestId, Principal user) {
+        long start = System.nanoTime();
+        route(user, gameId, List.of(req.playerId()), () -> dvc.guess(gameId, req), DVC_RESULTS, requestId, dvcLatency, start);
+    }
+
+    @MessageMapping("/dvc/{gameId}/revealDecision")
+    public void dvcRevealDecision(@DestinationVariable String gameId, @Payload DVCController.RevealDecisionRequest req,
+                                  @Header(name = REQUEST_ID, required = false) String requestId, Principal user) {
+        long start = System.nanoTime();
+        route(user, gameId, List.of(req.playerId()), () -> dvc.revealDecision(gameId, req), DVC_RESULTS, requestId, dvcLatency, start);
+    }
+
+    @MessageMapping("/dvc/{gameId}/selfReveal")
+    public void dvcSelfReveal(@DestinationVariable String gameId, @Payload DVCController.SelfRevealRequest req,
+                              @Header(name = REQUEST_ID, required = false) String requestId, Principal user) {
+        long start = System.nanoTime();
+        route(user, gameId, List.of(req.playerId()), () -> dvc.selfReveal(gameId, req), DVC_RESULTS, requestId, dvcLatency, start);
+    }
+
+    @MessageMapping("/dvc/{gameId}/settle")
+    public void dvcSettle(@DestinationVariable String gameId, @Payload DVCController.SettleRequest req,
+                          @Header(name = REQUEST_ID, required = false) String requestId, Principal user) {
+        long start = System.nanoTime();
+        route(user, gameId, List.of(req.playerId()), () -> dvc.settle(gameId, req), DVC_RESULTS, requestId, dvcLatency, start);
+    }
+
+    @MessageMapping("/dvc/{gameId}/batch")
+    public void dvcBatch(@DestinationVariable String gameId, @Payload List<DVCController.DvcStep> steps,
+                         @Header(name = REQUEST_ID, required = false) String requestId, Principal user) {
+        long start = System.nanoTime();
+        route(user, gameId, seatsOf(steps, DVCController.DvcStep::playerId), () -> dvc.batch(gameId, steps), DVC_RESULTS, requestId, dvcLatency, start);
+    }
+
+    /** Seats named by a batch (null for a missing item, which no one holds). */
+    private static <C> List<String> seatsOf(List<C> items, Function<C, String> playerId) {
+        if (items == null) return List.of();
+        return items.stream().map(c -> c != null ? playerId.apply(c) : null).toList();
+    }
+
+    /**
+     * Run {@code command} if the caller holds every seat in {@code playerIds} (the user id was put in the
+     * principal's details on CONNECT, and seat owners are cached, so this costs no query per command); otherwise
+     * answer {@code NOT_YOUR_SEAT} without touching the game. Empty batches go through and are rejected as such.
+     */
+    private void route(Principal user, String gameId, List<String> playerIds, Supplier<CompletableFuture<?>> command,
+                       String queue, String requestId, Timer timer, long start) {
+        if (user == null) return; // anonymous CONNECTs are refused; nothing to answer to
+        Long caller = user instanceof Authentication auth && auth.getDetails() instanceof Long id ? id : null;
+        boolean own = caller != null && playerIds.stream().allMatch(p -> seats.holdsSeat(gameId, caller, p));
+        if (!own) {
+            send(user, queue, requestId, Map.of("error", "NOT_YOUR_SEAT"));
+            return;
+        }
+        reply(command.get(), user, queue, requestId, timer, start);
+    }
+
+    /**
+     * Send the outcome to the user's queue once the game's actor has produced it: a REST response body as is, a
+     * single DVC step as {@code {"ok": ..}}, a response without body (unknown game, bad batch) as an error.
+     */
+    private void reply(CompletableFuture<?> result, Principal user, String queue, String requestId, Timer timer, long start) {
+        result.whenComplete((value, error) -> {
+            Object body;
+            if (error != null) body = Map.of("error", "FAILED");
+            else if (value instanceof ResponseEntity<?> res) body = res.getBody() != null ? res.getBody() : Map.of("error", "REJECTED");
+            else body = Map.of("ok", value);
+            send(user, queue, requestId, body);
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        });
+    }
+
+    private void send(Principal user, String queue, String requestId, Object body) {
+        Map<String, Object> headers = requestId != null ? Map.of(REQUEST_ID, requestId) : Map.of();
+        messaging.convertAndSendToUser(user.getName(), queue, body, headers);
+    }
+}
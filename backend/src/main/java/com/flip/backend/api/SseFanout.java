@@ -0,0 +1,264 @@
+package com.flip.backend.api;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Asynchronous SSE delivery. Producers (game actors) only enqueue pre-encoded frames; each subscriber has a small
+ * bounded queue drained by a shared writer pool, so a slow client never blocks the game that produced the update.
+ * <p>
+ * When a subscriber's queue is full the producer coalesces: queued frames are discarded and replaced by one frame
+ * carrying the latest full state ({@link #coalesce}). A sweeper checks every subscriber periodically and disconnects
+ * one whose current write has been blocked for {@code app.sse.write-timeout}, or that has made no write progress for
+ * {@code app.sse.stall-timeout} while frames are waiting: its blocked writer thread is interrupted and the response
+ * is ended on a separate closer thread, so a dead client holds a writer only until the next sweep. Exposed as
+ * {@code sse.subscribers}, {@code sse.queue.depth}, {@code sse.coalesced} and {@code sse.dropped{reason}}.
+ */
+@Component
+public class SseFanout {
+    /** Frames written per scheduling slot before the writer moves on to other subscribers. */
+    private static final int DRAIN_BATCH = 8;
+
+    private final ExecutorService writers;
+    private final ExecutorService closers;
+    private final ScheduledExecutorService sweeper;
+    private final int queueCapacity;
+    private final long stallNanos;
+    private final long writeTimeoutNanos;
+    private final LongSupplier clock;
+    private final Set<Subscriber> open = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter coalesced;
+    private final Counter droppedStalled;
+    private final Counter droppedFailed;
+    private final Counter droppedWriteTimeout;
+
+    public SseFanout(MeterRegistry meters,
+                     @Value("${app.sse.fanout-threads:0}") int threads,
+                     @Value("${app.sse.queue-capacity:8}") int queueCapacity,
+                     @Value("${app.sse.stall-timeout:PT15S}") Duration stallTimeout,
+                     @Value("${app.sse.write-timeout:PT5S}") Duration writeTimeout) {
+        this(meters, threads, queueCapacity, stallTimeout, writeTimeout, System::nanoTime);
+    }
+
+    SseFanout(MeterRegistry meters, int threads, int queueCapacity, Duration stallTimeout, Duration writeTimeout, LongSupplier clock) {
+        int n = threads > 0 ? threads : Math.max(2, Runtime.getRuntime().availableProcessors());
+        AtomicInteger seq = new AtomicInteger();
+        // Each subscriber has at most one drain task queued, so the work queue is bounded by the subscriber count
+        this.writers = Executors.newFixedThreadPool(n, r -> daemon(r, "sse-writer-" + seq.incrementAndGet()));
+        // Ending a response may wait for a blocked write to give up: never on a writer or a game actor
+        this.closers = Executors.newCachedThreadPool(r -> daemon(r, "sse-closer"));
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> daemon(r, "sse-stall-sweep"));
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.stallNanos = stallTimeout.toNanos();
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        this.clock = clock;
+        long period = Math.max(TimeUnit.MILLISECONDS.toNanos(50), Math.min(stallNanos, writeTimeoutNanos) / 4);
+        sweeper.scheduleWithFixedDelay(this::sweep, period, period, TimeUnit.NANOSECONDS);
+        Gauge.builder("sse.subscribers", subscribers, AtomicInteger::get).description("Open SSE subscriptions").register(meters);
+        Gauge.builder("sse.queue.depth", queued, AtomicInteger::get).description("Frames waiting in subscriber queues").register(meters);
+        this.coalesced = Counter.builder("sse.coalesced").description("Queued frames replaced by a newer full view").register(meters);
+        this.droppedStalled = Counter.builder("sse.dropped").tag("reason", "stalled").description("Subscribers disconnected").register(meters);
+        this.droppedFailed = Counter.builder("sse.dropped").tag("reason", "write-failed").description("Subscribers disconnected").register(meters);
+        this.droppedWriteTimeout = Counter.builder("sse.dropped").tag("reason", "write-timeout").description("Subscribers disconnected").register(meters);
+    }
+
+    private static Thread daemon(Runnable r, String name) {
+        Thread t = new Thread(r, name);
+        t.setDaemon(true);
+        return t;
+    }
+
+    /** Wrap a new emitter; {@code onClose} runs once when it is disconnected by the fan-out (write error or stall). */
+    public Subscriber open(SseEmitter emitter, Runnable onClose) {
+        subscribers.incrementAndGet();
+        Subscriber subscriber = new Subscriber(emitter, onClose);
+        open.add(subscriber);
+        return subscriber;
+    }
+
+    /**
+     * Queue {@code frame} for {@code subscriber}. Returns false when its queue is full; the caller should then
+     * {@link #coalesce} it with a frame that makes the skipped ones unnecessary.
+     */
+    public boolean offer(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        return subscriber.offer(frame);
+    }
+
+    /** Replace everything queued for a lagging subscriber with {@code latest}, or drop it if it has stalled. */
+    public void coalesce(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> latest) {
+        if (subscriber.stalled()) {
+            if (subscriber.close(null)) droppedStalled.increment();
+            return;
+        }
+        int discarded = subscriber.replaceWith(latest);
+        if (discarded > 0) coalesced.increment(discarded);
+    }
+
+    /** Disconnect subscribers whose write is blocked or that stopped making progress (run by the sweeper). */
+    void sweep() {
+        for (Subscriber subscriber : open) {
+            if (subscriber.writeTimedOut()) {
+                if (subscriber.close(null)) droppedWriteTimeout.increment();
+            } else if (subscriber.stalled()) {
+                if (subscriber.close(null)) droppedStalled.increment();
+            }
+        }
+    }
+
+    public int subscriberCount() { return subscribers.get(); }
+    public int queuedFrames() { return queued.get(); }
+
+    @PreDestroy
+    void shutdown() {
+        sweeper.shutdownNow();
+        writers.shutdown();
+        closers.shutdown();
+    }
+
+    /** One SSE connection: bounded frame queue plus at most one scheduled drain task. */
+    public final class Subscriber implements Runnable {
+        private final SseEmitter emitter;
+        private final Runnable onClose;
+        private final ArrayBlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> frames = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long lastProgress = clock.getAsLong();
+        /** Writer thread inside {@code emitter.send}, and when that write started; guarded by {@code this}. */
+        private Thread writer;
+        private long writeStarted;
+
+        private Subscriber(SseEmitter emitter, Runnable onClose) {
+            this.emitter = emitter;
+            this.onClose = onClose;
+        }
+
+        public SseEmitter emitter() { return emitter; }
+        public int depth() { return frames.size(); }
+
+        boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (closed.get()) return true; // nothing to coalesce for a closed subscriber
+            if (frames.isEmpty() && !writing()) lastProgress = clock.getAsLong(); // idle until now: the stall clock starts here
+            return enqueue(frame);
+        }
+
+        int replaceWith(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            int discarded = 0;
+            while (frames.poll() != null) { discarded++; queued.decrementAndGet(); }
+            if (!closed.get()) enqueue(frame); // keeps the stall clock running: nothing was written
+            return discarded;
+        }
+
+        private boolean enqueue(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (!frames.offer(frame)) return false;
+            queued.incrementAndGet();
+            schedule();
+            return true;
+        }
+
+        boolean stalled() { return (!frames.isEmpty() || writing()) && clock.getAsLong() - lastProgress > stallNanos; }
+
+        synchronized boolean writeTimedOut() { return writer != null && clock.getAsLong() - writeStarted > writeTimeoutNanos; }
+
+        private synchronized boolean writing() { return writer != null; }
+
+        private synchronized void beginWrite() {
+            writer = Thread.currentThread();
+            writeStarted = clock.getAsLong();
+        }
+
+        /** Ends the write window; an interrupt aimed at it must not leak to the pool thread's next task. */
+        private synchronized void endWrite() {
+            writer = null;
+            Thread.interrupted();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    writers.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false); // shutting down: frames are abandoned with the connection
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < DRAIN_BATCH && !closed.get(); i++) {
+                Set<ResponseBodyEmitter.DataWithMediaType> frame = frames.poll();
+                if (frame == null) break;
+                queued.decrementAndGet();
+                beginWrite();
+                try {
+                    emitter.send(frame);
+                    endWrite();
+                    lastProgress = clock.getAsLong();
+                } catch (IOException | IllegalStateException e) {
+                    endWrite();
+                    if (close(e)) droppedFailed.increment(); // else the sweeper interrupted it and counted why
+                }
+            }
+            scheduled.set(false);
+            // Re-arm if frames arrived after the last poll (or the batch limit was hit)
+            if (!frames.isEmpty() && !closed.get()) schedule();
+        }
+
+        /**
+         * Disconnect once (false if already closed): discard queued frames, notify the owner, interrupt a write in
+         * progress, and end the response on a closer thread (a blocked write holds the emitter's lock, and the caller
+         * may be a game actor).
+         */
+        boolean close(Throwable error) {
+            if (!closed.compareAndSet(false, true)) return false;
+            open.remove(this);
+            while (frames.poll() != null) queued.decrementAndGet();
+            subscribers.decrementAndGet();
+            onClose.run();
+            synchronized (this) {
+                if (writer != null && writer != Thread.currentThread()) writer.interrupt();
+            }
+            try {
+                closers.execute(() -> {
+                    try {
+                        if (error != null) emitter.completeWithError(error); else emitter.complete();
+                    } catch (RuntimeException ignored) {
+                        // already completed by the container
+                    }
+                });
+            } catch (RejectedExecutionException ignored) {
+                // shutting down
+            }
+            return true;
+        }
+
+        /** Release after the container ended the connection (completion, timeout or client error). */
+        public void release() {
+            if (!closed.compareAndSet(false, true)) return;
+            open.remove(this);
+            while (frames.poll() != null) queued.decrementAndGet();
+            subscribers.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.flip.backend.api;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Live STOMP subscription counts for the optional {@code /cbor} variants of destinations, so broadcasters only
+ * encode that representation (see {@link DvcWsService}) while someone listens.
+ */
+@Component
+public class StompSubscriptions {
+    private final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+    /** sessionId -> subscriptionId -> destination, to undo counts on unsubscribe and disconnect. */
+    private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+
+    /** True while at least one session is subscribed to exactly {@code destination}. */
+    public boolean hasSubscribers(String destination) {
+        AtomicInteger n = counts.get(destination);
+        return n != null && n.get() > 0;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        var headers = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String destination = headers.getDestination();
+        if (headers.getSessionId() == null || headers.getSubscriptionId() == null || !tracked(destination)) return;
+        sessions.computeIfAbsent(headers.getSessionId(), k -> new ConcurrentHashMap<>()).put(headers.getSubscriptionId(), destination);
+        counts.computeIfAbsent(destination, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        var headers = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subs = headers.getSessionId() != null ? sessions.get(headers.getSessionId()) : null;
+        if (subs == null || headers.getSubscriptionId() == null) return;
+        release(subs.remove(headers.getSubscriptionId()));
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subs = sessions.remove(event.getSessionId());
+        if (subs != null) subs.values().forEach(this::release);
+    }
+
+    private void release(String destination) {
+        if (destination == null) return;
+        counts.computeIfPresent(destination, (k, n) -> n.decrementAndGet() <= 0 ? null : n);
+    }
+
+    /** Only optional variants are counted; the default destinations are always published. */
+    private static boolean tracked(String destination) {
+        return destination != null && destination.endsWith(DvcWsService.CBOR_SUFFIX);
+    }
+}
@@ -1,78 +1,273 @@
 package com.flip.backend.api;
 
+import com.flip.backend.service.game.GameActorService;
+import com.flip.backend.service.game.GameStateStore;
+import com.flip.backend.service.game.SeatAccessService;
+import com.flip.backend.service.game.UnoBotTurns;
 import com.flip.backend.uno.engine.UnoGameRegistry;
 import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
 import com.flip.backend.uno.engine.view.UnoView;
 import com.flip.backend.uno.engine.view.UnoPlayerView;
 import com.flip.backend.uno.engine.view.UnoBoardView;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/games/uno")
 public class UnoController {
+    /** Longest accepted command batch: a batch holds its game's actor for its whole run. */
+    static final int MAX_BATCH = 16;
+    /** Error for a command naming a seat the caller does not hold. */
+    static final String NOT_YOUR_SEAT = "NOT_YOUR_SEAT";
+
     private final UnoGameRegistry registry;
     private final UnoSseService sseService;
-    public UnoController(UnoGameRegistry registry, UnoSseService sseService) { this.registry = registry; this.sseService = sseService; }
+    private final GameActorService actors;
+    private final GameStateStore states;
+    private final ViewProjections projections;
+    private final SeatAccessService seats;
+    private final UnoBotTurns botTurns;
+    public UnoController(UnoGameRegistry registry, UnoSseService sseService, GameActorService actors, GameStateStore states,
+                         ViewProjections projections, SeatAccessService seats, UnoBotTurns botTurns) {
+        this.registry = registry; this.sseService = sseService; this.actors = actors; this.states = states; this.projections = projections;
+        this.seats = seats; this.botTurns = botTurns;
+        // Every runtime that becomes resident (started, rehydrated or recovered after a restart) broadcasts its turns
+        // and leaves its bot turns to the scheduler, which picks up a bot that is to move right away
+        registry.setResidentHook(this::installTurnListener);
+        registry.addRemovalHook(sseService::forget);
+        botTurns.setListener(this::publish); // also covers a winning bot turn, which the turn listener does not report
+    }
+
+    private void installTurnListener(String gameId, UnoRuntimePhase runtime) {
+        runtime.setTurnListener(rt -> publish(gameId, rt));
+        runtime.setDeferBotTurns(true);
+        botTurns.schedule(gameId, runtime);
+    }
+
+    /** Push the latest state to subscribers: a delta normally, full (cached) views when needed, hands to private streams. */
+    private void publish(String gameId, UnoRuntimePhase runtime) {
+        sseService.publish(gameId, runtime, viewer -> viewFor(gameId, runtime, viewer));
+    }
 
-    /** DTO for incoming commands. */
-    public record UnoCommand(String type, String playerId, String color, String value) {}
+    /**
+     * Frontend view of the current state for {@code viewerId} (null: generic view, no hands), projected once per
+     * state version: the generic map is shared and a viewer's map only re-renders that viewer's hand.
+     */
+    Map<String,Object> viewFor(String gameId, UnoRuntimePhase runtime, String viewerId) {
+        return projections.uno().get(gameId, runtime.stateVersion(), viewerId,
+            () -> transformView(runtime, runtime.buildView(null)),
+            (generic, viewer) -> withViewer(runtime, generic, viewer));
+    }
+
+    /** DTO for incoming commands; compact clients may send {@code card} (a {@link CardIds} id) instead of color/value. */
+    public record UnoCommand(String type, String playerId, String color, String value, Integer card) {
+        /** Engine command, with {@code card} expanded to the display color/value the engine matches on. */
+        UnoRuntimePhase.PlayerCommand toPlayerCommand() {
+            if (card == null) return new UnoRuntimePhase.PlayerCommand(type, playerId, color, value);
+            String[] face = CardIds.unoFace(card);
+            return new UnoRuntimePhase.PlayerCommand(type, playerId, face[0] != null ? face[0] : color, face[1]);
+        }
+    }
     /** Simple command result DTO aligned with frontend expectations. */
     public record CommandResult(boolean applied, List<ErrorInfo> errors, Map<String,Object> view) {
         public static CommandResult ok(Map<String,Object> v) { return new CommandResult(true, List.of(), v); }
         public static CommandResult error(String msg, Map<String,Object> v) { return new CommandResult(false, List.of(new ErrorInfo(msg)), v); }
     }
     public record ErrorInfo(String message) {}
+    /** Batch outcome: {@code appliedCount} commands ran; {@code errors} are those of the first rejected one, if any. */
+    public record BatchResult(boolean applied, int appliedCount, List<ErrorInfo> errors, Map<String,Object> view) {}
+
+    // Runtime access (reads included) happens on the game's actor; the request thread is released immediately and
+    // never loads a passivated game: only ids recently missed are refused up front, the rest are looked up on the actor.
+    // Hands and commands are bound to seats as over STOMP: only the user recorded for a seat sees its hand or plays it.
+    // Views are negotiated per request: Accept: application/cbor gets CBOR with card ids (see WireFormat).
 
+    /** The caller's view; a {@code viewerId} whose seat the caller does not hold gets the generic view (no hands). */
     @GetMapping("/{gameId}/view")
-    public ResponseEntity<Map<String,Object>> getView(@PathVariable String gameId, @RequestParam String viewerId) {
-        UnoRuntimePhase runtime = registry.get(gameId);
-        if (runtime == null) return ResponseEntity.notFound().build();
-        var backendView = runtime.buildView(viewerId);
-        return ResponseEntity.ok(transformView(runtime, backendView));
+    public CompletableFuture<ResponseEntity<Map<String,Object>>> getView(@PathVariable String gameId, @RequestParam(required = false) String viewerId,
+                                                                         @RequestHeader(value = "Accept", required = false) String accept,
+                                                                         Authentication auth) {
+        if (registry.knownAbsent(gameId)) return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+        String viewer = viewerId != null && holdsSeats(gameId, auth, List.of(viewerId)) ? viewerId : null;
+        WireFormat format = WireFormat.accepting(accept);
+        return actors.submit(gameId, () -> {
+            UnoRuntimePhase runtime = registry.get(gameId);
+            if (runtime == null) return ResponseEntity.<Map<String,Object>>notFound().build();
+            return ResponseEntity.ok(encodedFor(format, viewFor(gameId, runtime, viewer)));
+        });
     }
 
     @PostMapping("/{gameId}/commands")
-    public ResponseEntity<CommandResult> command(@PathVariable String gameId, @RequestBody UnoCommand cmd) {
+    public CompletableFuture<ResponseEntity<CommandResult>> command(@PathVariable String gameId, @RequestBody UnoCommand cmd,
+                                                                    @RequestHeader(value = "Accept", required = false) String accept,
+                                                                    Authentication auth) {
+        if (!holdsSeats(gameId, auth, Collections.singletonList(cmd.playerId()))) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.FORBIDDEN).body(CommandResult.error(NOT_YOUR_SEAT, null)));
+        }
+        return submitCommand(gameId, cmd, accept);
+    }
+
+    /** {@link #command} for a caller whose seat is already checked (the STOMP route). */
+    CompletableFuture<ResponseEntity<CommandResult>> submitCommand(String gameId, UnoCommand cmd, String accept) {
+        if (registry.knownAbsent(gameId)) return CompletableFuture.completedFuture(ResponseEntity.ok(CommandResult.error("Game not found", null)));
+        WireFormat format = WireFormat.accepting(accept);
+        return actors.submit(gameId, () -> {
+            ResponseEntity<CommandResult> res = applyCommand(gameId, cmd);
+            CommandResult r = res.getBody();
+            if (!format.compact() || r == null || r.view() == null) return res;
+            return ResponseEntity.ok(new CommandResult(r.applied(), r.errors(), encodedFor(format, r.view())));
+        });
+    }
+
+    /**
+     * Apply an ordered batch (e.g. a wild play and its CHOOSE_COLOR) as one task on the game's actor, so nothing
+     * interleaves with it. The batch stops at the first rejected command; the commands before it stay applied.
+     * The resulting state is staged and published once; bot turns follow as scheduled tasks, so a batch cannot
+     * span another player's turn. The caller must hold the seat of every command.
+     */
+    @PostMapping("/{gameId}/commands/batch")
+    public CompletableFuture<ResponseEntity<BatchResult>> commandBatch(@PathVariable String gameId, @RequestBody List<UnoCommand> cmds,
+                                                                       @RequestHeader(value = "Accept", required = false) String accept,
+                                                                       Authentication auth) {
+        if (cmds != null && !cmds.isEmpty() && cmds.size() <= MAX_BATCH
+                && !holdsSeats(gameId, auth, cmds.stream().map(c -> c != null ? c.playerId() : null).toList())) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(new BatchResult(false, 0, List.of(new ErrorInfo(NOT_YOUR_SEAT)), null)));
+        }
+        return submitBatch(gameId, cmds, accept);
+    }
+
+    /** {@link #commandBatch} for a caller whose seats are already checked (the STOMP route). */
+    CompletableFuture<ResponseEntity<BatchResult>> submitBatch(String gameId, List<UnoCommand> cmds, String accept) {
+        if (cmds == null || cmds.isEmpty() || cmds.size() > MAX_BATCH) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                .body(new BatchResult(false, 0, List.of(new ErrorInfo("BAD_BATCH:1 to " + MAX_BATCH + " commands")), null)));
+        }
+        if (registry.knownAbsent(gameId)) return CompletableFuture.completedFuture(ResponseEntity.ok(new BatchResult(false, 0, List.of(new ErrorInfo("Game not found")), null)));
+        WireFormat format = WireFormat.accepting(accept);
+        return actors.submit(gameId, () -> applyBatch(gameId, cmds, format));
+    }
+
+    /** True if the authenticated caller holds every seat in {@code playerIds} (see {@link SeatAccessService}). */
+    private boolean holdsSeats(String gameId, Authentication auth, List<String> playerIds) {
+        if (auth == null) return false;
+        for (String playerId : new LinkedHashSet<>(playerIds)) {
+            if (!seats.mayView(gameId, auth.getName(), playerId)) return false;
+        }
+        return true;
+    }
+
+    /** {@code view} with card ids for compact formats (a copy: cached views are shared). */
+    @SuppressWarnings("unchecked")
+    private static Map<String,Object> encodedFor(WireFormat format, Map<String,Object> view) {
+        return format.compact() ? (Map<String,Object>) CardIds.compactUno(view) : view;
+    }
+
+    private ResponseEntity<CommandResult> applyCommand(String gameId, UnoCommand cmd) {
         UnoRuntimePhase runtime = registry.get(gameId);
         if (runtime == null) return ResponseEntity.ok(CommandResult.error("Game not found", null));
-        // Ensure listener installed
-        if (runtime.actionLogSnapshot().isEmpty()) { // crude guard for first-time
-            runtime.setTurnListener(rt -> {
-                // Broadcast generic perspective (no private hand exposure)
-                var vGen = transformView(rt, rt.buildView(null));
-                sseService.broadcastView(gameId, vGen);
-            });
-        }
-        var result = runtime.applyPlayerCommand(new UnoRuntimePhase.PlayerCommand(cmd.type(), cmd.playerId(), cmd.color(), cmd.value()));
-        var v = transformView(runtime, result.view());
-        if (!result.applied()) {
-            List<ErrorInfo> errs = result.errors().stream().map(e -> new ErrorInfo(e.code()+":"+e.message())).toList();
-            // Broadcast even on error? Only if state mutated. For simplicity: broadcast always.
-            sseService.broadcastView(gameId, v);
+        if (!runtime.hasTurnListener()) installTurnListener(gameId, runtime); // normally done by the resident hook
+        List<ErrorInfo> errs = execute(runtime, cmd);
+        var v = viewFor(gameId, runtime, cmd.playerId());
+        if (!errs.isEmpty()) {
+            // Rejected commands normally leave the state untouched; publish() sends nothing unless the version moved
+            publish(gameId, runtime);
             return ResponseEntity.ok(new CommandResult(false, errs, v));
         }
-        sseService.broadcastView(gameId, v);
+        // Write-behind: the snapshot is encoded here on the actor, the database write happens on the next flush
+        states.stage(gameId, GameStateStore.Kind.UNO, runtime.snapshot(), runtime.winnerId() != null);
+        publish(gameId, runtime);
+        botTurns.schedule(gameId, runtime); // bots answer in their own tasks, after this response
         return ResponseEntity.ok(new CommandResult(true, List.of(), v));
     }
 
-    /** SSE stream for live view updates. */
+    private ResponseEntity<BatchResult> applyBatch(String gameId, List<UnoCommand> cmds, WireFormat format) {
+        UnoRuntimePhase runtime = registry.get(gameId);
+        if (runtime == null) return ResponseEntity.ok(new BatchResult(false, 0, List.of(new ErrorInfo("Game not found")), null));
+        int applied = 0;
+        List<ErrorInfo> errs = List.of();
+        // Turns completed inside the batch go out with the single publish below
+        runtime.setTurnListener(null);
+        try {
+            for (UnoCommand cmd : cmds) {
+                errs = execute(runtime, cmd);
+                if (!errs.isEmpty()) break;
+                applied++;
+            }
+        } finally {
+            runtime.setTurnListener(rt -> publish(gameId, rt));
+        }
+        if (applied > 0) states.stage(gameId, GameStateStore.Kind.UNO, runtime.snapshot(), runtime.winnerId() != null);
+        publish(gameId, runtime);
+        botTurns.schedule(gameId, runtime);
+        var v = encodedFor(format, viewFor(gameId, runtime, cmds.get(0).playerId()));
+        return ResponseEntity.ok(new BatchResult(applied == cmds.size(), applied, errs, v));
+    }
+
+    /** Run one command on the runtime, without staging or publishing; no errors means it was applied. */
+    private static List<ErrorInfo> execute(UnoRuntimePhase runtime, UnoCommand cmd) {
+        UnoRuntimePhase.PlayerCommand command;
+        try {
+            command = cmd.toPlayerCommand();
+        } catch (IllegalArgumentException e) {
+            return List.of(new ErrorInfo("BAD_CARD:" + e.getMessage()));
+        }
+        var result = runtime.applyPlayerCommand(command);
+        if (result.applied()) return List.of();
+        return result.errors().stream().map(e -> new ErrorInfo(e.code()+":"+e.message())).toList();
+    }
+
+    /**
+     * SSE stream for live view updates: one full VIEW on subscribe, then DELTA events keyed by state version. A
+     * reconnecting EventSource sends {@code Last-Event-ID} and is resumed with just the events it missed.
+     */
     @GetMapping("/{gameId}/stream")
-    public SseEmitter stream(@PathVariable String gameId) {
-        return sseService.subscribe(gameId);
+    public SseEmitter stream(@PathVariable String gameId, @RequestParam(required = false) String format,
+                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return open(gameId, null, WireFormat.of(format), lastEventId);
+    }
+
+    /**
+     * Private stream for the caller's own seat: the public events plus HAND updates and personal views, so the
+     * client needs no {@code GET /view} after bot turns or penalties. EventSource cannot set headers, so the token
+     * may come as {@code access_token} (see JwtAuthFilter).
+     */
+    @GetMapping("/{gameId}/stream/private")
+    public ResponseEntity<SseEmitter> privateStream(@PathVariable String gameId, @RequestParam String viewerId,
+                                                    @RequestParam(required = false) String format,
+                                                    @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                                    Authentication auth) {
+        if (registry.knownAbsent(gameId)) return ResponseEntity.notFound().build();
+        if (auth == null || !seats.mayView(gameId, auth.getName(), viewerId)) return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        return ResponseEntity.ok(open(gameId, viewerId, WireFormat.of(format), lastEventId));
+    }
+
+    private SseEmitter open(String gameId, String viewerId, WireFormat format, String lastEventId) {
+        SseEmitter emitter = sseService.subscribe(gameId, viewerId, format);
+        if (!registry.knownAbsent(gameId)) {
+            actors.execute(gameId, () -> {
+                UnoRuntimePhase runtime = registry.get(gameId);
+                if (runtime != null) sseService.sendInitial(gameId, emitter, runtime, lastEventId, viewer -> viewFor(gameId, runtime, viewer));
+            });
+        }
+        return emitter;
     }
 
     /** Convert internal UnoView (string hand displays) into front-end expected structure. */
-    private Map<String,Object> transformView(UnoRuntimePhase runtime, UnoView view) {
+    Map<String,Object> transformView(UnoRuntimePhase runtime, UnoView view) {
         Map<String,Object> out = new LinkedHashMap<>();
         UnoBoardView b = view.board();
         boolean finished = runtime.endingPhase() != null;
         out.put("phase", finished ? "FINISHED" : "RUNTIME");
+        out.put("version", runtime.stateVersion());
         out.put("turnCount", b.turnCount());
         String topDisp = b.topCard();
-        if (topDisp != null) out.put("top", parseCard(topDisp));
+        if (topDisp != null) out.put("top", UnoViewDeltas.card(topDisp));
         if (b.activeColor() != null) out.put("activeColor", b.activeColor());
         out.put("viewerId", view.perspectivePlayerId());
         if (finished && runtime.winnerId() != null) out.put("winnerId", runtime.winnerId());
@@ -88,7 +283,7 @@ public class UnoController {
             p.put("isWinner", finished && pv.playerId().equals(runtime.winnerId()));
             if (pv.hand() != null) {
                 List<Map<String,String>> hand = new ArrayList<>();
-                for (String disp : pv.hand()) hand.add(parseCard(disp));
+                for (String disp : pv.hand()) hand.add(UnoViewDeltas.card(disp));
                 p.put("hand", hand);
             }
             playerList.add(p);
@@ -106,35 +301,29 @@ public class UnoController {
             out.put("colorChooser", runtime.awaitingColorChooser());
         }
         // --- Action events (Stage 1) ---
-        var events = new ArrayList<Map<String,Object>>();
-        for (var e : runtime.actionLogSnapshot()) {
-            Map<String,Object> ev = new LinkedHashMap<>();
-            ev.put("id", e.seq());
-            ev.put("type", e.type());
-            ev.put("actorId", e.actorId());
-            ev.put("text", e.text());
-            ev.put("ts", e.ts());
-            events.add(ev);
-        }
-        out.put("events", events);
+        out.put("events", UnoViewDeltas.events(runtime.actionLogSnapshot()));
         out.put("lastEventSeq", runtime.lastEventSeq());
         return out;
     }
 
-    private Map<String,String> parseCard(String display) {
-        // Examples: "RED 5", "RED SKIP", "WILD", "WILD_DRAW_FOUR"
-        Map<String,String> c = new LinkedHashMap<>();
-        String[] parts = display.split(" ");
-        if (parts.length == 1) {
-            c.put("value", parts[0]);
-            c.put("color", parts[0].startsWith("WILD") ? null : null); // wild has no fixed color
-        } else if (parts.length == 2) {
-            c.put("color", parts[0]);
-            c.put("value", parts[1]);
-        } else {
-            c.put("value", display);
+    /** Copy of the generic view as {@code viewerId} sees it: viewer set and that player's hand rendered. */
+    private Map<String,Object> withViewer(UnoRuntimePhase runtime, Map<String,Object> generic, String viewerId) {
+        if (viewerId == null) return generic;
+        Map<String,Object> out = new LinkedHashMap<>(generic);
+        out.put("viewerId", viewerId);
+        var viewer = runtime.board().find(viewerId);
+        if (viewer == null) return out;
+        @SuppressWarnings("unchecked")
+        List<Map<String,Object>> players = new ArrayList<>((List<Map<String,Object>>) generic.get("players"));
+        for (int i = 0; i < players.size(); i++) {
+            if (!viewerId.equals(players.get(i).get("playerId"))) continue;
+            Map<String,Object> p = new LinkedHashMap<>(players.get(i));
+            List<Map<String,String>> hand = new ArrayList<>(viewer.cardCount());
+            for (var card : viewer.getHand().view()) hand.add(UnoViewDeltas.card(card.getDisplay()));
+            p.put("hand", hand);
+            players.set(i, p);
         }
-        if (!c.containsKey("color")) c.put("color", parts.length==2?parts[0]:null);
-        return c;
+        out.put("players", players);
+        return out;
     }
 }
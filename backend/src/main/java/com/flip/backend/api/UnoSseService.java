@@ -1,47 +1,275 @@
 package com.flip.backend.api;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
-/** Manages per-game SSE emitters for UNO view updates. */
+/**
+ * Manages per-game SSE emitters for UNO view updates. Subscribers get one full VIEW (see
+ * {@link UnoController#stream}), then DELTA events computed against the last state published for the game.
+ * Games nobody watches cost nothing: no state is kept and no payload is built.
+ * <p>
+ * Each event is serialised once into a complete SSE frame (JSON as UTF-8 bytes) and the same frame is written to
+ * every subscriber, so encoding cost does not grow with the number of spectators. Writes happen on the
+ * {@link SseFanout} pool; a subscriber whose queue overflows skips the queued deltas and gets the latest full VIEW.
+ * <p>
+ * Event ids are {@code <epoch>-<version>}, the epoch identifying this process. The last {@code app.sse.replay-events}
+ * frames of a game are kept in an {@link EventRing}, so a reconnecting {@code EventSource} (which sends
+ * {@code Last-Event-ID}) gets only the events it missed; an id from another process or older than the ring gets one
+ * VIEW. A channel outlives its last subscriber for one ring's worth of updates, long enough to bridge a reconnect.
+ * <p>
+ * Private subscribers (bound to a seat by {@link UnoController#privateStream}) get the same public frames plus a HAND
+ * event whenever their own hand changed, and personal VIEWs when they resync, so they never need a follow-up
+ * {@code GET /view}. HAND events carry no id: resuming replays public frames, then sends the current hand.
+ * <p>
+ * Subscribers may ask for {@link WireFormat#COMPACT} frames (card ids instead of displays; next to the event log's
+ * text this is almost no saving); each frame is encoded at most once per representation actually in use.
+ */
 @Component
 public class UnoSseService {
-    private final Map<String, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final ObjectMapper mapper;
+    private final SseFanout fanout;
+    private final int replayEvents;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
 
-    public SseEmitter subscribe(String gameId) {
+    public UnoSseService(ObjectMapper mapper, SseFanout fanout, @Value("${app.sse.replay-events:32}") int replayEvents) {
+        this.mapper = mapper; this.fanout = fanout; this.replayEvents = Math.max(1, replayEvents);
+    }
+
+    /** Subscribers of one game plus the last public state and recent frames sent to them (written on the game's actor only). */
+    private final class Channel {
+        final Map<SseEmitter, Watcher> subscribers = new ConcurrentHashMap<>();
+        final EventRing<Frame> recent = new EventRing<>(replayEvents);
+        volatile UnoViewDeltas.PublicState last;
+        int idlePublishes; // broadcasts since the channel last had a subscriber
+    }
+
+    /** One subscription; {@code viewerId} is null on the public stream. */
+    private static final class Watcher {
+        final SseFanout.Subscriber subscriber;
+        final String viewerId;
+        final boolean compact;
+        List<String> hand; // last hand sent (actor only)
+
+        Watcher(SseFanout.Subscriber subscriber, String viewerId, boolean compact) {
+            this.subscriber = subscriber;
+            this.viewerId = viewerId;
+            this.compact = compact;
+        }
+
+        boolean offer(SseFanout fanout, Frame frame) { return fanout.offer(subscriber, frame.as(compact)); }
+        void coalesce(SseFanout fanout, Frame frame) { fanout.coalesce(subscriber, frame.as(compact)); }
+    }
+
+    /**
+     * One event, encoded at most once per representation: plain JSON, or JSON with card ids for
+     * {@link WireFormat#COMPACT} subscribers. Used on the game's actor only.
+     */
+    private final class Frame {
+        final String name;
+        final String id; // null: no id (HAND)
+        final Map<String,Object> payload;
+        private Set<ResponseBodyEmitter.DataWithMediaType> json, compact;
+
+        Frame(String name, String id, Map<String,Object> payload) {
+            this.name = name;
+            this.id = id;
+            this.payload = payload;
+        }
+
+        Set<ResponseBodyEmitter.DataWithMediaType> as(boolean compactCards) {
+            if (compactCards) {
+                if (compact == null) compact = encode(this, CardIds.compactUno(payload));
+                return compact;
+            }
+            if (json == null) json = encode(this, payload);
+            return json;
+        }
+    }
+
+    /** Public stream: no private hands. */
+    public SseEmitter subscribe(String gameId) { return subscribe(gameId, null, WireFormat.JSON); }
+
+    /**
+     * Stream for {@code viewerId}, who must already be authorised for that seat; null for the public stream.
+     * {@code format} other than JSON sends card ids ({@link WireFormat#COMPACT}: SSE stays text).
+     */
+    public SseEmitter subscribe(String gameId, String viewerId, WireFormat format) {
         SseEmitter emitter = new SseEmitter(0L); // no timeout (rely on client)
-        emitters.computeIfAbsent(gameId, k -> ConcurrentHashMap.newKeySet()).add(emitter);
-        emitter.onCompletion(() -> remove(gameId, emitter));
-        emitter.onTimeout(() -> remove(gameId, emitter));
-        emitter.onError(e -> remove(gameId, emitter));
-        // Initial ping
-        try { emitter.send(SseEmitter.event().name("INIT").data("ok")); } catch (IOException ignored) {}
+        SseFanout.Subscriber subscriber = fanout.open(emitter, () -> remove(gameId, emitter));
+        Watcher watcher = new Watcher(subscriber, viewerId, format.compact());
+        channels.compute(gameId, (k, ch) -> {
+            if (ch == null) ch = new Channel();
+            ch.subscribers.put(emitter, watcher);
+            return ch;
+        });
+        Runnable ended = () -> { subscriber.release(); remove(gameId, emitter); };
+        emitter.onCompletion(ended);
+        emitter.onTimeout(ended);
+        emitter.onError(e -> ended.run());
+        // Initial ping, queued like every other frame so it cannot overtake or interleave with them
+        fanout.offer(subscriber, SseEmitter.event().name("INIT").data("ok").build());
         return emitter;
     }
 
     private void remove(String gameId, SseEmitter emitter) {
-        Set<SseEmitter> set = emitters.get(gameId);
-        if (set != null) {
-            set.remove(emitter);
-            if (set.isEmpty()) emitters.remove(gameId);
-        }
-    }
-
-    public void broadcastView(String gameId, Map<String,Object> viewPayload) {
-        Set<SseEmitter> set = emitters.get(gameId);
-        if (set == null || set.isEmpty()) return;
-        // Copy to avoid CME
-        for (SseEmitter em : Set.copyOf(set)) {
-            try {
-                em.send(SseEmitter.event().name("VIEW").data(viewPayload));
-            } catch (IOException e) {
-                remove(gameId, em);
+        // The channel and its ring stay for a reconnect; publish() drops them once nobody came back
+        Channel ch = channels.get(gameId);
+        if (ch != null) ch.subscribers.remove(emitter);
+    }
+
+    /** Drop everything kept for {@code gameId} (it left memory). */
+    public void forget(String gameId) { channels.remove(gameId); }
+
+    /**
+     * Bring a new subscriber up to date and make its state the delta base: the frames it missed while they are still
+     * in the ring ({@code lastEventId}), nothing when it is current, else its full view ({@code viewFor} of its viewer,
+     * null for public). Private subscribers then get their hand. Call on the game's actor, like {@link #publish}, so
+     * no update can slip in between the snapshot and the base.
+     */
+    public void sendInitial(String gameId, SseEmitter emitter, UnoRuntimePhase runtime, String lastEventId,
+                            Function<String, Map<String,Object>> viewFor) {
+        Channel ch = channels.get(gameId);
+        Watcher watcher = ch != null ? ch.subscribers.get(emitter) : null;
+        if (watcher == null) return; // already disconnected
+        ch.idlePublishes = 0;
+        long current = runtime.stateVersion();
+        if (ch.last == null || ch.last.version() != current) {
+            // New channel (or one that missed updates): the ring does not lead to the current state
+            ch.last = UnoViewDeltas.capture(runtime);
+            ch.recent.clear();
+        }
+        long resumeFrom = parseEventId(lastEventId);
+        List<Frame> missed =
+            resumeFrom < 0 ? null : resumeFrom == current ? List.of() : ch.recent.since(resumeFrom);
+        if (missed == null) {
+            resync(watcher, runtime, viewFor);
+            return;
+        }
+        for (Frame frame : missed) {
+            if (!watcher.offer(fanout, frame)) {
+                // More missed frames than the subscriber queue holds: one snapshot instead
+                resync(watcher, runtime, viewFor);
+                return;
             }
         }
+        if (watcher.viewerId != null) sendHand(watcher, runtime, viewFor, null);
+    }
+
+    /** Replace whatever is queued for {@code watcher} with its full view of the current state. */
+    private void resync(Watcher watcher, UnoRuntimePhase runtime, Function<String, Map<String,Object>> viewFor) {
+        Frame view = frame("VIEW", runtime.stateVersion(), viewFor.apply(watcher.viewerId));
+        if (!watcher.offer(fanout, view)) watcher.coalesce(fanout, view);
+        if (watcher.viewerId != null) watcher.hand = UnoViewDeltas.hand(runtime, watcher.viewerId); // included in the view
+    }
+
+    /**
+     * Queue the viewer's hand if it differs from the last one sent. {@code encoded} shares HAND frames between
+     * subscribers of the same seat within one broadcast (null: no sharing).
+     */
+    private void sendHand(Watcher watcher, UnoRuntimePhase runtime, Function<String, Map<String,Object>> viewFor,
+                          Map<String, Frame> encoded) {
+        List<String> hand = UnoViewDeltas.hand(runtime, watcher.viewerId);
+        if (hand == null || hand.equals(watcher.hand)) return;
+        Frame frame = encoded == null ? handFrame(watcher.viewerId, runtime.stateVersion(), hand)
+            : encoded.computeIfAbsent(watcher.viewerId, id -> handFrame(id, runtime.stateVersion(), hand));
+        if (watcher.offer(fanout, frame)) {
+            watcher.hand = hand;
+        } else {
+            resync(watcher, runtime, viewFor); // the queue is full of public frames: all of them, plus the hand, in one view
+        }
+    }
+
+    /**
+     * Broadcast the runtime's latest change: nothing when its version is unchanged, a DELTA against the last
+     * published state, or the generic view ({@code viewFor(null)}) when there is no usable base (first broadcast,
+     * seating changed); private subscribers also get their changed hand. Call on the game's actor so states are
+     * published in order.
+     */
+    public void publish(String gameId, UnoRuntimePhase runtime, Function<String, Map<String,Object>> viewFor) {
+        Channel ch = channels.get(gameId);
+        if (ch == null) return;
+        UnoViewDeltas.PublicState prev = ch.last;
+        if (prev != null && prev.version() == runtime.stateVersion()) return;
+        if (!ch.subscribers.isEmpty()) {
+            ch.idlePublishes = 0;
+        } else if (++ch.idlePublishes > replayEvents) {
+            // Nobody reconnected while the ring could still have resumed them
+            channels.computeIfPresent(gameId, (k, c) -> c == ch && c.subscribers.isEmpty() ? null : c);
+            return;
+        }
+        UnoViewDeltas.PublicState next = UnoViewDeltas.capture(runtime);
+        ch.last = next;
+        boolean full = prev == null || !prev.sameSeating(next) || prev.version() > next.version();
+        Frame frame = full ? frame("VIEW", next.version(), viewFor.apply(null))
+                         : frame("DELTA", next.version(), UnoViewDeltas.delta(prev, next, runtime));
+        ch.recent.append(prev != null ? prev.version() : -1, next.version(), frame);
+        List<Watcher> lagging = null;
+        Map<String, Frame> hands = null;
+        for (Watcher watcher : ch.subscribers.values()) {
+            if (!watcher.offer(fanout, frame)) {
+                if (lagging == null) lagging = new ArrayList<>();
+                lagging.add(watcher);
+            } else if (watcher.viewerId != null) {
+                if (hands == null) hands = new HashMap<>();
+                sendHand(watcher, runtime, viewFor, hands);
+            }
+        }
+        if (lagging == null) return;
+        // Lagging subscribers skip their queued frames: one full view of the current state replaces them
+        Frame publicView = full ? frame : null;
+        for (Watcher watcher : lagging) {
+            if (watcher.viewerId != null) {
+                watcher.coalesce(fanout, frame("VIEW", next.version(), viewFor.apply(watcher.viewerId)));
+                watcher.hand = UnoViewDeltas.hand(runtime, watcher.viewerId);
+                continue;
+            }
+            if (publicView == null) publicView = frame("VIEW", next.version(), viewFor.apply(null));
+            watcher.coalesce(fanout, publicView);
+        }
+    }
+
+    /** State version in an event id issued by this process; -1 when absent, malformed or from an earlier run. */
+    long parseEventId(String id) {
+        if (id == null || id.length() <= epoch.length() + 1 || !id.startsWith(epoch) || id.charAt(epoch.length()) != '-') return -1;
+        try {
+            return Long.parseLong(id, epoch.length() + 1, id.length(), 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private Frame frame(String name, long version, Map<String,Object> payload) {
+        return new Frame(name, epoch + "-" + version, payload);
+    }
+
+    /** HAND frames have no id, so the client's Last-Event-ID keeps pointing into the public stream. */
+    private Frame handFrame(String viewerId, long version, List<String> hand) {
+        return new Frame("HAND", null, UnoViewDeltas.handPayload(viewerId, version, hand));
+    }
+
+    /** Encode one named event; the JSON bytes go out through the byte-array converter without re-serialisation. */
+    private Set<ResponseBodyEmitter.DataWithMediaType> encode(Frame frame, Object payload) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event();
+        if (frame.id != null) event.id(frame.id);
+        try {
+            return event.name(frame.name).data(mapper.writeValueAsBytes(payload), MediaType.APPLICATION_JSON).build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unserialisable " + frame.name + " payload", e);
+        }
     }
 }
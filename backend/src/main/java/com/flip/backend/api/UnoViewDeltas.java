@@ -0,0 +1,137 @@
+package com.flip.backend.api;
+
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.entities.UnoBoard;
+import com.flip.backend.uno.entities.UnoCard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compact UNO view updates. The public part of a table is captured as a small {@link PublicState} straight from the
+ * runtime (no view building); consecutive states are diffed into a DELTA payload carrying only what changed plus the
+ * log entries since the previous state. Clients apply a delta only when its {@code baseVersion} equals the version
+ * they hold and otherwise resync with a full view.
+ */
+final class UnoViewDeltas {
+
+    private UnoViewDeltas() {}
+
+    /** Perspective-free table state at one {@link UnoRuntimePhase#stateVersion()}; seats are in table order. */
+    record PublicState(long version, String[] seatIds, int[] handSizes, String currentPlayerId, long turnCount,
+                       String top, String activeColor, int pendingDraw, String pendingDrawType, String colorChooser,
+                       String winnerId, long lastEventSeq) {
+
+        boolean sameSeating(PublicState o) { return Arrays.equals(seatIds, o.seatIds); }
+    }
+
+    static PublicState capture(UnoRuntimePhase rt) {
+        UnoBoard board = rt.board();
+        int n = board.size();
+        String[] ids = new String[n];
+        int[] sizes = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = board.seatAt(i).getId();
+            sizes[i] = board.seatAt(i).cardCount();
+        }
+        UnoCard top = board.lastPlayedCard();
+        return new PublicState(rt.stateVersion(), ids, sizes, board.currentPlayer().getId(), board.turnCount(),
+            top != null ? top.getDisplay() : null,
+            board.activeColor() != null ? board.activeColor().name() : null,
+            rt.pendingDrawPenalty(),
+            rt.pendingDrawPenalty() > 0 && rt.pendingPenaltyType() != null ? rt.pendingPenaltyType().name() : null,
+            rt.awaitingColorChooser(),
+            rt.winnerId(),
+            rt.lastEventSeq());
+    }
+
+    /**
+     * Changes from {@code prev} to {@code next} in the shape of the full view's fields. {@code handSizes} maps player
+     * id to the new count for changed seats only; {@code currentPlayerId} replaces the per-player {@code isCurrent}
+     * flags (players stay in clockwise order, clients rotate). Seating must be unchanged ({@link PublicState#sameSeating}).
+     */
+    static Map<String, Object> delta(PublicState prev, PublicState next, UnoRuntimePhase rt) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("baseVersion", prev.version());
+        out.put("version", next.version());
+        if (!Objects.equals(prev.winnerId(), next.winnerId())) {
+            out.put("phase", next.winnerId() != null ? "FINISHED" : "RUNTIME");
+            out.put("winnerId", next.winnerId());
+        }
+        if (prev.turnCount() != next.turnCount()) out.put("turnCount", next.turnCount());
+        if (!Objects.equals(prev.currentPlayerId(), next.currentPlayerId())) out.put("currentPlayerId", next.currentPlayerId());
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        for (int i = 0; i < next.handSizes().length; i++) {
+            if (prev.handSizes()[i] != next.handSizes()[i]) sizes.put(next.seatIds()[i], next.handSizes()[i]);
+        }
+        if (!sizes.isEmpty()) out.put("handSizes", sizes);
+        if (!Objects.equals(prev.top(), next.top())) out.put("top", next.top() != null ? card(next.top()) : null);
+        if (!Objects.equals(prev.activeColor(), next.activeColor())) out.put("activeColor", next.activeColor());
+        if (prev.pendingDraw() != next.pendingDraw() || !Objects.equals(prev.pendingDrawType(), next.pendingDrawType())) {
+            out.put("pendingDraw", next.pendingDraw());
+            out.put("pendingDrawType", next.pendingDrawType());
+        }
+        if (!Objects.equals(prev.colorChooser(), next.colorChooser())) {
+            out.put("mustChooseColor", next.colorChooser() != null);
+            out.put("colorChooser", next.colorChooser());
+        }
+        if (next.lastEventSeq() != prev.lastEventSeq()) {
+            out.put("events", events(rt.actionLogSince(prev.lastEventSeq())));
+            out.put("lastEventSeq", next.lastEventSeq());
+        }
+        return out;
+    }
+
+    static List<Map<String, Object>> events(List<UnoRuntimePhase.ActionLogEntry> entries) {
+        List<Map<String, Object>> events = new ArrayList<>(entries.size());
+        for (var e : entries) {
+            Map<String, Object> ev = new LinkedHashMap<>();
+            ev.put("id", e.seq());
+            ev.put("type", e.type());
+            ev.put("actorId", e.actorId());
+            ev.put("text", e.text());
+            ev.put("ts", e.ts());
+            events.add(ev);
+        }
+        return events;
+    }
+
+    /** Card displays of {@code playerId}'s hand in hand order, or null when it is not seated at this table. */
+    static List<String> hand(UnoRuntimePhase rt, String playerId) {
+        var player = playerId != null ? rt.board().find(playerId) : null;
+        if (player == null) return null;
+        List<String> out = new ArrayList<>(player.cardCount());
+        for (var c : player.getHand().view()) out.add(c.getDisplay());
+        return out;
+    }
+
+    /** HAND payload for a private stream: the viewer's whole hand (a few cards, cheaper than diffing it). */
+    static Map<String, Object> handPayload(String playerId, long version, List<String> hand) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("playerId", playerId);
+        out.put("version", version);
+        List<Map<String, String>> cards = new ArrayList<>(hand.size());
+        for (String display : hand) cards.add(card(display));
+        out.put("hand", cards);
+        return out;
+    }
+
+    /** Card display ("RED 5", "WILD") to the frontend's {color, value} shape. */
+    static Map<String, String> card(String display) {
+        // Examples: "RED 5", "RED SKIP", "WILD", "WILD_DRAW_FOUR"
+        Map<String, String> c = new LinkedHashMap<>();
+        String[] parts = display.split(" ");
+        if (parts.length == 2) {
+            c.put("color", parts[0]);
+            c.put("value", parts[1]);
+        } else {
+            c.put("value", parts.length == 1 ? parts[0] : display);
+            c.put("color", null); // wild has no fixed color
+        }
+        return c;
+    }
+}
@@ -0,0 +1,45 @@
+package com.flip.backend.api;
+
+import com.flip.backend.dvc.engine.DVCGameRegistry;
+import com.flip.backend.dvc.engine.view.DVCView;
+import com.flip.backend.game.engine.view.ProjectionCache;
+import com.flip.backend.uno.engine.UnoGameRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Shared view caches for REST responses and broadcasts: each game state is projected once per version and
+ * perspective ({@link ProjectionCache}). Entries are dropped when a game leaves memory. Lookups are exposed as
+ * {@code views.cache.lookups{game,result=hit|miss}}.
+ */
+@Component
+public class ViewProjections {
+    private final ProjectionCache<Map<String,Object>, Map<String,Object>> uno = new ProjectionCache<>();
+    private final ProjectionCache<DVCView, DVCView> dvc = new ProjectionCache<>();
+
+    public ViewProjections(UnoGameRegistry unoRegistry, DVCGameRegistry dvcRegistry, MeterRegistry meters) {
+        unoRegistry.addRemovalHook(uno::invalidate);
+        dvcRegistry.addRemovalHook(dvc::invalidate);
+        register(meters, "uno", uno);
+        register(meters, "dvc", dvc);
+    }
+
+    private static void register(MeterRegistry meters, String game, ProjectionCache<?, ?> cache) {
+        FunctionCounter.builder("views.cache.lookups", cache, ProjectionCache::hits)
+            .tag("game", game).tag("result", "hit").description("View cache lookups").register(meters);
+        FunctionCounter.builder("views.cache.lookups", cache, ProjectionCache::misses)
+            .tag("game", game).tag("result", "miss").description("View cache lookups").register(meters);
+        Gauge.builder("views.cache.games", cache, ProjectionCache::size)
+            .tag("game", game).description("Games with a cached projection").register(meters);
+    }
+
+    /** UNO frontend maps (see {@link UnoController#transformView}). */
+    public ProjectionCache<Map<String,Object>, Map<String,Object>> uno() { return uno; }
+
+    /** DVC views: public view plus per-player overlays. */
+    public ProjectionCache<DVCView, DVCView> dvc() { return dvc; }
+}
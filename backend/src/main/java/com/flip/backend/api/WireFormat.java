@@ -0,0 +1,49 @@
+package com.flip.backend.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Wire encodings of game views, chosen per connection; JSON is the default. The compact ones replace card display
+ * strings with small ints ({@link CardIds}):
+ * <ul>
+ *   <li>{@code COMPACT}: JSON text with card ids, for SSE ({@code ?format=compact}; EventSource carries text only).
+ *   On UNO streams it saves almost nothing (under 1% of a view): the event log is display text and dominates.</li>
+ *   <li>{@code CBOR}: binary, for REST ({@code Accept: application/cbor}, also accepted as request body) and STOMP
+ *   (subscribe to the {@code /cbor} variant of a destination).</li>
+ * </ul>
+ */
+public enum WireFormat {
+    JSON, COMPACT, CBOR;
+
+    public static final MimeType APPLICATION_CBOR = new MimeType("application", "cbor");
+    private static final ObjectMapper CBOR_MAPPER = new CBORMapper();
+
+    /** Format named by a {@code format} request parameter; anything unknown is JSON. */
+    public static WireFormat of(String name) {
+        if (name == null) return JSON;
+        return switch (name.toLowerCase()) {
+            case "compact" -> COMPACT;
+            case "cbor" -> CBOR;
+            default -> JSON;
+        };
+    }
+
+    /** CBOR when an {@code Accept} header asks for it, else JSON. */
+    public static WireFormat accepting(String accept) {
+        return accept != null && accept.contains(APPLICATION_CBOR.toString()) ? CBOR : JSON;
+    }
+
+    /** True when card displays are replaced by ids. */
+    public boolean compact() { return this != JSON; }
+
+    public MimeType mimeType() { return this == CBOR ? APPLICATION_CBOR : MimeTypeUtils.APPLICATION_JSON; }
+
+    /** Encode {@code payload} (already compacted when {@link #compact()}); {@code json} is the application's mapper. */
+    public byte[] encode(ObjectMapper json, Object payload) throws JsonProcessingException {
+        return (this == CBOR ? CBOR_MAPPER : json).writeValueAsBytes(payload);
+    }
+}
@@ -5,10 +5,12 @@ import java.util.List;
 
 public class LobbyDtos {
     // For now we use Object for polymorphic game view payload (UnoView, DVCView, etc.)
+    /** {@code userId}: the session member playing a human seat; seats without one have no private hand view. */
     public record PlayerSpec(
         @NotBlank String name,
         boolean bot,
-        boolean ready
+        boolean ready,
+        Long userId
     ) {}
 
     public record StartGameRequest(
@@ -21,7 +23,8 @@ public class LobbyDtos {
         String playerId,
         String name,
         boolean bot,
-        boolean ready
+        boolean ready,
+        Long userId
     ) {}
 
     /** Start game response (generic). Some fields may be null for certain game types. */
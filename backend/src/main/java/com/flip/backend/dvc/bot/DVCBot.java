@@ -0,0 +1,58 @@
+package com.flip.backend.dvc.bot;
+
+import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
+import com.flip.backend.dvc.entities.DVCCard;
+import com.flip.backend.dvc.entities.DVCDeck;
+import com.flip.backend.dvc.entities.DVCPlayer;
+
+import java.util.List;
+
+/**
+ * Built-in DVC bot: draws from the colour with more cards left, makes the most likely guess
+ * ({@link DVCInference#best()}), keeps guessing while the next best guess is at least {@link #CONTINUE_AT} likely,
+ * and places drawn cards in order.
+ */
+public final class DVCBot {
+    /** Continue after a correct guess when the next one is at least this likely. */
+    static final double CONTINUE_AT = 0.5;
+
+    private DVCBot() {}
+
+    /** Provide the one input the runtime awaits from its current player; false if it was not accepted. */
+    public static boolean act(DVCRuntimePhase rt) {
+        DVCPlayer me = (DVCPlayer) rt.board().currentPlayer();
+        String id = me.getId();
+        return switch (rt.awaiting()) {
+            case DRAW_COLOR -> rt.provideDrawColor(id, drawColor(rt.deck()).name());
+            case GUESS_SELECTION -> {
+                DVCInference.Guess g = DVCInference.observe(rt, id).best();
+                yield g != null && rt.provideGuess(id, g.targetPlayerId(), g.targetIndex(), g.joker(), g.number());
+            }
+            case REVEAL_DECISION -> {
+                DVCInference.Guess next = DVCInference.observe(rt, id).best();
+                yield rt.provideRevealDecision(id, next != null && next.probability() >= CONTINUE_AT);
+            }
+            case SELF_REVEAL_CHOICE -> rt.provideSelfReveal(id, selfReveal(me));
+            case SETTLE_POSITION -> rt.provideSettleHand(id, null);
+            case NONE -> false;
+        };
+    }
+
+    /** Colour with more cards still in the deck (public knowledge). */
+    static DVCCard.Color drawColor(DVCDeck deck) {
+        return deck.remaining(DVCCard.Color.BLACK) >= deck.remaining(DVCCard.Color.WHITE) ? DVCCard.Color.BLACK : DVCCard.Color.WHITE;
+    }
+
+    /** Own card to give away after a failed guess on an empty deck: the first hidden number, a joker only as a last resort. */
+    static int selfReveal(DVCPlayer me) {
+        List<DVCCard> hand = me.hand().snapshot();
+        int joker = -1;
+        for (int i = 0; i < hand.size(); i++) {
+            DVCCard c = hand.get(i);
+            if (c.isFaceUp()) continue;
+            if (!c.isJoker()) return i;
+            if (joker < 0) joker = i;
+        }
+        return joker;
+    }
+}
@@ -0,0 +1,274 @@
+package com.flip.backend.dvc.bot;
+
+import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
+import com.flip.backend.dvc.entities.DVCBoard;
+import com.flip.backend.dvc.entities.DVCCard;
+import com.flip.backend.dvc.entities.DVCPlayer;
+
+import java.util.List;
+
+/**
+ * What one player can deduce about every hidden card of its opponents. Each hidden slot holds a bitset of the
+ * cards it may still be, over 26 keys: {@code number * 2 + colour} (0-23, the order of
+ * {@link DVCCard#compareForOrder}) and 24/25 for the BLACK/WHITE joker.
+ * <p>
+ * Domains start from the slot's colour minus every card the observer has seen (its own hand and pending card,
+ * revealed cards) and the values already guessed wrong on that card ({@link DVCRuntimePhase#failedGuessMask}).
+ * Propagation then runs to a fixpoint, revisiting only hands whose domains changed: ordering bounds from the
+ * neighbours that cannot be jokers, naked singles (a determined card leaves every other slot) and, once no
+ * unknown card can be outside the slots, hidden singles. A hand whose order contradicts the domains (players may
+ * arrange their cards freely) loses its ordering constraints. Guess probabilities are marginals from Sinkhorn
+ * balancing of the slot/card matrix, with the unseen rest (deck, others' pending cards) as one extra row.
+ * <p>
+ * Built from public information only, on the game's thread; a 4-player table takes a few microseconds.
+ */
+public final class DVCInference {
+    static final int CARDS = 26;
+    static final int NUMBERS = (1 << 24) - 1;
+    static final int JOKERS = 3 << 24;
+    private static final int SINKHORN_ROUNDS = 20;
+
+    /** A guess and its estimated chance of being right. */
+    public record Guess(String targetPlayerId, int targetIndex, boolean joker, Integer number, double probability) {}
+
+    private final DVCPlayer[] seats;
+    private final int observer;
+    /** Per seat, positions of its hand: a revealed card's key, or {@code ~slot} for a hidden card. */
+    private final int[][] layout;
+    private final int[] slotSeat;
+    private final int[] slotIndex;
+    private final int[] base;
+    private final int[] domain;
+    private final int slots;
+    private final int unknown;
+    private final int outside;
+    private final boolean[] ordered;
+    private double[][] marginals;
+
+    private DVCInference(DVCRuntimePhase rt, String observerId) {
+        DVCBoard board = rt.board();
+        int n = board.size();
+        seats = new DVCPlayer[n];
+        layout = new int[n][];
+        ordered = new boolean[n];
+        observer = board.seatOf(observerId);
+        if (observer < 0) throw new IllegalArgumentException("Not seated: " + observerId);
+        int known = 0;
+        int hidden = 0;
+        for (int s = 0; s < n; s++) {
+            DVCPlayer p = board.seatAt(s);
+            seats[s] = p;
+            for (DVCCard c : p.hand().snapshot()) {
+                if (s == observer || c.isFaceUp()) known |= 1 << key(c);
+                else hidden++;
+            }
+            DVCCard pending = board.getPending(p.getId());
+            if (pending != null && (s == observer || pending.isFaceUp())) known |= 1 << key(pending);
+        }
+        unknown = ((1 << CARDS) - 1) & ~known;
+        slotSeat = new int[hidden];
+        slotIndex = new int[hidden];
+        base = new int[hidden];
+        domain = new int[hidden];
+        int slot = 0;
+        for (int s = 0; s < n; s++) {
+            List<DVCCard> hand = seats[s].hand().snapshot();
+            int[] positions = new int[hand.size()];
+            boolean sorted = true;
+            int last = -1;
+            for (int i = 0; i < hand.size(); i++) {
+                DVCCard c = hand.get(i);
+                if (s == observer || c.isFaceUp()) {
+                    int k = key(c);
+                    positions[i] = k;
+                    if (k < 24) { sorted &= k > last; last = k; }
+                    continue;
+                }
+                slotSeat[slot] = s;
+                slotIndex[slot] = i;
+                base[slot] = colourMask(c.getColor()) & unknown & ~failedKeys(rt.failedGuessMask(c), c.getColor());
+                positions[i] = ~slot++;
+            }
+            layout[s] = positions;
+            ordered[s] = s != observer && sorted;
+        }
+        slots = hidden;
+        outside = Integer.bitCount(unknown) - hidden;
+        solve();
+    }
+
+    /** Everything {@code observerId} can deduce in the runtime's current state. */
+    public static DVCInference observe(DVCRuntimePhase rt, String observerId) { return new DVCInference(rt, observerId); }
+
+    static int key(DVCCard c) {
+        int colour = c.getColor().ordinal();
+        return c.isJoker() ? 24 + colour : c.getNumber() * 2 + colour;
+    }
+
+    /** Every key of one colour: the twelve numbers and the joker. */
+    static int colourMask(DVCCard.Color color) {
+        int colour = color.ordinal();
+        return (colour == 0 ? 0x555555 : 0xAAAAAA) | 1 << (24 + colour);
+    }
+
+    /** Failed guesses (bit n for number n, bit 12 for the joker) as keys of a card of {@code color}. */
+    private static int failedKeys(int failed, DVCCard.Color color) {
+        int colour = color.ordinal();
+        int keys = 0;
+        for (int f = failed & 0xFFF; f != 0; f &= f - 1) keys |= 1 << (Integer.numberOfTrailingZeros(f) * 2 + colour);
+        if ((failed & 1 << 12) != 0) keys |= 1 << (24 + colour);
+        return keys;
+    }
+
+    /** Propagate from the base domains; a contradiction drops the ordering of the hand it surfaced in and retries. */
+    private void solve() {
+        while (true) {
+            System.arraycopy(base, 0, domain, 0, slots);
+            int failed = propagate();
+            if (failed < 0) return;
+            int seat = slotSeat[failed];
+            if (!ordered[seat]) { // not caused by ordering: keep the plain domains
+                System.arraycopy(base, 0, domain, 0, slots);
+                return;
+            }
+            ordered[seat] = false;
+        }
+    }
+
+    /** Run all constraints to a fixpoint; returns a slot whose domain emptied, or -1. */
+    private int propagate() {
+        boolean[] dirty = ordered.clone();
+        boolean again = true;
+        while (again) {
+            again = false;
+            for (int s = 0; s < seats.length; s++) {
+                if (!dirty[s]) continue;
+                dirty[s] = false;
+                int empty = order(s);
+                if (empty >= 0) return empty;
+            }
+            for (int i = 0; i < slots; i++) {
+                int d = domain[i];
+                if (d == 0) return i;
+                if (Integer.bitCount(d) != 1) continue;
+                for (int j = 0; j < slots; j++) {
+                    if (j == i || (domain[j] & d) == 0) continue;
+                    domain[j] &= ~d;
+                    if (domain[j] == 0) return j;
+                    dirty[slotSeat[j]] = ordered[slotSeat[j]];
+                    again = true;
+                }
+            }
+            if (outside == 0) again |= hiddenSingles(dirty);
+        }
+        return -1;
+    }
+
+    /** Non-joker cards of a hand ascend: bound each slot by the nearest neighbours that cannot be jokers. */
+    private int order(int seat) {
+        int[] positions = layout[seat];
+        int lo = -1;
+        for (int e : positions) {
+            if (e >= 0) { if (e < 24) lo = e; continue; }
+            int slot = ~e;
+            int d = domain[slot] & (JOKERS | (lo < 0 ? NUMBERS : NUMBERS & -(1 << (lo + 1))));
+            if (d == 0) return slot;
+            domain[slot] = d;
+            if ((d & JOKERS) == 0) lo = Integer.numberOfTrailingZeros(d);
+        }
+        int hi = 24;
+        for (int p = positions.length - 1; p >= 0; p--) {
+            int e = positions[p];
+            if (e >= 0) { if (e < 24) hi = e; continue; }
+            int slot = ~e;
+            int d = domain[slot] & (JOKERS | ((1 << hi) - 1));
+            if (d == 0) return slot;
+            domain[slot] = d;
+            if ((d & JOKERS) == 0) hi = 31 - Integer.numberOfLeadingZeros(d);
+        }
+        return -1;
+    }
+
+    /** With every unknown card in some slot, a card that fits only one slot is that slot's card. */
+    private boolean hiddenSingles(boolean[] dirty) {
+        boolean changed = false;
+        for (int rest = unknown; rest != 0; rest &= rest - 1) {
+            int bit = rest & -rest;
+            int only = -1;
+            int count = 0;
+            for (int i = 0; i < slots && count < 2; i++) if ((domain[i] & bit) != 0) { only = i; count++; }
+            if (count == 1 && domain[only] != bit) {
+                domain[only] = bit;
+                dirty[slotSeat[only]] = ordered[slotSeat[only]];
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    public int slotCount() { return slots; }
+
+    /** Cards the slot at {@code targetIndex} of {@code playerId}'s hand may still be (keys as above), or 0 if not hidden. */
+    public int domain(String playerId, int targetIndex) {
+        for (int i = 0; i < slots; i++) {
+            if (seats[slotSeat[i]].getId().equals(playerId) && slotIndex[i] == targetIndex) return domain[i];
+        }
+        return 0;
+    }
+
+    /** Estimated probability that the hidden card at {@code targetIndex} of {@code playerId}'s hand has key {@code key}. */
+    public double probability(String playerId, int targetIndex, int key) {
+        double[][] m = marginals();
+        for (int i = 0; i < slots; i++) {
+            if (seats[slotSeat[i]].getId().equals(playerId) && slotIndex[i] == targetIndex) return m[i][key];
+        }
+        return 0;
+    }
+
+    /** Most likely guess on an opponent still in the game; ties go to the smaller domain, then seat order. Null without hidden slots. */
+    public Guess best() {
+        double[][] m = marginals();
+        int bestSlot = -1;
+        int bestKey = -1;
+        double bestP = -1;
+        for (int i = 0; i < slots; i++) {
+            for (int d = domain[i]; d != 0; d &= d - 1) {
+                int k = Integer.numberOfTrailingZeros(d);
+                double p = m[i][k];
+                if (p > bestP + 1e-9 || (p > bestP - 1e-9 && Integer.bitCount(domain[i]) < Integer.bitCount(domain[bestSlot]))) {
+                    bestP = p;
+                    bestSlot = i;
+                    bestKey = k;
+                }
+            }
+        }
+        if (bestSlot < 0) return null;
+        boolean joker = bestKey >= 24;
+        return new Guess(seats[slotSeat[bestSlot]].getId(), slotIndex[bestSlot], joker, joker ? null : bestKey >> 1, Math.min(1.0, bestP));
+    }
+
+    /** Slot rows sum to 1, the outside row to the unseen cards left over, every unknown card's column to 1. */
+    private double[][] marginals() {
+        if (marginals != null) return marginals;
+        double[][] m = new double[slots + 1][CARDS];
+        for (int i = 0; i < slots; i++) for (int d = domain[i]; d != 0; d &= d - 1) m[i][Integer.numberOfTrailingZeros(d)] = 1;
+        if (outside > 0) for (int d = unknown; d != 0; d &= d - 1) m[slots][Integer.numberOfTrailingZeros(d)] = 1;
+        for (int round = 0; round < SINKHORN_ROUNDS; round++) {
+            for (int i = 0; i <= slots; i++) {
+                double sum = 0;
+                for (int k = 0; k < CARDS; k++) sum += m[i][k];
+                if (sum == 0) continue;
+                double scale = (i == slots ? outside : 1) / sum;
+                for (int k = 0; k < CARDS; k++) m[i][k] *= scale;
+            }
+            if (round == SINKHORN_ROUNDS - 1) break; // end on rows: each slot's distribution sums to 1
+            for (int k = 0; k < CARDS; k++) {
+                double sum = 0;
+                for (int i = 0; i <= slots; i++) sum += m[i][k];
+                if (sum == 0) continue; // seen by the observer, or fits no slot
+                for (int i = 0; i <= slots; i++) m[i][k] /= sum;
+            }
+        }
+        return marginals = m;
+    }
+}
@@ -5,8 +5,8 @@ import com.flip.backend.game.engine.event.EventQueue;
 import com.flip.backend.dvc.entities.*;
 
 /**
- * Draw step: player chooses a color (BLACK/WHITE) if deck not empty. We then draw the first card of that color
- * via a filtered draw algorithm (cycling non-matching cards to bottom). The card becomes a pending card on board
+ * Draw step: player chooses a color (BLACK/WHITE) if deck not empty. We then draw the top card of that color's
+ * pile ({@link DVCDeck#draw(DVCCard.Color)}). The card becomes a pending card on board
  * (NOT inserted into the player's hand yet). Afterwards automatically enqueue a guess event.
  * If deck empty, we simply enqueue a guess event (skip draw, no pending card created).
  */
@@ -35,7 +35,7 @@ public class DVCDrawCardEvent extends GameEvent {
     @Override public void execute() {
         if (executed) return; executed = true;
         if (deck.remaining() > 0) {
-            DVCCard c = drawColor(deck, chosenColor);
+            DVCCard c = deck.draw(chosenColor);
             if (c == null) { // fallback: normal draw (any color) if none of chosen color exists
                 c = deck.draw();
             }
@@ -44,21 +44,4 @@ public class DVCDrawCardEvent extends GameEvent {
         // Chain: enqueue guess event automatically
         queue.enqueue(new DVCGuessCardEvent(board, player, queue));
     }
-
-    /** Attempt to draw first card of desired color by rotating deck. */
-    private DVCCard drawColor(DVCDeck deck, DVCCard.Color color) {
-        int attempts = deck.remaining();
-        if (attempts <= 0) return null;
-        java.util.List<DVCCard> temp = new java.util.ArrayList<>();
-        DVCCard found = null;
-        for (int i=0;i<attempts;i++) {
-            DVCCard c = deck.draw();
-            if (c == null) break;
-            if (found == null && c.getColor() == color) { found = c; break; }
-            temp.add(c);
-        }
-        // restore others
-        for (DVCCard t : temp) deck.putBottom(t);
-        return found;
-    }
 }
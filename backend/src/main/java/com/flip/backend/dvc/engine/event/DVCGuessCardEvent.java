@@ -39,12 +39,12 @@ public class DVCGuessCardEvent extends GameEvent {
         if (targetPlayerId == null || targetIndex == null || guess == null) return false; // needs input
         if (actor.getId().equals(targetPlayerId)) return false;
         // ensure target exists and index valid & unrevealed
-        return board.snapshotOrder().stream().anyMatch(p -> p.getId().equals(targetPlayerId));
+        return board.contains(targetPlayerId);
     }
 
     @Override public void execute() {
         if (executed) return; executed = true;
-        DVCPlayer target = board.snapshotOrder().stream().filter(p -> p.getId().equals(targetPlayerId)).findFirst().orElse(null);
+        DVCPlayer target = board.find(targetPlayerId);
         if (target == null) { correct = false; return; }
         correct = target.verifyGuess(targetIndex, guess);
         // enqueue reveal event carrying result
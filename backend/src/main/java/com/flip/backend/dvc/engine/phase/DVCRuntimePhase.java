@@ -7,8 +7,12 @@ import com.flip.backend.dvc.engine.event.*;
 import com.flip.backend.dvc.engine.view.DVCBoardView;
 import com.flip.backend.dvc.engine.view.DVCPlayerView;
 import com.flip.backend.dvc.engine.view.DVCView;
+import com.flip.backend.dvc.engine.state.DVCRuntimeSnapshot;
+import com.flip.backend.dvc.bot.DVCBot;
+import com.flip.backend.game.rng.RandomSource;
 import java.util.*;
 
+/** DVC turn state machine. Not thread-safe: the web layer runs every call for a game on that game's actor. */
 public class DVCRuntimePhase extends RuntimePhase {
     // Core references
     private final DVCDeck deck;
@@ -23,6 +27,8 @@ public class DVCRuntimePhase extends RuntimePhase {
 
     // Turn state
     private long turnId = 0L; // increments each time a player's action fully settles
+    // Bumped by every accepted input (before it can mutate anything), so equal versions mean identical views
+    private long stateVersion = 0L;
     private DVCPlayer current() { return (DVCPlayer) board.currentPlayer(); }
 
     // Interaction waiting state (what input the UI must provide before processing next event)
@@ -50,12 +56,20 @@ public class DVCRuntimePhase extends RuntimePhase {
     }
     private final List<PublicReveal> recentReveals = new ArrayList<>();
 
+    /** Upper bound on consecutive bot inputs per {@link #playBots()} call (a whole bot-only game needs a few hundred). */
+    static final int MAX_BOT_INPUTS = 2_000;
+
+    // Values guessed wrong per hidden card (bit n = number n, bit 12 = joker): public, announced at the table.
+    // Only bots read them; the snapshot keeps them per hand card.
+    private final Map<DVCCard, Integer> failedGuesses = new IdentityHashMap<>();
+
     public DVCRuntimePhase(DVCDeck deck, DVCBoard board, List<DVCPlayer> players) {
         this.deck = deck; this.board = board; this.players = players;
     }
 
     @Override public void enter() {
         // First action: enqueue an implicit draw (or guess if deck empty)
+        stateVersion++;
         startTurn();
     }
 
@@ -68,8 +82,28 @@ public class DVCRuntimePhase extends RuntimePhase {
     public String winnerId() { return winnerId; }
     public Awaiting awaiting() { return awaiting; }
     public long turnId() { return turnId; }
+    public long stateVersion() { return stateVersion; }
     public DVCEndingPhase endingPhase() { return endingPhase; }
 
+    /** Values already guessed wrong on {@code card} (bit n for number n, bit 12 for joker). */
+    public int failedGuessMask(DVCCard card) { return failedGuesses.getOrDefault(card, 0); }
+
+    /** True while the game runs and a bot is to provide the next input. */
+    public boolean botToMove() { return !finished && current().isBot(); }
+
+    /** Apply one input of the bot to move ({@link DVCBot}); false if no bot is to move or it had nothing to do. */
+    public boolean playBotInput() { return botToMove() && DVCBot.act(this); }
+
+    /**
+     * Let bots provide their inputs while one of them is to move (bot-only games, benchmarks; the web layer plays
+     * one scheduled input at a time instead). Returns the inputs applied.
+     */
+    public int playBots() {
+        int inputs = 0;
+        while (inputs < MAX_BOT_INPUTS && playBotInput()) inputs++;
+        return inputs;
+    }
+
     /** Drain and clear accumulated public reveal events. */
     public List<PublicReveal> drainRecentReveals() {
         if (recentReveals.isEmpty()) return List.of();
@@ -81,7 +115,8 @@ public class DVCRuntimePhase extends RuntimePhase {
     /** Snapshot of currently public tokens by playerId (includes revealed pending card if any). */
     public Map<String, List<String>> publicTokensSnapshot() {
         Map<String, List<String>> map = new HashMap<>();
-        for (var p : board.snapshotOrder()) {
+        for (int i = 0; i < board.size(); i++) {
+            var p = board.playerAt(i);
             List<String> tokens = new ArrayList<>();
             for (var c : p.hand().snapshot()) if (c.isFaceUp()) tokens.add(c.cardId());
             var pend = board.getPending(p.getId());
@@ -93,20 +128,16 @@ public class DVCRuntimePhase extends RuntimePhase {
 
     /* ===================== View Construction ===================== */
     public DVCView buildView(String perspectivePlayerId) {
-        // Order snapshot starting from board.currentPlayer for index mapping
-        var order = board.snapshotOrder();
+        return withPerspective(buildPublicView(), perspectivePlayerId);
+    }
+
+    /** View without private knowledge: every hand rendered the way opponents see it, no pending cards. */
+    public DVCView buildPublicView() {
+        // Players are listed clockwise from board.currentPlayer, so the current player is always index 0
+        int seats = board.size();
         int currentIndex = 0;
-        for (int i=0;i<order.size();i++) if (order.get(i).getId().equals(current().getId())) { currentIndex = i; break; }
-        // Estimate remaining per color by scanning deck (draw pile only). Deck API doesn’t expose drawPile, so approximate via rebuilding snapshot is not trivial.
-        // We’ll count from players' hands + pending and subtract from total 13 per color (0-11 + joker).
-        int totalPerColor = 13;
-        int blackSeen = 0, whiteSeen = 0;
-        for (var p : board.snapshotOrder()) {
-            for (var c : p.hand().snapshot()) { if (c.getColor() == DVCCard.Color.BLACK) blackSeen++; else whiteSeen++; }
-            var pend = board.getPending(p.getId()); if (pend != null) { if (pend.getColor() == DVCCard.Color.BLACK) blackSeen++; else whiteSeen++; }
-        }
-        int blackRem = Math.max(0, totalPerColor - blackSeen);
-        int whiteRem = Math.max(0, totalPerColor - whiteSeen);
+        int blackRem = deck.remaining(DVCCard.Color.BLACK);
+        int whiteRem = deck.remaining(DVCCard.Color.WHITE);
 
         DVCBoardView boardView = new DVCBoardView(
             "DVC",
@@ -119,43 +150,60 @@ public class DVCRuntimePhase extends RuntimePhase {
             blackRem,
             whiteRem
         );
-        List<DVCPlayerView> pviews = new ArrayList<>();
-        for (var p : order) {
-            boolean self = p.getId().equals(perspectivePlayerId);
+        List<DVCPlayerView> pviews = new ArrayList<>(seats);
+        for (int seat = 0; seat < seats; seat++) {
+            var p = board.playerAt(seat);
             var snapshot = p.hand().snapshot();
-            int hidden = (int) snapshot.stream().filter(c -> !c.isFaceUp()).count();
+            int hidden = p.hand().hiddenCount();
             List<String> cards;
-            if (self) {
-                // Self: always show full front info regardless of faceUp (private knowledge)
-                cards = snapshot.stream().map(DVCCard::frontDisplay).toList();
-            } else {
-                // Opponent: show only color for each card; if face down still backDisplay (color ≤), if face up show front
-                // Special case (legacy fallback): during REVEAL_DECISION for a correct guess,
-                // render the guessed card as revealed even if internal state hasn't flipped yet.
-                if (awaiting == Awaiting.REVEAL_DECISION && pendingReveal != null && pendingReveal.isCorrect() && p.getId().equals(pendingReveal.targetPlayerId())) {
-                    int idx = pendingReveal.getTargetIndex();
-                    cards = new ArrayList<>();
-                    for (int i=0;i<snapshot.size();i++) {
-                        DVCCard c = snapshot.get(i);
-                        if (i == idx) {
-                            // render as revealed front regardless of internal faceUp flag (UI freshness)
-                            cards.add(c.frontDisplay());
-                        } else {
-                            cards.add(c.isFaceUp() ? c.frontDisplay() : c.backDisplay());
-                        }
+            // Opponent: show only color for each card; if face down still backDisplay (color ≤), if face up show front
+            // Special case (legacy fallback): during REVEAL_DECISION for a correct guess,
+            // render the guessed card as revealed even if internal state hasn't flipped yet.
+            if (awaiting == Awaiting.REVEAL_DECISION && pendingReveal != null && pendingReveal.isCorrect() && p.getId().equals(pendingReveal.targetPlayerId())) {
+                int idx = pendingReveal.getTargetIndex();
+                cards = new ArrayList<>();
+                for (int i=0;i<snapshot.size();i++) {
+                    DVCCard c = snapshot.get(i);
+                    if (i == idx) {
+                        // render as revealed front regardless of internal faceUp flag (UI freshness)
+                        cards.add(c.frontDisplay());
+                    } else {
+                        cards.add(c.isFaceUp() ? c.frontDisplay() : c.backDisplay());
                     }
-                } else {
-                    cards = snapshot.stream().map(c -> c.isFaceUp() ? c.frontDisplay() : c.backDisplay()).toList();
                 }
+            } else {
+                cards = snapshot.stream().map(c -> c.isFaceUp() ? c.frontDisplay() : c.backDisplay()).toList();
             }
-            String pending = null;
-            if (self) {
-                DVCCard pc = board.getPending(p.getId());
-                if (pc != null) pending = pc.frontDisplay(); // show full pending to self
-            }
-            pviews.add(new DVCPlayerView(p.getId(), p.isBot(), snapshot.size(), hidden, cards, pending));
+            pviews.add(new DVCPlayerView(p.getId(), p.isBot(), snapshot.size(), hidden, cards, null));
+        }
+        return new DVCView(boardView, List.copyOf(pviews), null);
+    }
+
+    /**
+     * {@code publicView} (from {@link #buildPublicView()} at the current state) as seen by one player: only that
+     * player's entry is replaced, with full fronts and the pending card. The public view itself is not modified.
+     */
+    public DVCView withPerspective(DVCView publicView, String perspectivePlayerId) {
+        if (perspectivePlayerId == null) return publicView;
+        List<DVCPlayerView> pviews = publicView.players();
+        for (int i = 0; i < pviews.size(); i++) {
+            DVCPlayerView pv = pviews.get(i);
+            if (!pv.playerId().equals(perspectivePlayerId)) continue;
+            List<DVCPlayerView> copy = new ArrayList<>(pviews);
+            copy.set(i, selfView(pv));
+            return new DVCView(publicView.board(), List.copyOf(copy), perspectivePlayerId);
         }
-        return new DVCView(boardView, List.copyOf(pviews), perspectivePlayerId);
+        return new DVCView(publicView.board(), pviews, perspectivePlayerId);
+    }
+
+    /** A player's own entry: {@code publicEntry} (from the public view) with full fronts and the pending card. */
+    public DVCPlayerView selfView(DVCPlayerView publicEntry) {
+        var p = board.find(publicEntry.playerId());
+        // Self: always show full front info regardless of faceUp (private knowledge)
+        List<String> cards = p.hand().snapshot().stream().map(DVCCard::frontDisplay).toList();
+        DVCCard pc = board.getPending(publicEntry.playerId());
+        return new DVCPlayerView(publicEntry.playerId(), publicEntry.bot(), publicEntry.handSize(), publicEntry.hiddenCount(), cards,
+            pc != null ? pc.frontDisplay() : null); // show full pending to self
     }
 
     // no extra helpers needed; using DVCRevealCardEvent accessors
@@ -203,7 +251,7 @@ public class DVCRuntimePhase extends RuntimePhase {
         if (finished) return;
         long active = board.activePlayerCount();
         if (active <= 1) {
-            var survivor = board.snapshotOrder().stream().filter(p -> p.hiddenCount() > 0).findFirst().orElse(null);
+            var survivor = board.firstActive();
             winnerId = survivor != null ? survivor.getId() : null;
             finished = true;
             awaiting = Awaiting.NONE; // no further input expected
@@ -217,6 +265,7 @@ public class DVCRuntimePhase extends RuntimePhase {
     public boolean provideDrawColor(String playerId, String colorName) {
         if (awaiting != Awaiting.DRAW_COLOR || pendingDraw == null) return false;
         if (!current().getId().equals(playerId)) return false;
+        stateVersion++;
         try {
             pendingDraw.chooseColor(DVCCard.Color.valueOf(colorName.toUpperCase()));
         } catch (Exception e) { return false; }
@@ -239,10 +288,12 @@ public class DVCRuntimePhase extends RuntimePhase {
     public boolean provideGuess(String playerId, String targetPlayerId, int targetIndex, boolean joker, Integer number) {
         if (awaiting != Awaiting.GUESS_SELECTION || pendingGuess == null) return false;
         if (!current().getId().equals(playerId)) return false;
+        stateVersion++;
         DVCPlayer.Guess guess = joker ? DVCPlayer.Guess.jokerGuess() : DVCPlayer.Guess.number(number);
         pendingGuess.setSelection(targetPlayerId, targetIndex, guess);
         if (!pendingGuess.isValid()) return false;
         pendingGuess.execute();
+        if (!pendingGuess.isCorrect()) recordFailedGuess(board.find(targetPlayerId), targetIndex, guess);
         // Reveal event enqueued; drain queue until we find it (defensive against any stale events)
         var nextEv = queue.poll();
         while (nextEv != null && !(nextEv instanceof DVCRevealCardEvent)) {
@@ -257,7 +308,7 @@ public class DVCRuntimePhase extends RuntimePhase {
             // Immediately reveal the guessed card for game state consistency (decision affects only continue/stop)
             var tgtId = pendingReveal.targetPlayerId();
             int idx = pendingReveal.getTargetIndex();
-            var tgt = board.snapshotOrder().stream().filter(p -> p.getId().equals(tgtId)).findFirst().orElse(null);
+            var tgt = board.find(tgtId);
             if (tgt == null) return false;
             try {
                 var revealed = tgt.revealAt(idx);
@@ -291,9 +342,21 @@ public class DVCRuntimePhase extends RuntimePhase {
         return true;
     }
 
+    private void recordFailedGuess(DVCPlayer target, int index, DVCPlayer.Guess guess) {
+        if (target == null || index < 0 || index >= target.cardCount()) return;
+        DVCCard card = target.hand().snapshot().get(index);
+        if (card.isFaceUp()) return;
+        int bit;
+        if (guess.isJoker()) bit = 1 << 12;
+        else if (guess.number() != null && guess.number() >= 0 && guess.number() <= 11) bit = 1 << guess.number();
+        else return;
+        failedGuesses.merge(card, bit, (a, b) -> a | b);
+    }
+
     public boolean provideRevealDecision(String playerId, boolean continueGuess) {
         if (awaiting != Awaiting.REVEAL_DECISION || pendingReveal == null) return false;
         if (!current().getId().equals(playerId)) return false;
+        stateVersion++;
     pendingReveal.setContinueGuess(continueGuess);
     if (!pendingReveal.isValid()) return false;
     pendingReveal.execute();
@@ -305,6 +368,7 @@ public class DVCRuntimePhase extends RuntimePhase {
     public boolean provideSelfReveal(String playerId, int ownIndex) {
         if (awaiting != Awaiting.SELF_REVEAL_CHOICE || pendingReveal == null) return false;
         if (!current().getId().equals(playerId)) return false;
+        stateVersion++;
         // Simulate revealing self card due to wrong guess with empty deck
         DVCPlayer self = current();
         try {
@@ -325,6 +389,7 @@ public class DVCRuntimePhase extends RuntimePhase {
     public boolean provideSettlePosition(String playerId, Integer insertIndex) {
         if (awaiting != Awaiting.SETTLE_POSITION || pendingSettle == null) return false;
         if (!current().getId().equals(playerId)) return false;
+        stateVersion++;
         pendingSettle.setInsertIndex(insertIndex);
         if (!pendingSettle.isValid()) return false;
         pendingSettle.execute();
@@ -337,6 +402,7 @@ public class DVCRuntimePhase extends RuntimePhase {
     public boolean provideSettleHand(String playerId, String handString) {
         if (awaiting != Awaiting.SETTLE_POSITION || pendingSettle == null) return false;
         if (!current().getId().equals(playerId)) return false;
+        stateVersion++;
     // When pending card exists we still need to execute settle event (auto ordering or joker) before reordering.
     pendingSettle.setInsertIndex(null); // request auto placement
     if (!pendingSettle.isValid()) return false;
@@ -379,7 +445,7 @@ public class DVCRuntimePhase extends RuntimePhase {
         if (!finished) {
             long active = board.activePlayerCount();
             if (active <= 1) {
-                var survivor = board.snapshotOrder().stream().filter(p -> p.hiddenCount() > 0).findFirst().orElse(null);
+                var survivor = board.firstActive();
                 winnerId = survivor != null ? survivor.getId() : null;
                 finished = true;
                 awaiting = Awaiting.NONE;
@@ -411,4 +477,98 @@ public class DVCRuntimePhase extends RuntimePhase {
             pendingSettle = null; awaiting = Awaiting.NONE; endTurnAndAdvance();
         }
     }
+
+    /* ===================== Passivation ===================== */
+
+    /** Capture the full state between two inputs (queue is always drained at that point). */
+    public DVCRuntimeSnapshot snapshot() {
+        List<DVCRuntimeSnapshot.Seat> seats = new ArrayList<>(board.size());
+        for (int i = 0; i < board.size(); i++) {
+            DVCPlayer p = board.seatAt(i);
+            seats.add(seatState(p, board.getPending(p.getId()), failedGuessMasks(p)));
+        }
+        return new DVCRuntimeSnapshot(
+            seats, board.currentSeat(), board.direction(), board.turnCount(),
+            tokens(deck.drawPileSnapshot()), tokens(deck.discardPileSnapshot()), deck.reshuffles(), deck.emptyDraws(),
+            deck.random().seed(), deck.random().state(),
+            awaiting.name(), turnId, winnerId, finished,
+            pendingReveal != null ? pendingReveal.targetPlayerId() : null,
+            pendingReveal != null ? pendingReveal.getTargetIndex() : -1,
+            pendingReveal != null && pendingReveal.correct(),
+            stateVersion);
+    }
+
+    /** Rebuild a runtime from {@link #snapshot()} output, recreating the event the game was waiting on. */
+    public static DVCRuntimePhase restore(DVCRuntimeSnapshot s) {
+        List<DVCPlayer> players = new ArrayList<>(s.seats().size());
+        for (DVCRuntimeSnapshot.Seat seat : s.seats()) players.add(player(seat));
+        DVCDeck deck = new DVCDeck(RandomSource.restore(s.rngSeed(), s.rngState()));
+        deck.restore(cards(s.drawPile()), cards(s.discardPile()), s.reshuffles(), s.emptyDraws());
+        DVCBoard board = new DVCBoard(players);
+        board.restoreState(s.currentSeat(), s.direction(), s.turnCount());
+        for (DVCRuntimeSnapshot.Seat seat : s.seats()) {
+            if (seat.pending() != null) board.setPending(seat.id(), DVCCard.fromStateToken(seat.pending()));
+        }
+        DVCRuntimePhase runtime = new DVCRuntimePhase(deck, board, players);
+        for (int i = 0; i < players.size(); i++) {
+            List<Integer> masks = s.seats().get(i).failedGuesses();
+            List<DVCCard> hand = players.get(i).hand().snapshot();
+            for (int j = 0; j < masks.size(); j++) {
+                if (masks.get(j) != 0) runtime.failedGuesses.put(hand.get(j), masks.get(j));
+            }
+        }
+        runtime.turnId = s.turnId();
+        runtime.stateVersion = s.stateVersion();
+        runtime.winnerId = s.winnerId();
+        runtime.finished = s.finished();
+        runtime.awaiting = Awaiting.valueOf(s.awaiting());
+        if (runtime.finished) runtime.endingPhase = new DVCEndingPhase(s.winnerId());
+        DVCPlayer current = runtime.current();
+        switch (runtime.awaiting) {
+            case DRAW_COLOR -> runtime.pendingDraw = new DVCDrawCardEvent(deck, board, current, runtime.queue);
+            case GUESS_SELECTION -> runtime.pendingGuess = new DVCGuessCardEvent(board, current, runtime.queue);
+            case REVEAL_DECISION, SELF_REVEAL_CHOICE -> runtime.pendingReveal = new DVCRevealCardEvent(
+                board, current, s.revealTarget() != null ? board.find(s.revealTarget()) : null,
+                s.revealIndex(), s.revealCorrect(), runtime.queue);
+            case SETTLE_POSITION -> runtime.pendingSettle = new DVCSettleCardEvent(board, current, null);
+            case NONE -> { }
+        }
+        return runtime;
+    }
+
+    static DVCRuntimeSnapshot.Seat seatState(DVCPlayer p, DVCCard pending, List<Integer> failedGuesses) {
+        return new DVCRuntimeSnapshot.Seat(p.getId(), p.isBot(), tokens(p.hand().snapshot()),
+            pending != null ? pending.stateToken() : null, failedGuesses);
+    }
+
+    /** The failed-guess masks of a hand, card for card; empty when no card in it has one. */
+    private List<Integer> failedGuessMasks(DVCPlayer p) {
+        List<DVCCard> hand = p.hand().snapshot();
+        List<Integer> masks = new ArrayList<>(hand.size());
+        boolean any = false;
+        for (DVCCard c : hand) {
+            int mask = failedGuessMask(c);
+            any |= mask != 0;
+            masks.add(mask);
+        }
+        return any ? masks : List.of();
+    }
+
+    static DVCPlayer player(DVCRuntimeSnapshot.Seat seat) {
+        DVCPlayer p = new DVCPlayer(seat.id(), seat.bot());
+        for (String token : seat.hand()) p.dealRaw(DVCCard.fromStateToken(token));
+        return p;
+    }
+
+    static List<String> tokens(List<DVCCard> cards) {
+        List<String> out = new ArrayList<>(cards.size());
+        for (DVCCard c : cards) out.add(c.stateToken());
+        return out;
+    }
+
+    static List<DVCCard> cards(List<String> tokens) {
+        List<DVCCard> out = new ArrayList<>(tokens.size());
+        for (String t : tokens) out.add(DVCCard.fromStateToken(t));
+        return out;
+    }
 }
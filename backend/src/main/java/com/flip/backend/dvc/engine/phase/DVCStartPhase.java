@@ -1,8 +1,11 @@
 package com.flip.backend.dvc.engine.phase;
 
 import com.flip.backend.game.engine.phase.StartPhase;
+import com.flip.backend.game.rng.RandomSource;
 import com.flip.backend.dvc.entities.*;
 import com.flip.backend.dvc.engine.view.*;
+import com.flip.backend.dvc.engine.state.DVCRuntimeSnapshot;
+import com.flip.backend.dvc.engine.state.DVCStartSnapshot;
 import java.util.*;
 
 /**
@@ -10,6 +13,7 @@ import java.util.*;
  *  - Deterministic color distribution at start (see below)
  *  - Players must locally reorder then mark themselves settled
  *  - View exposes awaiting = SETTLE_POSITION until all settled; then transit to runtime
+ *  - Bots arrange their cards in order and settle as soon as they are dealt
  *
  * Distribution:
  *  - 2 or 3 players: each receives exactly 2 BLACK + 2 WHITE (4 cards)
@@ -17,13 +21,19 @@ import java.util.*;
  */
 public class DVCStartPhase extends StartPhase {
     private final List<String> playerIds;
-    private final DVCDeck deck = new DVCDeck();
+    private final DVCDeck deck;
     private final List<DVCPlayer> players = new ArrayList<>();
     private DVCBoard board;
     private final Set<String> settledSet = new HashSet<>();
     private boolean entered;
 
-    public DVCStartPhase(List<String> playerIds) { this.playerIds = Objects.requireNonNull(playerIds); }
+    public DVCStartPhase(List<String> playerIds) { this(playerIds, RandomSource.seeded()); }
+
+    /** Start phase whose deck and 4-player colour split draw from {@code random}. */
+    public DVCStartPhase(List<String> playerIds, RandomSource random) {
+        this.playerIds = Objects.requireNonNull(playerIds);
+        this.deck = new DVCDeck(Objects.requireNonNull(random, "random"));
+    }
 
     public DVCDeck deck() { return deck; }
     public DVCBoard board() { return board; }
@@ -36,7 +46,7 @@ public class DVCStartPhase extends StartPhase {
         for (String id : playerIds) players.add(new DVCPlayer(id, id.toUpperCase().startsWith("BOT")));
         if (playerIds.size() == 4) {
             List<DVCPlayer> order = new ArrayList<>(players);
-            Collections.shuffle(order, new Random());
+            deck.random().shuffle(order);
             for (int i=0;i<order.size();i++) {
                 DVCPlayer p = order.get(i);
                 boolean groupA = i < 2; // first two players => 2B1W
@@ -52,17 +62,19 @@ public class DVCStartPhase extends StartPhase {
             }
         }
         board = new DVCBoard(players);
+        for (DVCPlayer p : players) {
+            if (!p.isBot()) continue;
+            List<DVCCard> dealt = new ArrayList<>(p.hand().snapshot());
+            p.hand().clear();
+            for (DVCCard c : dealt) p.giveCard(c);
+            settledSet.add(p.getId());
+        }
     }
 
     private void dealColor(DVCPlayer p, DVCCard.Color color, int count) {
-        int given = 0; List<DVCCard> buffer = new ArrayList<>();
-        while (given < count) {
-            DVCCard c = deck.draw(); if (c == null) break; // safety
-            if (c.getColor() == color) { p.dealRaw(c); given++; } else buffer.add(c);
-        }
-        if (!buffer.isEmpty()) {
-            // Return off-color cards to bottom to preserve randomness for subsequent draws
-            for (DVCCard b : buffer) deck.putBottom(b);
+        for (int given = 0; given < count; given++) {
+            DVCCard c = deck.draw(color); if (c == null) break; // safety
+            p.dealRaw(c);
         }
     }
 
@@ -99,20 +111,14 @@ public class DVCStartPhase extends StartPhase {
     /** Build a view for start phase with awaiting=SETTLE_POSITION. */
     public DVCView buildView(String perspectivePlayerId) {
         if (board == null) return null;
-        // During start phase, each color starts with 13 in deck minus dealt cards
-        int totalPerColor = 13;
-        int blackSeen = 0, whiteSeen = 0;
-        for (var p : players) {
-            for (var c : p.hand().snapshot()) { if (c.getColor() == DVCCard.Color.BLACK) blackSeen++; else whiteSeen++; }
-        }
-        int blackRem = Math.max(0, totalPerColor - blackSeen);
-        int whiteRem = Math.max(0, totalPerColor - whiteSeen);
+        int blackRem = deck.remaining(DVCCard.Color.BLACK);
+        int whiteRem = deck.remaining(DVCCard.Color.WHITE);
         DVCBoardView boardView = new DVCBoardView("DVC", 0L, 1, 0, deck.remaining(), DVCRuntimePhase.Awaiting.SETTLE_POSITION.name(), null, blackRem, whiteRem);
         List<DVCPlayerView> pviews = new ArrayList<>();
         for (var p : players) {
             boolean self = p.getId().equals(perspectivePlayerId);
             var snapshot = p.hand().snapshot();
-            int hidden = (int) snapshot.stream().filter(c->!c.isFaceUp()).count();
+            int hidden = p.hand().hiddenCount();
             List<String> cards = self
                 ? snapshot.stream().map(DVCCard::frontDisplay).toList()
                 : snapshot.stream().map(DVCCard::backDisplay).toList();
@@ -125,5 +131,28 @@ public class DVCStartPhase extends StartPhase {
         if (!allSettled()) throw new IllegalStateException("Not all players settled");
         return new DVCRuntimePhase(deck, board, players);
     }
-}
 
+    /** Capture dealt hands, settled players and the remaining deck; only valid after {@link #enter()}. */
+    public DVCStartSnapshot snapshot() {
+        if (!entered) throw new IllegalStateException("Start phase not entered");
+        List<DVCRuntimeSnapshot.Seat> seats = new ArrayList<>(players.size());
+        for (DVCPlayer p : players) seats.add(DVCRuntimePhase.seatState(p, null, List.of()));
+        List<String> settled = new ArrayList<>();
+        for (DVCPlayer p : players) if (settledSet.contains(p.getId())) settled.add(p.getId());
+        return new DVCStartSnapshot(seats, settled, DVCRuntimePhase.tokens(deck.drawPileSnapshot()),
+            deck.random().seed(), deck.random().state());
+    }
+
+    /** Rebuild an entered start phase from {@link #snapshot()} output. */
+    public static DVCStartPhase restore(DVCStartSnapshot s) {
+        List<String> ids = new ArrayList<>(s.seats().size());
+        for (DVCRuntimeSnapshot.Seat seat : s.seats()) ids.add(seat.id());
+        DVCStartPhase phase = new DVCStartPhase(ids, RandomSource.restore(s.rngSeed(), s.rngState()));
+        for (DVCRuntimeSnapshot.Seat seat : s.seats()) phase.players.add(DVCRuntimePhase.player(seat));
+        phase.deck.restore(DVCRuntimePhase.cards(s.drawPile()), List.of(), 0L, 0L);
+        phase.board = new DVCBoard(phase.players);
+        phase.settledSet.addAll(s.settled());
+        phase.entered = true;
+        return phase;
+    }
+}
@@ -0,0 +1,52 @@
+package com.flip.backend.dvc.engine.state;
+
+import java.util.List;
+
+/**
+ * Complete state of a DVC runtime between two inputs, used to passivate idle games. Cards are
+ * {@link com.flip.backend.dvc.entities.DVCCard#stateToken()} strings; seats are in table order.
+ * The in-flight event is not stored: it is rebuilt from {@code awaiting} and the reveal fields.
+ */
+public record DVCRuntimeSnapshot(
+    List<Seat> seats,
+    int currentSeat,
+    int direction,
+    long turnCount,
+    List<String> drawPile,
+    List<String> discardPile,
+    long reshuffles,
+    long emptyDraws,
+    Long rngSeed,
+    Long rngState,
+    String awaiting,
+    long turnId,
+    String winnerId,
+    boolean finished,
+    String revealTarget,
+    int revealIndex,
+    boolean revealCorrect,
+    long stateVersion
+) {
+    /**
+     * One seat; {@code pending} is the drawn-but-unsettled card token, if any. {@code failedGuesses} holds the values
+     * guessed wrong per hand card (bit n = number n, bit 12 = joker), index for index with {@code hand}, or is empty
+     * when none of them has been guessed wrong.
+     */
+    public record Seat(String id, boolean bot, List<String> hand, String pending, List<Integer> failedGuesses) {
+        public Seat {
+            hand = List.copyOf(hand);
+            failedGuesses = List.copyOf(failedGuesses);
+            if (!failedGuesses.isEmpty() && failedGuesses.size() != hand.size()) {
+                throw new IllegalArgumentException("Failed-guess masks do not match the hand of " + id);
+            }
+        }
+
+        public Seat(String id, boolean bot, List<String> hand, String pending) { this(id, bot, hand, pending, List.of()); }
+    }
+
+    public DVCRuntimeSnapshot {
+        seats = List.copyOf(seats);
+        drawPile = List.copyOf(drawPile);
+        discardPile = List.copyOf(discardPile);
+    }
+}
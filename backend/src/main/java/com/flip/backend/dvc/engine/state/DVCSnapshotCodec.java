@@ -0,0 +1,201 @@
+package com.flip.backend.dvc.engine.state;
+
+import com.flip.backend.game.codec.SnapshotReader;
+import com.flip.backend.game.codec.SnapshotWriter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Binary form of {@link DVCRuntimeSnapshot} and {@link DVCStartSnapshot}. A card token becomes one byte:
+ * {@code ((color * 13 + (joker ? 12 : number)) << 1) | faceUp}.
+ * <p>
+ * Version 2 appends the runtime's state version; version 1 runtime blobs decode with version 0. Version 3 then
+ * appends each seat's failed-guess masks as (hand index, mask) pairs for the cards that have one; older runtime
+ * blobs decode with none.
+ */
+public final class DVCSnapshotCodec {
+    public static final int START_KIND = 2;
+    public static final int RUNTIME_KIND = 3;
+    public static final int VERSION = 3;
+
+    private static final int FACES = 26;
+    private static final String[] TOKENS = new String[FACES * 2];
+    static {
+        for (int code = 0; code < TOKENS.length; code++) {
+            int face = code >> 1;
+            String id = (face < 13 ? "B" : "W") + (face % 13 == 12 ? "_" : String.valueOf(face % 13)) + "≤";
+            TOKENS[code] = (code & 1) != 0 ? "*" + id : id;
+        }
+    }
+
+    private DVCSnapshotCodec() {}
+
+    public static byte[] encode(DVCRuntimeSnapshot s) {
+        SnapshotWriter w = new SnapshotWriter(128).header(RUNTIME_KIND, VERSION);
+        writeSeats(w, s.seats());
+        w.writeVarInt(s.currentSeat());
+        w.writeVarLong(s.direction());
+        w.writeVarLong(s.turnCount());
+        writeCards(w, s.drawPile());
+        writeCards(w, s.discardPile());
+        w.writeVarLong(s.reshuffles());
+        w.writeVarLong(s.emptyDraws());
+        w.writeOptionalLong(s.rngSeed());
+        w.writeOptionalLong(s.rngState());
+        w.writeString(s.awaiting());
+        w.writeVarLong(s.turnId());
+        w.writeString(s.winnerId());
+        w.writeBoolean(s.finished());
+        w.writeString(s.revealTarget());
+        w.writeVarLong(s.revealIndex());
+        w.writeBoolean(s.revealCorrect());
+        w.writeVarLong(s.stateVersion());
+        for (DVCRuntimeSnapshot.Seat seat : s.seats()) writeFailedGuesses(w, seat.failedGuesses());
+        return w.toByteArray();
+    }
+
+    public static DVCRuntimeSnapshot decodeRuntime(byte[] blob) {
+        SnapshotReader r = new SnapshotReader(blob);
+        int version = checkVersion(r.header(RUNTIME_KIND));
+        List<DVCRuntimeSnapshot.Seat> seats = readSeats(r);
+        int currentSeat = r.readVarInt();
+        int direction = (int) r.readVarLong();
+        long turnCount = r.readVarLong();
+        List<String> draw = readCards(r);
+        List<String> discard = readCards(r);
+        long reshuffles = r.readVarLong();
+        long emptyDraws = r.readVarLong();
+        Long rngSeed = r.readOptionalLong();
+        Long rngState = r.readOptionalLong();
+        String awaiting = r.readString();
+        long turnId = r.readVarLong();
+        String winner = r.readString();
+        boolean finished = r.readBoolean();
+        String revealTarget = r.readString();
+        int revealIndex = (int) r.readVarLong();
+        boolean revealCorrect = r.readBoolean();
+        long stateVersion = version >= 2 ? r.readVarLong() : 0L;
+        if (version >= 3) seats = readFailedGuesses(r, seats);
+        if (!r.atEnd()) throw new IllegalArgumentException("Trailing bytes in DVC snapshot");
+        return new DVCRuntimeSnapshot(seats, currentSeat, direction, turnCount, draw, discard, reshuffles, emptyDraws,
+            rngSeed, rngState, awaiting, turnId, winner, finished, revealTarget, revealIndex, revealCorrect, stateVersion);
+    }
+
+    public static byte[] encode(DVCStartSnapshot s) {
+        SnapshotWriter w = new SnapshotWriter(96).header(START_KIND, VERSION);
+        writeSeats(w, s.seats());
+        w.writeVarInt(s.settled().size());
+        for (String id : s.settled()) w.writeString(id);
+        writeCards(w, s.drawPile());
+        w.writeOptionalLong(s.rngSeed());
+        w.writeOptionalLong(s.rngState());
+        return w.toByteArray();
+    }
+
+    public static DVCStartSnapshot decodeStart(byte[] blob) {
+        SnapshotReader r = new SnapshotReader(blob);
+        checkVersion(r.header(START_KIND));
+        List<DVCRuntimeSnapshot.Seat> seats = readSeats(r);
+        int n = r.count();
+        List<String> settled = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) settled.add(r.readString());
+        List<String> draw = readCards(r);
+        Long rngSeed = r.readOptionalLong();
+        Long rngState = r.readOptionalLong();
+        if (!r.atEnd()) throw new IllegalArgumentException("Trailing bytes in DVC start snapshot");
+        return new DVCStartSnapshot(seats, settled, draw, rngSeed, rngState);
+    }
+
+    /** One-byte code of a {@link com.flip.backend.dvc.entities.DVCCard#stateToken()}. */
+    static int cardCode(String token) {
+        boolean up = token.startsWith("*");
+        int i = up ? 1 : 0;
+        if (token.length() < i + 3 || !token.endsWith("≤")) throw new IllegalArgumentException("Bad card token " + token);
+        int color = switch (token.charAt(i)) {
+            case 'B' -> 0;
+            case 'W' -> 1;
+            default -> throw new IllegalArgumentException("Bad card token " + token);
+        };
+        String val = token.substring(i + 1, token.length() - 1);
+        int face = val.equals("_") ? 12 : Integer.parseInt(val);
+        if (face < 0 || face > 12) throw new IllegalArgumentException("Bad card token " + token);
+        return ((color * 13 + face) << 1) | (up ? 1 : 0);
+    }
+
+    static String token(int code) {
+        if (code < 0 || code >= TOKENS.length) throw new IllegalArgumentException("Bad card code " + code);
+        return TOKENS[code];
+    }
+
+    private static int checkVersion(int version) {
+        if (version < 1 || version > VERSION) throw new IllegalArgumentException("Unsupported DVC snapshot version " + version);
+        return version;
+    }
+
+    private static void writeSeats(SnapshotWriter w, List<DVCRuntimeSnapshot.Seat> seats) {
+        w.writeVarInt(seats.size());
+        for (DVCRuntimeSnapshot.Seat seat : seats) {
+            w.writeString(seat.id());
+            w.writeBoolean(seat.bot());
+            writeCards(w, seat.hand());
+            w.writeVarInt(seat.pending() == null ? 0 : cardCode(seat.pending()) + 1);
+        }
+    }
+
+    private static List<DVCRuntimeSnapshot.Seat> readSeats(SnapshotReader r) {
+        int n = r.count();
+        List<DVCRuntimeSnapshot.Seat> seats = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            String id = r.readString();
+            boolean bot = r.readBoolean();
+            List<String> hand = readCards(r);
+            int pending = r.readVarInt();
+            seats.add(new DVCRuntimeSnapshot.Seat(id, bot, hand, pending == 0 ? null : token(pending - 1)));
+        }
+        return seats;
+    }
+
+    private static void writeFailedGuesses(SnapshotWriter w, List<Integer> masks) {
+        int n = 0;
+        for (int mask : masks) if (mask != 0) n++;
+        w.writeVarInt(n);
+        for (int i = 0; i < masks.size(); i++) {
+            if (masks.get(i) == 0) continue;
+            w.writeVarInt(i);
+            w.writeVarInt(masks.get(i));
+        }
+    }
+
+    private static List<DVCRuntimeSnapshot.Seat> readFailedGuesses(SnapshotReader r, List<DVCRuntimeSnapshot.Seat> seats) {
+        List<DVCRuntimeSnapshot.Seat> out = new ArrayList<>(seats.size());
+        for (DVCRuntimeSnapshot.Seat seat : seats) {
+            int n = r.count();
+            if (n == 0) {
+                out.add(seat);
+                continue;
+            }
+            List<Integer> masks = new ArrayList<>(Collections.nCopies(seat.hand().size(), 0));
+            for (int i = 0; i < n; i++) {
+                int index = r.readVarInt();
+                if (index < 0 || index >= masks.size()) throw new IllegalArgumentException("Bad failed-guess index " + index);
+                masks.set(index, r.readVarInt());
+            }
+            out.add(new DVCRuntimeSnapshot.Seat(seat.id(), seat.bot(), seat.hand(), seat.pending(), masks));
+        }
+        return out;
+    }
+
+    private static void writeCards(SnapshotWriter w, List<String> tokens) {
+        w.writeVarInt(tokens.size());
+        for (String t : tokens) w.writeByte(cardCode(t));
+    }
+
+    private static List<String> readCards(SnapshotReader r) {
+        int n = r.count();
+        List<String> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) out.add(token(r.readByte()));
+        return out;
+    }
+}
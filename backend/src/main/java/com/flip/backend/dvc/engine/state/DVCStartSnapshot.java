@@ -0,0 +1,18 @@
+package com.flip.backend.dvc.engine.state;
+
+import java.util.List;
+
+/** State of a DVC start phase after dealing: hands as arranged so far, who has settled, and the remaining deck. */
+public record DVCStartSnapshot(
+    List<DVCRuntimeSnapshot.Seat> seats,
+    List<String> settled,
+    List<String> drawPile,
+    Long rngSeed,
+    Long rngState
+) {
+    public DVCStartSnapshot {
+        seats = List.copyOf(seats);
+        settled = List.copyOf(settled);
+        drawPile = List.copyOf(drawPile);
+    }
+}
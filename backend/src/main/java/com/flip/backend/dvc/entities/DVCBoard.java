@@ -6,16 +6,58 @@ import java.util.*;
 /**
  * DVC board: extends generic circular turn board; adds helper to check elimination (all cards revealed) and
  * determine survivors. Elimination criterion: player.hiddenCount()==0.
+ * <p>
+ * The active-player count is kept up to date by the seated players' hands, so it is O(1); a player is tracked by
+ * the board it was most recently seated on.
  */
 public class DVCBoard extends Board<DVCPlayer> {
-	public DVCBoard(List<DVCPlayer> players) { super(players); }
+	private int active;
+
+	public DVCBoard(List<DVCPlayer> players) { super(players); players.forEach(this::seat); }
 	protected DVCBoard() { super(); }
 
+	@Override
+	protected void initSeats(List<DVCPlayer> players) {
+		super.initSeats(players);
+		players.forEach(this::seat);
+	}
+
+	@Override
+	public boolean remove(String playerId) {
+		DVCPlayer p = find(playerId);
+		if (!super.remove(playerId)) return false;
+		unseat(p);
+		return true;
+	}
+
+	@Override
+	public void insertAfter(String afterPlayerId, DVCPlayer newPlayer) {
+		super.insertAfter(afterPlayerId, newPlayer);
+		seat(newPlayer);
+	}
+
 	public boolean isEliminated(DVCPlayer p) { return p.hiddenCount() == 0; }
 
 	/** Count players still in game (with at least one hidden). */
-	public long activePlayerCount() {
-		return snapshotOrder().stream().filter(pl -> pl.hiddenCount() > 0).count();
+	public long activePlayerCount() { return active; }
+
+	/** Called by a seated player's hand when it runs out of, or regains, hidden cards. */
+	void activeChanged(int delta) { active += delta; }
+
+	private void seat(DVCPlayer p) {
+		p.hand().attach(this);
+		if (p.hiddenCount() > 0) active++;
+	}
+
+	private void unseat(DVCPlayer p) {
+		p.hand().attach(null);
+		if (p.hiddenCount() > 0) active--;
+	}
+
+	/** First player (clockwise from current) still holding a hidden card, or null. */
+	public DVCPlayer firstActive() {
+		for (int i = 0; i < size(); i++) if (playerAt(i).hiddenCount() > 0) return playerAt(i);
+		return null;
 	}
 
 	// Pending drawn card (not yet settled into hand) keyed by playerId
@@ -17,6 +17,7 @@ public class DVCCard extends Card {
     // faceUp == true means card revealed (front side shown: color + number or joker '-').
     // faceUp == false means backside visible: show only color + " ≤" symbol (per requirement).
     private boolean faceUp = false;
+    DVCHand holder; // hand currently holding this card, kept in sync by DVCHand
 
     private DVCCard(Color color, Integer number, boolean joker) {
         this.color = Objects.requireNonNull(color, "color");
@@ -35,7 +36,11 @@ public class DVCCard extends Card {
     public Integer getNumber() { return number; }
     public boolean isJoker() { return joker; }
     public boolean isFaceUp() { return faceUp; }
-    public void reveal() { this.faceUp = true; }
+    public void reveal() {
+        if (faceUp) return;
+        faceUp = true;
+        if (holder != null) holder.revealed(this);
+    }
 
     /** Front face display (only when faceUp). */
     public String frontDisplay() {
@@ -57,6 +62,25 @@ public class DVCCard extends Card {
         return prefix + val + "≤"; // always ends with ≤ per spec
     }
 
+    /** Persistent form: {@link #cardId()} prefixed with '*' when revealed. */
+    public String stateToken() { return faceUp ? "*" + cardId() : cardId(); }
+
+    /** Inverse of {@link #stateToken()}; returns a fresh card instance. */
+    public static DVCCard fromStateToken(String token) {
+        boolean up = token.startsWith("*");
+        String id = up ? token.substring(1) : token;
+        if (id.length() < 3 || !id.endsWith("≤")) throw new IllegalArgumentException("Bad card token " + token);
+        Color color = switch (id.charAt(0)) {
+            case 'B' -> Color.BLACK;
+            case 'W' -> Color.WHITE;
+            default -> throw new IllegalArgumentException("Bad card token " + token);
+        };
+        String val = id.substring(1, id.length() - 1);
+        DVCCard card = val.equals("_") ? joker(color) : number(color, Integer.parseInt(val));
+        if (up) card.reveal();
+        return card;
+    }
+
     /** Comparator semantics for automatic insertion (Jokers excluded). */
     public static int compareForOrder(DVCCard a, DVCCard b) {
         if (a == b) return 0;
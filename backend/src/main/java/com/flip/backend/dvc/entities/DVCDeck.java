@@ -1,14 +1,28 @@
 package com.flip.backend.dvc.entities;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import com.flip.backend.game.entities.Deck;
+import com.flip.backend.game.rng.RandomSource;
 
 /**
  * DVC deck: 2 colors (BLACK, WHITE); each color has numbers 0-11 plus one Joker (hyphen card) ⇒ 13 × 2 = 26 cards.
+ * <p>
+ * Players always draw a chosen colour, so the cards are kept as two independently shuffled piles: a colour draw and
+ * the per-colour counts are O(1). The inherited draw pile stays empty (DVC never discards); snapshots list the BLACK
+ * pile then the WHITE pile, top-first, and {@link #restore} splits any token order back by colour.
  */
 public class DVCDeck extends Deck<DVCCard> {
 
+    private final Deque<DVCCard> black = new ArrayDeque<>(13);
+    private final Deque<DVCCard> white = new ArrayDeque<>(13);
+
+    public DVCDeck() { super(); }
+
+    public DVCDeck(RandomSource random) { super(random); }
+
     @Override
     protected List<DVCCard> buildInitialCards() {
         List<DVCCard> list = new ArrayList<>(26);
@@ -18,4 +32,58 @@ public class DVCDeck extends Deck<DVCCard> {
         }
         return list;
     }
+
+    @Override
+    public void initialize() {
+        super.restore(List.of(), List.of(), 0L, 0L);
+        black.clear();
+        white.clear();
+        List<DVCCard> blacks = new ArrayList<>(13);
+        List<DVCCard> whites = new ArrayList<>(13);
+        for (DVCCard c : buildInitialCards()) (c.getColor() == DVCCard.Color.BLACK ? blacks : whites).add(c);
+        random().shuffle(blacks);
+        random().shuffle(whites);
+        black.addAll(blacks);
+        white.addAll(whites);
+    }
+
+    @Override public int remaining() { return black.size() + white.size(); }
+    @Override public int total() { return remaining() + discards(); }
+
+    /** Cards of {@code color} still in the deck. */
+    public int remaining(DVCCard.Color color) { return pile(color).size(); }
+
+    /** Top card of the {@code color} pile, or null when that colour is exhausted. */
+    public DVCCard draw(DVCCard.Color color) { return color == null ? null : pile(color).pollFirst(); }
+
+    /** Uniformly random card of either colour (the colour is picked in proportion to what is left). */
+    @Override
+    public DVCCard draw() {
+        int left = remaining();
+        if (left == 0) return super.draw(); // records the empty draw
+        return random().nextInt(left) < black.size() ? black.pollFirst() : white.pollFirst();
+    }
+
+    @Override
+    public void putBottom(DVCCard card) {
+        if (card != null) pile(card.getColor()).addLast(card);
+    }
+
+    @Override
+    public List<DVCCard> drawPileSnapshot() {
+        List<DVCCard> out = new ArrayList<>(remaining());
+        out.addAll(black);
+        out.addAll(white);
+        return List.copyOf(out);
+    }
+
+    @Override
+    public void restore(List<DVCCard> draw, List<DVCCard> discard, long reshuffles, long emptyDraws) {
+        super.restore(List.of(), discard, reshuffles, emptyDraws);
+        black.clear();
+        white.clear();
+        for (DVCCard c : draw) pile(c.getColor()).addLast(c);
+    }
+
+    private Deque<DVCCard> pile(DVCCard.Color color) { return color == DVCCard.Color.BLACK ? black : white; }
 }
@@ -9,12 +9,42 @@ import java.util.Collections;
  * We store cards in a list preserving chosen order. Insert logic: when adding a non-Joker via auto placement,
  * find first position where compareForOrder(new, existing) < 0 (skipping jokers) and insert before; if none append.
  * Jokers default appended (caller can reposition later if UI allows). For initial dealing we auto-place sequentially.
+ * <p>
+ * Hidden and per-colour counts are maintained as cards enter and leave the hand and as held cards are revealed
+ * (a card notifies the hand holding it), so {@link #hiddenCount()} and the board's active-player count are O(1).
  */
 public class DVCHand extends Hand<DVCCard> {
+	private int hidden;
+	private final int[] byColor = new int[DVCCard.Color.values().length];
+	private final int[] hiddenByColor = new int[DVCCard.Color.values().length];
+	private DVCBoard board; // told when this hand runs out of (or regains) hidden cards
+
+	public int hiddenCount() { return hidden; }
+	public int revealedCount() { return cards.size() - hidden; }
+	public int countOf(DVCCard.Color color) { return byColor[color.ordinal()]; }
+	public int hiddenCountOf(DVCCard.Color color) { return hiddenByColor[color.ordinal()]; }
+
+	@Override public void add(DVCCard card) { addRaw(card); }
+	@Override public void addAll(List<DVCCard> more) { if (more != null) more.forEach(this::addRaw); }
+
+	@Override
+	public boolean remove(DVCCard card) {
+		int i = cards.indexOf(card);
+		if (i < 0) return false;
+		untrack(cards.remove(i));
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		for (DVCCard c : cards) untrack(c);
+		cards.clear();
+	}
 
 	/** Add a card respecting ordering (used when card identity still hidden to others). */
 	public void addOrdered(DVCCard card) {
 		if (card == null) return;
+		track(card);
 		if (card.isJoker()) { cards.add(card); return; }
 		for (int i=0;i<cards.size();i++) {
 			DVCCard existing = cards.get(i);
@@ -38,7 +68,7 @@ public class DVCHand extends Hand<DVCCard> {
 	public List<DVCCard> snapshot() { return Collections.unmodifiableList(cards); }
 
 	/** Add without ordering (used during initial deal before player manual arrangement). */
-	public void addRaw(DVCCard c) { if (c != null) cards.add(c); }
+	public void addRaw(DVCCard c) { if (c != null) { track(c); cards.add(c); } }
 
 	/** Replace internal order exactly with provided sequence (cards must match set). */
 	public void setExactOrder(List<DVCCard> ordered) {
@@ -54,4 +84,37 @@ public class DVCHand extends Hand<DVCCard> {
 		cards.clear();
 		cards.addAll(ordered);
 	}
+
+	/** Called by a held card when it turns face up. */
+	void revealed(DVCCard card) {
+		hiddenByColor[card.getColor().ordinal()]--;
+		setHidden(hidden - 1);
+	}
+
+	/** Report hidden-count changes to {@code board} from now on (null to stop). */
+	void attach(DVCBoard board) { this.board = board; }
+
+	private void track(DVCCard c) {
+		c.holder = this;
+		byColor[c.getColor().ordinal()]++;
+		if (!c.isFaceUp()) {
+			hiddenByColor[c.getColor().ordinal()]++;
+			setHidden(hidden + 1);
+		}
+	}
+
+	private void untrack(DVCCard c) {
+		if (c.holder == this) c.holder = null;
+		byColor[c.getColor().ordinal()]--;
+		if (!c.isFaceUp()) {
+			hiddenByColor[c.getColor().ordinal()]--;
+			setHidden(hidden - 1);
+		}
+	}
+
+	private void setHidden(int next) {
+		boolean wasActive = hidden > 0;
+		hidden = next;
+		if (board != null && wasActive != (hidden > 0)) board.activeChanged(hidden > 0 ? 1 : -1);
+	}
 }
@@ -23,7 +23,7 @@ public class DVCPlayer extends Player {
     public int cardCount() { return hand.size(); }
 
     /** How many still hidden (not revealed). */
-    public long hiddenCount() { return hand.snapshot().stream().filter(c -> !c.isFaceUp()).count(); }
+    public long hiddenCount() { return hand.hiddenCount(); }
 
     /** Reveal a card at a given position (index validation). */
     public DVCCard revealAt(int index) {
@@ -0,0 +1,83 @@
+package com.flip.backend.game.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/** Reader for {@link SnapshotWriter} output; malformed input fails with {@link IllegalArgumentException}. */
+public final class SnapshotReader {
+	private final byte[] buf;
+	private int pos;
+
+	public SnapshotReader(byte[] buf) { this.buf = buf; }
+
+	/** Check magic and kind; returns the format version. */
+	public int header(int expectedKind) {
+		if (buf.length < 4 || buf[0] != SnapshotWriter.MAGIC[0] || buf[1] != SnapshotWriter.MAGIC[1]) {
+			throw new IllegalArgumentException("Not a game snapshot");
+		}
+		pos = 2;
+		int kind = readByte();
+		if (kind != expectedKind) throw new IllegalArgumentException("Snapshot kind " + kind + ", expected " + expectedKind);
+		return readVarInt();
+	}
+
+	/** Kind byte of a snapshot blob without consuming it, or -1 if {@code blob} is not a snapshot. */
+	public static int peekKind(byte[] blob) {
+		if (blob == null || blob.length < 4 || blob[0] != SnapshotWriter.MAGIC[0] || blob[1] != SnapshotWriter.MAGIC[1]) return -1;
+		return blob[2] & 0xFF;
+	}
+
+	public int readByte() {
+		if (pos >= buf.length) throw new IllegalArgumentException("Truncated snapshot");
+		return buf[pos++] & 0xFF;
+	}
+
+	public boolean readBoolean() { return readByte() != 0; }
+
+	public int readVarInt() {
+		int v = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			int b = readByte();
+			v |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) return v;
+		}
+		throw new IllegalArgumentException("Malformed varint");
+	}
+
+	public long readVarLong() {
+		long z = 0;
+		for (int shift = 0; shift < 70; shift += 7) {
+			int b = readByte();
+			z |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) return (z >>> 1) ^ -(z & 1);
+		}
+		throw new IllegalArgumentException("Malformed varlong");
+	}
+
+	public Long readOptionalLong() { return readBoolean() ? readVarLong() : null; }
+
+	public String readString() {
+		int len = readVarInt();
+		if (len == 0) return null;
+		len--;
+		if (len < 0 || len > buf.length - pos) throw new IllegalArgumentException("Truncated snapshot");
+		String s = new String(buf, pos, len, StandardCharsets.UTF_8);
+		pos += len;
+		return s;
+	}
+
+	public int[] readVarInts() {
+		int n = count();
+		int[] out = new int[n];
+		for (int i = 0; i < n; i++) out[i] = readVarInt();
+		return out;
+	}
+
+	/** Element count guarded against the remaining input (each element takes at least one byte). */
+	public int count() {
+		int n = readVarInt();
+		if (n < 0 || n > buf.length - pos) throw new IllegalArgumentException("Bad element count " + n);
+		return n;
+	}
+
+	public boolean atEnd() { return pos == buf.length; }
+}
@@ -0,0 +1,86 @@
+package com.flip.backend.game.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Append-only binary writer for game snapshots: LEB128 varints (zigzag for signed longs), length-prefixed UTF-8
+ * strings. Every blob starts with {@link #MAGIC}, a kind byte and a format version so readers can reject or
+ * migrate foreign data.
+ */
+public final class SnapshotWriter {
+	public static final byte[] MAGIC = { 'F', 'G' };
+
+	private byte[] buf;
+	private int pos;
+
+	public SnapshotWriter() { this(256); }
+
+	public SnapshotWriter(int capacity) { this.buf = new byte[Math.max(16, capacity)]; }
+
+	public SnapshotWriter header(int kind, int version) {
+		writeByte(MAGIC[0]);
+		writeByte(MAGIC[1]);
+		writeByte(kind);
+		writeVarInt(version);
+		return this;
+	}
+
+	public void writeByte(int b) {
+		ensure(1);
+		buf[pos++] = (byte) b;
+	}
+
+	public void writeBoolean(boolean b) { writeByte(b ? 1 : 0); }
+
+	/** Unsigned varint; negative values take 5 bytes (use {@link #writeVarLong} for signed data). */
+	public void writeVarInt(int v) {
+		ensure(5);
+		while ((v & ~0x7F) != 0) {
+			buf[pos++] = (byte) ((v & 0x7F) | 0x80);
+			v >>>= 7;
+		}
+		buf[pos++] = (byte) v;
+	}
+
+	/** Signed long, zigzag encoded so small magnitudes of either sign stay short. */
+	public void writeVarLong(long v) {
+		long z = (v << 1) ^ (v >> 63);
+		ensure(10);
+		while ((z & ~0x7FL) != 0) {
+			buf[pos++] = (byte) ((z & 0x7F) | 0x80);
+			z >>>= 7;
+		}
+		buf[pos++] = (byte) z;
+	}
+
+	/** Nullable long: presence flag, then the value. */
+	public void writeOptionalLong(Long v) {
+		writeBoolean(v != null);
+		if (v != null) writeVarLong(v);
+	}
+
+	/** Nullable string: varint (byte length + 1, 0 = null), then UTF-8 bytes. */
+	public void writeString(String s) {
+		if (s == null) { writeVarInt(0); return; }
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(bytes.length + 1);
+		ensure(bytes.length);
+		System.arraycopy(bytes, 0, buf, pos, bytes.length);
+		pos += bytes.length;
+	}
+
+	/** Array of small non-negative ints (card codes): length, then one varint each. */
+	public void writeVarInts(int[] values) {
+		writeVarInt(values.length);
+		for (int v : values) writeVarInt(v);
+	}
+
+	public int size() { return pos; }
+
+	public byte[] toByteArray() { return Arrays.copyOf(buf, pos); }
+
+	private void ensure(int n) {
+		if (pos + n > buf.length) buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + n));
+	}
+}
@@ -0,0 +1,151 @@
+package com.flip.backend.game.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Resident set of live game objects keyed by game id, with last-access tracking so idle games can be passivated.
+ * A {@link Loader} (installed by the persistence layer) rehydrates games on a miss, so callers of {@link #get}
+ * never see whether a game was resident or not. Loads run outside any map lock; ids the loader did not find are
+ * remembered for a short time ({@link #setMissTtl}) so unknown ids do not reach the loader on every lookup.
+ */
+public class GameRegistry<R> {
+
+	/** Rebuilds a passivated game, or returns null if there is nothing to restore. */
+	@FunctionalInterface
+	public interface Loader<R> {
+		R load(String gameId);
+	}
+
+	/** A resident game and the {@link #clock} time of its last {@link #get}/{@link #put}. */
+	public record Resident<R>(String gameId, R game, long lastAccessNanos) {}
+
+	private static final class Slot<R> {
+		final R game;
+		volatile long lastAccess;
+		Slot(R game, long lastAccess) { this.game = game; this.lastAccess = lastAccess; }
+	}
+
+	/** Bound on remembered misses; the set is simply cleared when a flood of bogus ids fills it. */
+	private static final int MAX_MISSES = 10_000;
+
+	private final ConcurrentHashMap<String, Slot<R>> resident = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Long> misses = new ConcurrentHashMap<>();
+	private final LongSupplier clock;
+	private volatile long missTtlNanos = TimeUnit.SECONDS.toNanos(2);
+	private volatile Loader<R> loader = id -> null;
+	private volatile BiConsumer<String, R> residentHook = (id, game) -> {};
+	private volatile Consumer<String> removalHook = id -> {};
+
+	public GameRegistry() { this(System::nanoTime); }
+
+	/** Registry reading access times from {@code clock} (nanoseconds; tests pass a fake). */
+	public GameRegistry(LongSupplier clock) { this.clock = clock; }
+
+	public void setLoader(Loader<R> loader) { this.loader = loader != null ? loader : id -> null; }
+
+	/** How long an id the loader did not find is answered as absent without asking it again (0 disables). */
+	public void setMissTtl(long nanos) { this.missTtlNanos = Math.max(0, nanos); }
+
+	/**
+	 * Called whenever a game becomes resident (put, rehydrated or recovered), before it is visible to readers;
+	 * the web layer uses it to attach per-game listeners that are not part of the snapshot. When two lookups
+	 * rehydrate the same game at once, it also runs for the copy that loses and is discarded.
+	 */
+	public void setResidentHook(BiConsumer<String, R> hook) { this.residentHook = hook != null ? hook : (id, game) -> {}; }
+
+	/** Also call {@code hook} after a game leaves memory (removed or evicted), e.g. to drop per-game caches. */
+	public synchronized void addRemovalHook(Consumer<String> hook) { if (hook != null) this.removalHook = removalHook.andThen(hook); }
+
+	public void put(String gameId, R game) {
+		residentHook.accept(gameId, game);
+		resident.put(gameId, new Slot<>(game, clock.getAsLong()));
+		misses.remove(gameId);
+	}
+
+	/** Resident game (touching its access time), else whatever the loader restores (made resident), else null. */
+	public R get(String gameId) {
+		if (gameId == null) return null;
+		Slot<R> slot = resident.get(gameId);
+		if (slot == null) {
+			Long missed = misses.get(gameId);
+			if (missed != null) {
+				if (clock.getAsLong() - missed < missTtlNanos) return null;
+				misses.remove(gameId, missed);
+			}
+			// Load (blocking I/O) and run the hook without holding a map lock, then install unless another
+			// lookup or put got there first, in which case this copy is dropped
+			R loaded = loader.load(gameId);
+			if (loaded == null) {
+				if (missTtlNanos > 0) {
+					if (misses.size() >= MAX_MISSES) misses.clear();
+					misses.put(gameId, clock.getAsLong());
+				}
+				return null;
+			}
+			residentHook.accept(gameId, loaded);
+			Slot<R> fresh = new Slot<>(loaded, clock.getAsLong());
+			Slot<R> raced = resident.putIfAbsent(gameId, fresh);
+			slot = raced != null ? raced : fresh;
+		}
+		slot.lastAccess = clock.getAsLong();
+		return slot.game;
+	}
+
+	/** Resident game without touching or loading (for sweepers and metrics). */
+	public R peek(String gameId) {
+		Slot<R> slot = gameId != null ? resident.get(gameId) : null;
+		return slot != null ? slot.game : null;
+	}
+
+	/**
+	 * Same as {@code get(gameId) != null}: a passivated game is loaded, and an unknown id costs one loader call per
+	 * miss TTL. Request threads use {@link #knownAbsent} and leave the lookup to the game's actor.
+	 */
+	public boolean exists(String gameId) { return get(gameId) != null; }
+
+	/**
+	 * True only for ids the loader did not find within the miss TTL; never loads. Anything else (resident,
+	 * passivated or never looked up) may exist and is settled by a {@link #get} on the game's actor.
+	 */
+	public boolean knownAbsent(String gameId) {
+		if (gameId == null) return true;
+		if (resident.containsKey(gameId)) return false;
+		Long missed = misses.get(gameId);
+		return missed != null && clock.getAsLong() - missed < missTtlNanos;
+	}
+
+	public boolean isResident(String gameId) { return gameId != null && resident.containsKey(gameId); }
+
+	public void remove(String gameId) {
+		if (resident.remove(gameId) != null) removalHook.accept(gameId);
+	}
+
+	/** Drop {@code gameId} only if it still maps to {@code expected} and was not accessed after {@code seenAccess}. */
+	public boolean evict(String gameId, R expected, long seenAccess) {
+		boolean[] removed = new boolean[1];
+		resident.computeIfPresent(gameId, (id, slot) -> {
+			if (slot.game != expected || slot.lastAccess != seenAccess) return slot;
+			removed[0] = true;
+			return null;
+		});
+		if (removed[0]) removalHook.accept(gameId);
+		return removed[0];
+	}
+
+	public int size() { return resident.size(); }
+
+	public long now() { return clock.getAsLong(); }
+
+	/** Point-in-time list of resident games. */
+	public List<Resident<R>> residents() {
+		List<Resident<R>> out = new ArrayList<>(resident.size());
+		resident.forEach((id, slot) -> out.add(new Resident<>(id, slot.game, slot.lastAccess)));
+		return out;
+	}
+}
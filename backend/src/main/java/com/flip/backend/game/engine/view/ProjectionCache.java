@@ -0,0 +1,64 @@
+package com.flip.backend.game.engine.view;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Views keyed by (gameId, state version, perspective). Per game only the current version is kept: its public part
+ * is built once and shared, each perspective is a cheap overlay on it, and a lookup at a newer version drops the
+ * whole entry. Lookups for one game are expected on that game's actor; different games may run concurrently.
+ *
+ * @param <P> public (perspective-free) projection
+ * @param <V> per-perspective view; the {@code null} perspective is the generic view
+ */
+public class ProjectionCache<P, V> {
+
+	private static final String NO_PERSPECTIVE = "";
+
+	private static final class Entry<P, V> {
+		final long version;
+		P publicPart;
+		final ConcurrentHashMap<String, V> views = new ConcurrentHashMap<>();
+		Entry(long version) { this.version = version; }
+	}
+
+	private final ConcurrentHashMap<String, Entry<P, V>> games = new ConcurrentHashMap<>();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * View of {@code gameId} at {@code version} for {@code perspective}. On a miss {@code overlay} is applied to the
+	 * version's public part, built with {@code publicPart} at most once per version.
+	 */
+	public V get(String gameId, long version, String perspective, Supplier<P> publicPart, BiFunction<P, String, V> overlay) {
+		Entry<P, V> entry = games.get(gameId);
+		if (entry == null || entry.version < version) {
+			entry = new Entry<>(version);
+			games.put(gameId, entry);
+		} else if (entry.version > version) {
+			// Caller holds an older state than the cache (should not happen on the actor): build without caching
+			misses.increment();
+			return overlay.apply(publicPart.get(), perspective);
+		}
+		String key = perspective != null ? perspective : NO_PERSPECTIVE;
+		V view = entry.views.get(key);
+		if (view != null) {
+			hits.increment();
+			return view;
+		}
+		misses.increment();
+		if (entry.publicPart == null) entry.publicPart = publicPart.get();
+		view = overlay.apply(entry.publicPart, perspective);
+		entry.views.put(key, view);
+		return view;
+	}
+
+	/** Forget a game (it left memory); the next lookup rebuilds. */
+	public void invalidate(String gameId) { games.remove(gameId); }
+
+	public long hits() { return hits.sum(); }
+	public long misses() { return misses.sum(); }
+	public int size() { return games.size(); }
+}
@@ -1,24 +1,24 @@
 package com.flip.backend.game.entities;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 
 /**
  * Directional circular seating board. Provides only primitive seat navigation & turn counting.
+ * <p>
+ * Seats are an array in clockwise order with the current seat tracked as an index, plus an id -> seat map, so
+ * stepping, lookups by id and iteration from the current seat ({@link #playerAt(int)}) are O(1) and allocation free.
+ * Seat changes ({@link #remove}, {@link #insertAfter}) are rare and rebuild the index.
  */
 public class Board<P extends Player> {
 
-	protected static class Node<P extends Player> {
-		P player;
-		Node<P> next;
-		Node<P> prev;
-		Node(P player) { this.player = player; }
-	}
-
-	private Node<P> current; // current seat
-	private int size;
+	private final List<P> seats = new ArrayList<>();
+	private final Map<String, Integer> seatById = new HashMap<>();
+	private int current; // current seat index
 	private int direction = 1; // +1 clockwise, -1 counter-clockwise
 	private long turnCount = 0;
 
@@ -31,82 +31,98 @@ public class Board<P extends Player> {
 	protected Board() { /* for subclass no-arg then init via initSeats */ }
 
 	protected void initSeats(List<P> players) {
-		if (current != null) throw new IllegalStateException("Already initialized");
+		if (!seats.isEmpty()) throw new IllegalStateException("Already initialized");
 		if (players.size() < 2) throw new IllegalArgumentException("Board requires at least 2 players");
 		build(players);
 	}
 
 	private void build(List<P> players) {
-		Node<P> first = null; Node<P> prev = null;
-		for (P p : players) {
-			Node<P> n = new Node<>(p);
-			if (first == null) first = n;
-			if (prev != null) { prev.next = n; n.prev = prev; }
-			prev = n;
-			size++;
-		}
-		// close ring (lists size >=2 already validated)
-		if (first != null && prev != null) {
-			first.prev = prev;
-			prev.next = first;
-			current = first;
-		}
+		seats.addAll(players);
+		current = 0;
+		reindex();
+	}
+
+	private void reindex() {
+		seatById.clear();
+		for (int i = 0; i < seats.size(); i++) seatById.putIfAbsent(seats.get(i).getId(), i);
 	}
 
-	public P currentPlayer() { return current.player; }
+	public P currentPlayer() { return seats.get(current); }
 	public int direction() { return direction; }
 	public long turnCount() { return turnCount; }
-	public int size() { return size; }
+	public int size() { return seats.size(); }
+
+	/** Absolute seat index of the current player (seat 0 = first player at construction time, barring seat changes). */
+	public int currentSeat() { return current; }
+	/** Player at absolute table position {@code seat} (0-based, independent of whose turn it is). */
+	public P seatAt(int seat) { return seats.get(seat); }
 
 	/** Peek the next player according to current direction without advancing. */
-	public P peekNext() { return direction == 1 ? current.next.player : current.prev.player; }
+	public P peekNext() { return seats.get(Math.floorMod(current + direction, seats.size())); }
+
+	/**
+	 * Player {@code offset} seats clockwise from the current one ({@code playerAt(0)} is the current player).
+	 * Iterating 0..size-1 yields the same order as {@link #snapshotOrder()} without allocating.
+	 */
+	public P playerAt(int offset) { return seats.get(Math.floorMod(current + offset, seats.size())); }
+
+	/** Player with the given id, or null. */
+	public P find(String playerId) {
+		Integer seat = playerId == null ? null : seatById.get(playerId);
+		return seat == null ? null : seats.get(seat);
+	}
+
+	/** Absolute seat of the given player, -1 if not seated. */
+	public int seatOf(String playerId) {
+		Integer seat = playerId == null ? null : seatById.get(playerId);
+		return seat == null ? -1 : seat;
+	}
+
+	public boolean contains(String playerId) { return playerId != null && seatById.containsKey(playerId); }
 
 	public void step(int k) {
 		if (k < 1) throw new IllegalArgumentException("k must be >=1");
-		for (int i = 0; i < k; i++) {
-			current = direction == 1 ? current.next : current.prev;
-		}
+		current = Math.floorMod(current + (long) direction * k, seats.size());
+	}
+
+	/** Restore navigation state captured from {@link #currentSeat()}, {@link #direction()} and {@link #turnCount()}. */
+	public void restoreState(int currentSeat, int direction, long turnCount) {
+		if (currentSeat < 0 || currentSeat >= seats.size()) throw new IllegalArgumentException("seat out of range");
+		if (direction != 1 && direction != -1) throw new IllegalArgumentException("direction must be +1 or -1");
+		this.current = currentSeat;
+		this.direction = direction;
+		this.turnCount = turnCount;
 	}
 
 	public void reverse() { direction *= -1; }
 	public void tickTurn() { turnCount++; }
 
+	/** Players in clockwise order starting at the current one (allocates; prefer {@link #playerAt(int)} in hot paths). */
 	public List<P> snapshotOrder() {
+		int size = seats.size();
 		List<P> list = new ArrayList<>(size);
-		Node<P> n = current;
-		for (int i = 0; i < size; i++) { list.add(n.player); n = n.next; }
+		for (int i = 0; i < size; i++) list.add(playerAt(i));
 		return list;
 	}
 
 	public boolean remove(String playerId) {
-		Node<P> n = current;
-		for (int i=0;i<size;i++) {
-			if (n.player.getId().equals(playerId)) {
-				if (size == 2) throw new IllegalStateException("Cannot shrink below 2 players");
-				n.prev.next = n.next;
-				n.next.prev = n.prev;
-				if (n == current) current = n.next; // advance if removing current
-				size--;
-				return true;
-			}
-			n = n.next;
-		}
-		return false;
+		int seat = seatOf(playerId);
+		if (seat < 0) return false;
+		if (seats.size() == 2) throw new IllegalStateException("Cannot shrink below 2 players");
+		seats.remove(seat);
+		if (seat < current) current--;
+		else if (current == seats.size()) current = 0; // removed current at the end: clockwise next wraps to seat 0
+		// removing current (elsewhere) leaves the index on the clockwise successor
+		reindex();
+		return true;
 	}
 
 	public void insertAfter(String afterPlayerId, P newPlayer) {
 		Objects.requireNonNull(newPlayer);
-		Node<P> n = current;
-		for (int i=0;i<size;i++) {
-			if (n.player.getId().equals(afterPlayerId)) {
-				Node<P> add = new Node<>(newPlayer);
-				Node<P> nxt = n.next;
-				n.next = add; add.prev = n; add.next = nxt; nxt.prev = add;
-				size++;
-				return;
-			}
-			n = n.next;
-		}
-		throw new NoSuchElementException("Player id not found: "+afterPlayerId);
+		int seat = seatOf(afterPlayerId);
+		if (seat < 0) throw new NoSuchElementException("Player id not found: "+afterPlayerId);
+		seats.add(seat + 1, newPlayer);
+		if (current > seat) current++;
+		reindex();
 	}
 }
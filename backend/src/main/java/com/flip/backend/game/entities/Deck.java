@@ -1,9 +1,9 @@
 package com.flip.backend.game.entities;
 
-import java.security.SecureRandom;
+import com.flip.backend.game.rng.RandomSource;
+
 import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
@@ -15,7 +15,17 @@ public abstract class Deck<C extends Card> {
 
 	private final Deque<C> drawPile = new ArrayDeque<>();
 	private final Deque<C> discardPile = new ArrayDeque<>();
-	private final SecureRandom random = new SecureRandom();
+	private final RandomSource random;
+	private long reshuffles;  // discard pile folded back into the draw pile
+	private long emptyDraws;  // draw() calls that found both piles exhausted
+
+	/** Deck with a fast source on a fresh random seed. */
+	protected Deck() { this(RandomSource.seeded()); }
+
+	/**
+	 * Deck shuffled with the supplied source (seeded for reproducible games, secure for ranked play).
+	 */
+	protected Deck(RandomSource random) { this.random = Objects.requireNonNull(random, "random"); }
 
 	/**
 	 * Populate the deck with its initial set of cards.
@@ -28,8 +38,10 @@ public abstract class Deck<C extends Card> {
 	public void initialize() {
 		drawPile.clear();
 		discardPile.clear();
+		reshuffles = 0;
+		emptyDraws = 0;
 		List<C> cards = new ArrayList<>(Objects.requireNonNull(buildInitialCards(), "cards"));
-		Collections.shuffle(cards, random);
+		random.shuffle(cards);
 		drawPile.addAll(cards);
 	}
 
@@ -41,6 +53,27 @@ public abstract class Deck<C extends Card> {
 	public int remainingDraw() { return remaining(); }
 	public int discardSize() { return discards(); }
 
+	public RandomSource random() { return random; }
+
+	/** Draw pile top-first (copy), for state snapshots. */
+	public List<C> drawPileSnapshot() { return List.copyOf(drawPile); }
+	/** Discard pile top-first (copy), for state snapshots. */
+	public List<C> discardPileSnapshot() { return List.copyOf(discardPile); }
+
+	/**
+	 * Replace both piles (top-first order) and counters with previously snapshotted state.
+	 */
+	public void restore(List<C> draw, List<C> discard, long reshuffles, long emptyDraws) {
+		drawPile.clear();
+		discardPile.clear();
+		drawPile.addAll(draw);
+		discardPile.addAll(discard);
+		this.reshuffles = reshuffles;
+		this.emptyDraws = emptyDraws;
+	}
+	public long reshuffles() { return reshuffles; }
+	public long emptyDraws() { return emptyDraws; }
+
 	/**
 	 * Draw a single card, reshuffling the discard pile into the draw pile if needed.
 	 */
@@ -48,7 +81,9 @@ public abstract class Deck<C extends Card> {
 		if (drawPile.isEmpty()) {
 			reshuffleFromDiscards();
 		}
-		return drawPile.pollFirst();
+		C card = drawPile.pollFirst();
+		if (card == null) emptyDraws++;
+		return card;
 	}
 
 	/**
@@ -70,12 +105,13 @@ public abstract class Deck<C extends Card> {
 	 * (In many games you keep the last played card visible.)
 	 */
 	protected void reshuffleFromDiscards() {
-		if (discardPile.isEmpty()) return;
+		if (discardPile.size() < 2) return; // only the visible top card (or nothing) left
+		reshuffles++;
 		C top = discardPile.pollFirst();
 		List<C> toShuffle = new ArrayList<>(discardPile);
 		discardPile.clear();
 		discardPile.addFirst(top); // keep top visible
-		Collections.shuffle(toShuffle, random);
+		random.shuffle(toShuffle);
 		drawPile.addAll(toShuffle);
 	}
 }
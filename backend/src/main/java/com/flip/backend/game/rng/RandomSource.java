@@ -0,0 +1,49 @@
+package com.flip.backend.game.rng;
+
+import java.util.List;
+
+/**
+ * Randomness strategy used by decks and engine decisions (shuffles, bot tie-breaks, seat draws).
+ * <p>
+ * {@link #seeded(long)} is the fast default: a SplitMix64 generator whose seed can be recorded with the game so a
+ * match can be replayed. {@link #secure()} wraps {@link java.security.SecureRandom} for modes where shuffles must
+ * not be predictable from a leaked seed (ranked play). Instances are not thread-safe; each game owns its own.
+ */
+public interface RandomSource {
+
+	/** Uniform int in {@code [0, bound)}. */
+	int nextInt(int bound);
+
+	long nextLong();
+
+	/** Independent child source derived from (and advancing) this one. */
+	RandomSource split();
+
+	/** Seed this source was created from, or {@code null} if it cannot be reproduced (secure mode). */
+	Long seed();
+
+	/** Current generator state for passivation, or {@code null} for secure sources (they are simply recreated). */
+	Long state();
+
+	default boolean isSecure() { return seed() == null; }
+
+	/** In-place Fisher–Yates shuffle. */
+	default <T> void shuffle(List<T> list) {
+		for (int i = list.size() - 1; i > 0; i--) {
+			int j = nextInt(i + 1);
+			list.set(i, list.set(j, list.get(i)));
+		}
+	}
+
+	static RandomSource seeded(long seed) { return new SplitMix64(seed); }
+
+	/** Fast seeded source with a fresh (secure) seed. */
+	static RandomSource seeded() { return new SplitMix64(SecureSource.freshSeed()); }
+
+	static RandomSource secure() { return new SecureSource(); }
+
+	/** Recreate a source from {@link #seed()} / {@link #state()}; a null state yields a fresh secure source. */
+	static RandomSource restore(Long seed, Long state) {
+		return state == null ? secure() : new SplitMix64(seed != null ? seed : state, state);
+	}
+}
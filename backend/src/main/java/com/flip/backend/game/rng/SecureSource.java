@@ -0,0 +1,17 @@
+package com.flip.backend.game.rng;
+
+import java.security.SecureRandom;
+
+/** Unpredictable source for ranked play; not reproducible, so no seed is recorded. */
+final class SecureSource implements RandomSource {
+	// One shared generator: seeding it may touch the OS entropy pool, so do it once, not per deck.
+	private static final SecureRandom SHARED = new SecureRandom();
+
+	static long freshSeed() { return SHARED.nextLong(); }
+
+	@Override public int nextInt(int bound) { return SHARED.nextInt(bound); }
+	@Override public long nextLong() { return SHARED.nextLong(); }
+	@Override public RandomSource split() { return this; }
+	@Override public Long seed() { return null; }
+	@Override public Long state() { return null; }
+}
@@ -0,0 +1,42 @@
+package com.flip.backend.game.rng;
+
+/**
+ * SplitMix64 (Steele, Lea &amp; Flood): one add + two multiplies per value, no locking, full 2^64 period.
+ * Statistically strong enough for card shuffles and trivially reproducible from its seed.
+ */
+public final class SplitMix64 implements RandomSource {
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+	private final long seed;
+	private long state;
+
+	public SplitMix64(long seed) { this(seed, seed); }
+
+	SplitMix64(long seed, long state) { this.seed = seed; this.state = state; }
+
+	/** Stateless finaliser; also useful to derive well-spread seeds from counters. */
+	public static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	@Override public long nextLong() { return mix(state += GOLDEN_GAMMA); }
+
+	@Override
+	public int nextInt(int bound) {
+		if (bound <= 0) throw new IllegalArgumentException("bound must be positive");
+		// Same rejection scheme as java.util.Random#nextInt(int) over the top 31 bits
+		int r = (int) (nextLong() >>> 33);
+		int m = bound - 1;
+		if ((bound & m) == 0) return (int) ((bound * (long) r) >> 31);
+		for (int u = r; u - (r = u % bound) + m < 0; u = (int) (nextLong() >>> 33)) { }
+		return r;
+	}
+
+	@Override public RandomSource split() { return new SplitMix64(nextLong()); }
+
+	@Override public Long seed() { return seed; }
+
+	@Override public Long state() { return state; }
+}
@@ -23,10 +23,18 @@ public class GameEntity {
     @Column(nullable=false, length=32)
     private String state; // lifecycle: CREATED | RUNNING | ENDED
 
-    // Serialized full state JSON (UNO / other engines). Null until RUNNING.
+    // Serialized full state JSON (UNO / other engines). Null until RUNNING; now only written as a debug rendering.
     @Column(name="state_json")
     private String stateJson;
 
+    // Binary engine snapshot (versioned codec); authoritative over state_json when present
+    @Column(name="state_blob")
+    private byte[] stateBlob;
+
+    // Shuffle RNG seed, null for secure-mode games (not reproducible)
+    @Column(name="rng_seed")
+    private Long rngSeed;
+
     @Column(name="created_at", nullable=false)
     private Instant createdAt;
 }
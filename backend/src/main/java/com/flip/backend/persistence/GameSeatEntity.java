@@ -0,0 +1,25 @@
+package com.flip.backend.persistence;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity @Table(name = "game_seats",
+    uniqueConstraints = {
+        @UniqueConstraint(name="uk_game_seat", columnNames = {"game_id","player_id"}),
+        @UniqueConstraint(name="uk_game_user", columnNames = {"game_id","user_id"})
+    }
+)
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class GameSeatEntity {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name="game_id", nullable=false)
+    private String gameId;
+
+    @Column(name="player_id", nullable=false)
+    private String playerId;
+
+    @Column(name="user_id", nullable=false)
+    private Long userId;
+}
@@ -0,0 +1,8 @@
+package com.flip.backend.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Optional;
+
+public interface GameSeatRepository extends JpaRepository<GameSeatEntity, Long> {
+    Optional<GameSeatEntity> findByGameIdAndPlayerId(String gameId, String playerId);
+}
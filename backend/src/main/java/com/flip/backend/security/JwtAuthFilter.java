@@ -29,8 +29,14 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         @NonNull FilterChain chain
     ) throws java.io.IOException, jakarta.servlet.ServletException {
         String auth = req.getHeader("Authorization");
+        String token = null;
         if (StringUtils.hasText(auth) && auth.startsWith("Bearer ")) {
-            String token = auth.substring(7);
+            token = auth.substring(7);
+        } else if ("GET".equals(req.getMethod()) && req.getRequestURI().endsWith("/stream/private")) {
+            // EventSource cannot send headers: private SSE streams take the token as a query parameter
+            token = req.getParameter("access_token");
+        }
+        if (StringUtils.hasText(token)) {
             try {
                 Claims claims = jwtService.parse(token).getBody();
                 String email = claims.getSubject();
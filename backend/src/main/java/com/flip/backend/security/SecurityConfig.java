@@ -1,5 +1,6 @@
 package com.flip.backend.security;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.*;
@@ -21,6 +22,9 @@ public class SecurityConfig {
     SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
           http.csrf(csrf -> csrf.disable())
               .authorizeHttpRequests(auth -> auth
+                  // Game endpoints complete asynchronously on the game actor; the original REQUEST dispatch was
+                  // already authorized, the ASYNC re-dispatch only writes the result.
+                  .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                   .requestMatchers("/api/health", "/actuator/health", "/api/auth/register", "/api/auth/login").permitAll()
                   .requestMatchers("/ws/**").permitAll()
                   .requestMatchers("/api/games/uno/*/stream").permitAll()
@@ -0,0 +1,90 @@
+package com.flip.backend.service.game;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * The scheduling shared by {@link UnoBotTurns} and {@link DVCBotTurns}: at most one pending bot turn per game, run on
+ * the game's actor after a think delay (the think time plus up to the jitter) on a single timer thread that only hands
+ * tasks to actors. A full mailbox is retried after another think delay; a failed turn drops the game, so the next
+ * command or residency schedules afresh.
+ * <p>
+ * Exposed as {@code <prefix>.bot.turns} (turns played, see {@link #played()}) and {@code <prefix>.bot.turns.pending}.
+ */
+final class BotTurnScheduler {
+    private final GameActorService actors;
+    private final Consumer<String> turn;
+    private final ScheduledThreadPoolExecutor timer;
+    private final long thinkNanos;
+    private final long jitterNanos;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final Counter turns;
+
+    /**
+     * @param prefix meter and timer thread prefix, e.g. {@code uno}
+     * @param game   game name in the meter descriptions
+     * @param turn   the per-game step, run on the game's actor; it must end with {@link #release} (directly or after
+     *               further steps handed over with {@link #onActor})
+     */
+    BotTurnScheduler(String prefix, String game, GameActorService actors, MeterRegistry meters,
+                     Duration thinkTime, Duration thinkJitter, Consumer<String> turn) {
+        this.actors = actors;
+        this.turn = turn;
+        this.timer = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, prefix + "-bot-timer");
+            t.setDaemon(true);
+            return t;
+        });
+        this.timer.setRemoveOnCancelPolicy(true);
+        this.thinkNanos = thinkTime.toNanos();
+        this.jitterNanos = thinkJitter.toNanos();
+        this.turns = Counter.builder(prefix + ".bot.turns").description("Scheduled " + game + " bot turns played").register(meters);
+        Gauge.builder(prefix + ".bot.turns.pending", pending, Set::size).description("Games waiting for a " + game + " bot turn").register(meters);
+    }
+
+    /** Schedule a turn unless one is already pending for the game; the caller has checked that a bot is to move. */
+    void schedule(String gameId) {
+        if (!pending.add(gameId)) return;
+        long delay = thinkNanos + (jitterNanos > 0 ? ThreadLocalRandom.current().nextLong(jitterNanos + 1) : 0);
+        try {
+            timer.schedule(() -> onActor(gameId, () -> turn.accept(gameId)), delay, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            pending.remove(gameId); // shutting down
+        }
+    }
+
+    /** Hand a step to the game's actor; a full mailbox is retried after another think delay. */
+    void onActor(String gameId, Runnable step) {
+        actors.execute(gameId, step).exceptionally(e -> {
+            if (e instanceof RejectedExecutionException || e.getCause() instanceof RejectedExecutionException) {
+                try {
+                    timer.schedule(() -> onActor(gameId, step), thinkNanos + jitterNanos, TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException shuttingDown) {
+                    pending.remove(gameId);
+                }
+            } else {
+                pending.remove(gameId); // the step failed: the next command or residency schedules afresh
+            }
+            return null;
+        });
+    }
+
+    /** The game's turn is over (played or dropped); a new one may be scheduled. */
+    void release(String gameId) { pending.remove(gameId); }
+
+    void played() { turns.increment(); }
+
+    int pendingGames() { return pending.size(); }
+
+    void shutdown() { timer.shutdownNow(); }
+}
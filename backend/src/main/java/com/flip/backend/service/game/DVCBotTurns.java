@@ -0,0 +1,65 @@
+package com.flip.backend.service.game;
+
+import com.flip.backend.dvc.engine.DVCGameRegistry;
+import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+
+/**
+ * DVC bot inputs as separate tasks, the DVC counterpart of {@link UnoBotTurns}: a human's command is answered once
+ * it is applied, and whenever a bot is to move, one bot input (draw colour, guess, reveal decision, ...) is scheduled
+ * ({@link BotTurnScheduler}) after a think delay ({@code app.games.bots.think-time} plus up to {@code think-jitter}).
+ * It runs on the game's actor, is staged, handed to the listener (the web layer broadcasts it), and the next input
+ * (if a bot is still to move) is scheduled the same way.
+ * <p>
+ * Exposed as {@code dvc.bot.turns} and {@code dvc.bot.turns.pending}.
+ */
+@Service
+public class DVCBotTurns {
+    private final DVCGameRegistry registry;
+    private final GameStateStore states;
+    private final BotTurnScheduler scheduler;
+    private volatile BiConsumer<String, DVCRuntimePhase> listener = (id, runtime) -> {};
+
+    public DVCBotTurns(DVCGameRegistry registry, GameActorService actors, GameStateStore states, MeterRegistry meters,
+                       @Value("${app.games.bots.think-time:PT0.6S}") Duration thinkTime,
+                       @Value("${app.games.bots.think-jitter:PT0.4S}") Duration thinkJitter) {
+        this.registry = registry;
+        this.states = states;
+        this.scheduler = new BotTurnScheduler("dvc", "DVC", actors, meters, thinkTime, thinkJitter, this::play);
+    }
+
+    /** Called on the actor after each bot input has been applied and staged. */
+    public void setListener(BiConsumer<String, DVCRuntimePhase> listener) {
+        this.listener = listener != null ? listener : (id, runtime) -> {};
+    }
+
+    /**
+     * Schedule the next bot input if a bot is to move. Call on the game's actor, or before the runtime is shared
+     * (e.g. when it becomes resident).
+     */
+    public void schedule(String gameId, DVCRuntimePhase runtime) {
+        if (runtime != null && runtime.botToMove()) scheduler.schedule(gameId);
+    }
+
+    /** On the actor: play one input for the bot to move (if one still is), then look for the next one. */
+    private void play(String gameId) {
+        scheduler.release(gameId);
+        DVCRuntimePhase runtime = registry.get(gameId);
+        if (runtime == null || !runtime.playBotInput()) return; // a bot with nothing to do is not retried
+        states.stage(gameId, GameStateStore.Kind.DVC, runtime.snapshot(), runtime.isFinished());
+        scheduler.played();
+        listener.accept(gameId, runtime);
+        schedule(gameId, runtime);
+    }
+
+    public int pendingGames() { return scheduler.pendingGames(); }
+
+    @PreDestroy
+    void shutdown() { scheduler.shutdown(); }
+}
@@ -13,9 +13,13 @@ import org.springframework.stereotype.Service;
 @Service
 public class DVCGameService extends GameService {
     private final DVCStartRegistry startRegistry;
-    public DVCGameService(SessionRepository sessions, GameRepository games, DVCGameRegistry runtimeRegistry, DVCStartRegistry startRegistry) {
-        super(sessions, games);
+    private final GameStateStore states;
+    private final SeatAccessService seatAccess;
+    public DVCGameService(SessionRepository sessions, GameRepository games, GameRandomFactory randoms, DVCGameRegistry runtimeRegistry, DVCStartRegistry startRegistry, GameStateStore states, SeatAccessService seatAccess) {
+        super(sessions, games, randoms);
         this.startRegistry = startRegistry;
+        this.states = states;
+        this.seatAccess = seatAccess;
     }
 
     @Override public boolean supports(String gameType) { return "DAVINCI".equalsIgnoreCase(gameType); }
@@ -26,7 +30,7 @@ public class DVCGameService extends GameService {
         if (!supports(session.getGameType())) throw new IllegalArgumentException("Unsupported game type for DaVinci service");
         int players = countValidPlayers(req);
         if (players < 2 || players > 4) throw new IllegalArgumentException("players must be 2-4 for DaVinci");
-        var base = persistRound(session, 1);
+        var rng = randoms.newGameSource();
 
         // Build player ids & infos (reuse UNO pattern)
         java.util.List<PlayerStartInfo> playerInfos = new java.util.ArrayList<>();
@@ -40,16 +44,20 @@ public class DVCGameService extends GameService {
             if (spec.bot()) id = "BOT" + botSeq++;
             else id = "P" + (seq++) + "_" + sanitized;
             playerIds.add(id);
-            playerInfos.add(new PlayerStartInfo(id, raw, spec.bot(), spec.ready()));
+            playerInfos.add(new PlayerStartInfo(id, raw, spec.bot(), spec.ready(), spec.bot() ? null : spec.userId()));
         }
+        seatAccess.checkSeats(sessionId, playerInfos);
+        var base = persistRound(session, 1, rng);
+        seatAccess.recordSeats(base.gameId(), playerInfos);
         String myPlayerId = playerInfos.stream().filter(p->!p.bot()).map(PlayerStartInfo::playerId).findFirst()
             .orElse(playerInfos.isEmpty()?null:playerInfos.get(0).playerId());
 
         // Start phase with manual ready concept. For MVP we auto-ready all (could expose API later)
-    DVCStartPhase startPhase = new DVCStartPhase(playerIds);
-    startPhase.enter();
-    startRegistry.put(base.gameId(), startPhase);
-    var view = startPhase.buildView(myPlayerId);
+        DVCStartPhase startPhase = new DVCStartPhase(playerIds, rng);
+        startPhase.enter();
+        states.stage(base.gameId(), GameStateStore.Kind.DVC_START, startPhase.snapshot(), false);
+        startRegistry.put(base.gameId(), startPhase);
+        var view = startPhase.buildView(myPlayerId);
         return new StartGameResponse(base.gameId(), base.roundIndex(), myPlayerId, java.util.List.copyOf(playerInfos), view);
     }
 
@@ -60,7 +68,7 @@ public class DVCGameService extends GameService {
         int players = countValidPlayers(req);
         if (players < 2 || players > 4) throw new IllegalArgumentException("players must be 2-4 for DaVinci");
         int next = nextRoundIndex(sessionId);
-        var base = persistRound(session, next);
+        var rng = randoms.newGameSource();
         java.util.List<PlayerStartInfo> playerInfos = new java.util.ArrayList<>();
         java.util.List<String> playerIds = new java.util.ArrayList<>();
         int seq = 1; int botSeq = 1;
@@ -70,14 +78,18 @@ public class DVCGameService extends GameService {
             String sanitized = raw.replaceAll("[^A-Za-z0-9]", "").toUpperCase();
             String id = spec.bot()?"BOT" + botSeq++:"P" + (seq++) + "_" + sanitized;
             playerIds.add(id);
-            playerInfos.add(new PlayerStartInfo(id, raw, spec.bot(), spec.ready()));
+            playerInfos.add(new PlayerStartInfo(id, raw, spec.bot(), spec.ready(), spec.bot() ? null : spec.userId()));
         }
+        seatAccess.checkSeats(sessionId, playerInfos);
+        var base = persistRound(session, next, rng);
+        seatAccess.recordSeats(base.gameId(), playerInfos);
         String myPlayerId = playerInfos.stream().filter(p->!p.bot()).map(PlayerStartInfo::playerId).findFirst()
             .orElse(playerInfos.isEmpty()?null:playerInfos.get(0).playerId());
-        DVCStartPhase startPhase = new DVCStartPhase(playerIds);
+        DVCStartPhase startPhase = new DVCStartPhase(playerIds, rng);
         startPhase.enter();
+        states.stage(base.gameId(), GameStateStore.Kind.DVC_START, startPhase.snapshot(), false);
         startRegistry.put(base.gameId(), startPhase);
         var view = startPhase.buildView(myPlayerId);
-		return new StartGameResponse(base.gameId(), base.roundIndex(), myPlayerId, java.util.List.copyOf(playerInfos), view);
+        return new StartGameResponse(base.gameId(), base.roundIndex(), myPlayerId, java.util.List.copyOf(playerInfos), view);
     }
 }
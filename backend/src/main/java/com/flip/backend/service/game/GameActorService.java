@@ -0,0 +1,116 @@
+package com.flip.backend.service.game;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Per-game actor execution. Every live game owns a mailbox; its tasks run one at a time, in submission order,
+ * on a shared bounded worker pool. Engine runtimes are therefore confined to a single logical thread per game
+ * (no locks inside the engine), different games run in parallel across cores, and HTTP threads only enqueue.
+ * <p>
+ * A mailbox holds at most {@code app.games.actors.mailbox-capacity} pending tasks; beyond that submissions fail
+ * fast with {@link RejectedExecutionException} instead of queueing without bound behind a slow game.
+ */
+@Service
+public class GameActorService {
+    /** Tasks run per scheduling slot before yielding the worker to other games (fairness). */
+    private static final int DRAIN_BATCH = 32;
+
+    private final ExecutorService workers;
+    private final int mailboxCapacity;
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    public GameActorService(@Value("${app.games.actors.threads:0}") int threads,
+                            @Value("${app.games.actors.mailbox-capacity:256}") int mailboxCapacity) {
+        int n = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        // At most one drain task per game is ever queued, so the work queue is bounded by the number of live games.
+        this.workers = Executors.newFixedThreadPool(n, r -> {
+            Thread t = new Thread(r, "game-actor-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.mailboxCapacity = mailboxCapacity;
+    }
+
+    /** Run {@code task} on the game's actor; the future completes (or fails) with its result. */
+    public <T> CompletableFuture<T> submit(String gameId, Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        // Reserve the slot inside compute() so retire() can never drop a mailbox that is about to receive work
+        Mailbox box = mailboxes.compute(gameId, (k, b) -> {
+            Mailbox m = b != null ? b : new Mailbox();
+            m.pending.incrementAndGet();
+            return m;
+        });
+        if (box.pending.get() > mailboxCapacity) {
+            box.pending.decrementAndGet();
+            future.completeExceptionally(new RejectedExecutionException("Game " + gameId + " is busy"));
+            return future;
+        }
+        box.tasks.add(() -> {
+            T result = null;
+            Throwable failure = null;
+            try { result = task.get(); }
+            catch (Throwable t) { failure = t; }
+            // Release the slot before completing: a caller woken by the future may submit again straight away
+            box.pending.decrementAndGet();
+            if (failure != null) future.completeExceptionally(failure); else future.complete(result);
+        });
+        box.schedule();
+        return future;
+    }
+
+    /** Fire-and-forget variant for work that produces no response (timers, broadcasts). */
+    public CompletableFuture<Void> execute(String gameId, Runnable task) {
+        return submit(gameId, () -> { task.run(); return null; });
+    }
+
+    /** Drop an idle game's mailbox (e.g. after the game is evicted); tasks already queued still run. */
+    public void retire(String gameId) {
+        mailboxes.computeIfPresent(gameId, (k, box) -> box.pending.get() == 0 && box.tasks.isEmpty() ? null : box);
+    }
+
+    public int activeMailboxes() { return mailboxes.size(); }
+
+    @PreDestroy
+    void shutdown() { workers.shutdown(); }
+
+    private final class Mailbox implements Runnable {
+        final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        final AtomicInteger pending = new AtomicInteger();
+        final AtomicBoolean scheduled = new AtomicBoolean();
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    workers.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // Pool shut down (application stopping): finish what is queued on the caller so futures complete
+                    Runnable r;
+                    while ((r = tasks.poll()) != null) r.run();
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < DRAIN_BATCH; i++) {
+                Runnable r = tasks.poll();
+                if (r == null) break;
+                r.run(); // releases its pending slot once the task body is done, so a running task is never retired
+            }
+            scheduled.set(false);
+            // Re-arm if work arrived after the last poll (or the batch limit was hit)
+            if (!tasks.isEmpty()) schedule();
+        }
+    }
+}
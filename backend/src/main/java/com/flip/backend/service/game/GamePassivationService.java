@@ -0,0 +1,155 @@
+package com.flip.backend.service.game;
+
+import com.flip.backend.dvc.engine.DVCGameRegistry;
+import com.flip.backend.dvc.engine.DVCStartRegistry;
+import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
+import com.flip.backend.dvc.engine.phase.DVCStartPhase;
+import com.flip.backend.dvc.engine.state.DVCRuntimeSnapshot;
+import com.flip.backend.dvc.engine.state.DVCStartSnapshot;
+import com.flip.backend.game.engine.GameRegistry;
+import com.flip.backend.service.game.GameStateStore.Kind;
+import com.flip.backend.uno.engine.UnoGameRegistry;
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.engine.state.UnoSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bounds the resident game set. A periodic sweep passivates finished games after {@code finished-ttl}, any game
+ * idle for {@code idle-ttl}, and the least recently used games beyond {@code max-resident} (per registry): the
+ * engine snapshot is staged for {@code games.state_blob} on the game's actor and the game dropped from memory.
+ * Registries rehydrate passivated games transparently on their next {@code get}.
+ * <p>
+ * Metrics: {@code games.resident} (gauge), {@code games.evicted} (counter, tagged by reason) and
+ * {@code games.rehydrate} (timer), all tagged with {@code registry=uno|dvc|dvc-start}.
+ */
+@Service
+public class GamePassivationService {
+    private final GameStateStore store;
+    private final GameActorService actors;
+    private final long idleTtlNanos;
+    private final long finishedTtlNanos;
+    private final int maxResident;
+    private final List<Tracked<?>> tracked = new ArrayList<>();
+    /** Games evicted by the previous sweep whose mailboxes are retired at the start of the next one. */
+    private final Set<String> retiring = ConcurrentHashMap.newKeySet();
+
+    public GamePassivationService(UnoGameRegistry uno, DVCGameRegistry dvc, DVCStartRegistry dvcStart,
+                                  GameStateStore store, GameActorService actors, MeterRegistry meters,
+                                  @Value("${app.games.eviction.idle-ttl:PT30M}") Duration idleTtl,
+                                  @Value("${app.games.eviction.finished-ttl:PT2M}") Duration finishedTtl,
+                                  @Value("${app.games.eviction.max-resident:0}") int maxResident) {
+        this.store = store;
+        this.actors = actors;
+        this.idleTtlNanos = idleTtl.toNanos();
+        this.finishedTtlNanos = finishedTtl.toNanos();
+        this.maxResident = maxResident;
+        tracked.add(new Tracked<>("uno", Kind.UNO, uno, meters, UnoRuntimePhase::snapshot, rt -> rt.winnerId() != null,
+            id -> {
+                UnoSnapshot s = store.load(id, Kind.UNO, UnoSnapshot.class);
+                return s != null ? UnoRuntimePhase.restore(s) : null;
+            }));
+        tracked.add(new Tracked<>("dvc", Kind.DVC, dvc, meters, DVCRuntimePhase::snapshot, DVCRuntimePhase::isFinished,
+            id -> {
+                if (dvcStart.isResident(id)) return null; // still settling; nothing stored for the runtime yet
+                DVCRuntimeSnapshot s = store.load(id, Kind.DVC, DVCRuntimeSnapshot.class);
+                return s != null ? DVCRuntimePhase.restore(s) : null;
+            }));
+        tracked.add(new Tracked<>("dvc-start", Kind.DVC_START, dvcStart, meters, DVCStartPhase::snapshot, sp -> false,
+            id -> {
+                if (dvc.isResident(id)) return null; // already transited; the stored start state is stale
+                DVCStartSnapshot s = store.load(id, Kind.DVC_START, DVCStartSnapshot.class);
+                return s != null ? DVCStartPhase.restore(s) : null;
+            }));
+    }
+
+    @Scheduled(fixedDelayString = "${app.games.eviction.sweep-interval:PT30S}", initialDelayString = "${app.games.eviction.sweep-interval:PT30S}")
+    public void sweep() {
+        for (String gameId : retiring) {
+            actors.retire(gameId);
+            retiring.remove(gameId);
+        }
+        for (Tracked<?> t : tracked) sweep(t);
+    }
+
+    private <R> void sweep(Tracked<R> t) {
+        long now = t.registry.now();
+        List<GameRegistry.Resident<R>> keep = new ArrayList<>();
+        for (var r : t.registry.residents()) {
+            long idle = now - r.lastAccessNanos();
+            if (idle >= finishedTtlNanos && t.finished.test(r.game())) passivate(t, r, t.evictedFinished);
+            else if (idle >= idleTtlNanos) passivate(t, r, t.evictedIdle);
+            else keep.add(r);
+        }
+        int over = keep.size() - maxResident;
+        if (maxResident > 0 && over > 0) {
+            keep.sort(Comparator.comparingLong(r -> r.lastAccessNanos()));
+            for (int i = 0; i < over; i++) passivate(t, keep.get(i), t.evictedCapacity);
+        }
+    }
+
+    private <R> void passivate(Tracked<R> t, GameRegistry.Resident<R> r, Counter reason) {
+        String gameId = r.gameId();
+        actors.execute(gameId, () -> {
+            // On the actor no command can interleave; a touch since selection aborts the eviction in evict()
+            if (t.registry.peek(gameId) != r.game()) return;
+            // Staged state is visible to the loader at once, so the game can leave memory before the flush
+            store.stage(gameId, t.kind, t.snapshot.apply(r.game()), t.finished.test(r.game()));
+            if (t.registry.evict(gameId, r.game(), r.lastAccessNanos())) {
+                reason.increment();
+                retiring.add(gameId);
+            }
+        });
+    }
+
+    /** One registry under management with its snapshot function and meters. */
+    private static final class Tracked<R> {
+        final Kind kind;
+        final GameRegistry<R> registry;
+        final Function<R, Object> snapshot;
+        final Predicate<R> finished;
+        final Counter evictedIdle;
+        final Counter evictedFinished;
+        final Counter evictedCapacity;
+
+        Tracked(String name, Kind kind, GameRegistry<R> registry, MeterRegistry meters,
+                Function<R, Object> snapshot, Predicate<R> finished, Function<String, R> loader) {
+            this.kind = kind;
+            this.registry = registry;
+            this.snapshot = snapshot;
+            this.finished = finished;
+            this.evictedIdle = evicted(meters, name, "idle");
+            this.evictedFinished = evicted(meters, name, "finished");
+            this.evictedCapacity = evicted(meters, name, "capacity");
+            Gauge.builder("games.resident", registry, GameRegistry::size).tag("registry", name)
+                .description("Games currently held in memory").register(meters);
+            Timer rehydrate = Timer.builder("games.rehydrate").tag("registry", name)
+                .description("Time to restore a passivated game").register(meters);
+            registry.setLoader(id -> {
+                Timer.Sample sample = Timer.start(meters);
+                R game = loader.apply(id);
+                if (game != null) sample.stop(rehydrate);
+                return game;
+            });
+        }
+
+        private static Counter evicted(MeterRegistry meters, String registry, String reason) {
+            return Counter.builder("games.evicted").tag("registry", registry).tag("reason", reason)
+                .description("Games passivated out of memory").register(meters);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.flip.backend.service.game;
+
+import com.flip.backend.game.rng.RandomSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the per-game {@link RandomSource}. Mode comes from {@code app.games.rng}:
+ * SEEDED (default) uses a fast generator whose seed is stored on the game row, SECURE keeps shuffles unpredictable.
+ */
+@Component
+public class GameRandomFactory {
+    public enum Mode { SEEDED, SECURE }
+
+    private final Mode mode;
+
+    public GameRandomFactory(@Value("${app.games.rng:SEEDED}") Mode mode) { this.mode = mode; }
+
+    public Mode mode() { return mode; }
+
+    public RandomSource newGameSource() {
+        return mode == Mode.SECURE ? RandomSource.secure() : RandomSource.seeded();
+    }
+}
@@ -0,0 +1,120 @@
+package com.flip.backend.service.game;
+
+import com.flip.backend.dvc.engine.DVCGameRegistry;
+import com.flip.backend.dvc.engine.DVCStartRegistry;
+import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
+import com.flip.backend.dvc.engine.phase.DVCStartPhase;
+import com.flip.backend.dvc.engine.state.DVCSnapshotCodec;
+import com.flip.backend.game.codec.SnapshotReader;
+import com.flip.backend.uno.engine.UnoGameRegistry;
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.engine.state.UnoSnapshotCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rebuilds games from persisted snapshot blobs and makes them resident again. Rows are split recursively over a
+ * {@link ForkJoinPool}, so decode + restore runs on all cores; registries are concurrent and each game is
+ * independent. Corrupt or unknown blobs are logged with their game id, counted and skipped rather than failing the
+ * whole recovery.
+ */
+public final class GameRecovery {
+    private static final Logger log = LoggerFactory.getLogger(GameRecovery.class);
+
+    /** Rows per leaf task. */
+    static final int LEAF_ROWS = 256;
+
+    public record Row(String gameId, byte[] blob) {}
+
+    public record Report(long uno, long dvcStart, long dvc, long failed, long elapsedNanos) {
+        public long recovered() { return uno + dvcStart + dvc; }
+
+        public Report plus(Report o) {
+            return new Report(uno + o.uno, dvcStart + o.dvcStart, dvc + o.dvc, failed + o.failed, elapsedNanos + o.elapsedNanos);
+        }
+
+        public String format() {
+            double ms = elapsedNanos / 1e6;
+            return String.format("recovered %d games (uno %d, dvc %d, dvc-start %d), %d failed in %.1f ms (%.0f games/s)",
+                recovered(), uno, dvc, dvcStart, failed, ms, ms > 0 ? recovered() / (ms / 1000.0) : 0.0);
+        }
+    }
+
+    public static final Report EMPTY = new Report(0, 0, 0, 0, 0);
+
+    private final UnoGameRegistry uno;
+    private final DVCGameRegistry dvc;
+    private final DVCStartRegistry dvcStart;
+
+    public GameRecovery(UnoGameRegistry uno, DVCGameRegistry dvc, DVCStartRegistry dvcStart) {
+        this.uno = uno;
+        this.dvc = dvc;
+        this.dvcStart = dvcStart;
+    }
+
+    /** Restore every row into its registry using {@code pool}. */
+    public Report recover(List<Row> rows, ForkJoinPool pool) {
+        long start = System.nanoTime();
+        Counts counts = new Counts();
+        pool.invoke(new Batch(rows, 0, rows.size(), counts));
+        return new Report(counts.uno.sum(), counts.dvcStart.sum(), counts.dvc.sum(), counts.failed.sum(), System.nanoTime() - start);
+    }
+
+    private void restore(Row row, Counts counts) {
+        try {
+            switch (SnapshotReader.peekKind(row.blob())) {
+                case UnoSnapshotCodec.KIND -> {
+                    uno.put(row.gameId(), UnoRuntimePhase.restore(UnoSnapshotCodec.decode(row.blob())));
+                    counts.uno.increment();
+                }
+                case DVCSnapshotCodec.RUNTIME_KIND -> {
+                    dvc.put(row.gameId(), DVCRuntimePhase.restore(DVCSnapshotCodec.decodeRuntime(row.blob())));
+                    counts.dvc.increment();
+                }
+                case DVCSnapshotCodec.START_KIND -> {
+                    dvcStart.put(row.gameId(), DVCStartPhase.restore(DVCSnapshotCodec.decodeStart(row.blob())));
+                    counts.dvcStart.increment();
+                }
+                default -> {
+                    log.warn("Skipping game {}: unknown snapshot kind", row.gameId());
+                    counts.failed.increment();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Skipping game {}: snapshot could not be restored", row.gameId(), e);
+            counts.failed.increment();
+        }
+    }
+
+    private static final class Counts {
+        final LongAdder uno = new LongAdder();
+        final LongAdder dvcStart = new LongAdder();
+        final LongAdder dvc = new LongAdder();
+        final LongAdder failed = new LongAdder();
+    }
+
+    private final class Batch extends RecursiveAction {
+        private final List<Row> rows;
+        private final int from, to;
+        private final Counts counts;
+
+        Batch(List<Row> rows, int from, int to, Counts counts) {
+            this.rows = rows; this.from = from; this.to = to; this.counts = counts;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_ROWS) {
+                for (int i = from; i < to; i++) restore(rows.get(i), counts);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Batch(rows, from, mid, counts), new Batch(rows, mid, to, counts));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.flip.backend.service.game;
+
+import com.flip.backend.dvc.engine.DVCGameRegistry;
+import com.flip.backend.dvc.engine.DVCStartRegistry;
+import com.flip.backend.uno.engine.UnoGameRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Startup crash recovery: streams every RUNNING game that has a snapshot and restores it into the registries.
+ * Runs as an {@link ApplicationRunner}, i.e. before the application reports readiness, so no request can see a
+ * half-recovered table. Rows are read through a server-side cursor (a read-only transaction, so autocommit is off,
+ * and a per-statement fetch size; the shared {@link JdbcTemplate} is left untouched) and each chunk is decoded in
+ * parallel ({@link GameRecovery}), so only about one chunk of blobs is in memory at a time.
+ * <p>
+ * The result is exposed as gauges {@code games.recovery.games} and {@code games.recovery.seconds}.
+ */
+@Component
+public class GameRecoveryService implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(GameRecoveryService.class);
+    private static final String SELECT_RUNNING =
+        "SELECT id, state_blob FROM games WHERE state = 'RUNNING' AND state_blob IS NOT NULL";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate readOnlyTx;
+    private final GameRecovery recovery;
+    private final boolean enabled;
+    private final int parallelism;
+    private final int chunkSize;
+    private volatile GameRecovery.Report lastReport = GameRecovery.EMPTY;
+
+    public GameRecoveryService(JdbcTemplate jdbc, PlatformTransactionManager transactions,
+                               UnoGameRegistry uno, DVCGameRegistry dvc, DVCStartRegistry dvcStart, MeterRegistry meters,
+                               @Value("${app.games.recovery.enabled:true}") boolean enabled,
+                               @Value("${app.games.recovery.parallelism:0}") int parallelism,
+                               @Value("${app.games.recovery.chunk-size:4096}") int chunkSize) {
+        this.jdbc = jdbc;
+        this.readOnlyTx = new TransactionTemplate(transactions);
+        this.readOnlyTx.setReadOnly(true);
+        this.recovery = new GameRecovery(uno, dvc, dvcStart);
+        this.enabled = enabled;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.chunkSize = Math.max(1, chunkSize);
+        Gauge.builder("games.recovery.games", this, s -> s.lastReport.recovered())
+            .description("Games restored at the last startup").register(meters);
+        Gauge.builder("games.recovery.seconds", this, s -> s.lastReport.elapsedNanos() / 1e9)
+            .description("Wall time of the last startup recovery").register(meters);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) recoverAll();
+    }
+
+    public GameRecovery.Report recoverAll() {
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            GameRecovery.Report[] total = { GameRecovery.EMPTY };
+            List<GameRecovery.Row> chunk = new ArrayList<>(chunkSize);
+            RowCallbackHandler onRow = rs -> {
+                chunk.add(new GameRecovery.Row(rs.getString(1), rs.getBytes(2)));
+                if (chunk.size() == chunkSize) {
+                    total[0] = total[0].plus(recovery.recover(chunk, pool));
+                    chunk.clear();
+                }
+            };
+            // PostgreSQL only honours the fetch size (cursor-based reads) with autocommit off, hence the transaction
+            readOnlyTx.executeWithoutResult(status -> jdbc.query(con -> {
+                PreparedStatement ps = con.prepareStatement(SELECT_RUNNING, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(chunkSize);
+                return ps;
+            }, onRow));
+            if (!chunk.isEmpty()) total[0] = total[0].plus(recovery.recover(chunk, pool));
+            GameRecovery.Report r = total[0];
+            lastReport = new GameRecovery.Report(r.uno(), r.dvcStart(), r.dvc(), r.failed(), System.nanoTime() - start);
+        } finally {
+            pool.shutdown();
+        }
+        log.info("Game recovery: {}", lastReport.format());
+        return lastReport;
+    }
+
+    public GameRecovery.Report lastReport() { return lastReport; }
+}
@@ -2,6 +2,7 @@ package com.flip.backend.service.game;
 
 import com.flip.backend.api.dto.LobbyDtos.StartGameRequest;
 import com.flip.backend.api.dto.LobbyDtos.StartGameResponse;
+import com.flip.backend.game.rng.RandomSource;
 import com.flip.backend.persistence.GameEntity;
 import com.flip.backend.persistence.GameRepository;
 import com.flip.backend.persistence.SessionEntity;
@@ -15,10 +16,12 @@ import java.time.Instant;
 public abstract class GameService {
     protected final SessionRepository sessions;
     protected final GameRepository games;
+    protected final GameRandomFactory randoms;
 
-    protected GameService(SessionRepository sessions, GameRepository games) {
+    protected GameService(SessionRepository sessions, GameRepository games, GameRandomFactory randoms) {
         this.sessions = sessions;
         this.games = games;
+        this.randoms = randoms;
     }
 
     /** Return true if this service supports given gameType (normalized upper-case). */
@@ -30,7 +33,7 @@ public abstract class GameService {
     /** Start next round (roundIndex auto-increment). */
     public abstract StartGameResponse startNext(String sessionId, StartGameRequest req);
 
-    protected StartGameResponse persistRound(SessionEntity session, int roundIndex) {
+    protected StartGameResponse persistRound(SessionEntity session, int roundIndex, RandomSource rng) {
         String gameType = session.getGameType().toUpperCase();
         String gameId = session.getId() + ":" + gameType + ":r" + roundIndex;
         var g = GameEntity.builder()
@@ -39,6 +42,7 @@ public abstract class GameService {
                 .roundIndex(roundIndex)
                 .gameType(gameType)
                 .state("CREATED")
+                .rngSeed(rng.seed())
                 .createdAt(Instant.now())
                 .build();
         games.save(g);
@@ -0,0 +1,105 @@
+package com.flip.backend.service.game;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flip.backend.dvc.engine.state.DVCRuntimeSnapshot;
+import com.flip.backend.dvc.engine.state.DVCSnapshotCodec;
+import com.flip.backend.dvc.engine.state.DVCStartSnapshot;
+import com.flip.backend.game.codec.SnapshotReader;
+import com.flip.backend.persistence.GameRepository;
+import com.flip.backend.uno.engine.state.UnoSnapshot;
+import com.flip.backend.uno.engine.state.UnoSnapshotCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads and writes engine snapshots. The binary codec form in {@code games.state_blob} is authoritative; a JSON
+ * rendering ({@link StoredGameState} envelope) is written to {@code games.state_json} only when
+ * {@code app.games.state.debug-json} is on, and is still read for rows that have no blob.
+ * <p>
+ * Writes are staged: {@link #stage} encodes on the calling actor and hands the result to {@link GameWriteBehind};
+ * reads see staged state before it reaches the database.
+ */
+@Component
+public class GameStateStore {
+    /** JSON envelope version; bump when a snapshot record changes incompatibly. */
+    public static final int VERSION = 1;
+
+    public enum Kind {
+        UNO(UnoSnapshotCodec.KIND), DVC_START(DVCSnapshotCodec.START_KIND), DVC(DVCSnapshotCodec.RUNTIME_KIND);
+
+        final int code;
+        Kind(int code) { this.code = code; }
+    }
+
+    private final GameRepository games;
+    private final ObjectMapper mapper;
+    private final GameWriteBehind writeBehind;
+    private final boolean debugJson;
+
+    public GameStateStore(GameRepository games, ObjectMapper mapper, GameWriteBehind writeBehind,
+                          @Value("${app.games.state.debug-json:false}") boolean debugJson) {
+        this.games = games;
+        this.mapper = mapper;
+        this.writeBehind = writeBehind;
+        this.debugJson = debugJson;
+    }
+
+    /**
+     * Record the current state of a game (RUNNING, or ENDED when {@code ended}); persisted by the next write-behind
+     * flush. Call from the game's actor right after the state changed.
+     */
+    public void stage(String gameId, Kind kind, Object snapshot, boolean ended) {
+        writeBehind.enqueue(gameId, new GameWriteBehind.Dirty(
+            encode(kind, snapshot), debugJson ? toJson(gameId, kind, snapshot) : null, ended ? "ENDED" : "RUNNING"));
+    }
+
+    /** Stored snapshot of {@code kind}, or null if the game has none (or holds another kind, e.g. a later phase). */
+    public <T> T load(String gameId, Kind kind, Class<T> type) {
+        var staged = writeBehind.pending(gameId);
+        if (staged != null) {
+            return SnapshotReader.peekKind(staged.blob()) == kind.code ? type.cast(decode(kind, staged.blob())) : null;
+        }
+        var game = games.findById(gameId).orElse(null);
+        if (game == null) return null;
+        if (game.getStateBlob() != null) {
+            if (SnapshotReader.peekKind(game.getStateBlob()) != kind.code) return null;
+            return type.cast(decode(kind, game.getStateBlob()));
+        }
+        if (game.getStateJson() == null) return null;
+        try {
+            var envelope = mapper.readValue(game.getStateJson(), StoredGameState.class);
+            if (!kind.name().equals(envelope.kind())) return null;
+            if (envelope.version() != VERSION) {
+                throw new IllegalStateException("Unsupported state version " + envelope.version() + " for " + gameId);
+            }
+            return mapper.treeToValue(envelope.state(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt stored state for " + gameId, e);
+        }
+    }
+
+    static byte[] encode(Kind kind, Object snapshot) {
+        return switch (kind) {
+            case UNO -> UnoSnapshotCodec.encode((UnoSnapshot) snapshot);
+            case DVC_START -> DVCSnapshotCodec.encode((DVCStartSnapshot) snapshot);
+            case DVC -> DVCSnapshotCodec.encode((DVCRuntimeSnapshot) snapshot);
+        };
+    }
+
+    static Object decode(Kind kind, byte[] blob) {
+        return switch (kind) {
+            case UNO -> UnoSnapshotCodec.decode(blob);
+            case DVC_START -> DVCSnapshotCodec.decodeStart(blob);
+            case DVC -> DVCSnapshotCodec.decodeRuntime(blob);
+        };
+    }
+
+    private String toJson(String gameId, Kind kind, Object snapshot) {
+        try {
+            return mapper.writeValueAsString(new StoredGameState(kind.name(), VERSION, mapper.valueToTree(snapshot)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + kind + " state of " + gameId, e);
+        }
+    }
+}
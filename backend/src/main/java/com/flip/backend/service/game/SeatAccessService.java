@@ -0,0 +1,83 @@
+package com.flip.backend.service.game;
+
+import com.flip.backend.api.dto.LobbyDtos.PlayerStartInfo;
+import com.flip.backend.persistence.GameSeatEntity;
+import com.flip.backend.persistence.GameSeatRepository;
+import com.flip.backend.persistence.SessionMemberEntity;
+import com.flip.backend.persistence.SessionMemberRepository;
+import com.flip.backend.persistence.UserRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Who may see a seat's private hand or send commands for it: only the user recorded for that seat when the game
+ * started ({@link #recordSeats}). Seat names are typed by the host and play no part; the host has no access to other
+ * seats, and bot seats or seats started without a user belong to nobody.
+ */
+@Service
+public class SeatAccessService {
+    /** Bound on cached seat owners; the cache is simply cleared when a flood of lookups fills it. */
+    private static final int MAX_CACHED_OWNERS = 50_000;
+
+    private final GameSeatRepository seats;
+    private final SessionMemberRepository members;
+    private final UserRepository users;
+    /** {@code gameId + '\n' + playerId} -> recorded user; a seat's owner never changes once recorded. */
+    private final Map<String, Long> owners = new ConcurrentHashMap<>();
+
+    public SeatAccessService(GameSeatRepository seats, SessionMemberRepository members, UserRepository users) {
+        this.seats = seats;
+        this.members = members;
+        this.users = users;
+    }
+
+    /**
+     * Reject a start whose human seats name a user who is not a member of the session, or the same user twice.
+     * Call before anything is persisted.
+     */
+    public void checkSeats(String sessionId, List<PlayerStartInfo> players) {
+        Set<Long> memberIds = new HashSet<>();
+        for (SessionMemberEntity m : members.findBySessionId(sessionId)) memberIds.add(m.getUserId());
+        Set<Long> seated = new HashSet<>();
+        for (PlayerStartInfo p : players) {
+            if (p.bot() || p.userId() == null) continue;
+            if (!memberIds.contains(p.userId())) throw new IllegalArgumentException("player " + p.name() + " is not a session member");
+            if (!seated.add(p.userId())) throw new IllegalArgumentException("user " + p.userId() + " holds more than one seat");
+        }
+    }
+
+    /** Bind each human seat that names a user to that user ({@link #checkSeats} first). */
+    public void recordSeats(String gameId, List<PlayerStartInfo> players) {
+        for (PlayerStartInfo p : players) {
+            if (p.bot() || p.userId() == null) continue;
+            seats.save(GameSeatEntity.builder().gameId(gameId).playerId(p.playerId()).userId(p.userId()).build());
+        }
+    }
+
+    public boolean mayView(String gameId, String email, String playerId) {
+        if (gameId == null || email == null || playerId == null) return false;
+        return users.findByEmail(email).map(u -> holdsSeat(gameId, u.getId(), playerId)).orElse(false);
+    }
+
+    /**
+     * True if {@code userId} is the user recorded for seat {@code playerId}. Owners are cached after the first
+     * lookup, so callers that already know the user (an authenticated STOMP session) pay no query per command.
+     */
+    public boolean holdsSeat(String gameId, Long userId, String playerId) {
+        if (gameId == null || userId == null || playerId == null) return false;
+        String key = gameId + '\n' + playerId;
+        Long owner = owners.get(key);
+        if (owner == null) {
+            owner = seats.findByGameIdAndPlayerId(gameId, playerId).map(GameSeatEntity::getUserId).orElse(null);
+            if (owner == null) return false;
+            if (owners.size() >= MAX_CACHED_OWNERS) owners.clear();
+            owners.put(key, owner);
+        }
+        return owner.equals(userId);
+    }
+}
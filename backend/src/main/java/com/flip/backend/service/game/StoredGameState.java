@@ -0,0 +1,10 @@
+package com.flip.backend.service.game;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Envelope written to {@code games.state_json}: which engine snapshot {@code state} holds and its format version,
+ * so a game is only ever restored by the matching engine.
+ */
+public record StoredGameState(String kind, int version, JsonNode state) {
+}
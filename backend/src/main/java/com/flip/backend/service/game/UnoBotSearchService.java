@@ -0,0 +1,104 @@
+package com.flip.backend.service.game;
+
+import com.flip.backend.uno.bot.UnoInfoSet;
+import com.flip.backend.uno.bot.UnoIsmcts;
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.entities.UnoPlayer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * UNO bot tier ({@code app.games.bots.uno-tier}). BASIC keeps the engine's built-in rule; SEARCH decides each bot
+ * move with ISMCTS ({@link UnoIsmcts}) on a dedicated bounded pool, so searches compete neither with request
+ * threads nor with game actors beyond {@code threads}.
+ * <p>
+ * The information set is captured on the game's actor and the search runs on the pool for at most
+ * {@code move-time} (including time spent queued) or {@code max-iterations}; the actor is free meanwhile. A full
+ * queue or a late result yields null (the built-in rule). Exposed as {@code uno.bot.search} (time),
+ * {@code uno.bot.search.iterations} and {@code uno.bot.search.fallbacks}.
+ */
+@Service
+public class UnoBotSearchService {
+    public enum Tier { BASIC, SEARCH }
+
+    /** Slack over the move time before a running search is given up. */
+    private static final long GRACE_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private final boolean enabled;
+    private final ThreadPoolExecutor pool;
+    private final long moveNanos;
+    private final int maxIterations;
+    private final Timer searchTime;
+    private final Counter iterations;
+    private final Counter fallbacks;
+
+    public UnoBotSearchService(MeterRegistry meters,
+                               @Value("${app.games.bots.uno-tier:BASIC}") Tier tier,
+                               @Value("${app.games.bots.search.threads:0}") int threads,
+                               @Value("${app.games.bots.search.queue-capacity:64}") int queueCapacity,
+                               @Value("${app.games.bots.search.move-time:PT0.05S}") Duration moveTime,
+                               @Value("${app.games.bots.search.max-iterations:2000}") int maxIterations) {
+        this.enabled = tier == Tier.SEARCH;
+        int n = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger seq = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(n, n, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+            Thread t = new Thread(r, "uno-search-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.moveNanos = moveTime.toNanos();
+        this.maxIterations = maxIterations;
+        this.searchTime = Timer.builder("uno.bot.search").description("ISMCTS time per bot move").register(meters);
+        this.iterations = Counter.builder("uno.bot.search.iterations").description("ISMCTS iterations").register(meters);
+        this.fallbacks = Counter.builder("uno.bot.search.fallbacks").description("Bot moves decided by the built-in rule instead").register(meters);
+    }
+
+    /**
+     * Search {@code bot}'s move in the runtime's current state; call on the game's actor. The future completes
+     * off the actor with the search result (resolve it with {@link UnoIsmcts.Result#toMove} back on the actor), or
+     * with null for the built-in rule: BASIC tier, saturated pool or exceeded budget.
+     */
+    public CompletableFuture<UnoIsmcts.Result> search(UnoRuntimePhase runtime, UnoPlayer bot) {
+        if (!enabled) return CompletableFuture.completedFuture(null);
+        UnoInfoSet info = UnoInfoSet.capture(runtime, bot);
+        long start = System.nanoTime();
+        long deadline = start + moveNanos;
+        long seed = ThreadLocalRandom.current().nextLong();
+        CompletableFuture<UnoIsmcts.Result> search;
+        try {
+            // A search that only starts after its deadline would return an uninformed move: skip it instead
+            search = CompletableFuture.supplyAsync(() -> System.nanoTime() >= deadline ? null
+                : UnoIsmcts.search(info, new SplittableRandom(seed), deadline, maxIterations), pool);
+        } catch (RejectedExecutionException e) {
+            fallbacks.increment();
+            return CompletableFuture.completedFuture(null);
+        }
+        return search.completeOnTimeout(null, moveNanos + GRACE_NANOS, TimeUnit.NANOSECONDS)
+            .handle((result, error) -> {
+                searchTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (result == null) {
+                    fallbacks.increment();
+                    return null;
+                }
+                iterations.increment(result.iterations());
+                return result;
+            });
+    }
+
+    @PreDestroy
+    void shutdown() { pool.shutdownNow(); }
+}
@@ -0,0 +1,93 @@
+package com.flip.backend.service.game;
+
+import com.flip.backend.uno.bot.UnoIsmcts;
+import com.flip.backend.uno.engine.UnoGameRegistry;
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.entities.UnoPlayer;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+/**
+ * UNO bot turns as separate tasks, so a human's command is answered as soon as it is applied. Runtimes resident in
+ * the web layer defer their bot turns ({@link UnoRuntimePhase#setDeferBotTurns}); whenever a bot is to move, one
+ * turn is scheduled ({@link BotTurnScheduler}) after a think delay ({@code app.games.bots.think-time} plus up to
+ * {@code think-jitter}) and then runs on the game's actor: the move is searched off the actor
+ * ({@link UnoBotSearchService}), played back on it, staged and handed to the listener (the web layer publishes it;
+ * the runtime's turn listener misses a winning turn), and the next bot turn (if any) is scheduled the same way.
+ * <p>
+ * Exposed as {@code uno.bot.turns} and {@code uno.bot.turns.pending}.
+ */
+@Service
+public class UnoBotTurns {
+    private final UnoGameRegistry registry;
+    private final GameStateStore states;
+    private final UnoBotSearchService search;
+    private final BotTurnScheduler scheduler;
+    private volatile BiConsumer<String, UnoRuntimePhase> listener = (id, runtime) -> {};
+
+    public UnoBotTurns(UnoGameRegistry registry, GameActorService actors, GameStateStore states, UnoBotSearchService search,
+                       MeterRegistry meters,
+                       @Value("${app.games.bots.think-time:PT0.6S}") Duration thinkTime,
+                       @Value("${app.games.bots.think-jitter:PT0.4S}") Duration thinkJitter) {
+        this.registry = registry;
+        this.states = states;
+        this.search = search;
+        this.scheduler = new BotTurnScheduler("uno", "UNO", actors, meters, thinkTime, thinkJitter, this::think);
+    }
+
+    /** Called on the actor after each bot turn has been played and staged, the winning one included. */
+    public void setListener(BiConsumer<String, UnoRuntimePhase> listener) {
+        this.listener = listener != null ? listener : (id, runtime) -> {};
+    }
+
+    /**
+     * Schedule the next bot turn if a bot is to move. Call on the game's actor, or before the runtime is shared
+     * (e.g. when it becomes resident).
+     */
+    public void schedule(String gameId, UnoRuntimePhase runtime) {
+        if (runtime.botToMove()) scheduler.schedule(gameId);
+    }
+
+    /** On the actor: start the move decision; the turn is played once it is known. */
+    private void think(String gameId) {
+        UnoRuntimePhase runtime = registry.get(gameId);
+        if (runtime == null || !runtime.botToMove()) {
+            scheduler.release(gameId);
+            return;
+        }
+        UnoPlayer bot = (UnoPlayer) runtime.board().currentPlayer();
+        long version = runtime.stateVersion();
+        CompletableFuture<UnoIsmcts.Result> decision = search.search(runtime, bot);
+        if (decision.isDone()) {
+            play(gameId, version, bot, decision.getNow(null));
+            return;
+        }
+        decision.whenComplete((result, error) ->
+            scheduler.onActor(gameId, () -> play(gameId, version, bot, error == null ? result : null)));
+    }
+
+    /** On the actor: play the decided move unless the game moved on meanwhile, then look for the next bot. */
+    private void play(String gameId, long version, UnoPlayer bot, UnoIsmcts.Result result) {
+        scheduler.release(gameId);
+        UnoRuntimePhase runtime = registry.get(gameId);
+        if (runtime == null) return;
+        if (runtime.stateVersion() == version && runtime.botToMove() && runtime.board().currentPlayer() == bot) {
+            runtime.playBotTurn(result != null ? result.toMove(bot) : null);
+            states.stage(gameId, GameStateStore.Kind.UNO, runtime.snapshot(), runtime.winnerId() != null);
+            scheduler.played();
+            listener.accept(gameId, runtime);
+        }
+        schedule(gameId, runtime);
+    }
+
+    public int pendingGames() { return scheduler.pendingGames(); }
+
+    @PreDestroy
+    void shutdown() { scheduler.shutdown(); }
+}
@@ -13,7 +13,11 @@ import org.springframework.stereotype.Service;
 @Service
 public class UnoGameService extends GameService {
 	private final UnoGameRegistry registry;
-	public UnoGameService(SessionRepository sessions, GameRepository games, UnoGameRegistry registry) { super(sessions, games); this.registry = registry; }
+	private final GameStateStore states;
+	private final SeatAccessService seatAccess;
+	public UnoGameService(SessionRepository sessions, GameRepository games, GameRandomFactory randoms, UnoGameRegistry registry, GameStateStore states, SeatAccessService seatAccess) {
+		super(sessions, games, randoms); this.registry = registry; this.states = states; this.seatAccess = seatAccess;
+	}
 
 	@Override public boolean supports(String gameType) { return "UNO".equalsIgnoreCase(gameType); }
 
@@ -24,8 +28,6 @@ public class UnoGameService extends GameService {
 		int players = countValidPlayers(req);
 		if (players < 2) throw new IllegalArgumentException("UNO requires at least 2 players");
 
-		var base = persistRound(session, 1);
-
 		// Build ordered player ids (simple deterministic). We'll transform provided names -> id tokens.
 		java.util.List<PlayerStartInfo> playerInfos = new java.util.ArrayList<>();
 		java.util.List<String> playerIds = new java.util.ArrayList<>();
@@ -44,16 +46,21 @@ public class UnoGameService extends GameService {
 				sequential++;
 			}
 			playerIds.add(id);
-			playerInfos.add(new PlayerStartInfo(id, raw, spec.bot(), spec.ready()));
+			playerInfos.add(new PlayerStartInfo(id, raw, spec.bot(), spec.ready(), spec.bot() ? null : spec.userId()));
 		}
+		seatAccess.checkSeats(sessionId, playerInfos);
+		var rng = randoms.newGameSource();
+		var base = persistRound(session, 1, rng);
+		seatAccess.recordSeats(base.gameId(), playerInfos);
 		// Host perspective: first non-bot or fallback first
 		String myPlayerId = playerInfos.stream().filter(p -> !p.bot()).map(PlayerStartInfo::playerId).findFirst()
 			.orElse(playerInfos.isEmpty()?null:playerInfos.get(0).playerId());
 
 		// Initialize UNO start phase -> runtime and build initial view for host.
-		UnoStartPhase startPhase = new UnoStartPhase(playerIds);
+		UnoStartPhase startPhase = new UnoStartPhase(playerIds, rng);
 		startPhase.enter();
 		UnoRuntimePhase runtime = startPhase.transit();
+		states.stage(base.gameId(), GameStateStore.Kind.UNO, runtime.snapshot(), false); // CREATED -> RUNNING on next flush
 		registry.put(base.gameId(), runtime);
 		var view = runtime.buildView(myPlayerId); // initial snapshot
 		return new StartGameResponse(base.gameId(), base.roundIndex(), myPlayerId, java.util.List.copyOf(playerInfos), view);
@@ -66,7 +73,6 @@ public class UnoGameService extends GameService {
 		int players = countValidPlayers(req);
 		if (players < 2) throw new IllegalArgumentException("UNO requires at least 2 players");
 		int next = nextRoundIndex(sessionId);
-		var base = persistRound(session, next);
 		// Reuse start logic for new round
 		java.util.List<PlayerStartInfo> playerInfos = new java.util.ArrayList<>();
 		java.util.List<String> playerIds = new java.util.ArrayList<>();
@@ -84,13 +90,18 @@ public class UnoGameService extends GameService {
 				sequential++;
 			}
 			playerIds.add(id);
-			playerInfos.add(new PlayerStartInfo(id, raw, spec.bot(), spec.ready()));
+			playerInfos.add(new PlayerStartInfo(id, raw, spec.bot(), spec.ready(), spec.bot() ? null : spec.userId()));
 		}
+		seatAccess.checkSeats(sessionId, playerInfos);
+		var rng = randoms.newGameSource();
+		var base = persistRound(session, next, rng);
+		seatAccess.recordSeats(base.gameId(), playerInfos);
 		String myPlayerId = playerInfos.stream().filter(p -> !p.bot()).map(PlayerStartInfo::playerId).findFirst()
 			.orElse(playerInfos.isEmpty()?null:playerInfos.get(0).playerId());
-		UnoStartPhase startPhase = new UnoStartPhase(playerIds);
+		UnoStartPhase startPhase = new UnoStartPhase(playerIds, rng);
 		startPhase.enter();
 		UnoRuntimePhase runtime = startPhase.transit();
+		states.stage(base.gameId(), GameStateStore.Kind.UNO, runtime.snapshot(), false); // CREATED -> RUNNING on next flush
 		registry.put(base.gameId(), runtime);
 		var view = runtime.buildView(myPlayerId);
 		return new StartGameResponse(base.gameId(), base.roundIndex(), myPlayerId, java.util.List.copyOf(playerInfos), view);
@@ -0,0 +1,12 @@
+package com.flip.backend.uno.bot;
+
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.entities.UnoPlayer;
+
+/**
+ * Decides bot turns for a runtime ({@link UnoRuntimePhase#setBotPolicy}). Called on the game's thread with the live
+ * runtime, which it must only read. Returning null keeps the built-in rule (first playable card, dominant colour).
+ */
+public interface UnoBotPolicy {
+	UnoMove choose(UnoRuntimePhase runtime, UnoPlayer bot);
+}
@@ -0,0 +1,57 @@
+package com.flip.backend.uno.bot;
+
+import com.flip.backend.uno.entities.UnoCard;
+
+/**
+ * Card faces as small ints for search: {@code colour * 13 + rank} for the four colours (rank 0-9, SKIP 10,
+ * REVERSE 11, DRAW_TWO 12), then WILD 52 and WILD_DRAW_FOUR 53. Copies of a face are interchangeable, so hands
+ * and piles are count vectors over faces.
+ */
+final class UnoFaces {
+	static final int COUNT = 54;
+	static final int SKIP = 10;
+	static final int REVERSE = 11;
+	static final int DRAW_TWO = 12;
+	static final int WILD = 52;
+	static final int WILD_DRAW_FOUR = 53;
+	private static final UnoCard.Color[] COLORS = { UnoCard.Color.RED, UnoCard.Color.YELLOW, UnoCard.Color.GREEN, UnoCard.Color.BLUE };
+	/** Copies of each face in the full 108-card deck. */
+	static final int[] DECK = new int[COUNT];
+	static {
+		for (int id = 0; id < UnoCard.PHYSICAL_COUNT; id++) DECK[of(UnoCard.physical(id))]++;
+	}
+
+	private UnoFaces() {}
+
+	static int of(UnoCard card) {
+		return switch (card.getType()) {
+			case WILD -> WILD;
+			case WILD_DRAW_FOUR -> WILD_DRAW_FOUR;
+			case NUMBER -> card.getColor().ordinal() * 13 + card.getNumber();
+			case SKIP -> card.getColor().ordinal() * 13 + SKIP;
+			case REVERSE -> card.getColor().ordinal() * 13 + REVERSE;
+			case DRAW_TWO -> card.getColor().ordinal() * 13 + DRAW_TWO;
+		};
+	}
+
+	static boolean wild(int face) { return face >= WILD; }
+	/** Colour index 0-3 of a coloured face. */
+	static int color(int face) { return face / 13; }
+	static int rank(int face) { return face % 13; }
+
+	static UnoCard.Color colorOf(int index) { return COLORS[index]; }
+
+	/** A card of {@code face} in {@code hand}, or null. */
+	static UnoCard find(com.flip.backend.uno.entities.UnoHand hand, int face) {
+		if (face == WILD) return hand.find(null, UnoCard.Type.WILD, null);
+		if (face == WILD_DRAW_FOUR) return hand.find(null, UnoCard.Type.WILD_DRAW_FOUR, null);
+		UnoCard.Color color = COLORS[color(face)];
+		int rank = rank(face);
+		return switch (rank) {
+			case SKIP -> hand.find(color, UnoCard.Type.SKIP, null);
+			case REVERSE -> hand.find(color, UnoCard.Type.REVERSE, null);
+			case DRAW_TWO -> hand.find(color, UnoCard.Type.DRAW_TWO, null);
+			default -> hand.find(color, UnoCard.Type.NUMBER, rank);
+		};
+	}
+}
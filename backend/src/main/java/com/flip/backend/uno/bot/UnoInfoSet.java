@@ -0,0 +1,101 @@
+package com.flip.backend.uno.bot;
+
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.entities.UnoBoard;
+import com.flip.backend.uno.entities.UnoCard;
+import com.flip.backend.uno.entities.UnoPlayer;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static com.flip.backend.uno.bot.UnoFaces.COUNT;
+
+/**
+ * What one seat knows: its own hand, everyone's hand size, the discards (all played cards are public) and the
+ * table state. Captured on the game's thread; afterwards it is independent of the runtime, so a search can run
+ * on another thread while the game moves on.
+ */
+public final class UnoInfoSet {
+	final int players;
+	final int observer;
+	private final int[] own = new int[COUNT];
+	private final int[] handSize;
+	/** Cards the observer has not seen: opponents' hands and the draw pile together. */
+	private final int[] unseen = new int[COUNT];
+	private final int[] discard = new int[COUNT];
+	private int discardSize;
+	private final int top;
+	private final int activeColor;
+	private final int current;
+	private final int direction;
+	private final int penalty;
+	private final boolean penaltyWild;
+
+	private UnoInfoSet(UnoRuntimePhase runtime, UnoPlayer seat) {
+		UnoBoard board = runtime.board();
+		players = board.size();
+		observer = board.seatOf(seat.getId());
+		if (observer < 0) throw new IllegalArgumentException("Not seated: " + seat.getId());
+		handSize = new int[players];
+		for (int p = 0; p < players; p++) handSize[p] = board.seatAt(p).cardCount();
+		System.arraycopy(UnoFaces.DECK, 0, unseen, 0, COUNT);
+		for (UnoCard c : seat.getHand().view()) {
+			int f = UnoFaces.of(c);
+			own[f]++;
+			unseen[f]--;
+		}
+		UnoCard topCard = board.lastPlayedCard();
+		List<UnoCard> discards = runtime.discardPile(); // top-first; the top card is the visible one
+		for (int i = 0; i < discards.size(); i++) {
+			int f = UnoFaces.of(discards.get(i));
+			unseen[f]--;
+			if (i == 0 && discards.get(0) == topCard) continue;
+			discard[f]++;
+			discardSize++;
+		}
+		for (int f = 0; f < COUNT; f++) if (unseen[f] < 0) unseen[f] = 0; // ad-hoc (non-deck) cards in tests
+		top = topCard != null ? UnoFaces.of(topCard) : -1;
+		UnoCard.Color active = board.activeColor();
+		activeColor = active == null || active == UnoCard.Color.WILD ? -1 : active.ordinal();
+		current = board.currentSeat();
+		direction = board.direction();
+		penalty = runtime.pendingDrawPenalty();
+		penaltyWild = runtime.pendingPenaltyType() == UnoCard.Type.WILD_DRAW_FOUR;
+	}
+
+	/** Information set of {@code seat} in the runtime's current state. */
+	public static UnoInfoSet capture(UnoRuntimePhase runtime, UnoPlayer seat) { return new UnoInfoSet(runtime, seat); }
+
+	/**
+	 * Fill {@code s} with one position consistent with this information: opponents' hands are dealt uniformly from
+	 * the unseen cards at their known sizes, the rest becomes the draw pile.
+	 */
+	void determinize(UnoSearchState s, SplittableRandom rng) {
+		int[] pool = s.pile; // dealt from in place: what remains is the draw pile
+		System.arraycopy(unseen, 0, pool, 0, COUNT);
+		int poolSize = 0;
+		for (int f = 0; f < COUNT; f++) poolSize += pool[f];
+		java.util.Arrays.fill(s.hands, 0);
+		for (int p = 0; p < players; p++) {
+			int base = p * COUNT;
+			if (p == observer) {
+				System.arraycopy(own, 0, s.hands, base, COUNT);
+				s.handSize[p] = handSize[p];
+				continue;
+			}
+			int dealt = 0;
+			for (; dealt < handSize[p] && poolSize > 0; dealt++, poolSize--) s.hands[base + UnoSearchState.take(pool, poolSize, rng)]++;
+			s.handSize[p] = dealt;
+		}
+		s.pileSize = poolSize;
+		System.arraycopy(discard, 0, s.discard, 0, COUNT);
+		s.discardSize = discardSize;
+		s.top = top;
+		s.activeColor = activeColor;
+		s.current = current;
+		s.direction = direction;
+		s.penalty = penalty;
+		s.penaltyWild = penaltyWild;
+		s.winner = -1;
+	}
+}
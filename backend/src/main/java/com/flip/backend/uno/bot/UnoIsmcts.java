@@ -0,0 +1,120 @@
+package com.flip.backend.uno.bot;
+
+import com.flip.backend.uno.entities.UnoCard;
+import com.flip.backend.uno.entities.UnoPlayer;
+
+import java.util.SplittableRandom;
+
+/**
+ * Single-observer information-set MCTS (Cowling, Powley and Whitehouse 2012). One tree is built over the
+ * observer's information set. Each iteration deals a fresh determinisation of the hidden cards
+ * ({@link UnoInfoSet#determinize}), descends only through actions legal in it (UCB1 with availability counts),
+ * expands one action, plays out with the default policy and credits the winner's moves. Not thread-safe; one
+ * search per thread.
+ */
+public final class UnoIsmcts {
+	/** UCB1 exploration constant, for rewards in [0, 1]. */
+	static final double EXPLORATION = 0.7;
+	/** Playouts longer than this are scored by hand size (stalled games with an empty deck). */
+	static final int PLAYOUT_PLIES = 300;
+	/** Iterations between clock reads. */
+	private static final int CLOCK_STRIDE = 16;
+
+	private UnoIsmcts() {}
+
+	/** Chosen action and the work spent on it. */
+	public record Result(int action, int iterations) {
+		/** The move for {@code bot}, resolved against its current hand (on the game's thread). */
+		public UnoMove toMove(UnoPlayer bot) {
+			if (action == UnoSearchState.DRAW) return UnoMove.DRAW;
+			UnoCard card = UnoFaces.find(bot.getHand(), UnoSearchState.face(action));
+			if (card == null) return UnoMove.DRAW;
+			UnoCard.Color color = UnoFaces.wild(UnoSearchState.face(action)) ? UnoFaces.colorOf(UnoSearchState.namedColor(action)) : null;
+			return new UnoMove(card, color);
+		}
+	}
+
+	private static final class Node {
+		final Node parent;
+		final int action;
+		/** Seat that played {@link #action}; its wins are counted here. */
+		final int player;
+		Node[] children = new Node[4];
+		int childCount;
+		int visits;
+		int avail = 1;
+		double wins;
+
+		Node(Node parent, int action, int player) { this.parent = parent; this.action = action; this.player = player; }
+
+		Node child(int action) {
+			for (int i = 0; i < childCount; i++) if (children[i].action == action) return children[i];
+			return null;
+		}
+
+		Node add(int action, int player) {
+			if (childCount == children.length) children = java.util.Arrays.copyOf(children, childCount * 2);
+			Node n = new Node(this, action, player);
+			children[childCount++] = n;
+			return n;
+		}
+	}
+
+	/**
+	 * Search the observer's move until {@code deadlineNanos} ({@link System#nanoTime}) or {@code maxIterations},
+	 * whichever comes first. A forced move returns without iterating.
+	 */
+	public static Result search(UnoInfoSet info, SplittableRandom rng, long deadlineNanos, int maxIterations) {
+		UnoSearchState root = new UnoSearchState(info.players);
+		UnoSearchState s = new UnoSearchState(info.players);
+		int[] moves = new int[UnoSearchState.ACTIONS];
+		int[] untried = new int[UnoSearchState.ACTIONS];
+		info.determinize(root, rng);
+		int rootMoves = root.legalMoves(moves, true);
+		if (rootMoves == 1) return new Result(moves[0], 0);
+
+		Node tree = new Node(null, -1, -1);
+		int it = 0;
+		while (it < maxIterations && (it % CLOCK_STRIDE != 0 || System.nanoTime() < deadlineNanos)) {
+			info.determinize(s, rng);
+			Node node = tree;
+			// Selection: descend while every legal action of this determinisation has a child
+			while (!s.terminal()) {
+				int n = s.legalMoves(moves, true);
+				int open = 0;
+				for (int i = 0; i < n; i++) if (node.child(moves[i]) == null) untried[open++] = moves[i];
+				if (open > 0) {
+					for (int i = 0; i < n; i++) { Node c = node.child(moves[i]); if (c != null) c.avail++; }
+					int a = untried[rng.nextInt(open)];
+					node = node.add(a, s.current);
+					s.apply(a, rng);
+					break;
+				}
+				Node best = null;
+				double bestScore = Double.NEGATIVE_INFINITY;
+				for (int i = 0; i < n; i++) {
+					Node c = node.child(moves[i]);
+					double score = c.wins / c.visits + EXPLORATION * Math.sqrt(Math.log(c.avail) / c.visits);
+					if (score > bestScore) { bestScore = score; best = c; }
+					c.avail++;
+				}
+				node = best;
+				s.apply(node.action, rng);
+			}
+			s.playout(rng, PLAYOUT_PLIES, moves);
+			int winner = s.leader();
+			for (Node n = node; n != null; n = n.parent) {
+				n.visits++;
+				if (n.player == winner) n.wins++;
+			}
+			it++;
+		}
+
+		Node best = null;
+		for (int i = 0; i < tree.childCount; i++) {
+			Node c = tree.children[i];
+			if (best == null || c.visits > best.visits) best = c;
+		}
+		return new Result(best != null ? best.action : UnoSearchState.DRAW, it);
+	}
+}
@@ -0,0 +1,35 @@
+package com.flip.backend.uno.bot;
+
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.entities.UnoPlayer;
+
+import java.util.SplittableRandom;
+
+/**
+ * ISMCTS on the calling thread, for simulations, tests and benchmarks. The server runs searches on a bounded pool
+ * instead ({@code UnoBotSearchService}) so game threads never compute them.
+ */
+public final class UnoIsmctsPolicy implements UnoBotPolicy {
+	private final SplittableRandom rng;
+	private final long moveNanos;
+	private final int maxIterations;
+	private long iterations;
+
+	/** Search each move for at most {@code moveNanos} or {@code maxIterations} (use {@code Long.MAX_VALUE} for iteration-only, reproducible runs). */
+	public UnoIsmctsPolicy(long seed, long moveNanos, int maxIterations) {
+		this.rng = new SplittableRandom(seed);
+		this.moveNanos = moveNanos;
+		this.maxIterations = maxIterations;
+	}
+
+	@Override
+	public UnoMove choose(UnoRuntimePhase runtime, UnoPlayer bot) {
+		long deadline = moveNanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + moveNanos;
+		UnoIsmcts.Result r = UnoIsmcts.search(UnoInfoSet.capture(runtime, bot), rng, deadline, maxIterations);
+		iterations += r.iterations();
+		return r.toMove(bot);
+	}
+
+	/** Iterations run so far (all moves). */
+	public long iterations() { return iterations; }
+}
@@ -0,0 +1,13 @@
+package com.flip.backend.uno.bot;
+
+import com.flip.backend.uno.entities.UnoCard;
+
+/**
+ * A bot's decision: play {@code card} (naming {@code color} for wilds), or draw when {@code card} is null (under a
+ * stacking penalty: take the penalty).
+ */
+public record UnoMove(UnoCard card, UnoCard.Color color) {
+	public static final UnoMove DRAW = new UnoMove(null, null);
+
+	public boolean isDraw() { return card == null; }
+}
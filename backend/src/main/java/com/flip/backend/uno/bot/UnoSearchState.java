@@ -0,0 +1,202 @@
+package com.flip.backend.uno.bot;
+
+import java.util.SplittableRandom;
+
+import static com.flip.backend.uno.bot.UnoFaces.COUNT;
+
+/**
+ * Fully determined UNO position for search: hands, draw and discard piles as face counts ({@link UnoFaces}), so a
+ * position is a handful of int arrays and {@link #copyFrom} is a few {@code arraycopy} calls. The rules mirror
+ * {@code UnoRuntimePhase}: matching by colour or rank, wilds always, SKIP/REVERSE, DRAW_TWO and WILD_DRAW_FOUR
+ * stacking, a draw always ends the turn.
+ * <p>
+ * Actions are ints: 0-51 play a coloured face, 52-55 WILD naming colour {@code a - 52}, 56-59 WILD_DRAW_FOUR
+ * naming {@code a - 56}, {@link #DRAW} draws (or takes the stacked penalty).
+ */
+final class UnoSearchState {
+	static final int DRAW = 60;
+	static final int ACTIONS = 61;
+	private static final int WILD_ACTIONS = 52;
+	private static final int WILD_DRAW_FOUR_ACTIONS = 56;
+
+	final int players;
+	final int[] hands;
+	final int[] handSize;
+	final int[] pile = new int[COUNT];
+	int pileSize;
+	/** Discards below the top card (they are reshuffled into an empty draw pile). */
+	final int[] discard = new int[COUNT];
+	int discardSize;
+	int top = -1;
+	int activeColor = -1;
+	int current;
+	int direction = 1;
+	int penalty;
+	boolean penaltyWild;
+	int winner = -1;
+
+	UnoSearchState(int players) {
+		this.players = players;
+		this.hands = new int[players * COUNT];
+		this.handSize = new int[players];
+	}
+
+	void copyFrom(UnoSearchState o) {
+		System.arraycopy(o.hands, 0, hands, 0, hands.length);
+		System.arraycopy(o.handSize, 0, handSize, 0, players);
+		System.arraycopy(o.pile, 0, pile, 0, COUNT);
+		System.arraycopy(o.discard, 0, discard, 0, COUNT);
+		pileSize = o.pileSize; discardSize = o.discardSize;
+		top = o.top; activeColor = o.activeColor;
+		current = o.current; direction = o.direction;
+		penalty = o.penalty; penaltyWild = o.penaltyWild;
+		winner = o.winner;
+	}
+
+	boolean terminal() { return winner >= 0; }
+
+	static int face(int action) {
+		return action < WILD_ACTIONS ? action : action < WILD_DRAW_FOUR_ACTIONS ? UnoFaces.WILD : UnoFaces.WILD_DRAW_FOUR;
+	}
+
+	/** Colour named by a wild action. */
+	static int namedColor(int action) {
+		return action - (action < WILD_DRAW_FOUR_ACTIONS ? WILD_ACTIONS : WILD_DRAW_FOUR_ACTIONS);
+	}
+
+	/**
+	 * Actions worth considering for the current player into {@code out}: the playable cards, or {@link #DRAW} when
+	 * there are none. Under a stacking penalty taking it is always an option ({@link #DRAW} last). A voluntary draw
+	 * is left out otherwise: it is legal, but never better than the play the built-in bot would make. With
+	 * {@code allColors} each wild appears once per colour, otherwise once, naming the hand's dominant colour.
+	 */
+	int legalMoves(int[] out, boolean allColors) {
+		int base = current * COUNT;
+		int n = 0;
+		if (penalty > 0) {
+			if (penaltyWild) {
+				if (hands[base + UnoFaces.WILD_DRAW_FOUR] > 0) n = wilds(out, n, WILD_DRAW_FOUR_ACTIONS, allColors);
+			} else {
+				for (int c = 0; c < 4; c++) if (hands[base + c * 13 + UnoFaces.DRAW_TWO] > 0) out[n++] = c * 13 + UnoFaces.DRAW_TWO;
+			}
+			out[n++] = DRAW;
+			return n;
+		}
+		for (int f = 0; f < UnoFaces.WILD; f++) {
+			if (hands[base + f] > 0 && playable(f)) out[n++] = f;
+		}
+		if (hands[base + UnoFaces.WILD] > 0) n = wilds(out, n, WILD_ACTIONS, allColors);
+		if (hands[base + UnoFaces.WILD_DRAW_FOUR] > 0) n = wilds(out, n, WILD_DRAW_FOUR_ACTIONS, allColors);
+		if (n == 0) out[n++] = DRAW;
+		return n;
+	}
+
+	private int wilds(int[] out, int n, int base, boolean allColors) {
+		if (!allColors) {
+			out[n++] = base + dominantColor(current);
+			return n;
+		}
+		for (int c = 0; c < 4; c++) out[n++] = base + c;
+		return n;
+	}
+
+	private boolean playable(int face) {
+		if (top < 0) return true;
+		if (UnoFaces.color(face) == activeColor) return true;
+		return !UnoFaces.wild(top) && UnoFaces.rank(face) == UnoFaces.rank(top);
+	}
+
+	/** Colour with most cards in {@code player}'s hand (ties: RED, YELLOW, GREEN, BLUE), RED if only wilds. */
+	int dominantColor(int player) {
+		int base = player * COUNT;
+		int best = 0;
+		int bestCount = -1;
+		for (int c = 0; c < 4; c++) {
+			int count = 0;
+			for (int r = 0; r < 13; r++) count += hands[base + c * 13 + r];
+			if (count > bestCount) { bestCount = count; best = c; }
+		}
+		return best;
+	}
+
+	void apply(int action, SplittableRandom rng) {
+		int p = current;
+		if (action == DRAW) {
+			if (penalty > 0) {
+				for (int i = 0; i < penalty; i++) draw(p, rng);
+				penalty = 0;
+			} else {
+				draw(p, rng);
+			}
+			advance(1);
+			return;
+		}
+		int face = face(action);
+		hands[p * COUNT + face]--;
+		handSize[p]--;
+		if (top >= 0) { discard[top]++; discardSize++; }
+		top = face;
+		int steps = 1;
+		if (UnoFaces.wild(face)) {
+			activeColor = namedColor(action);
+			if (face == UnoFaces.WILD_DRAW_FOUR) { penalty += 4; penaltyWild = true; }
+		} else {
+			activeColor = UnoFaces.color(face);
+			switch (UnoFaces.rank(face)) {
+				case UnoFaces.SKIP -> steps = 2;
+				case UnoFaces.REVERSE -> direction = -direction;
+				case UnoFaces.DRAW_TWO -> { penalty += 2; penaltyWild = false; }
+				default -> { }
+			}
+		}
+		if (handSize[p] == 0) { winner = p; return; }
+		advance(steps);
+	}
+
+	private void advance(int steps) { current = Math.floorMod(current + direction * steps, players); }
+
+	private void draw(int player, SplittableRandom rng) {
+		if (pileSize == 0) {
+			// Reshuffle: the discards below the top become the draw pile (order is irrelevant for counts)
+			for (int f = 0; f < COUNT; f++) { pile[f] += discard[f]; discard[f] = 0; }
+			pileSize = discardSize;
+			discardSize = 0;
+			if (pileSize == 0) return;
+		}
+		int f = take(pile, pileSize, rng);
+		pileSize--;
+		hands[player * COUNT + f]++;
+		handSize[player]++;
+	}
+
+	/** Remove one uniformly chosen card from the count vector {@code counts} holding {@code size} cards. */
+	static int take(int[] counts, int size, SplittableRandom rng) {
+		int r = rng.nextInt(size);
+		int f = 0;
+		while (r >= counts[f]) r -= counts[f++];
+		counts[f]--;
+		return f;
+	}
+
+	/**
+	 * Play on with the default policy (a random card from {@link #legalMoves}, stacking rather than taking a
+	 * penalty; wilds name the dominant colour) until someone wins or {@code maxPlies} pass.
+	 */
+	void playout(SplittableRandom rng, int maxPlies, int[] moves) {
+		for (int ply = 0; winner < 0 && ply < maxPlies; ply++) {
+			int n = legalMoves(moves, false);
+			if (n > 1 && moves[n - 1] == DRAW) n--;
+			int plain = 0; // coloured cards come first in the list; keep wilds for when nothing else fits
+			while (plain < n && moves[plain] < WILD_ACTIONS) plain++;
+			apply(moves[rng.nextInt(plain > 0 ? plain : n)], rng);
+		}
+	}
+
+	/** The winner, or the seat with fewest cards when a playout was cut short. */
+	int leader() {
+		if (winner >= 0) return winner;
+		int best = 0;
+		for (int p = 1; p < players; p++) if (handSize[p] < handSize[best]) best = p;
+		return best;
+	}
+}
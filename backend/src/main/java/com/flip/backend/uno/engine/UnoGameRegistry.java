@@ -1,16 +1,10 @@
 package com.flip.backend.uno.engine;
 
+import com.flip.backend.game.engine.GameRegistry;
 import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
 import org.springframework.stereotype.Component;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.Map;
 
-/** In-memory UNO runtime store (prototype). */
+/** Resident UNO runtimes; passivated games are rehydrated on {@link #get} by the installed loader. */
 @Component
-public class UnoGameRegistry {
-    private final Map<String, UnoRuntimePhase> runtimes = new ConcurrentHashMap<>();
-
-    public void put(String gameId, UnoRuntimePhase runtime) { runtimes.put(gameId, runtime); }
-    public UnoRuntimePhase get(String gameId) { return runtimes.get(gameId); }
-    public boolean exists(String gameId) { return runtimes.containsKey(gameId); }
+public class UnoGameRegistry extends GameRegistry<UnoRuntimePhase> {
 }
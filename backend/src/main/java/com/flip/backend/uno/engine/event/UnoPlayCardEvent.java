@@ -8,18 +8,25 @@ public class UnoPlayCardEvent extends GameEvent {
     private final UnoDeck deck;
     private final UnoPlayer player;
     private final UnoCard card;
+    private final UnoCard.Color botColor; // colour a bot names for a wild (null: its dominant colour)
     private int advanceSteps = 1; // how many seats to step after this card resolves
     private boolean requiresColorSelection = false; // set true when a human plays a wild and must choose
     private int penaltyAmount = 0; // 2 for DRAW_TWO, 4 for WILD_DRAW_FOUR, 0 otherwise (stacking handled in runtime phase)
 
     public UnoPlayCardEvent(UnoBoard board, UnoDeck deck, UnoPlayer player, UnoCard card) {
+        this(board, deck, player, card, null);
+    }
+
+    /** Play by a bot that has already decided the colour for a wild ({@code botColor}, ignored otherwise). */
+    public UnoPlayCardEvent(UnoBoard board, UnoDeck deck, UnoPlayer player, UnoCard card, UnoCard.Color botColor) {
         super(player, System.currentTimeMillis());
         this.board = board; this.deck = deck; this.player = player; this.card = card;
+        this.botColor = botColor != UnoCard.Color.WILD ? botColor : null;
     }
 
     @Override public boolean isValid() {
         if (card == null) return false;
-        if (!player.getHand().view().contains(card)) return false;
+        if (!player.getHand().contains(card)) return false;
         UnoCard top = board.lastPlayedCard();
         UnoCard.Color active = board.activeColor();
         if (card.getType() == UnoCard.Type.WILD || card.getType() == UnoCard.Type.WILD_DRAW_FOUR) return true;
@@ -36,21 +43,12 @@ public class UnoPlayCardEvent extends GameEvent {
         if (card.getType() == UnoCard.Type.WILD || card.getType() == UnoCard.Type.WILD_DRAW_FOUR) {
             if (player.isBot()) {
                 // Bot auto-select color heuristically: pick most frequent remaining color (excluding wild)
-                java.util.Map<UnoCard.Color, Integer> freq = new java.util.EnumMap<>(UnoCard.Color.class);
-                for (UnoCard c : player.getHand().view()) {
-                    if (c.getColor() != UnoCard.Color.WILD) {
-                        freq.merge(c.getColor(), 1, Integer::sum);
-                    }
+                chosen = botColor != null ? botColor : player.getHand().dominantColor();
+                if (chosen == null) {
+                    // fallback random color (deck source so seeded games stay reproducible)
+                    UnoCard.Color[] colors = {UnoCard.Color.RED, UnoCard.Color.GREEN, UnoCard.Color.BLUE, UnoCard.Color.YELLOW};
+                    chosen = colors[deck.random().nextInt(colors.length)];
                 }
-                chosen = freq.entrySet().stream()
-                        .filter(e -> e.getKey() != UnoCard.Color.WILD)
-                        .max(java.util.Map.Entry.comparingByValue())
-                        .map(java.util.Map.Entry::getKey)
-                        .orElseGet(() -> {
-                            // fallback random color
-                            UnoCard.Color[] colors = {UnoCard.Color.RED, UnoCard.Color.GREEN, UnoCard.Color.BLUE, UnoCard.Color.YELLOW};
-                            return colors[new java.util.Random().nextInt(colors.length)];
-                        });
             } else {
                 // Human must choose later -> clear any previous active color to signal pending state
                 requiresColorSelection = true;
@@ -5,6 +5,10 @@ import com.flip.backend.uno.entities.*;
 import com.flip.backend.game.engine.event.EventQueue;
 import com.flip.backend.uno.engine.event.*;
 import com.flip.backend.uno.engine.view.*;
+import com.flip.backend.uno.engine.state.UnoSnapshot;
+import com.flip.backend.game.rng.RandomSource;
+import com.flip.backend.uno.bot.UnoBotPolicy;
+import com.flip.backend.uno.bot.UnoMove;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Objects;
@@ -22,19 +26,47 @@ public class UnoRuntimePhase extends RuntimePhase {
 	private UnoCard.Type pendingPenaltyType = null; // DRAW_TWO or WILD_DRAW_FOUR while stacking
 	private String pendingColorChooserPlayerId; // if set, waiting for this human to choose wild color
 	private java.util.function.Consumer<UnoRuntimePhase> turnListener; // callback after each turn advance
+	private UnoBotPolicy botPolicy; // null: built-in rule (first playable card)
+	private boolean deferBotTurns; // true: bot turns after a command are left to the caller (playBotTurn)
 	// --- Action log (Stage 1) ---
 	public record ActionLogEntry(long seq, long turnId, String type, String actorId, String text, long ts) {}
 	private final java.util.Deque<ActionLogEntry> actionLog = new java.util.ArrayDeque<>();
 	private long nextSeq = 1L;
+	private long stateVersion; // bumped on every public state change; clients apply deltas against it
 	private static final int LOG_CAPACITY = 50;
 	private void addLog(String type, String actorId, String text) {
+		stateVersion++; // every public change is logged (play, draw, turn, colour, penalty, win)
 		long seq = nextSeq++;
 		actionLog.addLast(new ActionLogEntry(seq, board.turnCount(), type, actorId, text, System.currentTimeMillis()));
 		while (actionLog.size() > LOG_CAPACITY) actionLog.removeFirst();
 	}
 	public java.util.List<ActionLogEntry> actionLogSnapshot() { return java.util.List.copyOf(actionLog); }
 	public long lastEventSeq() { return actionLog.isEmpty() ? 0L : actionLog.getLast().seq(); }
+	/** Monotonic version of the public state; equal versions mean identical public views. */
+	public long stateVersion() { return stateVersion; }
+	/** Log entries with {@code seq > afterSeq} (oldest first), without copying the whole log. */
+	public java.util.List<ActionLogEntry> actionLogSince(long afterSeq) {
+		java.util.List<ActionLogEntry> out = new java.util.ArrayList<>();
+		var it = actionLog.descendingIterator();
+		while (it.hasNext()) {
+			ActionLogEntry e = it.next();
+			if (e.seq() <= afterSeq) break;
+			out.add(e);
+		}
+		java.util.Collections.reverse(out);
+		return out;
+	}
 	public void setTurnListener(java.util.function.Consumer<UnoRuntimePhase> l) { this.turnListener = l; }
+	public boolean hasTurnListener() { return turnListener != null; }
+	/** Decide bot turns with {@code policy} (null, or a null decision: the built-in rule); not part of snapshots. */
+	public void setBotPolicy(UnoBotPolicy policy) { this.botPolicy = policy; }
+	/**
+	 * When set, {@link #applyPlayerCommand} returns as soon as the human's command is applied, even if bots are to
+	 * move next; the caller then runs them one at a time with {@link #playBotTurn} (see {@link #botToMove}).
+	 */
+	public void setDeferBotTurns(boolean defer) { this.deferBotTurns = defer; }
+	/** True when the game is running and a bot is to move. */
+	public boolean botToMove() { return winnerId == null && pendingColorChooserPlayerId == null && board.currentPlayer() instanceof UnoBot; }
 	public UnoRuntimePhase(UnoDeck deck, UnoBoard board, List<UnoPlayer> players) {
 		this.deck = deck; this.board = board; // players list not needed for now
 	}
@@ -53,10 +85,20 @@ public class UnoRuntimePhase extends RuntimePhase {
 	public void runSingleTurn() { if (winnerId == null) runBotTurn(); }
 
 	private void runBotTurn() {
+		playBotTurn(botPolicy != null ? botPolicy.choose(this, (UnoPlayer) board.currentPlayer()) : null);
+	}
+
+	/**
+	 * Play the current player's turn with a move decided elsewhere (e.g. a search that ran off the game's thread);
+	 * null plays the built-in rule. The policy set with {@link #setBotPolicy} is not consulted.
+	 */
+	public void playBotTurn(UnoMove move) {
+		if (winnerId != null) return;
 		UnoPlayer current = (UnoPlayer) board.currentPlayer();
+		if (move != null) { runPolicyTurn(current, move); return; }
 		// If under stacking penalty: bot either stacks or takes penalty; no other options
 		if (pendingDrawPenalty > 0) {
-			UnoCard stackable = current.getHand().view().stream()
+			UnoCard stackable = current.getHand().countOf(pendingPenaltyType) == 0 ? null : current.getHand().view().stream()
 				.filter(c -> c.getType() == pendingPenaltyType)
 				.findFirst().orElse(null);
 			if (stackable != null) {
@@ -84,6 +126,26 @@ public class UnoRuntimePhase extends RuntimePhase {
 		if (turnListener != null) turnListener.accept(this);
 	}
 
+	/** Bot turn as decided by the policy; a move that is not legal here is replaced by drawing (or the penalty). */
+	private void runPolicyTurn(UnoPlayer current, UnoMove move) {
+		UnoCard card = move.card();
+		if (card != null && pendingDrawPenalty > 0 && card.getType() != pendingPenaltyType) card = null;
+		UnoPlayCardEvent play = card != null ? new UnoPlayCardEvent(board, deck, current, card, move.color()) : null;
+		if (play != null && play.isValid()) {
+			queue.enqueue(play);
+			processQueue();
+			if (resolveWinnerIfAny(current)) return;
+		} else if (pendingDrawPenalty > 0) {
+			applyAccumulatedPenalty(current);
+		} else {
+			queue.enqueue(new UnoDrawCardEvent(deck, current));
+			processQueue();
+		}
+		advanceTurn();
+		addLog("TURN", null, "Turn -> " + board.currentPlayer().getId());
+		if (turnListener != null) turnListener.accept(this);
+	}
+
 	private boolean resolveWinnerIfAny(UnoPlayer current) {
 		if (current.cardCount() == 0) {
 			winnerId = current.getId();
@@ -106,8 +168,11 @@ public class UnoRuntimePhase extends RuntimePhase {
 	public record CommandError(String code, String message) {}
 	public record CommandResult(boolean applied, List<CommandError> errors, UnoView view) {}
 
-	/** Apply a human player's command in an event-driven style (thread-unsafe outside). */
-	public synchronized CommandResult applyPlayerCommand(PlayerCommand cmd) {
+	/**
+	 * Apply a human player's command in an event-driven style. Not thread-safe: callers confine each runtime to
+	 * one thread at a time (the game's actor in the web layer).
+	 */
+	public CommandResult applyPlayerCommand(PlayerCommand cmd) {
 		List<CommandError> errors = new ArrayList<>();
 		if (cmd == null || cmd.playerId() == null) return new CommandResult(false, List.of(new CommandError("BAD_REQUEST","null command")), buildView(null));
 		if (winnerId != null) return new CommandResult(false, List.of(new CommandError("FINISHED","Game already finished")), buildView(cmd.playerId()));
@@ -147,6 +212,7 @@ public class UnoRuntimePhase extends RuntimePhase {
 					// After processing, detect if a color selection is required (event sets flag for human wild plays)
 					if (!current.isBot() && (card.getType()==UnoCard.Type.WILD || card.getType()==UnoCard.Type.WILD_DRAW_FOUR) && board.activeColor() == null) {
 						pendingColorChooserPlayerId = current.getId();
+						stateVersion++;
 						applied = true; endTurn = false; // wait for color
 					} else { applied = true; endTurn = true; }
 					// (stack accumulation now handled centrally in processQueue)
@@ -187,7 +253,7 @@ public class UnoRuntimePhase extends RuntimePhase {
 				UnoPlayer next = (UnoPlayer) board.currentPlayer();
 				addLog("TURN", null, "Turn -> " + next.getId());
 				if (turnListener != null) turnListener.accept(this);
-					while (winnerId == null && board.currentPlayer() instanceof UnoBot) { runBotTurn(); }
+				if (!deferBotTurns) while (winnerId == null && board.currentPlayer() instanceof UnoBot) { runBotTurn(); }
 			}
 			return new CommandResult(applied, List.copyOf(errors), buildView(cmd.playerId()));
 		} catch (Exception ex) {
@@ -200,46 +266,56 @@ public class UnoRuntimePhase extends RuntimePhase {
 		return new CommandResult(false, List.of(new CommandError(code, msg)), buildView(perspective));
 	}
 
+	/** Resolve the command's (color, value) to a card in hand via the hand's face index (no per-card string matching). */
 	private UnoCard findCard(UnoPlayer player, PlayerCommand cmd) {
-		if (cmd.value() == null) return null;
-		String val = cmd.value();
-		for (UnoCard c : player.getHand().view()) {
-			if (match(c, cmd.color(), val)) return c;
-		}
-		return null;
-	}
-
-	private boolean match(UnoCard c, String color, String value) {
-		if (c.getType() == UnoCard.Type.NUMBER) {
-			// Require both number and color to match (color provided by client for disambiguation)
-			if (!value.equals(String.valueOf(c.getNumber()))) return false;
-			if (color == null) return true; // fallback (shouldn't happen)
-			return c.getColor().name().equalsIgnoreCase(color);
+		String value = cmd.value();
+		if (value == null) return null;
+		UnoCard.Type type;
+		Integer number = null;
+		if (!value.isEmpty() && Character.isDigit(value.charAt(0))) {
+			if (value.length() != 1) return null;
+			type = UnoCard.Type.NUMBER;
+			number = value.charAt(0) - '0';
+		} else {
+			switch (value) {
+				case "SKIP" -> type = UnoCard.Type.SKIP;
+				case "REVERSE" -> type = UnoCard.Type.REVERSE;
+				case "DRAW_TWO" -> type = UnoCard.Type.DRAW_TWO;
+				case "WILD" -> type = UnoCard.Type.WILD;
+				case "WILD_DRAW_FOUR" -> type = UnoCard.Type.WILD_DRAW_FOUR;
+				default -> { return null; }
+			}
 		}
-		switch (value) {
-			case "SKIP" -> { return c.getType()== UnoCard.Type.SKIP && colorEquals(c, color); }
-			case "REVERSE" -> { return c.getType()== UnoCard.Type.REVERSE && colorEquals(c, color); }
-			case "DRAW_TWO" -> { return c.getType()== UnoCard.Type.DRAW_TWO && colorEquals(c, color); }
-			case "WILD" -> { return c.getType()== UnoCard.Type.WILD; }
-			case "WILD_DRAW_FOUR" -> { return c.getType()== UnoCard.Type.WILD_DRAW_FOUR; }
+		UnoCard.Color color = parseColor(cmd.color());
+		boolean wildType = type == UnoCard.Type.WILD || type == UnoCard.Type.WILD_DRAW_FOUR;
+		if (!wildType && color == null) {
+			// Numbers tolerate a missing color (fallback), action cards require one
+			if (type != UnoCard.Type.NUMBER || cmd.color() != null) return null;
 		}
-		return false;
+		return player.getHand().find(color, type, number);
 	}
 
-	private boolean colorEquals(UnoCard c, String color) {
-		if (color == null) return false;
-		return c.getColor().name().equalsIgnoreCase(color);
+	private static UnoCard.Color parseColor(String color) {
+		if (color == null) return null;
+		for (UnoCard.Color c : UnoCard.Color.values()) {
+			if (c.name().equalsIgnoreCase(color)) return c;
+		}
+		return null;
 	}
 
 	public UnoEndingPhase endingPhase() { return endingPhase; }
 	public String winnerId() { return winnerId; }
+	/** Read access to the table for projections; mutate only through commands. */
+	public UnoBoard board() { return board; }
+	/** Played cards, top (visible) first; public information, read by bots. */
+	public List<UnoCard> discardPile() { return deck.discardPileSnapshot(); }
+	public int drawPileSize() { return deck.remainingDraw(); }
 
 	/** Build a snapshot view for the given player id (full hand for self, counts for others). */
 	public UnoView buildView(String perspectivePlayerId) {
-		// Determine current player index by traversing snapshotOrder
-		var order = board.snapshotOrder();
+		// Players are listed clockwise starting at the current seat, so the current player is always index 0
+		int seats = board.size();
 		int currentIndex = 0;
-		for (int i=0;i<order.size();i++) if (order.get(i).getId().equals(board.currentPlayer().getId())) { currentIndex = i; break; }
 		UnoBoardView boardView = new UnoBoardView(
 			"UNO",
 			board.turnCount(),
@@ -250,8 +326,9 @@ public class UnoRuntimePhase extends RuntimePhase {
 			deck.remainingDraw(),
 			deck.discardSize()
 		);
-		java.util.List<UnoPlayerView> playerViews = new java.util.ArrayList<>();
-		for (var p : order) {
+		java.util.List<UnoPlayerView> playerViews = new java.util.ArrayList<>(seats);
+		for (int i = 0; i < seats; i++) {
+			var p = board.playerAt(i);
 			boolean self = p.getId().equals(perspectivePlayerId);
 			var hand = p.getHand();
 			java.util.List<String> handDisplays = self ? hand.view().stream().map(UnoCard::getDisplay).toList() : null;
@@ -266,7 +343,9 @@ public class UnoRuntimePhase extends RuntimePhase {
 	private void planTurn(UnoPlayer player) {
 		UnoCard top = board.lastPlayedCard();
 		UnoCard.Color active = board.activeColor();
-		UnoCard playable = player.getHand().view().stream().filter(c -> canPlay(c, top, active)).findFirst().orElse(null);
+		// O(1) counter check first; only scan (in hand order, so the choice stays the same) when something can be played
+		UnoCard playable = !player.getHand().hasPlayable(top, active) ? null
+			: player.getHand().view().stream().filter(c -> canPlay(c, top, active)).findFirst().orElse(null);
 		if (playable != null) {
 			queue.enqueue(new UnoPlayCardEvent(board, deck, player, playable));
 		} else {
@@ -325,4 +404,68 @@ public class UnoRuntimePhase extends RuntimePhase {
 		pendingDrawPenalty = 0;
 		pendingPenaltyType = null;
 	}
+
+	/** Capture the full game state (listener and transient queue excluded); call only between commands. */
+	public UnoSnapshot snapshot() {
+		List<UnoSnapshot.Seat> seats = new ArrayList<>(board.size());
+		for (int i = 0; i < board.size(); i++) {
+			UnoPlayer p = board.seatAt(i);
+			seats.add(new UnoSnapshot.Seat(p.getId(), p.isBot(), codes(p.getHand().view())));
+		}
+		UnoCard top = board.lastPlayedCard();
+		return new UnoSnapshot(
+			seats, board.currentSeat(), board.direction(), board.turnCount(),
+			codes(deck.drawPileSnapshot()), codes(deck.discardPileSnapshot()), deck.reshuffles(), deck.emptyDraws(),
+			top != null ? top.code() : null,
+			board.activeColor() != null ? board.activeColor().name() : null,
+			pendingDrawPenalty,
+			pendingPenaltyType != null ? pendingPenaltyType.name() : null,
+			pendingColorChooserPlayerId,
+			pendingAdvanceSteps,
+			winnerId,
+			actionLogSnapshot(), nextSeq,
+			deck.random().seed(), deck.random().state(),
+			stateVersion);
+	}
+
+	/** Rebuild a runtime from {@link #snapshot()} output; the turn listener must be reinstalled by the caller. */
+	public static UnoRuntimePhase restore(UnoSnapshot s) {
+		List<UnoPlayer> players = new ArrayList<>(s.seats().size());
+		for (UnoSnapshot.Seat seat : s.seats()) {
+			UnoPlayer p = seat.bot() ? new UnoBot(seat.id()) : new UnoPlayer(seat.id());
+			for (int code : seat.hand()) p.giveCard(UnoCard.fromCode(code));
+			players.add(p);
+		}
+		UnoDeck deck = new UnoDeck(RandomSource.restore(s.rngSeed(), s.rngState()));
+		deck.restore(cards(s.drawPile()), cards(s.discardPile()), s.reshuffles(), s.emptyDraws());
+		UnoBoard board = new UnoBoard(players);
+		board.restoreState(s.currentSeat(), s.direction(), s.turnCount());
+		board.setLastPlayedCard(s.lastPlayed() != null ? UnoCard.fromCode(s.lastPlayed()) : null);
+		board.setActiveColor(s.activeColor() != null ? UnoCard.Color.valueOf(s.activeColor()) : null);
+		UnoRuntimePhase runtime = new UnoRuntimePhase(deck, board, players);
+		runtime.pendingDrawPenalty = s.pendingDrawPenalty();
+		runtime.pendingPenaltyType = s.pendingPenaltyType() != null ? UnoCard.Type.valueOf(s.pendingPenaltyType()) : null;
+		runtime.pendingColorChooserPlayerId = s.pendingColorChooser();
+		runtime.pendingAdvanceSteps = s.pendingAdvanceSteps();
+		runtime.actionLog.addAll(s.actionLog());
+		runtime.nextSeq = s.nextSeq();
+		runtime.stateVersion = s.stateVersion();
+		if (s.winnerId() != null) {
+			runtime.winnerId = s.winnerId();
+			runtime.endingPhase = new UnoEndingPhase(board.find(s.winnerId()));
+		}
+		return runtime;
+	}
+
+	private static int[] codes(List<UnoCard> cards) {
+		int[] out = new int[cards.size()];
+		for (int i = 0; i < out.length; i++) out[i] = cards.get(i).code();
+		return out;
+	}
+
+	private static List<UnoCard> cards(int[] codes) {
+		List<UnoCard> out = new ArrayList<>(codes.length);
+		for (int code : codes) out.add(UnoCard.fromCode(code));
+		return out;
+	}
 }
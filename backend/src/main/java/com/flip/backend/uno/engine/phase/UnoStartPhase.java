@@ -1,6 +1,7 @@
 package com.flip.backend.uno.engine.phase;
 
 import com.flip.backend.game.engine.phase.StartPhase;
+import com.flip.backend.game.rng.RandomSource;
 import com.flip.backend.uno.entities.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -11,8 +12,12 @@ public class UnoStartPhase extends StartPhase {
 	private UnoDeck deck;
 	private UnoBoard board;
 	private List<UnoPlayer> players;
+	private final RandomSource random; // null -> deck default (fresh seed)
 
-	public UnoStartPhase(List<String> playerIds) { this.playerIds = playerIds; }
+	public UnoStartPhase(List<String> playerIds) { this(playerIds, null); }
+
+	/** Start phase whose deck shuffles from {@code random}, making the whole bot game reproducible. */
+	public UnoStartPhase(List<String> playerIds, RandomSource random) { this.playerIds = playerIds; this.random = random; }
 
 	public UnoDeck deck() { return deck; }
 	public UnoBoard board() { return board; }
@@ -21,7 +26,7 @@ public class UnoStartPhase extends StartPhase {
 	@Override
 	public void enter() {
 		// 1. Create and init deck
-		deck = new UnoDeck();
+		deck = random == null ? new UnoDeck() : new UnoDeck(random);
 		deck.initialize();
 
 		// 2. Create players (BOT id heuristic: id starts with "BOT" )
@@ -0,0 +1,38 @@
+package com.flip.backend.uno.engine.state;
+
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase.ActionLogEntry;
+import java.util.List;
+
+/**
+ * Complete, engine-independent state of a running UNO game, used to passivate idle games and rebuild them later.
+ * Cards are stored as {@link com.flip.backend.uno.entities.UnoCard#code()} values; seats are in table order.
+ */
+public record UnoSnapshot(
+    List<Seat> seats,
+    int currentSeat,
+    int direction,
+    long turnCount,
+    int[] drawPile,
+    int[] discardPile,
+    long reshuffles,
+    long emptyDraws,
+    Integer lastPlayed,
+    String activeColor,
+    int pendingDrawPenalty,
+    String pendingPenaltyType,
+    String pendingColorChooser,
+    int pendingAdvanceSteps,
+    String winnerId,
+    List<ActionLogEntry> actionLog,
+    long nextSeq,
+    Long rngSeed,
+    Long rngState,
+    long stateVersion
+) {
+    public record Seat(String id, boolean bot, int[] hand) {}
+
+    public UnoSnapshot {
+        seats = List.copyOf(seats);
+        actionLog = List.copyOf(actionLog);
+    }
+}
@@ -0,0 +1,107 @@
+package com.flip.backend.uno.engine.state;
+
+import com.flip.backend.game.codec.SnapshotReader;
+import com.flip.backend.game.codec.SnapshotWriter;
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase.ActionLogEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary form of {@link UnoSnapshot}. Cards are one-byte varint codes; enum values keep their names (as in the
+ * snapshot) so reordering an enum never corrupts stored games; action log sequence numbers and timestamps are
+ * delta encoded.
+ * <p>
+ * Version 2 appends the public state version; version 1 blobs decode with {@code nextSeq - 1} (every public
+ * change used to be logged), so clients holding an older view simply resync once.
+ */
+public final class UnoSnapshotCodec {
+    public static final int KIND = 1;
+    public static final int VERSION = 2;
+
+    private UnoSnapshotCodec() {}
+
+    public static byte[] encode(UnoSnapshot s) {
+        SnapshotWriter w = new SnapshotWriter(512).header(KIND, VERSION);
+        w.writeVarInt(s.seats().size());
+        for (UnoSnapshot.Seat seat : s.seats()) {
+            w.writeString(seat.id());
+            w.writeBoolean(seat.bot());
+            w.writeVarInts(seat.hand());
+        }
+        w.writeVarInt(s.currentSeat());
+        w.writeVarLong(s.direction());
+        w.writeVarLong(s.turnCount());
+        w.writeVarInts(s.drawPile());
+        w.writeVarInts(s.discardPile());
+        w.writeVarLong(s.reshuffles());
+        w.writeVarLong(s.emptyDraws());
+        w.writeVarInt(s.lastPlayed() == null ? 0 : s.lastPlayed() + 1);
+        w.writeString(s.activeColor());
+        w.writeVarInt(s.pendingDrawPenalty());
+        w.writeString(s.pendingPenaltyType());
+        w.writeString(s.pendingColorChooser());
+        w.writeVarInt(s.pendingAdvanceSteps());
+        w.writeString(s.winnerId());
+        w.writeVarInt(s.actionLog().size());
+        long prevSeq = 0, prevTs = 0;
+        for (ActionLogEntry e : s.actionLog()) {
+            w.writeVarLong(e.seq() - prevSeq);
+            w.writeVarLong(e.turnId());
+            w.writeString(e.type());
+            w.writeString(e.actorId());
+            w.writeString(e.text());
+            w.writeVarLong(e.ts() - prevTs);
+            prevSeq = e.seq();
+            prevTs = e.ts();
+        }
+        w.writeVarLong(s.nextSeq());
+        w.writeOptionalLong(s.rngSeed());
+        w.writeOptionalLong(s.rngState());
+        w.writeVarLong(s.stateVersion());
+        return w.toByteArray();
+    }
+
+    public static UnoSnapshot decode(byte[] blob) {
+        SnapshotReader r = new SnapshotReader(blob);
+        int version = r.header(KIND);
+        if (version < 1 || version > VERSION) throw new IllegalArgumentException("Unsupported UNO snapshot version " + version);
+        int n = r.count();
+        List<UnoSnapshot.Seat> seats = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) seats.add(new UnoSnapshot.Seat(r.readString(), r.readBoolean(), r.readVarInts()));
+        int currentSeat = r.readVarInt();
+        int direction = (int) r.readVarLong();
+        long turnCount = r.readVarLong();
+        int[] draw = r.readVarInts();
+        int[] discard = r.readVarInts();
+        long reshuffles = r.readVarLong();
+        long emptyDraws = r.readVarLong();
+        int top = r.readVarInt();
+        String activeColor = r.readString();
+        int penalty = r.readVarInt();
+        String penaltyType = r.readString();
+        String chooser = r.readString();
+        int advance = r.readVarInt();
+        String winner = r.readString();
+        int logSize = r.count();
+        List<ActionLogEntry> log = new ArrayList<>(logSize);
+        long seq = 0, ts = 0;
+        for (int i = 0; i < logSize; i++) {
+            seq += r.readVarLong();
+            long turnId = r.readVarLong();
+            String type = r.readString();
+            String actor = r.readString();
+            String text = r.readString();
+            ts += r.readVarLong();
+            log.add(new ActionLogEntry(seq, turnId, type, actor, text, ts));
+        }
+        long nextSeq = r.readVarLong();
+        Long rngSeed = r.readOptionalLong();
+        Long rngState = r.readOptionalLong();
+        long stateVersion = version >= 2 ? r.readVarLong() : nextSeq - 1;
+        if (!r.atEnd()) throw new IllegalArgumentException("Trailing bytes in UNO snapshot");
+        return new UnoSnapshot(seats, currentSeat, direction, turnCount, draw, discard, reshuffles, emptyDraws,
+            top == 0 ? null : top - 1, activeColor, penalty, penaltyType, chooser, advance, winner, log, nextSeq,
+            rngSeed, rngState, stateVersion);
+    }
+}
@@ -10,11 +10,66 @@ public class UnoCard extends Card {
 	private final Color color; // WILD for wild variants
 	private final Type type;
 	private final Integer number; // 0-9 if type == NUMBER else null
+	private final int id; // 0..107 for the canonical physical cards, -1 for ad-hoc cards built by the factories
 
-	private UnoCard(Color color, Type type, Integer number) {
+	/*
+	 * Physical card ids. Per colour (RED, YELLOW, GREEN, BLUE -> base 0, 25, 50, 75):
+	 *   +0 the single 0, +1..+18 numbers 1-9 (two copies each), +19/20 SKIP, +21/22 REVERSE, +23/24 DRAW_TWO.
+	 * 100..103 WILD, 104..107 WILD_DRAW_FOUR.
+	 */
+	public static final int PHYSICAL_COUNT = 108;
+	private static final int PER_COLOR = 25;
+	private static final int WILD_BASE = 100;
+	private static final int WILD_DRAW_FOUR_BASE = 104;
+	private static final UnoCard[] PHYSICAL = new UnoCard[PHYSICAL_COUNT];
+	static {
+		for (int id = 0; id < PHYSICAL_COUNT; id++) PHYSICAL[id] = fromId(id);
+	}
+
+	private UnoCard(Color color, Type type, Integer number) { this(color, type, number, -1); }
+
+	private UnoCard(Color color, Type type, Integer number, int id) {
 		this.color = Objects.requireNonNull(color);
 		this.type = Objects.requireNonNull(type);
 		this.number = number;
+		this.id = id;
+	}
+
+	private static UnoCard fromId(int id) {
+		if (id >= WILD_DRAW_FOUR_BASE) return new UnoCard(Color.WILD, Type.WILD_DRAW_FOUR, null, id);
+		if (id >= WILD_BASE) return new UnoCard(Color.WILD, Type.WILD, null, id);
+		Color color = Color.values()[id / PER_COLOR];
+		int slot = id % PER_COLOR;
+		if (slot == 0) return new UnoCard(color, Type.NUMBER, 0, id);
+		if (slot <= 18) return new UnoCard(color, Type.NUMBER, (slot + 1) / 2, id);
+		Type type = slot <= 20 ? Type.SKIP : slot <= 22 ? Type.REVERSE : Type.DRAW_TWO;
+		return new UnoCard(color, type, null, id);
+	}
+
+	/** The canonical (shared, immutable) instance of physical card {@code id}. */
+	public static UnoCard physical(int id) {
+		if (id < 0 || id >= PHYSICAL_COUNT) throw new IllegalArgumentException("Physical card id must be 0-107");
+		return PHYSICAL[id];
+	}
+
+	/**
+	 * First physical id of the given face; copies occupy {@link #physicalCopies} consecutive ids.
+	 * Color is ignored for wild types.
+	 */
+	public static int physicalBase(Color color, Type type, Integer number) {
+		return switch (type) {
+			case WILD -> WILD_BASE;
+			case WILD_DRAW_FOUR -> WILD_DRAW_FOUR_BASE;
+			case NUMBER -> color.ordinal() * PER_COLOR + (number == 0 ? 0 : 2 * number - 1);
+			case SKIP -> color.ordinal() * PER_COLOR + 19;
+			case REVERSE -> color.ordinal() * PER_COLOR + 21;
+			case DRAW_TWO -> color.ordinal() * PER_COLOR + 23;
+		};
+	}
+
+	public static int physicalCopies(Type type, Integer number) {
+		if (type == Type.WILD || type == Type.WILD_DRAW_FOUR) return 4;
+		return type == Type.NUMBER && number == 0 ? 1 : 2;
 	}
 
 	public static UnoCard number(Color color, int num) {
@@ -31,6 +86,30 @@ public class UnoCard extends Card {
 	public Color getColor() { return color; }
 	public Type getType() { return type; }
 	public Integer getNumber() { return number; }
+	public int id() { return id; }
+	public boolean isPhysical() { return id >= 0; }
+
+	private static final int LOOSE_BASE = 128;
+
+	/**
+	 * Compact persistent code: the physical id (0..107), or {@code 128 + face} for ad-hoc cards so they survive a
+	 * snapshot round trip as an equivalent (new) instance.
+	 */
+	public int code() {
+		if (id >= 0) return id;
+		return LOOSE_BASE + (color.ordinal() * Type.values().length + type.ordinal()) * 10 + (number == null ? 0 : number);
+	}
+
+	public static UnoCard fromCode(int code) {
+		if (code >= 0 && code < PHYSICAL_COUNT) return PHYSICAL[code];
+		if (code < LOOSE_BASE) throw new IllegalArgumentException("Bad card code " + code);
+		int face = code - LOOSE_BASE;
+		int number = face % 10;
+		int kind = face / 10;
+		Color color = Color.values()[kind / Type.values().length];
+		Type type = Type.values()[kind % Type.values().length];
+		return new UnoCard(color, type, type == Type.NUMBER ? number : null);
+	}
 
 	@Override
 	public String getDisplay() {
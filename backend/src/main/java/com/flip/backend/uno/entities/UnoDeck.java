@@ -1,33 +1,44 @@
 package com.flip.backend.uno.entities;
 
 import com.flip.backend.game.entities.Deck;
+import com.flip.backend.game.rng.RandomSource;
 import java.util.ArrayList;
 import java.util.List;
 
 public class UnoDeck extends Deck<UnoCard> {
 
+	public UnoDeck() { super(); }
+
+	/** Deck shuffled from the given source (per-game seeded or secure). */
+	public UnoDeck(RandomSource random) { super(random); }
+
 	@Override
 	protected List<UnoCard> buildInitialCards() {
-		List<UnoCard> cards = new ArrayList<>(108);
+		List<UnoCard> cards = new ArrayList<>(UnoCard.PHYSICAL_COUNT);
 		// For each color add number cards: one 0, two of 1-9, two each of skip, reverse, draw two
 		for (UnoCard.Color color : List.of(UnoCard.Color.RED, UnoCard.Color.YELLOW, UnoCard.Color.GREEN, UnoCard.Color.BLUE)) {
-			cards.add(UnoCard.number(color, 0));
+			cards.add(physical(color, UnoCard.Type.NUMBER, 0, 0));
 			for (int i = 1; i <= 9; i++) {
-				cards.add(UnoCard.number(color, i));
-				cards.add(UnoCard.number(color, i));
+				cards.add(physical(color, UnoCard.Type.NUMBER, i, 0));
+				cards.add(physical(color, UnoCard.Type.NUMBER, i, 1));
 			}
 			// action cards (2 each per color)
 			for (int i = 0; i < 2; i++) {
-				cards.add(UnoCard.skip(color));
-				cards.add(UnoCard.reverse(color));
-				cards.add(UnoCard.drawTwo(color));
+				cards.add(physical(color, UnoCard.Type.SKIP, null, i));
+				cards.add(physical(color, UnoCard.Type.REVERSE, null, i));
+				cards.add(physical(color, UnoCard.Type.DRAW_TWO, null, i));
 			}
 		}
 		// 4 Wild and 4 Wild Draw Four
 		for (int i = 0; i < 4; i++) {
-			cards.add(UnoCard.wild());
-			cards.add(UnoCard.wildDrawFour());
+			cards.add(physical(UnoCard.Color.WILD, UnoCard.Type.WILD, null, i));
+			cards.add(physical(UnoCard.Color.WILD, UnoCard.Type.WILD_DRAW_FOUR, null, i));
 		}
 		return cards;
 	}
+
+	/** Canonical card instance (stable small-int id); build order above is kept stable so seeded shuffles replay. */
+	private static UnoCard physical(UnoCard.Color color, UnoCard.Type type, Integer number, int copy) {
+		return UnoCard.physical(UnoCard.physicalBase(color, type, number) + copy);
+	}
 }
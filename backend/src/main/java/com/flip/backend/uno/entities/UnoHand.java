@@ -2,8 +2,134 @@ package com.flip.backend.uno.entities;
 
 import com.flip.backend.game.entities.Hand;
 
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * UNO hand. The inherited list keeps play/draw order (what the UI shows); alongside it the hand keeps
+ * <ul>
+ *   <li>a 108-bit set over physical card ids ({@link UnoCard#id()}) for O(1) membership and face lookup,</li>
+ *   <li>per colour / type / number counters so "is anything playable" is a handful of array reads.</li>
+ * </ul>
+ * Ad-hoc cards without a physical id (tests, custom decks) are tracked in a small side list and still counted.
+ */
 public class UnoHand extends Hand<UnoCard> {
+	private static final UnoCard.Color[] COLORS = UnoCard.Color.values();
+
+	private final long[] bits = new long[(UnoCard.PHYSICAL_COUNT + 63) >>> 6];
+	private final List<UnoCard> loose = new ArrayList<>(0);
+	private final int[] colorCount = new int[COLORS.length];
+	private final int[] typeCount = new int[UnoCard.Type.values().length];
+	private final int[] numberCount = new int[10];
+
+	@Override
+	public void add(UnoCard card) {
+		if (card == null) return;
+		cards.add(card);
+		index(card, 1);
+	}
+
+	@Override
+	public void addAll(List<UnoCard> more) {
+		if (more != null) for (UnoCard c : more) add(c);
+	}
+
+	@Override
+	public boolean remove(UnoCard card) {
+		if (card == null || !contains(card)) return false;
+		cards.remove(card);
+		index(card, -1);
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		cards.clear();
+		loose.clear();
+		java.util.Arrays.fill(bits, 0L);
+		java.util.Arrays.fill(colorCount, 0);
+		java.util.Arrays.fill(typeCount, 0);
+		java.util.Arrays.fill(numberCount, 0);
+	}
+
+	private void index(UnoCard c, int delta) {
+		int id = c.id();
+		if (id >= 0) {
+			if (delta > 0) bits[id >>> 6] |= 1L << id; else bits[id >>> 6] &= ~(1L << id);
+		} else if (delta > 0) {
+			loose.add(c);
+		} else {
+			loose.remove(c);
+		}
+		colorCount[c.getColor().ordinal()] += delta;
+		typeCount[c.getType().ordinal()] += delta;
+		if (c.getType() == UnoCard.Type.NUMBER) numberCount[c.getNumber()] += delta;
+	}
+
+	private boolean hasId(int id) { return (bits[id >>> 6] & (1L << id)) != 0; }
+
+	public boolean contains(UnoCard card) {
+		if (card == null) return false;
+		return card.id() >= 0 ? hasId(card.id()) : loose.contains(card);
+	}
+
+	public int countOf(UnoCard.Color color) { return colorCount[color.ordinal()]; }
+	public int countOf(UnoCard.Type type) { return typeCount[type.ordinal()]; }
+	public int countOfNumber(int number) { return numberCount[number]; }
+
+	/**
+	 * Any card in hand with the given face; {@code color} null matches any colour (and is ignored for wild types).
+	 */
+	public UnoCard find(UnoCard.Color color, UnoCard.Type type, Integer number) {
+		if (type == UnoCard.Type.NUMBER && (number == null || number < 0 || number > 9)) return null;
+		if (color == UnoCard.Color.WILD && type != UnoCard.Type.WILD && type != UnoCard.Type.WILD_DRAW_FOUR) return null;
+		boolean wildType = type == UnoCard.Type.WILD || type == UnoCard.Type.WILD_DRAW_FOUR;
+		int copies = UnoCard.physicalCopies(type, number);
+		for (int ci = 0; ci < 4; ci++) { // coloured suits only; wild types probe a single range
+			UnoCard.Color col = wildType ? UnoCard.Color.WILD : COLORS[ci];
+			if (!wildType && color != null && color != col) continue;
+			int base = UnoCard.physicalBase(col, type, number);
+			for (int id = base; id < base + copies; id++) {
+				if (hasId(id)) return UnoCard.physical(id);
+			}
+			if (wildType) break;
+		}
+		for (UnoCard c : loose) {
+			if (c.getType() != type) continue;
+			if (type == UnoCard.Type.NUMBER && !c.getNumber().equals(number)) continue;
+			if (!wildType && color != null && c.getColor() != color) continue;
+			return c;
+		}
+		return null;
+	}
+
+	/** True if at least one card could legally follow {@code top} under {@code activeColor} (same rules as the runtime). */
+	public boolean hasPlayable(UnoCard top, UnoCard.Color activeColor) {
+		if (cards.isEmpty()) return false;
+		if (typeCount[UnoCard.Type.WILD.ordinal()] + typeCount[UnoCard.Type.WILD_DRAW_FOUR.ordinal()] > 0) return true;
+		if (top == null) return true;
+		if (activeColor != null && activeColor != UnoCard.Color.WILD && colorCount[activeColor.ordinal()] > 0) return true;
+		if (top.getType() == UnoCard.Type.NUMBER) return numberCount[top.getNumber()] > 0;
+		return typeCount[top.getType().ordinal()] > 0;
+	}
+
+	/**
+	 * Colour holding most cards (ties -> enum order RED, YELLOW, GREEN, BLUE), or null if only wilds remain.
+	 */
+	public UnoCard.Color dominantColor() {
+		UnoCard.Color best = null;
+		int bestCount = 0;
+		for (int ci = 0; ci < 4; ci++) {
+			if (colorCount[ci] > bestCount) { bestCount = colorCount[ci]; best = COLORS[ci]; }
+		}
+		return best;
+	}
+
 	public boolean removeByDisplay(String display) {
-		return cards.removeIf(c -> c.getDisplay().equals(display));
+		boolean removed = false;
+		for (UnoCard c : new ArrayList<>(cards)) {
+			if (c.getDisplay().equals(display)) removed |= remove(c);
+		}
+		return removed;
 	}
 }
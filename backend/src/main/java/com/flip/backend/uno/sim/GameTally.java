@@ -0,0 +1,28 @@
+package com.flip.backend.uno.sim;
+
+/** Mutable per-task accumulator; leaf tasks fill one each and parents merge them. */
+final class GameTally {
+	final long[] turnHistogram; // index = turns taken by a finished game
+	final long[] winsBySeat;
+	long games;
+	long aborted;          // hit the turn cap without a winner
+	long exhaustedGames;   // at least one draw found draw + discard piles empty
+	long reshuffledGames;  // at least one discard reshuffle
+	long reshuffles;
+
+	GameTally(int players, int maxTurns) {
+		this.turnHistogram = new long[maxTurns + 1];
+		this.winsBySeat = new long[players];
+	}
+
+	GameTally merge(GameTally o) {
+		for (int i = 0; i < turnHistogram.length; i++) turnHistogram[i] += o.turnHistogram[i];
+		for (int i = 0; i < winsBySeat.length; i++) winsBySeat[i] += o.winsBySeat[i];
+		games += o.games;
+		aborted += o.aborted;
+		exhaustedGames += o.exhaustedGames;
+		reshuffledGames += o.reshuffledGames;
+		reshuffles += o.reshuffles;
+		return this;
+	}
+}
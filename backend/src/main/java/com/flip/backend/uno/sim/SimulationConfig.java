@@ -0,0 +1,26 @@
+package com.flip.backend.uno.sim;
+
+/**
+ * Parameters of a self-play run.
+ *
+ * @param games       number of bot-vs-bot games to play
+ * @param players     seats per game (all bots)
+ * @param seed        master seed; game {@code i} derives its own seed from it, so a run is reproducible
+ * @param maxTurns    turn cap after which a game is recorded as aborted (guards against stalled tables)
+ * @param parallelism fork-join worker count
+ */
+public record SimulationConfig(long games, int players, long seed, int maxTurns, int parallelism) {
+
+	public static final int DEFAULT_MAX_TURNS = 5_000;
+
+	public SimulationConfig {
+		if (games < 1) throw new IllegalArgumentException("games must be >= 1");
+		if (players < 2 || players > 10) throw new IllegalArgumentException("players must be 2..10");
+		if (maxTurns < 1) throw new IllegalArgumentException("maxTurns must be >= 1");
+		if (parallelism < 1) throw new IllegalArgumentException("parallelism must be >= 1");
+	}
+
+	public static SimulationConfig of(long games, int players, long seed) {
+		return new SimulationConfig(games, players, seed, DEFAULT_MAX_TURNS, Runtime.getRuntime().availableProcessors());
+	}
+}
@@ -0,0 +1,77 @@
+package com.flip.backend.uno.sim;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Aggregated outcome of a self-play run. Turn statistics only cover finished (non-aborted) games.
+ */
+public record SimulationReport(
+		SimulationConfig config,
+		long games,
+		long aborted,
+		long[] winsBySeat,
+		long[] turnHistogram,
+		long exhaustedGames,
+		long reshuffledGames,
+		long reshuffles,
+		long elapsedNanos) {
+
+	static SimulationReport of(SimulationConfig config, GameTally t, long elapsedNanos) {
+		return new SimulationReport(config, t.games, t.aborted, t.winsBySeat, t.turnHistogram,
+				t.exhaustedGames, t.reshuffledGames, t.reshuffles, elapsedNanos);
+	}
+
+	public long finished() { return games - aborted; }
+
+	public double gamesPerSecond() {
+		return elapsedNanos == 0 ? 0 : games * 1_000_000_000.0 / elapsedNanos;
+	}
+
+	public double winRate(int seat) { return finished() == 0 ? 0 : (double) winsBySeat[seat] / finished(); }
+
+	public double exhaustionRate() { return games == 0 ? 0 : (double) exhaustedGames / games; }
+
+	public double meanTurns() {
+		long n = 0, sum = 0;
+		for (int t = 0; t < turnHistogram.length; t++) { n += turnHistogram[t]; sum += t * turnHistogram[t]; }
+		return n == 0 ? 0 : (double) sum / n;
+	}
+
+	/** Turn count at quantile {@code q} (0..1] of finished games, -1 if none finished. */
+	public int turnPercentile(double q) {
+		long n = finished();
+		if (n == 0) return -1;
+		long rank = Math.max(1, (long) Math.ceil(q * n));
+		long seen = 0;
+		for (int t = 0; t < turnHistogram.length; t++) {
+			seen += turnHistogram[t];
+			if (seen >= rank) return t;
+		}
+		return turnHistogram.length - 1;
+	}
+
+	/** Same run outcome (ignores wall-clock timing); used to check reproducibility. */
+	public boolean sameOutcome(SimulationReport o) {
+		return games == o.games && aborted == o.aborted && exhaustedGames == o.exhaustedGames
+				&& reshuffledGames == o.reshuffledGames && reshuffles == o.reshuffles
+				&& Arrays.equals(winsBySeat, o.winsBySeat) && Arrays.equals(turnHistogram, o.turnHistogram);
+	}
+
+	public String format() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format(Locale.ROOT, "UNO self-play: %d games, %d players, seed %d, %d threads%n",
+				games, config.players(), config.seed(), config.parallelism()));
+		sb.append(String.format(Locale.ROOT, "  throughput : %.0f games/s (%.2f s)%n", gamesPerSecond(), elapsedNanos / 1e9));
+		sb.append(String.format(Locale.ROOT, "  turns      : mean %.1f  p50 %d  p90 %d  p99 %d  max %d%n",
+				meanTurns(), turnPercentile(0.5), turnPercentile(0.9), turnPercentile(0.99), turnPercentile(1.0)));
+		sb.append(String.format(Locale.ROOT, "  aborted    : %d (turn cap %d)%n", aborted, config.maxTurns()));
+		sb.append(String.format(Locale.ROOT, "  deck       : %.2f%% games reshuffled (%d reshuffles), %.4f%% games exhausted%n",
+				games == 0 ? 0 : 100.0 * reshuffledGames / games, reshuffles, 100 * exhaustionRate()));
+		sb.append("  wins/seat  :");
+		for (int s = 0; s < winsBySeat.length; s++) {
+			sb.append(String.format(Locale.ROOT, " #%d %.2f%%", s, 100 * winRate(s)));
+		}
+		return sb.append(System.lineSeparator()).toString();
+	}
+}
@@ -0,0 +1,89 @@
+package com.flip.backend.uno.sim;
+
+import com.flip.backend.game.rng.RandomSource;
+import com.flip.backend.game.rng.SplitMix64;
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.engine.phase.UnoStartPhase;
+import com.flip.backend.uno.entities.UnoDeck;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Headless bot-vs-bot UNO self-play across all cores.
+ * <p>
+ * Game indices are split recursively over a {@link ForkJoinPool}; every game builds its own engine from a seed
+ * derived from (master seed, index), so results do not depend on thread count or scheduling.
+ */
+public final class UnoSimulator {
+
+	/** Games per leaf task; large enough to amortise task overhead, small enough to balance. */
+	static final int LEAF_GAMES = 256;
+
+	public SimulationReport run(SimulationConfig config) {
+		ForkJoinPool pool = new ForkJoinPool(config.parallelism());
+		try {
+			long start = System.nanoTime();
+			GameTally tally = pool.invoke(new Batch(config, 0, config.games()));
+			return SimulationReport.of(config, tally, System.nanoTime() - start);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/** Play one seeded game into {@code tally}. */
+	static void playGame(SimulationConfig config, long index, GameTally tally) {
+		UnoStartPhase start = new UnoStartPhase(seatIds(config.players()), RandomSource.seeded(gameSeed(config.seed(), index)));
+		start.enter();
+		UnoRuntimePhase runtime = start.transit();
+		while (runtime.winnerId() == null && start.board().turnCount() < config.maxTurns()) {
+			runtime.runSingleTurn();
+		}
+		UnoDeck deck = start.deck();
+		tally.games++;
+		if (deck.emptyDraws() > 0) tally.exhaustedGames++;
+		if (deck.reshuffles() > 0) tally.reshuffledGames++;
+		tally.reshuffles += deck.reshuffles();
+		String winner = runtime.winnerId();
+		if (winner == null) {
+			tally.aborted++;
+			return;
+		}
+		tally.winsBySeat[Integer.parseInt(winner.substring(3))]++;
+		tally.turnHistogram[(int) Math.min(start.board().turnCount(), config.maxTurns())]++;
+	}
+
+	/** SplitMix64 finaliser over (seed, index) so neighbouring games get unrelated shuffles. */
+	static long gameSeed(long seed, long index) {
+		return SplitMix64.mix(seed + (index + 1) * 0x9E3779B97F4A7C15L);
+	}
+
+	private static List<String> seatIds(int players) {
+		List<String> ids = new ArrayList<>(players);
+		for (int i = 0; i < players; i++) ids.add("BOT" + i); // BOT prefix -> UnoBot seats
+		return ids;
+	}
+
+	private static final class Batch extends RecursiveTask<GameTally> {
+		private final SimulationConfig config;
+		private final long from, to;
+
+		Batch(SimulationConfig config, long from, long to) { this.config = config; this.from = from; this.to = to; }
+
+		@Override
+		protected GameTally compute() {
+			if (to - from <= LEAF_GAMES) {
+				GameTally tally = new GameTally(config.players(), config.maxTurns());
+				for (long i = from; i < to; i++) playGame(config, i, tally);
+				return tally;
+			}
+			long mid = (from + to) >>> 1;
+			Batch left = new Batch(config, from, mid);
+			left.fork();
+			GameTally right = new Batch(config, mid, to).compute();
+			return right.merge(left.join());
+		}
+	}
+}
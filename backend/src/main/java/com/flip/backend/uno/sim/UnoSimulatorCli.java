@@ -0,0 +1,35 @@
+package com.flip.backend.uno.sim;
+
+/**
+ * Command line entry for {@link UnoSimulator}; wired to {@code ./gradlew simulateUno}.
+ * <pre>
+ *   --games=1000000 --players=4 --seed=42 --threads=8 --max-turns=5000
+ * </pre>
+ */
+public final class UnoSimulatorCli {
+
+	private UnoSimulatorCli() {}
+
+	public static void main(String[] args) {
+		long games = 100_000;
+		int players = 4;
+		long seed = System.nanoTime();
+		int threads = Runtime.getRuntime().availableProcessors();
+		int maxTurns = SimulationConfig.DEFAULT_MAX_TURNS;
+		for (String arg : args) {
+			int eq = arg.indexOf('=');
+			String key = eq < 0 ? arg : arg.substring(0, eq);
+			String value = eq < 0 ? "" : arg.substring(eq + 1);
+			switch (key) {
+				case "--games" -> games = Long.parseLong(value.replace("_", ""));
+				case "--players" -> players = Integer.parseInt(value);
+				case "--seed" -> seed = Long.parseLong(value);
+				case "--threads" -> threads = Integer.parseInt(value);
+				case "--max-turns" -> maxTurns = Integer.parseInt(value);
+				default -> throw new IllegalArgumentException("Unknown option: " + arg);
+			}
+		}
+		SimulationConfig config = new SimulationConfig(games, players, seed, maxTurns, threads);
+		System.out.print(new UnoSimulator().run(config).format());
+	}
+}
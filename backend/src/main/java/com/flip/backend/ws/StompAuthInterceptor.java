@@ -0,0 +1,54 @@
+package com.flip.backend.ws;
+
+import com.flip.backend.persistence.UserEntity;
+import com.flip.backend.persistence.UserRepository;
+import com.flip.backend.security.JwtService;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Authenticates a STOMP connection once, on CONNECT ({@code Authorization: Bearer <jwt>} native header), so
+ * commands sent over it carry the user without a token parse or user lookup per message: the principal's details
+ * hold the user id, which is what seats are bound to. A CONNECT without a token, or with one that does not parse,
+ * is refused.
+ */
+@Component
+public class StompAuthInterceptor implements ChannelInterceptor {
+    private final JwtService jwtService;
+    private final UserDetailsService uds;
+    private final UserRepository users;
+
+    public StompAuthInterceptor(JwtService jwtService, UserDetailsService uds, UserRepository users) {
+        this.jwtService = jwtService;
+        this.uds = uds;
+        this.users = users;
+    }
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) return message;
+        String auth = accessor.getFirstNativeHeader("Authorization");
+        if (!StringUtils.hasText(auth) || !auth.startsWith("Bearer ")) throw new MessagingException(message, "Authentication required");
+        try {
+            String email = jwtService.parse(auth.substring(7)).getBody().getSubject();
+            var userDetails = uds.loadUserByUsername(email);
+            var principal = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            principal.setDetails(users.findByEmail(email).map(UserEntity::getId).orElseThrow());
+            accessor.setUser(principal);
+        } catch (Exception e) {
+            throw new MessagingException(message, "Invalid token", e);
+        }
+        return message;
+    }
+}
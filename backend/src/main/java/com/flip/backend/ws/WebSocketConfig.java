@@ -2,12 +2,19 @@ package com.flip.backend.ws;
 
 import org.springframework.lang.NonNull;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.*;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private final StompAuthInterceptor auth;
+
+    public WebSocketConfig(StompAuthInterceptor auth) {
+        this.auth = auth;
+    }
+
     @Override public void configureMessageBroker(@NonNull MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic", "/queue");
         config.setApplicationDestinationPrefixes("/app");
@@ -15,4 +22,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override public void registerStompEndpoints(@NonNull StompEndpointRegistry registry) {
         registry.addEndpoint("/ws").setAllowedOriginPatterns("*");
     }
+    @Override public void configureClientInboundChannel(@NonNull ChannelRegistration registration) {
+        registration.interceptors(auth);
+    }
 }
@@ -0,0 +1,2 @@
+-- Seed of the game's shuffle RNG (NULL when the game ran in secure mode and cannot be replayed).
+ALTER TABLE games ADD COLUMN IF NOT EXISTS rng_seed BIGINT;
@@ -0,0 +1,2 @@
+-- Binary engine snapshot written by the snapshot codec (state_json remains as an optional debug rendering).
+ALTER TABLE games ADD COLUMN IF NOT EXISTS state_blob BYTEA;
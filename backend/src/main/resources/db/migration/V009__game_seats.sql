@@ -0,0 +1,9 @@
+-- Which user holds each human seat of a game; recorded at start and used to authorise private hand views.
+CREATE TABLE IF NOT EXISTS game_seats (
+    id BIGSERIAL PRIMARY KEY,
+    game_id TEXT NOT NULL REFERENCES games(id) ON DELETE CASCADE,
+    player_id TEXT NOT NULL,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    UNIQUE(game_id, player_id),
+    UNIQUE(game_id, user_id)
+);
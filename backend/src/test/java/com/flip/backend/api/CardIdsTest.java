@@ -0,0 +1,61 @@
+package com.flip.backend.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CardIdsTest {
+
+    @Test
+    void everyUnoFaceRoundTrips() {
+        Set<Integer> seen = new HashSet<>();
+        for (String color : List.of("RED", "YELLOW", "GREEN", "BLUE")) {
+            for (String value : List.of("0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "SKIP", "REVERSE", "DRAW_TWO")) {
+                int id = CardIds.uno(color + " " + value);
+                assertArrayEquals(new String[] { color, value }, CardIds.unoFace(id));
+                assertTrue(seen.add(id));
+            }
+        }
+        assertArrayEquals(new String[] { null, "WILD" }, CardIds.unoFace(CardIds.uno("WILD")));
+        assertArrayEquals(new String[] { null, "WILD_DRAW_FOUR" }, CardIds.unoFace(CardIds.uno("WILD_DRAW_FOUR")));
+        assertEquals(52, seen.size());
+        assertThrows(IllegalArgumentException.class, () -> CardIds.uno("PURPLE 5"));
+        assertThrows(IllegalArgumentException.class, () -> CardIds.unoFace(54));
+    }
+
+    @Test
+    void dvcFacesAreDistinct() {
+        Set<Integer> seen = new HashSet<>();
+        for (String color : List.of("BLACK", "WHITE")) {
+            for (int n = 0; n <= 11; n++) assertTrue(seen.add(CardIds.dvc(color + " " + n)));
+            assertTrue(seen.add(CardIds.dvc(color + " -")));
+            assertTrue(seen.add(CardIds.dvc(color + " ≤")));
+        }
+        assertEquals(28, seen.size());
+        assertEquals(CardIds.DVC_HIDDEN, CardIds.dvc("BLACK ≤"));
+        assertThrows(IllegalArgumentException.class, () -> CardIds.dvc("BLACK 12"));
+    }
+
+    @Test
+    void compactUnoReplacesCardsWithoutTouchingTheInput() {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("currentPlayerId", "P1_A");
+        view.put("top", UnoViewDeltas.card("RED 5"));
+        view.put("hand", List.of(UnoViewDeltas.card("WILD"), UnoViewDeltas.card("BLUE SKIP")));
+        view.put("events", List.of(Map.of("id", 3L, "card", UnoViewDeltas.card("GREEN 0"))));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> compact = (Map<String, Object>) CardIds.compactUno(view);
+        assertEquals("P1_A", compact.get("currentPlayerId"));
+        assertEquals(5, compact.get("top"));
+        assertEquals(List.of(CardIds.UNO_WILD, 3 * 13 + 10), compact.get("hand"));
+        assertEquals(2 * 13, ((Map<?, ?>) ((List<?>) compact.get("events")).get(0)).get("card"));
+        assertEquals(UnoViewDeltas.card("RED 5"), view.get("top"), "shared views stay as they were");
+    }
+}
@@ -0,0 +1,123 @@
+package com.flip.backend.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flip.backend.dvc.engine.DVCGameRegistry;
+import com.flip.backend.dvc.engine.DVCStartRegistry;
+import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
+import com.flip.backend.dvc.engine.phase.DVCStartPhase;
+import com.flip.backend.game.rng.RandomSource;
+import com.flip.backend.service.game.DVCBotTurns;
+import com.flip.backend.service.game.GameActorService;
+import com.flip.backend.service.game.GameStateStore;
+import com.flip.backend.service.game.GameWriteBehind;
+import com.flip.backend.uno.engine.UnoGameRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DVCControllerBatchTest {
+    private static final String GAME = "g";
+
+    private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+    private final GameActorService actors = new GameActorService(1, 64);
+    private final GameWriteBehind writeBehind = new GameWriteBehind(new JdbcTemplate(), meters, 500);
+    private final GameStateStore states = new GameStateStore(null, new ObjectMapper(), writeBehind, false);
+    private final DVCGameRegistry registry = new DVCGameRegistry();
+    private final DVCController controller = new DVCController(registry, new DVCStartRegistry(), null,
+        new DvcWsService(new SimpMessagingTemplate((message, timeout) -> true),
+            new ViewProjections(new UnoGameRegistry(), registry, meters), new ObjectMapper(), new StompSubscriptions()),
+        actors, states, new DVCBotTurns(registry, actors, states, meters, Duration.ZERO, Duration.ZERO));
+    private final DVCRuntimePhase rt;
+    private final String first;
+    private final String second;
+
+    public DVCControllerBatchTest() {
+        rt = newGame();
+        registry.put(GAME, rt);
+        first = rt.board().currentPlayer().getId();
+        second = first.equals("P1_ANN") ? "P2_BOB" : "P1_ANN";
+    }
+
+    /** Two settled humans; the same seed always deals the same game. */
+    private static DVCRuntimePhase newGame() {
+        List<String> ids = List.of("P1_ANN", "P2_BOB");
+        DVCStartPhase start = new DVCStartPhase(ids, RandomSource.seeded(11));
+        start.enter();
+        ids.forEach(start::settled);
+        DVCRuntimePhase runtime = start.transit();
+        runtime.enter();
+        return runtime;
+    }
+
+    private static DVCController.DvcStep drawColor(String playerId, String color) {
+        return new DVCController.DvcStep("DRAW_COLOR", playerId, color, null, null, false, null, null, null, null, null);
+    }
+
+    /** A number guess on the other player's first card (legal whenever a guess is awaited). */
+    private DVCController.DvcStep guess(String playerId) {
+        String target = playerId.equals(first) ? second : first;
+        return new DVCController.DvcStep("GUESS", playerId, null, target, 0, false, 5, null, null, null, null);
+    }
+
+    private ResponseEntity<DVCController.BatchResult> batch(List<DVCController.DvcStep> steps) throws Exception {
+        return controller.batch(GAME, steps).get(10, TimeUnit.SECONDS);
+    }
+
+    private DVCRuntimePhase.Awaiting awaiting() throws Exception {
+        return actors.submit(GAME, rt::awaiting).get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void aRejectedMiddleStepKeepsTheOnesBeforeItAndSkipsTheRest() throws Exception {
+        assertEquals(DVCRuntimePhase.Awaiting.DRAW_COLOR, awaiting());
+        long version = rt.stateVersion();
+        // the second colour draw is rejected (a guess is awaited now), so the guess after it never runs
+        var res = batch(List.of(drawColor(first, "WHITE"), drawColor(first, "BLACK"), guess(first)));
+        assertEquals(200, res.getStatusCode().value());
+        assertEquals(new DVCController.BatchResult(false, 1), res.getBody());
+        assertEquals(DVCRuntimePhase.Awaiting.GUESS_SELECTION, awaiting());
+        assertEquals(version + 1, rt.stateVersion());
+        assertNotNull(writeBehind.pending(GAME), "the applied prefix is staged");
+    }
+
+    @Test
+    void stepsRunInTheirGivenOrder() throws Exception {
+        var res = batch(List.of(drawColor(first, "BLACK"), guess(first)));
+        assertEquals(new DVCController.BatchResult(true, 2), res.getBody());
+        assertNotEquals(DVCRuntimePhase.Awaiting.GUESS_SELECTION, awaiting());
+
+        // out of order: the guess comes before its draw and is rejected, so the draw is not applied either
+        DVCRuntimePhase fresh = newGame();
+        actors.submit(GAME, () -> { registry.put(GAME, fresh); return null; }).get(10, TimeUnit.SECONDS);
+        long version = fresh.stateVersion();
+        res = batch(List.of(guess(first), drawColor(first, "BLACK")));
+        assertEquals(new DVCController.BatchResult(false, 0), res.getBody());
+        assertEquals(DVCRuntimePhase.Awaiting.DRAW_COLOR, actors.submit(GAME, fresh::awaiting).get(10, TimeUnit.SECONDS));
+        assertEquals(version, fresh.stateVersion());
+    }
+
+    @Test
+    void batchesAreLimitedToMaxBatch() throws Exception {
+        long version = rt.stateVersion();
+        List<DVCController.DvcStep> tooMany = new ArrayList<>();
+        for (int i = 0; i <= DVCController.MAX_BATCH; i++) tooMany.add(drawColor(first, "WHITE"));
+        assertEquals(400, batch(tooMany).getStatusCode().value());
+        assertEquals(400, batch(List.of()).getStatusCode().value());
+        assertEquals(400, batch(null).getStatusCode().value());
+        assertEquals(version, rt.stateVersion(), "a rejected batch runs nothing");
+        assertNull(writeBehind.pending(GAME));
+
+        // MAX_BATCH steps are accepted and run up to the first rejected one
+        var res = batch(tooMany.subList(0, DVCController.MAX_BATCH));
+        assertEquals(new DVCController.BatchResult(false, 1), res.getBody());
+    }
+}
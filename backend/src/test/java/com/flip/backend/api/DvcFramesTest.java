@@ -0,0 +1,102 @@
+package com.flip.backend.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
+import com.flip.backend.dvc.engine.phase.DVCStartPhase;
+import com.flip.backend.dvc.engine.view.DVCView;
+import com.flip.backend.dvc.engine.DVCGameRegistry;
+import com.flip.backend.game.rng.RandomSource;
+import com.flip.backend.uno.engine.UnoGameRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Spliced frames must be exactly what encoding each player's full view would produce. */
+public class DvcFramesTest {
+
+    private static DVCRuntimePhase newGame() {
+        List<String> ids = List.of("A", "B", "C", "D");
+        DVCStartPhase start = new DVCStartPhase(ids, RandomSource.seeded(21));
+        start.enter();
+        ids.forEach(start::settled);
+        DVCRuntimePhase rt = start.transit();
+        rt.enter();
+        return rt;
+    }
+
+    @Test
+    void splicedFramesEqualPerPlayerViews() throws Exception {
+        DVCRuntimePhase rt = newGame();
+        assertTrue(rt.provideDrawColor(rt.board().currentPlayer().getId(), "WHITE")); // a pending card for one player
+
+        ObjectMapper mapper = new ObjectMapper();
+        DVCView pub = rt.buildPublicView();
+        byte[][] frames = DvcFrames.encode(mapper, pub, rt::selfView);
+        assertEquals(pub.players().size(), frames.length);
+        for (int i = 0; i < frames.length; i++) {
+            String id = pub.players().get(i).playerId();
+            assertArrayEquals(mapper.writeValueAsBytes(rt.buildView(id)), frames[i], id);
+        }
+    }
+
+    @Test
+    void broadcastsSendThePerPlayerBytesAndReencodeOnlyForANewVersion() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, Message<?>> sent = new LinkedHashMap<>();
+        SimpMessagingTemplate messaging = new SimpMessagingTemplate((message, timeout) -> true) {
+            @Override
+            public void send(String destination, Message<?> message) { sent.put(destination, message); }
+        };
+        DVCGameRegistry registry = new DVCGameRegistry();
+        ViewProjections projections = new ViewProjections(new UnoGameRegistry(), registry, new SimpleMeterRegistry());
+        DvcWsService ws = new DvcWsService(messaging, projections, mapper, new StompSubscriptions());
+        DVCRuntimePhase rt = newGame();
+        registry.put("g", rt);
+
+        ws.broadcastRuntime("g", rt);
+        Map<String, byte[]> before = frames(sent);
+        for (var e : before.entrySet()) assertArrayEquals(mapper.writeValueAsBytes(rt.buildView(e.getKey())), e.getValue(), e.getKey());
+
+        long misses = projections.dvc().misses();
+        ws.broadcastRuntime("g", rt);
+        assertEquals(misses, projections.dvc().misses(), "same version: the public projection is reused");
+
+        assertTrue(rt.provideDrawColor(rt.board().currentPlayer().getId(), "WHITE"));
+        ws.broadcastRuntime("g", rt);
+        Map<String, byte[]> after = frames(sent);
+        assertTrue(projections.dvc().misses() > misses, "a new version is projected again");
+        for (var e : after.entrySet()) {
+            assertArrayEquals(mapper.writeValueAsBytes(rt.buildView(e.getKey())), e.getValue(), e.getKey());
+            assertFalse(Arrays.equals(before.get(e.getKey()), e.getValue()), "stale frame for " + e.getKey());
+        }
+
+        // public reveals go out as the JSON the message converter would have written
+        Collection<?> reveals = List.of(Map.of("playerId", "A", "index", 0));
+        ws.broadcastDvcPublicReveals("g", reveals);
+        Message<?> reveal = sent.get("/topic/dvc/g/public-reveals");
+        assertArrayEquals(mapper.writeValueAsBytes(reveals), (byte[]) reveal.getPayload(), "public reveals");
+        assertEquals(MimeTypeUtils.APPLICATION_JSON, reveal.getHeaders().get(MessageHeaders.CONTENT_TYPE));
+    }
+
+    /** Last runtime frame per player, keyed by player id. */
+    private static Map<String, byte[]> frames(Map<String, Message<?>> sent) {
+        Map<String, byte[]> out = new LinkedHashMap<>();
+        sent.forEach((destination, message) -> {
+            String playerId = destination.substring("/topic/dvc/g/".length());
+            if (!playerId.contains("/")) out.put(playerId, (byte[]) message.getPayload());
+        });
+        assertEquals(4, out.size());
+        return out;
+    }
+}
@@ -0,0 +1,46 @@
+package com.flip.backend.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventRingTest {
+
+    private static EventRing<String> ring(int capacity, long from, long to) {
+        EventRing<String> ring = new EventRing<>(capacity);
+        for (long v = from; v < to; v++) ring.append(v, v + 1, "e" + (v + 1));
+        return ring;
+    }
+
+    @Test
+    void replaysExactlyTheMissedEvents() {
+        EventRing<String> ring = ring(8, 10, 15);
+        assertEquals(List.of("e13", "e14", "e15"), ring.since(12));
+        assertEquals(List.of("e11", "e12", "e13", "e14", "e15"), ring.since(10));
+        assertEquals(List.of(), ring.since(15));
+    }
+
+    @Test
+    void gapsOutsideTheRingAreNotCovered() {
+        EventRing<String> ring = ring(4, 0, 10); // keeps 6→7 .. 9→10
+        assertEquals(4, ring.size());
+        assertNull(ring.since(5));
+        assertEquals(List.of("e7", "e8", "e9", "e10"), ring.since(6));
+        assertNull(ring.since(42), "a version the ring never reached");
+        assertNull(new EventRing<String>(4).since(0));
+    }
+
+    @Test
+    void discontinuityDropsOlderEntries() {
+        EventRing<String> ring = ring(8, 0, 3);
+        ring.append(7, 8, "jump");
+        assertEquals(1, ring.size());
+        assertNull(ring.since(2));
+        assertEquals(List.of("jump"), ring.since(7));
+        assertEquals(8, ring.lastVersion());
+        ring.clear();
+        assertEquals(-1, ring.lastVersion());
+    }
+}
@@ -0,0 +1,222 @@
+package com.flip.backend.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flip.backend.api.dto.LobbyDtos.PlayerStartInfo;
+import com.flip.backend.dvc.engine.DVCGameRegistry;
+import com.flip.backend.dvc.engine.DVCStartRegistry;
+import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
+import com.flip.backend.dvc.engine.phase.DVCStartPhase;
+import com.flip.backend.game.rng.RandomSource;
+import com.flip.backend.persistence.GameSeatEntity;
+import com.flip.backend.persistence.GameSeatRepository;
+import com.flip.backend.persistence.SessionMemberRepository;
+import com.flip.backend.persistence.UserEntity;
+import com.flip.backend.persistence.UserRepository;
+import com.flip.backend.service.game.DVCBotTurns;
+import com.flip.backend.service.game.GameActorService;
+import com.flip.backend.service.game.GameStateStore;
+import com.flip.backend.service.game.GameWriteBehind;
+import com.flip.backend.service.game.SeatAccessService;
+import com.flip.backend.service.game.UnoBotSearchService;
+import com.flip.backend.service.game.UnoBotTurns;
+import com.flip.backend.uno.engine.UnoGameRegistry;
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.engine.phase.UnoStartPhase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+
+import java.lang.reflect.Proxy;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameStompControllerTest {
+    private static final String UNO = "s1:UNO:r1";
+    private static final String DVC = "s1:DAVINCI:r1";
+
+    /** A reply sent to a user's queue. */
+    private record Sent(String user, String queue, Object body, Map<String, Object> headers) {}
+
+    private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+    private final GameActorService actors = new GameActorService(2, 64);
+    private final GameStateStore states = new GameStateStore(null, new ObjectMapper(), new GameWriteBehind(new JdbcTemplate(), meters, 500), false);
+    private final UnoGameRegistry unoRegistry = new UnoGameRegistry();
+    private final DVCGameRegistry dvcRegistry = new DVCGameRegistry();
+    private final List<GameSeatEntity> seatRows = new ArrayList<>();
+    private final SeatAccessService seats = new SeatAccessService(
+        repo(GameSeatRepository.class, "findByGameIdAndPlayerId", a -> seatRows.stream()
+            .filter(s -> s.getGameId().equals(a[0]) && s.getPlayerId().equals(a[1])).findFirst()),
+        repo(SessionMemberRepository.class, "none", a -> null), repo(UserRepository.class, "findByEmail", a -> Optional.ofNullable(
+            a[0].equals("ann@x") ? UserEntity.builder().id(1L).email("ann@x").build()
+                : a[0].equals("bob@x") ? UserEntity.builder().id(2L).email("bob@x").build() : null)));
+    private final LinkedBlockingQueue<Sent> sent = new LinkedBlockingQueue<>();
+    private final SimpMessagingTemplate messaging = new SimpMessagingTemplate((message, timeout) -> true) {
+        @Override
+        public void convertAndSendToUser(String user, String destination, Object payload, Map<String, Object> headers) {
+            sent.add(new Sent(user, destination, payload, headers));
+        }
+    };
+    private final ViewProjections projections = new ViewProjections(unoRegistry, dvcRegistry, meters);
+    private final UnoBotSearchService search = new UnoBotSearchService(meters, UnoBotSearchService.Tier.BASIC, 1, 4, Duration.ofMillis(5), 200);
+    private final UnoController uno = new UnoController(unoRegistry,
+        new UnoSseService(new ObjectMapper(), new SseFanout(meters, 1, 8, Duration.ofSeconds(15), Duration.ofSeconds(5)), 32),
+        actors, states, projections, seats, new UnoBotTurns(unoRegistry, actors, states, search, meters, Duration.ZERO, Duration.ZERO));
+    private final DVCController dvc = new DVCController(dvcRegistry, new DVCStartRegistry(), null,
+        new DvcWsService(messaging, projections, new ObjectMapper(), new StompSubscriptions()),
+        actors, states, new DVCBotTurns(dvcRegistry, actors, states, meters, Duration.ZERO, Duration.ZERO));
+    private final GameStompController stomp = new GameStompController(uno, dvc, messaging, seats, meters);
+
+    private final UnoRuntimePhase unoGame;
+    private final DVCRuntimePhase dvcGame;
+    /** Ann (user 1) holds P1_ANN, Bob (user 2) holds P2_BOB, in both games. */
+    private final Principal ann = user("ann@x", 1L);
+    private final Principal bob = user("bob@x", 2L);
+
+    public GameStompControllerTest() {
+        List<PlayerStartInfo> players = List.of(new PlayerStartInfo("P1_ANN", "Ann", false, true, 1L),
+            new PlayerStartInfo("P2_BOB", "Bob", false, true, 2L));
+        List<String> ids = players.stream().map(PlayerStartInfo::playerId).toList();
+        UnoStartPhase unoStart = new UnoStartPhase(ids, RandomSource.seeded(7));
+        unoStart.enter();
+        unoGame = unoStart.transit();
+        unoRegistry.put(UNO, unoGame);
+        DVCStartPhase dvcStart = new DVCStartPhase(ids, RandomSource.seeded(11));
+        dvcStart.enter();
+        ids.forEach(dvcStart::settled);
+        dvcGame = dvcStart.transit();
+        dvcGame.enter();
+        dvcRegistry.put(DVC, dvcGame);
+        for (String game : List.of(UNO, DVC)) {
+            for (PlayerStartInfo p : players) {
+                seatRows.add(GameSeatEntity.builder().gameId(game).playerId(p.playerId()).userId(p.userId()).build());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R repo(Class<R> type, String name, java.util.function.Function<Object[], Object> method) {
+        return (R) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, m, args) -> {
+            if (!m.getName().equals(name)) throw new UnsupportedOperationException(m.getName());
+            return method.apply(args);
+        });
+    }
+
+    /** The principal StompAuthInterceptor installs on CONNECT: user details plus the user id. */
+    private static Principal user(String email, long userId) {
+        var auth = new UsernamePasswordAuthenticationToken(new User(email, "hash", List.of()), null, List.of());
+        auth.setDetails(userId);
+        return auth;
+    }
+
+    private Principal holderOf(String playerId) { return playerId.equals("P1_ANN") ? ann : bob; }
+    private Principal otherThan(String playerId) { return playerId.equals("P1_ANN") ? bob : ann; }
+
+    private Sent reply() throws InterruptedException {
+        Sent s = sent.poll(10, TimeUnit.SECONDS);
+        assertNotNull(s, "no reply");
+        return s;
+    }
+
+    private static UnoController.UnoCommand draw(String playerId) {
+        return new UnoController.UnoCommand("DRAW_CARD", playerId, null, null, null);
+    }
+
+    @Test
+    void aCommandFromTheSeatsUserIsRoutedToTheGamesActor() throws Exception {
+        String toMove = unoGame.board().currentPlayer().getId();
+        long version = unoGame.stateVersion();
+        stomp.unoCommand(UNO, draw(toMove), "r-1", holderOf(toMove));
+        Sent r = reply();
+        assertEquals(holderOf(toMove).getName(), r.user());
+        assertEquals("/queue/uno/results", r.queue());
+        assertEquals("r-1", r.headers().get(GameStompController.REQUEST_ID));
+        var result = assertInstanceOf(UnoController.CommandResult.class, r.body());
+        assertTrue(result.applied(), String.valueOf(result.errors()));
+        assertTrue(actors.submit(UNO, unoGame::stateVersion).get(10, TimeUnit.SECONDS) > version);
+        assertNotEquals(toMove, actors.submit(UNO, () -> unoGame.board().currentPlayer().getId()).get(10, TimeUnit.SECONDS));
+
+        String dvcToMove = dvcGame.board().currentPlayer().getId();
+        stomp.dvcDrawColor(DVC, new DVCController.DrawColorRequest(dvcToMove, "WHITE"), "r-2", holderOf(dvcToMove));
+        r = reply();
+        assertEquals("/queue/dvc/results", r.queue());
+        assertEquals(Map.of("ok", true), r.body());
+        assertEquals(DVCRuntimePhase.Awaiting.GUESS_SELECTION, actors.submit(DVC, dvcGame::awaiting).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void aCommandForAnotherPlayersSeatNeverReachesTheGame() throws Exception {
+        String toMove = unoGame.board().currentPlayer().getId();
+        long version = unoGame.stateVersion();
+        stomp.unoCommand(UNO, draw(toMove), "r-1", otherThan(toMove));
+        Sent r = reply();
+        assertEquals(otherThan(toMove).getName(), r.user());
+        assertEquals(Map.of("error", "NOT_YOUR_SEAT"), r.body());
+        assertEquals("r-1", r.headers().get(GameStompController.REQUEST_ID));
+
+        // a batch is refused as a whole if any command names someone else's seat
+        String next = toMove.equals("P1_ANN") ? "P2_BOB" : "P1_ANN";
+        stomp.unoBatch(UNO, List.of(draw(toMove), draw(next)), "r-2", holderOf(toMove));
+        assertEquals(Map.of("error", "NOT_YOUR_SEAT"), reply().body());
+
+        String dvcToMove = dvcGame.board().currentPlayer().getId();
+        stomp.dvcDrawColor(DVC, new DVCController.DrawColorRequest(dvcToMove, "WHITE"), "r-3", otherThan(dvcToMove));
+        assertEquals(Map.of("error", "NOT_YOUR_SEAT"), reply().body());
+
+        assertEquals(version, actors.submit(UNO, unoGame::stateVersion).get(10, TimeUnit.SECONDS));
+        assertEquals(DVCRuntimePhase.Awaiting.DRAW_COLOR, actors.submit(DVC, dvcGame::awaiting).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void sessionsWithoutAUserIdAreNotRouted() throws Exception {
+        String toMove = unoGame.board().currentPlayer().getId();
+        long version = unoGame.stateVersion();
+        stomp.unoCommand(UNO, draw(toMove), "r-1", null);
+        Principal noId = new UsernamePasswordAuthenticationToken(new User("ann@x", "hash", List.of()), null, List.of());
+        stomp.unoCommand(UNO, draw(toMove), "r-2", noId);
+        Sent r = reply();
+        assertEquals("r-2", r.headers().get(GameStompController.REQUEST_ID), "anonymous sessions get no answer");
+        assertEquals(Map.of("error", "NOT_YOUR_SEAT"), r.body());
+        assertEquals(version, actors.submit(UNO, unoGame::stateVersion).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void restCommandsAndViewsAreBoundToSeatsAsOverStomp() throws Exception {
+        String toMove = unoGame.board().currentPlayer().getId();
+        String next = toMove.equals("P1_ANN") ? "P2_BOB" : "P1_ANN";
+        long version = unoGame.stateVersion();
+        Authentication holder = (Authentication) holderOf(toMove), other = (Authentication) otherThan(toMove);
+
+        var refused = uno.command(UNO, draw(toMove), null, other).get(10, TimeUnit.SECONDS);
+        assertEquals(403, refused.getStatusCode().value());
+        assertEquals("NOT_YOUR_SEAT", refused.getBody().errors().get(0).message());
+        assertEquals(403, uno.command(UNO, draw(toMove), null, null).get(10, TimeUnit.SECONDS).getStatusCode().value());
+        var batch = uno.commandBatch(UNO, List.of(draw(toMove), draw(next)), null, holder).get(10, TimeUnit.SECONDS);
+        assertEquals(403, batch.getStatusCode().value());
+        assertEquals(0, batch.getBody().appliedCount());
+        assertEquals(version, actors.submit(UNO, unoGame::stateVersion).get(10, TimeUnit.SECONDS));
+
+        // someone else's hand is not handed out: asking for it gives the generic view
+        var generic = uno.getView(UNO, toMove, null, other).get(10, TimeUnit.SECONDS).getBody();
+        assertNull(generic.get("viewerId"));
+        assertFalse(generic.toString().contains("hand="), "no hands in the generic view");
+        var own = uno.getView(UNO, toMove, null, holder).get(10, TimeUnit.SECONDS).getBody();
+        assertEquals(toMove, own.get("viewerId"));
+        assertTrue(own.toString().contains("hand="));
+
+        var applied = uno.command(UNO, draw(toMove), null, holder).get(10, TimeUnit.SECONDS);
+        assertTrue(applied.getBody().applied(), String.valueOf(applied.getBody().errors()));
+        assertTrue(actors.submit(UNO, unoGame::stateVersion).get(10, TimeUnit.SECONDS) > version);
+    }
+}
@@ -0,0 +1,173 @@
+package com.flip.backend.api;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SseFanoutTest {
+
+    private final MeterRegistry meters = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong();
+
+    /** One writer thread, so a write that never returns would block every other subscriber. */
+    private SseFanout fanout(Duration stallTimeout, Duration writeTimeout) {
+        return new SseFanout(meters, 1, 2, stallTimeout, writeTimeout, now::get);
+    }
+
+    /** Records what it is sent; while {@code blocked}, each write waits until released or interrupted. */
+    private static final class TestEmitter extends SseEmitter {
+        final List<Set<ResponseBodyEmitter.DataWithMediaType>> sent = new CopyOnWriteArrayList<>();
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+        volatile boolean blocked;
+        volatile boolean fail;
+        volatile boolean interrupted;
+
+        TestEmitter(boolean blocked) { this.blocked = blocked; }
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> frame) throws IOException {
+            if (fail) throw new IOException("broken pipe");
+            writing.countDown();
+            if (blocked) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    throw new InterruptedIOException("write interrupted");
+                }
+            }
+            sent.add(frame);
+        }
+
+        @Override public void complete() { completed.countDown(); }
+        @Override public void completeWithError(Throwable t) { completed.countDown(); }
+    }
+
+    private static Set<ResponseBodyEmitter.DataWithMediaType> frame(String data) {
+        return Set.of(new ResponseBodyEmitter.DataWithMediaType(data, null));
+    }
+
+    private double dropped(String reason) { return meters.get("sse.dropped").tag("reason", reason).counter().count(); }
+    private double gauge(String name) { return meters.get(name).gauge().value(); }
+
+    private static void await(String what, java.util.function.BooleanSupplier done) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!done.getAsBoolean()) {
+            if (System.nanoTime() > deadline) fail(what);
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void aFullQueueIsCoalescedToTheLatestFrame() throws Exception {
+        SseFanout fanout = fanout(Duration.ofSeconds(15), Duration.ofSeconds(5));
+        TestEmitter emitter = new TestEmitter(true);
+        SseFanout.Subscriber sub = fanout.open(emitter, () -> {});
+        var first = frame("1");
+        assertTrue(fanout.offer(sub, first));
+        assertTrue(emitter.writing.await(5, TimeUnit.SECONDS));
+        assertTrue(fanout.offer(sub, frame("2")));
+        assertTrue(fanout.offer(sub, frame("3")));
+        assertFalse(fanout.offer(sub, frame("4")), "queue capacity is 2");
+        assertEquals(2, gauge("sse.queue.depth"));
+
+        var latest = frame("latest");
+        fanout.coalesce(sub, latest);
+        assertEquals(1, sub.depth());
+        assertEquals(2, meters.get("sse.coalesced").counter().count());
+
+        emitter.release.countDown();
+        await("queue not drained", () -> emitter.sent.size() == 2);
+        assertSame(first, emitter.sent.get(0));
+        assertSame(latest, emitter.sent.get(1), "the skipped frames are never written");
+        assertEquals(0, gauge("sse.queue.depth"));
+        assertEquals(1, gauge("sse.subscribers"));
+        fanout.shutdown();
+    }
+
+    @Test
+    void aBlockedWriteIsEvictedBySweepAndFreesTheWriter() throws Exception {
+        SseFanout fanout = fanout(Duration.ofSeconds(15), Duration.ofSeconds(5));
+        TestEmitter dead = new TestEmitter(true);
+        AtomicInteger closed = new AtomicInteger();
+        SseFanout.Subscriber stuck = fanout.open(dead, closed::incrementAndGet);
+        fanout.offer(stuck, frame("x"));
+        assertTrue(dead.writing.await(5, TimeUnit.SECONDS));
+
+        TestEmitter live = new TestEmitter(false);
+        SseFanout.Subscriber other = fanout.open(live, () -> {});
+        fanout.offer(other, frame("y"));
+
+        now.addAndGet(Duration.ofSeconds(4).toNanos());
+        fanout.sweep();
+        assertEquals(0, closed.get(), "within the write timeout");
+        assertTrue(live.sent.isEmpty(), "the only writer is still blocked");
+
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        fanout.sweep();
+        assertEquals(1, closed.get());
+        assertTrue(dead.completed.await(5, TimeUnit.SECONDS), "the response is ended");
+        await("other subscriber starved", () -> live.sent.size() == 1);
+        assertTrue(dead.interrupted, "the blocked write was interrupted");
+        assertEquals(1, dropped("write-timeout"));
+        assertEquals(0, dropped("write-failed"), "the interrupted write is not counted twice");
+        assertEquals(1, gauge("sse.subscribers"));
+
+        fanout.sweep();
+        assertEquals(1, closed.get(), "closed once");
+        fanout.shutdown();
+    }
+
+    @Test
+    void noProgressWhileFramesWaitIsAStall() throws Exception {
+        SseFanout fanout = fanout(Duration.ofSeconds(15), Duration.ofHours(1));
+        TestEmitter slow = new TestEmitter(true);
+        AtomicInteger closed = new AtomicInteger();
+        SseFanout.Subscriber sub = fanout.open(slow, closed::incrementAndGet);
+        fanout.offer(sub, frame("1"));
+        assertTrue(slow.writing.await(5, TimeUnit.SECONDS));
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        fanout.offer(sub, frame("2")); // the queue is empty, but the write in progress keeps the stall clock running
+        now.addAndGet(Duration.ofSeconds(6).toNanos());
+        fanout.sweep();
+        assertEquals(1, closed.get());
+        assertEquals(1, dropped("stalled"));
+        assertEquals(0, gauge("sse.queue.depth"));
+        assertEquals(0, gauge("sse.subscribers"));
+        fanout.shutdown();
+    }
+
+    @Test
+    void aFailedWriteDisconnectsOnce() throws Exception {
+        SseFanout fanout = fanout(Duration.ofSeconds(15), Duration.ofSeconds(5));
+        TestEmitter broken = new TestEmitter(false);
+        broken.fail = true;
+        AtomicInteger closed = new AtomicInteger();
+        SseFanout.Subscriber sub = fanout.open(broken, closed::incrementAndGet);
+        fanout.offer(sub, frame("1"));
+        assertTrue(broken.completed.await(5, TimeUnit.SECONDS));
+        await("failure not counted", () -> dropped("write-failed") == 1);
+        assertEquals(1, closed.get());
+        assertTrue(fanout.offer(sub, frame("2")), "a closed subscriber swallows frames");
+        assertEquals(0, gauge("sse.subscribers"));
+        fanout.shutdown();
+    }
+}
@@ -0,0 +1,154 @@
+package com.flip.backend.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flip.backend.dvc.engine.DVCGameRegistry;
+import com.flip.backend.game.rng.RandomSource;
+import com.flip.backend.persistence.GameSeatRepository;
+import com.flip.backend.persistence.SessionMemberRepository;
+import com.flip.backend.persistence.UserRepository;
+import com.flip.backend.service.game.GameActorService;
+import com.flip.backend.service.game.GameStateStore;
+import com.flip.backend.service.game.GameWriteBehind;
+import com.flip.backend.service.game.SeatAccessService;
+import com.flip.backend.service.game.UnoBotSearchService;
+import com.flip.backend.service.game.UnoBotTurns;
+import com.flip.backend.uno.engine.UnoGameRegistry;
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.engine.phase.UnoStartPhase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnoControllerBatchTest {
+    private static final String GAME = "g";
+
+    private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+    private final GameActorService actors = new GameActorService(1, 64);
+    private final GameWriteBehind writeBehind = new GameWriteBehind(new JdbcTemplate(), meters, 500);
+    private final GameStateStore states = new GameStateStore(null, new ObjectMapper(), writeBehind, false);
+    private final UnoGameRegistry registry = new UnoGameRegistry();
+    private final UnoBotSearchService search = new UnoBotSearchService(meters, UnoBotSearchService.Tier.BASIC, 1, 4, Duration.ofMillis(5), 200);
+    /** Two humans: no bot turns are ever scheduled, and nothing here needs the seat repositories. */
+    private final UnoController controller = new UnoController(registry,
+        new UnoSseService(new ObjectMapper(), new SseFanout(meters, 1, 8, Duration.ofSeconds(15), Duration.ofSeconds(5)), 32),
+        actors, states, new ViewProjections(registry, new DVCGameRegistry(), meters),
+        new SeatAccessService(unused(GameSeatRepository.class), unused(SessionMemberRepository.class), unused(UserRepository.class)),
+        new UnoBotTurns(registry, actors, states, search, meters, Duration.ZERO, Duration.ZERO));
+    private final UnoRuntimePhase rt;
+    private final String first;
+    private final String second;
+
+    public UnoControllerBatchTest() {
+        UnoStartPhase start = new UnoStartPhase(List.of("P1_ANN", "P2_BOB"), RandomSource.seeded(7));
+        start.enter();
+        rt = start.transit();
+        registry.put(GAME, rt);
+        first = rt.board().currentPlayer().getId();
+        second = first.equals("P1_ANN") ? "P2_BOB" : "P1_ANN";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R unused(Class<R> type) {
+        return (R) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    /** Drawing is legal for the player to move and ends their turn; it is rejected for anyone else. */
+    private static UnoController.UnoCommand draw(String playerId) {
+        return new UnoController.UnoCommand("DRAW_CARD", playerId, null, null, null);
+    }
+
+    private ResponseEntity<UnoController.BatchResult> batch(List<UnoController.UnoCommand> cmds) throws Exception {
+        return controller.submitBatch(GAME, cmds, null).get(10, TimeUnit.SECONDS);
+    }
+
+    private String toMove() throws Exception {
+        return actors.submit(GAME, () -> rt.board().currentPlayer().getId()).get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void aRejectedMiddleCommandKeepsTheOnesBeforeItAndSkipsTheRest() throws Exception {
+        long version = rt.stateVersion();
+        var res = batch(List.of(draw(first), draw(first), draw(second)));
+        var body = res.getBody();
+        assertEquals(200, res.getStatusCode().value());
+        assertFalse(body.applied());
+        assertEquals(1, body.appliedCount());
+        assertFalse(body.errors().isEmpty(), "the errors are those of the rejected command");
+        assertEquals(second, toMove(), "the first draw stays applied, the last one never ran");
+        assertTrue(rt.stateVersion() > version);
+        assertNotNull(writeBehind.pending(GAME), "the applied prefix is staged");
+        assertNotNull(body.view());
+    }
+
+    @Test
+    void commandsRunInTheirGivenOrder() throws Exception {
+        var res = batch(List.of(draw(first), draw(second), draw(second)));
+        assertEquals(2, res.getBody().appliedCount());
+        assertEquals(first, toMove());
+
+        // the same commands out of order: the first is rejected, so the legal one after it is not applied either
+        long version = rt.stateVersion();
+        res = batch(List.of(draw(second), draw(first)));
+        assertFalse(res.getBody().applied());
+        assertEquals(0, res.getBody().appliedCount());
+        assertEquals(first, toMove());
+        assertEquals(version, rt.stateVersion());
+    }
+
+    @Test
+    void batchesAreLimitedToMaxBatch() throws Exception {
+        long version = rt.stateVersion();
+        List<UnoController.UnoCommand> tooMany = new ArrayList<>();
+        for (int i = 0; i <= UnoController.MAX_BATCH; i++) tooMany.add(draw(i % 2 == 0 ? first : second));
+        var res = batch(tooMany);
+        assertEquals(400, res.getStatusCode().value());
+        assertEquals(0, res.getBody().appliedCount());
+        assertTrue(res.getBody().errors().get(0).message().startsWith("BAD_BATCH"));
+        assertEquals(400, batch(Collections.emptyList()).getStatusCode().value());
+        assertEquals(version, rt.stateVersion(), "a rejected batch runs nothing");
+        assertNull(writeBehind.pending(GAME));
+
+        var full = batch(tooMany.subList(0, UnoController.MAX_BATCH));
+        assertTrue(full.getBody().applied());
+        assertEquals(UnoController.MAX_BATCH, full.getBody().appliedCount());
+    }
+
+    @Test
+    void aPassivatedGameIsLoadedOnItsActorAndNeverOnTheRequestThread() throws Exception {
+        UnoStartPhase start = new UnoStartPhase(List.of("P1_ANN", "P2_BOB"), RandomSource.seeded(8));
+        start.enter();
+        UnoRuntimePhase passivated = start.transit();
+        List<String> loadedOn = Collections.synchronizedList(new ArrayList<>());
+        registry.setLoader(id -> {
+            loadedOn.add(id + "@" + Thread.currentThread().getName());
+            return id.equals("g2") ? passivated : null;
+        });
+        String caller = Thread.currentThread().getName();
+
+        String toMove = passivated.board().currentPlayer().getId();
+        var res = controller.submitBatch("g2", List.of(draw(toMove)), null).get(10, TimeUnit.SECONDS);
+        assertTrue(res.getBody().applied(), String.valueOf(res.getBody().errors()));
+        assertTrue(registry.isResident("g2"));
+
+        res = controller.submitBatch("nope", List.of(draw(toMove)), null).get(10, TimeUnit.SECONDS);
+        assertEquals("Game not found", res.getBody().errors().get(0).message());
+        assertEquals(2, loadedOn.size(), loadedOn.toString());
+        for (String load : loadedOn) assertFalse(load.endsWith("@" + caller), load);
+
+        // the miss is remembered: the next request is answered without queueing or loading
+        assertEquals(404, controller.getView("nope", "P1_ANN", null, null).get(10, TimeUnit.SECONDS).getStatusCode().value());
+        assertEquals(2, loadedOn.size());
+    }
+}
@@ -0,0 +1,136 @@
+package com.flip.backend.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flip.backend.game.rng.RandomSource;
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.engine.phase.UnoStartPhase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Frames encoded once per broadcast must be exactly what the old per-subscriber {@code send(event().data(map))} wrote. */
+public class UnoSseServiceTest {
+    private static final String GAME = "g";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    /** Frames handed to each emitter, in order; nothing is written to a socket. */
+    private final Map<SseEmitter, List<Set<ResponseBodyEmitter.DataWithMediaType>>> offered = new ConcurrentHashMap<>();
+    private final SseFanout fanout = new SseFanout(new SimpleMeterRegistry(), 1, 8, Duration.ofSeconds(15), Duration.ofSeconds(5)) {
+        @Override
+        public boolean offer(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            offered.computeIfAbsent(subscriber.emitter(), e -> new ArrayList<>()).add(frame);
+            return true;
+        }
+    };
+    private final UnoSseService sse = new UnoSseService(mapper, fanout, 32);
+    private final UnoRuntimePhase rt;
+    private final Function<String, Map<String,Object>> viewFor;
+
+    public UnoSseServiceTest() {
+        UnoStartPhase start = new UnoStartPhase(List.of("P1_ANN", "P2_BOB"), RandomSource.seeded(7));
+        start.enter();
+        rt = start.transit();
+        viewFor = viewer -> Map.of("version", rt.stateVersion(), "viewer", String.valueOf(viewer));
+    }
+
+    /**
+     * The bytes a frame puts on the wire. Text parts are written as UTF-8; any other object goes through the JSON
+     * converter, i.e. the same ObjectMapper, which is what happened to the payload map before pre-encoding.
+     */
+    private byte[] wire(Set<ResponseBodyEmitter.DataWithMediaType> frame) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (ResponseBodyEmitter.DataWithMediaType part : frame) {
+            Object data = part.getData();
+            out.write(data instanceof byte[] bytes ? bytes
+                : data instanceof String text ? text.getBytes(StandardCharsets.UTF_8) : mapper.writeValueAsBytes(data));
+        }
+        return out.toByteArray();
+    }
+
+    /** The frame as the per-subscriber path built it: the payload object handed to the emitter unencoded. */
+    private byte[] perSubscriber(String id, String name, Object payload) throws Exception {
+        return wire(SseEmitter.event().id(id).name(name).data(payload).build());
+    }
+
+    private List<Set<ResponseBodyEmitter.DataWithMediaType>> framesOf(SseEmitter emitter) { return offered.get(emitter); }
+    private Set<ResponseBodyEmitter.DataWithMediaType> last(SseEmitter emitter) {
+        List<Set<ResponseBodyEmitter.DataWithMediaType>> frames = framesOf(emitter);
+        return frames.get(frames.size() - 1);
+    }
+
+    private SseEmitter subscribe(WireFormat format) {
+        SseEmitter emitter = sse.subscribe(GAME, null, format);
+        sse.sendInitial(GAME, emitter, rt, null, viewFor);
+        return emitter;
+    }
+
+    private void draw() {
+        String toMove = rt.board().currentPlayer().getId();
+        assertTrue(rt.applyPlayerCommand(new UnoRuntimePhase.PlayerCommand("DRAW_CARD", toMove, null, null)).applied());
+    }
+
+    @Test
+    void everySubscriberGetsOneSharedFrameWithThePerSubscriberBytes() throws Exception {
+        SseEmitter a = subscribe(WireFormat.JSON), b = subscribe(WireFormat.JSON), c = subscribe(WireFormat.COMPACT);
+        assertArrayEquals(perSubscriber(eventId(last(a)), "VIEW", viewFor.apply(null)), wire(last(a)));
+
+        UnoViewDeltas.PublicState prev = UnoViewDeltas.capture(rt);
+        draw();
+        Map<String, Object> delta = UnoViewDeltas.delta(prev, UnoViewDeltas.capture(rt), rt);
+        sse.publish(GAME, rt, viewFor);
+
+        assertSame(last(a), last(b), "encoded once for all JSON subscribers");
+        String id = eventId(last(a));
+        assertTrue(id.endsWith("-" + rt.stateVersion()), id);
+        assertArrayEquals(perSubscriber(id, "DELTA", delta), wire(last(a)));
+        assertArrayEquals(perSubscriber(id, "DELTA", CardIds.compactUno(delta)), wire(last(c)));
+    }
+
+    @Test
+    void aNewStateVersionIsEncodedAfreshAndAnUnchangedOneNotAtAll() throws Exception {
+        SseEmitter a = subscribe(WireFormat.JSON), b = subscribe(WireFormat.JSON);
+        draw();
+        sse.publish(GAME, rt, viewFor);
+        var first = last(a);
+        int sent = framesOf(a).size();
+
+        sse.publish(GAME, rt, viewFor);
+        assertEquals(sent, framesOf(a).size(), "same version: nothing re-sent");
+
+        UnoViewDeltas.PublicState prev = UnoViewDeltas.capture(rt);
+        draw();
+        Map<String, Object> delta = UnoViewDeltas.delta(prev, UnoViewDeltas.capture(rt), rt);
+        sse.publish(GAME, rt, viewFor);
+        var second = last(a);
+        assertNotSame(first, second);
+        assertSame(second, last(b));
+        assertFalse(Arrays.equals(wire(first), wire(second)), "the earlier frame is not reused");
+        assertArrayEquals(perSubscriber(eventId(second), "DELTA", delta), wire(second));
+
+        // a subscriber resuming after the first delta is sent the very frame the others got
+        SseEmitter late = sse.subscribe(GAME, null, WireFormat.JSON);
+        sse.sendInitial(GAME, late, rt, eventId(first), viewFor);
+        assertSame(second, last(late));
+    }
+
+    /** The {@code id:} line of a frame. */
+    private static String eventId(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        String head = (String) frame.iterator().next().getData();
+        assertTrue(head.startsWith("id:"), head);
+        return head.substring(3, head.indexOf('\n'));
+    }
+}
@@ -0,0 +1,130 @@
+package com.flip.backend.api;
+
+import com.flip.backend.game.rng.RandomSource;
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.engine.phase.UnoStartPhase;
+import com.flip.backend.uno.engine.state.UnoSnapshotCodec;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** A client that starts from one full state and applies only deltas must track the runtime exactly. */
+public class UnoViewDeltasTest {
+
+    private static UnoRuntimePhase game(long seed) {
+        UnoStartPhase start = new UnoStartPhase(List.of("BOT1", "BOT2", "BOT3", "BOT4"), RandomSource.seeded(seed));
+        start.enter();
+        return start.transit();
+    }
+
+    /** Minimal client model mirroring what the frontend hook keeps. */
+    private static final class Client {
+        long version;
+        String current;
+        String top;
+        String activeColor;
+        Object pendingDraw = 0;
+        String winnerId;
+        final Map<String, Integer> handSizes = new HashMap<>();
+        final List<Long> eventIds = new ArrayList<>();
+
+        @SuppressWarnings("unchecked")
+        void apply(Map<String, Object> d) {
+            assertEquals(version, d.get("baseVersion"));
+            version = (Long) d.get("version");
+            if (d.containsKey("currentPlayerId")) current = (String) d.get("currentPlayerId");
+            if (d.containsKey("top")) top = ((Map<String, String>) d.get("top")).get("value");
+            if (d.containsKey("activeColor")) activeColor = (String) d.get("activeColor");
+            if (d.containsKey("pendingDraw")) pendingDraw = d.get("pendingDraw");
+            if (d.containsKey("winnerId")) winnerId = (String) d.get("winnerId");
+            if (d.containsKey("handSizes")) handSizes.putAll((Map<String, Integer>) d.get("handSizes"));
+            if (d.containsKey("events")) {
+                for (Map<String, Object> e : (List<Map<String, Object>>) d.get("events")) eventIds.add((Long) e.get("id"));
+            }
+        }
+    }
+
+    @Test
+    void deltasReproduceTheRuntimeTurnByTurn() {
+        for (long seed = 1; seed <= 10; seed++) {
+            UnoRuntimePhase rt = game(seed);
+            UnoViewDeltas.PublicState base = UnoViewDeltas.capture(rt);
+            Client client = new Client();
+            client.version = base.version();
+            client.current = base.currentPlayerId();
+            client.top = base.top() == null ? null : UnoViewDeltas.card(base.top()).get("value");
+            client.activeColor = base.activeColor();
+            for (int i = 0; i < base.seatIds().length; i++) client.handSizes.put(base.seatIds()[i], base.handSizes()[i]);
+            rt.actionLogSnapshot().forEach(e -> client.eventIds.add(e.seq()));
+
+            UnoViewDeltas.PublicState[] last = { base };
+            rt.setTurnListener(r -> {
+                UnoViewDeltas.PublicState next = UnoViewDeltas.capture(r);
+                assertTrue(next.version() > last[0].version(), "every turn moves the version");
+                client.apply(UnoViewDeltas.delta(last[0], next, r));
+                last[0] = next;
+            });
+            int guard = 0;
+            while (rt.winnerId() == null && guard++ < 5000) rt.runSingleTurn();
+            if (rt.winnerId() != null) client.apply(UnoViewDeltas.delta(last[0], UnoViewDeltas.capture(rt), rt));
+
+            assertEquals(rt.stateVersion(), client.version);
+            assertEquals(rt.board().currentPlayer().getId(), client.current);
+            assertEquals(rt.winnerId(), client.winnerId);
+            assertEquals(rt.pendingDrawPenalty(), client.pendingDraw);
+            assertEquals(rt.board().activeColor() == null ? null : rt.board().activeColor().name(), client.activeColor);
+            for (int i = 0; i < rt.board().size(); i++) {
+                assertEquals(rt.board().seatAt(i).cardCount(), client.handSizes.get(rt.board().seatAt(i).getId()));
+            }
+            List<Long> tail = client.eventIds.subList(client.eventIds.size() - rt.actionLogSnapshot().size(), client.eventIds.size());
+            assertEquals(rt.actionLogSnapshot().stream().map(UnoRuntimePhase.ActionLogEntry::seq).toList(), tail);
+        }
+    }
+
+    @Test
+    void unchangedStateYieldsOnlyVersions() {
+        UnoRuntimePhase rt = game(3);
+        rt.runSingleTurn();
+        UnoViewDeltas.PublicState s = UnoViewDeltas.capture(rt);
+        Map<String, Object> d = UnoViewDeltas.delta(s, UnoViewDeltas.capture(rt), rt);
+        assertEquals(List.of("baseVersion", "version"), List.copyOf(d.keySet()));
+    }
+
+    @Test
+    void deltaIsMuchSmallerThanTheFullEventList() {
+        UnoRuntimePhase rt = game(5);
+        for (int i = 0; i < 40 && rt.winnerId() == null; i++) rt.runSingleTurn();
+        UnoViewDeltas.PublicState prev = UnoViewDeltas.capture(rt);
+        rt.runSingleTurn();
+        int delta = UnoViewDeltas.delta(prev, UnoViewDeltas.capture(rt), rt).toString().length();
+        int events = UnoViewDeltas.events(rt.actionLogSnapshot()).toString().length();
+        assertTrue(delta * 5 < events, "delta " + delta + " vs events " + events);
+    }
+
+    @Test
+    void stateVersionSurvivesPassivation() {
+        UnoRuntimePhase rt = game(8);
+        for (int i = 0; i < 12 && rt.winnerId() == null; i++) rt.runSingleTurn();
+        UnoRuntimePhase restored = UnoRuntimePhase.restore(UnoSnapshotCodec.decode(UnoSnapshotCodec.encode(rt.snapshot())));
+        assertEquals(rt.stateVersion(), restored.stateVersion());
+        assertTrue(rt.stateVersion() > 0);
+    }
+
+    @Test
+    void handTracksTheSeatAndIgnoresStrangers() {
+        UnoRuntimePhase rt = game(11);
+        String id = rt.board().seatAt(0).getId();
+        List<String> before = UnoViewDeltas.hand(rt, id);
+        assertEquals(rt.board().seatAt(0).cardCount(), before.size());
+        assertNull(UnoViewDeltas.hand(rt, "NOBODY"));
+        assertNull(UnoViewDeltas.hand(rt, null));
+        Map<String, Object> payload = UnoViewDeltas.handPayload(id, rt.stateVersion(), before);
+        assertEquals(id, payload.get("playerId"));
+        assertEquals(before.size(), ((List<?>) payload.get("hand")).size());
+    }
+}
@@ -0,0 +1,138 @@
+package com.flip.backend.dvc.bot;
+
+import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
+import com.flip.backend.dvc.engine.phase.DVCStartPhase;
+import com.flip.backend.dvc.entities.DVCBoard;
+import com.flip.backend.dvc.entities.DVCCard;
+import com.flip.backend.dvc.entities.DVCDeck;
+import com.flip.backend.dvc.entities.DVCPlayer;
+import com.flip.backend.game.rng.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DVCInferenceTest {
+
+    private static DVCCard revealed(DVCCard c) { c.reveal(); return c; }
+
+    private static DVCRuntimePhase table(DVCPlayer... players) {
+        List<DVCPlayer> seats = List.of(players);
+        return new DVCRuntimePhase(new DVCDeck(), new DVCBoard(seats), seats);
+    }
+
+    private static DVCRuntimePhase bots(List<String> ids, long seed) {
+        DVCStartPhase start = new DVCStartPhase(ids, RandomSource.seeded(seed));
+        start.enter();
+        ids.forEach(start::settled);
+        DVCRuntimePhase rt = start.transit();
+        rt.enter();
+        return rt;
+    }
+
+    @Test
+    void orderingPinsACardBetweenRevealedNeighbours() {
+        DVCPlayer a = new DVCPlayer("A");
+        a.dealRaw(DVCCard.joker(DVCCard.Color.WHITE)); // otherwise the white joker could sit there too
+        DVCPlayer b = new DVCPlayer("B");
+        b.dealRaw(revealed(DVCCard.number(DVCCard.Color.BLACK, 3)));
+        b.dealRaw(DVCCard.number(DVCCard.Color.WHITE, 3));
+        b.dealRaw(revealed(DVCCard.number(DVCCard.Color.BLACK, 4)));
+        DVCInference inf = DVCInference.observe(table(a, b), "A");
+        assertEquals(1, inf.slotCount());
+        assertEquals(1 << 7, inf.domain("B", 1), "only WHITE 3 fits between BLACK 3 and BLACK 4");
+        DVCInference.Guess g = inf.best();
+        assertEquals(new DVCInference.Guess("B", 1, false, 3, 1.0), g);
+    }
+
+    @Test
+    void seenCardsAndNakedSinglesPropagate() {
+        DVCPlayer a = new DVCPlayer("A");
+        for (int n = 1; n <= 11; n++) a.dealRaw(DVCCard.number(DVCCard.Color.WHITE, n));
+        DVCPlayer b = new DVCPlayer("B");
+        b.dealRaw(DVCCard.number(DVCCard.Color.WHITE, 0));
+        b.dealRaw(DVCCard.joker(DVCCard.Color.WHITE));
+        DVCInference inf = DVCInference.observe(table(a, b), "A");
+        // Both white cards left are in B's hand; neither is known by position, but the joker may sit anywhere
+        assertEquals(1 << 1 | 1 << 25, inf.domain("B", 0));
+        assertEquals(1 << 1 | 1 << 25, inf.domain("B", 1));
+        assertEquals(0.5, inf.probability("B", 0, 1), 1e-6);
+    }
+
+    @Test
+    void unorderedHandsDropTheirOrderingInsteadOfContradicting() {
+        DVCPlayer a = new DVCPlayer("A");
+        a.dealRaw(DVCCard.joker(DVCCard.Color.BLACK));
+        DVCPlayer b = new DVCPlayer("B");
+        b.dealRaw(revealed(DVCCard.number(DVCCard.Color.BLACK, 11)));
+        b.dealRaw(DVCCard.number(DVCCard.Color.BLACK, 2)); // arranged out of order by a human
+        b.dealRaw(revealed(DVCCard.number(DVCCard.Color.WHITE, 11)));
+        int d = DVCInference.observe(table(a, b), "A").domain("B", 1);
+        assertNotEquals(0, d & 1 << 4, "BLACK 2 stays possible");
+    }
+
+    @Test
+    void failedGuessesLeaveTheDomain() {
+        DVCRuntimePhase rt = bots(List.of("A", "B"), 3);
+        DVCPlayer a = (DVCPlayer) rt.board().currentPlayer();
+        DVCPlayer b = (DVCPlayer) rt.board().playerAt(1);
+        assertTrue(rt.provideDrawColor(a.getId(), "BLACK"));
+        DVCCard target = b.hand().snapshot().get(0);
+        int wrong = target.isJoker() || target.getNumber() != 5 ? 5 : 6;
+        assertTrue(rt.provideGuess(a.getId(), b.getId(), 0, false, wrong));
+        assertEquals(1 << wrong, rt.failedGuessMask(target));
+        int key = wrong * 2 + target.getColor().ordinal();
+        assertEquals(0, DVCInference.observe(rt, b.getId()).domain(b.getId(), 0), "own cards are not slots");
+        rt.provideSettleHand(a.getId(), null);
+        // Next turn: whoever observes B's first card no longer considers the failed value
+        assertEquals(0, DVCInference.observe(rt, a.getId()).domain(b.getId(), 0) & 1 << key);
+    }
+
+    @Test
+    void theTrueCardIsNeverRuledOutInBotGames() {
+        for (long seed = 1; seed <= 60; seed++) {
+            List<String> ids = seed % 3 == 0 ? List.of("BOT1", "BOT2") : seed % 3 == 1 ? List.of("BOT1", "BOT2", "BOT3") : List.of("BOT1", "BOT2", "BOT3", "BOT4");
+            DVCRuntimePhase rt = bots(ids, seed);
+            for (int guard = 0; !rt.isFinished() && guard < 1000; guard++) {
+                if (rt.awaiting() == DVCRuntimePhase.Awaiting.GUESS_SELECTION) {
+                    String me = rt.board().currentPlayer().getId();
+                    DVCInference inf = DVCInference.observe(rt, me);
+                    for (int s = 0; s < rt.board().size(); s++) {
+                        DVCPlayer p = rt.board().seatAt(s);
+                        if (p.getId().equals(me)) continue;
+                        List<DVCCard> hand = p.hand().snapshot();
+                        for (int i = 0; i < hand.size(); i++) {
+                            if (hand.get(i).isFaceUp()) continue;
+                            int truth = 1 << DVCInference.key(hand.get(i));
+                            assertNotEquals(0, inf.domain(p.getId(), i) & truth, "seed " + seed + " " + p.getId() + "[" + i + "]");
+                        }
+                    }
+                }
+                assertTrue(DVCBot.act(rt), "bots always have an accepted input");
+            }
+            assertTrue(rt.isFinished(), "seed " + seed);
+        }
+    }
+
+    @Test
+    void botsSettleAtOnceAndBotTablesPlayToTheEnd() {
+        DVCStartPhase mixed = new DVCStartPhase(List.of("P1_ANN", "BOT1"), RandomSource.seeded(5));
+        mixed.enter();
+        assertFalse(mixed.allSettled());
+        mixed.settled("P1_ANN");
+        assertTrue(mixed.allSettled());
+        List<DVCCard> botHand = mixed.board().find("BOT1").hand().snapshot();
+        for (int i = 1; i < botHand.size(); i++) {
+            if (!botHand.get(i - 1).isJoker() && !botHand.get(i).isJoker()) assertTrue(DVCCard.compareForOrder(botHand.get(i - 1), botHand.get(i)) < 0);
+        }
+
+        for (long seed = 1; seed <= 100; seed++) {
+            DVCRuntimePhase rt = bots(List.of("BOT1", "BOT2", "BOT3", "BOT4"), seed);
+            assertTrue(rt.playBots() > 0);
+            assertTrue(rt.isFinished());
+            assertNotNull(rt.winnerId());
+            assertEquals(0, rt.playBots(), "nothing left to play");
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.flip.backend.dvc.engine;
+
+import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
+import com.flip.backend.dvc.engine.phase.DVCStartPhase;
+import com.flip.backend.dvc.engine.state.DVCRuntimeSnapshot;
+import com.flip.backend.dvc.engine.state.DVCSnapshotCodec;
+import com.flip.backend.dvc.engine.state.DVCStartSnapshot;
+import com.flip.backend.dvc.entities.DVCCard;
+import com.flip.backend.dvc.entities.DVCPlayer;
+import com.flip.backend.game.rng.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Passivation round trip for DVC: the game is snapshotted and restored before every input, and must stay in
+ * lockstep with an untouched copy through every awaiting state until the end.
+ */
+public class DVCSnapshotTest {
+
+    @Test
+    void restoreBeforeEveryInputMatchesUninterruptedGame() {
+        for (long seed = 1; seed <= 10; seed++) {
+            List<String> ids = seed % 2 == 0 ? List.of("A", "B", "C") : List.of("A", "B");
+            DVCRuntimePhase original = started(ids, seed);
+            DVCRuntimePhase copy = started(ids, seed);
+            int steps = 0;
+            while (!original.isFinished() && steps++ < 500) {
+                copy = DVCRuntimePhase.restore(copy.snapshot());
+                for (String id : ids) assertEquals(original.buildView(id), copy.buildView(id), "seed " + seed + " step " + steps);
+                assertEquals(step(original, steps), step(copy, steps));
+            }
+            assertTrue(original.isFinished(), "game should finish");
+            copy = DVCRuntimePhase.restore(copy.snapshot());
+            assertTrue(copy.isFinished());
+            assertEquals(original.winnerId(), copy.winnerId());
+            assertNotNull(copy.endingPhase());
+        }
+    }
+
+    @Test
+    void startPhaseRoundTripKeepsHandsOrderAndSettled() {
+        DVCStartPhase start = new DVCStartPhase(List.of("A", "B", "C", "D"), RandomSource.seeded(7));
+        start.enter();
+        start.settled("B");
+        DVCStartPhase restored = DVCStartPhase.restore(start.snapshot());
+        for (String id : List.of("A", "B", "C", "D")) assertEquals(start.buildView(id), restored.buildView(id));
+        assertEquals(start.deck().remaining(), restored.deck().remaining());
+        assertFalse(restored.allSettled());
+        for (String id : List.of("A", "C", "D")) restored.settled(id);
+        assertTrue(restored.allSettled());
+    }
+
+    @Test
+    void stateTokensRoundTripFaceAndRevealFlag() {
+        DVCCard joker = DVCCard.joker(DVCCard.Color.WHITE);
+        DVCCard eleven = DVCCard.number(DVCCard.Color.BLACK, 11);
+        eleven.reveal();
+        DVCCard j = DVCCard.fromStateToken(joker.stateToken());
+        DVCCard e = DVCCard.fromStateToken(eleven.stateToken());
+        assertTrue(j.isJoker());
+        assertFalse(j.isFaceUp());
+        assertEquals(11, e.getNumber());
+        assertTrue(e.isFaceUp());
+        assertThrows(IllegalArgumentException.class, () -> DVCCard.fromStateToken("X1≤"));
+    }
+
+    @Test
+    void binaryCodecRoundTripsEveryAwaitingState() {
+        List<String> ids = List.of("A", "B", "C", "D");
+        DVCRuntimePhase original = started(ids, 5);
+        DVCRuntimePhase viaBlob = started(ids, 5);
+        int steps = 0;
+        java.util.Set<DVCRuntimePhase.Awaiting> seen = java.util.EnumSet.noneOf(DVCRuntimePhase.Awaiting.class);
+        while (!original.isFinished() && steps++ < 500) {
+            byte[] blob = DVCSnapshotCodec.encode(viaBlob.snapshot());
+            DVCRuntimeSnapshot decoded = DVCSnapshotCodec.decodeRuntime(blob);
+            assertEquals(viaBlob.snapshot(), decoded);
+            viaBlob = DVCRuntimePhase.restore(decoded);
+            assertEquals(failedGuessMasks(original), failedGuessMasks(viaBlob), "step " + steps);
+            seen.add(viaBlob.awaiting());
+            for (String id : ids) assertEquals(original.buildView(id), viaBlob.buildView(id));
+            assertEquals(step(original, steps), step(viaBlob, steps));
+        }
+        assertTrue(seen.containsAll(List.of(DVCRuntimePhase.Awaiting.DRAW_COLOR, DVCRuntimePhase.Awaiting.GUESS_SELECTION,
+            DVCRuntimePhase.Awaiting.REVEAL_DECISION, DVCRuntimePhase.Awaiting.SETTLE_POSITION)), seen.toString());
+        assertEquals(original.winnerId(), DVCSnapshotCodec.decodeRuntime(DVCSnapshotCodec.encode(viaBlob.snapshot())).winnerId());
+    }
+
+    @Test
+    void failedGuessMasksSurviveTheSnapshotAndOlderBlobsDecodeWithNone() {
+        List<String> ids = List.of("A", "B", "C");
+        DVCRuntimePhase rt = started(ids, 2);
+        int steps = 0;
+        while (!rt.isFinished() && failedGuessMasks(rt).stream().filter(m -> m != 0).count() < 3 && steps++ < 500) step(rt, steps);
+        List<Integer> masks = failedGuessMasks(rt);
+        assertTrue(masks.stream().filter(m -> m != 0).count() >= 3, masks.toString());
+        assertEquals(masks, failedGuessMasks(DVCRuntimePhase.restore(rt.snapshot())));
+        assertEquals(masks, failedGuessMasks(DVCRuntimePhase.restore(DVCSnapshotCodec.decodeRuntime(DVCSnapshotCodec.encode(rt.snapshot())))));
+
+        // a version 2 blob is the version 3 one without the trailing per-seat mask counts (all zero when there are none)
+        DVCRuntimeSnapshot s = rt.snapshot();
+        List<DVCRuntimeSnapshot.Seat> plain = s.seats().stream()
+            .map(seat -> new DVCRuntimeSnapshot.Seat(seat.id(), seat.bot(), seat.hand(), seat.pending())).toList();
+        DVCRuntimeSnapshot withoutMasks = new DVCRuntimeSnapshot(plain, s.currentSeat(), s.direction(), s.turnCount(),
+            s.drawPile(), s.discardPile(), s.reshuffles(), s.emptyDraws(), s.rngSeed(), s.rngState(), s.awaiting(),
+            s.turnId(), s.winnerId(), s.finished(), s.revealTarget(), s.revealIndex(), s.revealCorrect(), s.stateVersion());
+        byte[] v3 = DVCSnapshotCodec.encode(withoutMasks);
+        byte[] v2 = java.util.Arrays.copyOf(v3, v3.length - plain.size());
+        assertEquals(DVCSnapshotCodec.VERSION, v2[3]);
+        v2[3] = 2;
+        DVCRuntimePhase old = DVCRuntimePhase.restore(DVCSnapshotCodec.decodeRuntime(v2));
+        for (String id : ids) assertEquals(rt.buildView(id), old.buildView(id));
+        assertTrue(failedGuessMasks(old).stream().allMatch(m -> m == 0));
+    }
+
+    @Test
+    void binaryCodecRoundTripsStartPhaseAndChecksKind() {
+        DVCStartPhase start = new DVCStartPhase(List.of("A", "B", "C"), RandomSource.seeded(3));
+        start.enter();
+        start.settled("C");
+        DVCStartSnapshot s = start.snapshot();
+        byte[] blob = DVCSnapshotCodec.encode(s);
+        assertEquals(s, DVCSnapshotCodec.decodeStart(blob));
+        assertThrows(IllegalArgumentException.class, () -> DVCSnapshotCodec.decodeRuntime(blob));
+    }
+
+    private static DVCRuntimePhase started(List<String> ids, long seed) {
+        DVCStartPhase start = new DVCStartPhase(ids, RandomSource.seeded(seed));
+        start.enter();
+        ids.forEach(start::settled);
+        DVCRuntimePhase rt = start.transit();
+        rt.enter();
+        return rt;
+    }
+
+    /** The failed-guess mask of every hand card, seat by seat. */
+    private static List<Integer> failedGuessMasks(DVCRuntimePhase rt) {
+        List<Integer> out = new java.util.ArrayList<>();
+        for (int i = 0; i < rt.board().size(); i++) {
+            for (DVCCard c : rt.board().seatAt(i).hand().snapshot()) out.add(rt.failedGuessMask(c));
+        }
+        return out;
+    }
+
+    /** Deterministic scripted input for whatever the game awaits; every third guess is correct. */
+    private static boolean step(DVCRuntimePhase rt, int n) {
+        DVCPlayer me = (DVCPlayer) rt.board().currentPlayer();
+        String id = me.getId();
+        return switch (rt.awaiting()) {
+            case DRAW_COLOR -> rt.provideDrawColor(id, n % 2 == 0 ? "BLACK" : "WHITE");
+            case GUESS_SELECTION -> {
+                for (int off = 1; off < rt.board().size(); off++) {
+                    DVCPlayer target = rt.board().playerAt(off);
+                    List<DVCCard> hand = target.hand().snapshot();
+                    for (int i = 0; i < hand.size(); i++) {
+                        DVCCard c = hand.get(i);
+                        if (c.isFaceUp()) continue;
+                        boolean right = n % 3 == 0;
+                        if (right && c.isJoker()) yield rt.provideGuess(id, target.getId(), i, true, null);
+                        int wrong = c.isJoker() ? n % 12 : (c.getNumber() + 1 + n % 11) % 12;
+                        yield rt.provideGuess(id, target.getId(), i, false, right ? c.getNumber() : wrong);
+                    }
+                }
+                yield false;
+            }
+            case REVEAL_DECISION -> rt.provideRevealDecision(id, n % 2 == 0);
+            case SETTLE_POSITION -> rt.provideSettlePosition(id, null);
+            case SELF_REVEAL_CHOICE -> {
+                List<DVCCard> hand = me.hand().snapshot();
+                int idx = 0;
+                while (hand.get(idx).isFaceUp()) idx++;
+                yield rt.provideSelfReveal(id, idx);
+            }
+            case NONE -> false;
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.flip.backend.dvc.engine;
+
+import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
+import com.flip.backend.dvc.engine.phase.DVCStartPhase;
+import com.flip.backend.dvc.engine.view.DVCPlayerView;
+import com.flip.backend.dvc.engine.view.DVCView;
+import com.flip.backend.game.rng.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Per-player views are overlays on one shared public view; the version moves with every accepted input. */
+public class DVCViewProjectionTest {
+
+    @Test
+    void overlayOnPublicViewHidesOthersAndShowsSelf() {
+        List<String> ids = List.of("A", "B", "C");
+        DVCStartPhase start = new DVCStartPhase(ids, RandomSource.seeded(11));
+        start.enter();
+        ids.forEach(start::settled);
+        DVCRuntimePhase rt = start.transit();
+        rt.enter();
+        long v0 = rt.stateVersion();
+        assertTrue(rt.provideDrawColor(rt.board().currentPlayer().getId(), "BLACK"));
+        assertTrue(rt.stateVersion() > v0);
+
+        String me = rt.board().currentPlayer().getId();
+        DVCView pub = rt.buildPublicView();
+        assertNull(pub.perspectivePlayerId());
+        for (DVCPlayerView pv : pub.players()) assertNull(pv.pending(), "public view never carries a pending card");
+
+        DVCView mine = rt.withPerspective(pub, me);
+        assertEquals(rt.buildView(me), mine);
+        assertEquals(me, mine.perspectivePlayerId());
+        assertNotNull(mine.players().get(0).pending(), "drawn card is visible to its owner");
+        for (int i = 1; i < ids.size(); i++) assertSame(pub.players().get(i), mine.players().get(i), "other seats are shared");
+        assertEquals(rt.buildView(null), rt.withPerspective(pub, null));
+        assertEquals(rt.buildView("nobody"), rt.withPerspective(pub, "nobody"));
+    }
+
+    @Test
+    void rejectedInputFromWrongPlayerKeepsVersion() {
+        List<String> ids = List.of("A", "B");
+        DVCStartPhase start = new DVCStartPhase(ids, RandomSource.seeded(4));
+        start.enter();
+        ids.forEach(start::settled);
+        DVCRuntimePhase rt = start.transit();
+        rt.enter();
+        long v = rt.stateVersion();
+        String other = rt.board().peekNext().getId();
+        assertFalse(rt.provideDrawColor(other, "WHITE"));
+        assertEquals(v, rt.stateVersion());
+    }
+}
@@ -0,0 +1,62 @@
+package com.flip.backend.dvc.entities;
+
+import com.flip.backend.game.rng.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DVCDeckTest {
+    @Test
+    void deckInitializationHas13CardsPerColour() {
+        DVCDeck deck = new DVCDeck(RandomSource.seeded(1));
+        deck.initialize();
+        assertEquals(26, deck.total());
+        assertEquals(13, deck.remaining(DVCCard.Color.BLACK));
+        assertEquals(13, deck.remaining(DVCCard.Color.WHITE));
+    }
+
+    @Test
+    void colourDrawsTakeOnlyThatColourAndLeaveTheOtherPileAlone() {
+        DVCDeck deck = new DVCDeck(RandomSource.seeded(2));
+        deck.initialize();
+        List<DVCCard> whitesBefore = deck.drawPileSnapshot().subList(13, 26);
+        for (int i = 0; i < 13; i++) {
+            DVCCard c = deck.draw(DVCCard.Color.BLACK);
+            assertEquals(DVCCard.Color.BLACK, c.getColor());
+            assertEquals(12 - i, deck.remaining(DVCCard.Color.BLACK));
+        }
+        assertNull(deck.draw(DVCCard.Color.BLACK));
+        assertEquals(whitesBefore, deck.drawPileSnapshot());
+        assertEquals(DVCCard.Color.WHITE, deck.draw().getColor(), "an any-colour draw falls back to what is left");
+    }
+
+    @Test
+    void snapshotRestoresBothPilesInOrder() {
+        DVCDeck deck = new DVCDeck(RandomSource.seeded(3));
+        deck.initialize();
+        deck.draw(DVCCard.Color.WHITE);
+        deck.draw(DVCCard.Color.BLACK);
+        List<DVCCard> mixed = new ArrayList<>(deck.drawPileSnapshot());
+        java.util.Collections.reverse(mixed); // any token order splits back by colour
+        DVCDeck restored = new DVCDeck(RandomSource.seeded(3));
+        restored.restore(mixed, List.of(), 0L, 0L);
+        assertEquals(12, restored.remaining(DVCCard.Color.BLACK));
+        assertEquals(12, restored.remaining(DVCCard.Color.WHITE));
+        DVCCard expected = mixed.stream().filter(c -> c.getColor() == DVCCard.Color.WHITE).findFirst().orElseThrow();
+        assertSame(expected, restored.draw(DVCCard.Color.WHITE));
+    }
+
+    @Test
+    void emptyDeckDrawsAreCounted() {
+        DVCDeck deck = new DVCDeck(RandomSource.seeded(4));
+        deck.initialize();
+        while (deck.remaining() > 0) assertNotNull(deck.draw());
+        assertNull(deck.draw());
+        assertEquals(1, deck.emptyDraws());
+        deck.putBottom(DVCCard.joker(DVCCard.Color.WHITE));
+        assertEquals(1, deck.remaining(DVCCard.Color.WHITE));
+    }
+}
@@ -0,0 +1,97 @@
+package com.flip.backend.dvc.entities;
+
+import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
+import com.flip.backend.dvc.engine.phase.DVCStartPhase;
+import com.flip.backend.game.rng.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DVCHandCountersTest {
+    private static int recountHidden(DVCHand hand) {
+        return (int) hand.snapshot().stream().filter(c -> !c.isFaceUp()).count();
+    }
+
+    private static long recountActive(DVCBoard board) {
+        long n = 0;
+        for (int i = 0; i < board.size(); i++) if (recountHidden(board.playerAt(i).hand()) > 0) n++;
+        return n;
+    }
+
+    @Test
+    void handCountsFollowAddsRevealsAndRemovals() {
+        DVCHand hand = new DVCHand();
+        DVCCard b3 = DVCCard.number(DVCCard.Color.BLACK, 3);
+        DVCCard w1 = DVCCard.number(DVCCard.Color.WHITE, 1);
+        DVCCard joker = DVCCard.joker(DVCCard.Color.WHITE);
+        DVCCard shown = DVCCard.number(DVCCard.Color.BLACK, 7);
+        shown.reveal();
+        hand.addOrdered(b3);
+        hand.addRaw(w1);
+        hand.add(joker);
+        hand.addOrdered(shown);
+        assertEquals(3, hand.hiddenCount());
+        assertEquals(1, hand.revealedCount());
+        assertEquals(2, hand.countOf(DVCCard.Color.BLACK));
+        assertEquals(1, hand.hiddenCountOf(DVCCard.Color.BLACK));
+
+        b3.reveal();
+        b3.reveal(); // idempotent
+        assertEquals(2, hand.hiddenCount());
+        assertEquals(0, hand.hiddenCountOf(DVCCard.Color.BLACK));
+
+        hand.setExactOrder(List.of(joker, w1, b3, shown));
+        assertEquals(2, hand.hiddenCount());
+        assertTrue(hand.remove(w1));
+        assertEquals(1, hand.hiddenCountOf(DVCCard.Color.WHITE));
+        w1.reveal(); // no longer held: the hand is not affected
+        assertEquals(1, hand.hiddenCount());
+        hand.clear();
+        assertEquals(0, hand.hiddenCount());
+        assertEquals(0, hand.countOf(DVCCard.Color.WHITE));
+        joker.reveal();
+        assertEquals(0, hand.hiddenCount());
+    }
+
+    @Test
+    void boardTracksPlayersRunningOutOfHiddenCards() {
+        DVCPlayer a = new DVCPlayer("A");
+        DVCPlayer b = new DVCPlayer("B");
+        DVCPlayer c = new DVCPlayer("C");
+        a.giveCard(DVCCard.number(DVCCard.Color.BLACK, 1));
+        b.giveCard(DVCCard.number(DVCCard.Color.BLACK, 2));
+        DVCBoard board = new DVCBoard(List.of(a, b, c));
+        assertEquals(2, board.activePlayerCount());
+
+        c.giveCard(DVCCard.number(DVCCard.Color.WHITE, 2));
+        assertEquals(3, board.activePlayerCount());
+        a.revealAt(0);
+        assertTrue(board.isEliminated(a));
+        assertEquals(2, board.activePlayerCount());
+        assertSame(b, board.firstActive());
+
+        assertTrue(board.remove("C"));
+        assertEquals(1, board.activePlayerCount());
+        c.hand().clear();
+        assertEquals(1, board.activePlayerCount(), "a removed player no longer counts");
+    }
+
+    @Test
+    void countersMatchARecountThroughoutBotGames() {
+        for (long seed = 1; seed <= 30; seed++) {
+            DVCStartPhase start = new DVCStartPhase(List.of("BOT1", "BOT2", "BOT3", "BOT4"), RandomSource.seeded(seed));
+            start.enter();
+            DVCRuntimePhase rt = start.transit();
+            rt.enter();
+            rt.playBots();
+            assertTrue(rt.isFinished());
+            assertEquals(recountActive(rt.board()), rt.board().activePlayerCount());
+            for (int i = 0; i < rt.board().size(); i++) {
+                DVCPlayer p = rt.board().playerAt(i);
+                assertEquals(recountHidden(p.hand()), p.hiddenCount());
+            }
+        }
+    }
+}
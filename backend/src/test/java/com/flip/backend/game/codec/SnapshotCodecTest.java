@@ -0,0 +1,59 @@
+package com.flip.backend.game.codec;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SnapshotCodecTest {
+
+    @Test
+    void primitivesRoundTrip() {
+        SnapshotWriter w = new SnapshotWriter(4).header(7, 300);
+        long[] longs = { 0, 1, -1, 63, -64, Long.MAX_VALUE, Long.MIN_VALUE, System.currentTimeMillis() };
+        for (long v : longs) w.writeVarLong(v);
+        int[] ints = { 0, 127, 128, 16_383, 16_384, Integer.MAX_VALUE };
+        w.writeVarInts(ints);
+        w.writeString(null);
+        w.writeString("");
+        w.writeString("W_≤ é");
+        w.writeOptionalLong(null);
+        w.writeOptionalLong(-5L);
+        w.writeBoolean(true);
+
+        SnapshotReader r = new SnapshotReader(w.toByteArray());
+        assertEquals(7, SnapshotReader.peekKind(w.toByteArray()));
+        assertEquals(300, r.header(7));
+        for (long v : longs) assertEquals(v, r.readVarLong());
+        assertArrayEquals(ints, r.readVarInts());
+        assertNull(r.readString());
+        assertEquals("", r.readString());
+        assertEquals("W_≤ é", r.readString());
+        assertNull(r.readOptionalLong());
+        assertEquals(-5L, r.readOptionalLong());
+        assertTrue(r.readBoolean());
+        assertTrue(r.atEnd());
+    }
+
+    @Test
+    void smallValuesTakeOneByte() {
+        SnapshotWriter w = new SnapshotWriter();
+        w.writeVarInt(107);
+        w.writeVarLong(-1);
+        w.writeVarLong(50);
+        assertEquals(3, w.size());
+    }
+
+    @Test
+    void rejectsWrongMagicKindAndTruncation() {
+        byte[] blob = new SnapshotWriter().header(1, 1).toByteArray();
+        assertEquals(-1, SnapshotReader.peekKind(new byte[] { 'X', 'Y', 1, 1 }));
+        assertThrows(IllegalArgumentException.class, () -> new SnapshotReader(blob).header(2));
+        assertThrows(IllegalArgumentException.class, () -> new SnapshotReader(new byte[] { 'F', 'G' }).header(1));
+        SnapshotReader r = new SnapshotReader(blob);
+        r.header(1);
+        assertThrows(IllegalArgumentException.class, r::readVarInt);
+        SnapshotWriter w = new SnapshotWriter();
+        w.writeVarInt(1_000);
+        assertThrows(IllegalArgumentException.class, () -> new SnapshotReader(w.toByteArray()).count());
+    }
+}
@@ -0,0 +1,119 @@
+package com.flip.backend.game.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameRegistryTest {
+
+    @Test
+    void getRehydratesThroughLoaderOnceAndKeepsResident() {
+        AtomicLong clock = new AtomicLong(100);
+        GameRegistry<String> registry = new GameRegistry<>(clock::get);
+        AtomicInteger loads = new AtomicInteger();
+        registry.setLoader(id -> { loads.incrementAndGet(); return id.startsWith("g") ? "restored-" + id : null; });
+
+        assertEquals("restored-g1", registry.get("g1"));
+        assertEquals("restored-g1", registry.get("g1"));
+        assertEquals(1, loads.get());
+        assertTrue(registry.isResident("g1"));
+
+        assertNull(registry.get("unknown"));
+        assertFalse(registry.isResident("unknown"));
+        assertFalse(registry.exists("unknown"));
+    }
+
+    @Test
+    void peekDoesNotTouchOrLoad() {
+        AtomicLong clock = new AtomicLong(100);
+        GameRegistry<String> registry = new GameRegistry<>(clock::get);
+        registry.setLoader(id -> "loaded");
+        assertNull(registry.peek("g1"));
+        registry.put("g1", "a");
+        clock.set(500);
+        assertEquals("a", registry.peek("g1"));
+        assertEquals(100, registry.residents().get(0).lastAccessNanos());
+        registry.get("g1");
+        assertEquals(500, registry.residents().get(0).lastAccessNanos());
+    }
+
+    @Test
+    void evictOnlyWhenUntouchedSinceSelection() {
+        AtomicLong clock = new AtomicLong(100);
+        GameRegistry<String> registry = new GameRegistry<>(clock::get);
+        registry.put("g1", "a");
+        var seen = registry.residents().get(0);
+
+        clock.set(200);
+        registry.get("g1"); // accessed after the sweeper looked at it
+        assertFalse(registry.evict("g1", seen.game(), seen.lastAccessNanos()));
+        assertTrue(registry.isResident("g1"));
+
+        var again = registry.residents().get(0);
+        assertFalse(registry.evict("g1", "other", again.lastAccessNanos()), "replaced instance must not be evicted");
+        assertTrue(registry.evict("g1", again.game(), again.lastAccessNanos()));
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void unknownIdsSkipTheLoaderUntilTheMissExpires() {
+        AtomicLong clock = new AtomicLong(0);
+        GameRegistry<String> registry = new GameRegistry<>(clock::get);
+        registry.setMissTtl(1_000);
+        AtomicInteger loads = new AtomicInteger();
+        registry.setLoader(id -> { loads.incrementAndGet(); return null; });
+
+        assertFalse(registry.exists("bogus"));
+        assertFalse(registry.exists("bogus"));
+        assertNull(registry.get("bogus"));
+        assertEquals(1, loads.get());
+        clock.set(1_000);
+        assertFalse(registry.exists("bogus"));
+        assertEquals(2, loads.get(), "expired miss asks the loader again");
+
+        registry.put("bogus", "created");
+        assertEquals("created", registry.get("bogus"), "a put clears the remembered miss");
+    }
+
+    @Test
+    void knownAbsentAnswersFromTheMissCacheWithoutLoading() {
+        AtomicLong clock = new AtomicLong(0);
+        GameRegistry<String> registry = new GameRegistry<>(clock::get);
+        registry.setMissTtl(1_000);
+        AtomicInteger loads = new AtomicInteger();
+        registry.setLoader(id -> { loads.incrementAndGet(); return id.startsWith("g") ? "restored-" + id : null; });
+
+        assertFalse(registry.knownAbsent("g1"), "a passivated game may exist");
+        assertFalse(registry.knownAbsent("bogus"), "never looked up");
+        assertEquals(0, loads.get());
+        assertFalse(registry.isResident("g1"));
+
+        assertNull(registry.get("bogus"));
+        assertTrue(registry.knownAbsent("bogus"));
+        assertEquals(1, loads.get());
+        clock.set(1_000);
+        assertFalse(registry.knownAbsent("bogus"), "an expired miss is settled by the next get");
+        assertEquals(1, loads.get());
+
+        registry.put("bogus", "created");
+        assertFalse(registry.knownAbsent("bogus"));
+        assertTrue(registry.knownAbsent(null));
+    }
+
+    @Test
+    void loadRunsOutsideTheMapAndLosesToAConcurrentPut() {
+        GameRegistry<String> registry = new GameRegistry<>(new AtomicLong()::get);
+        AtomicInteger hooks = new AtomicInteger();
+        registry.setResidentHook((id, game) -> hooks.incrementAndGet());
+        // Another writer installs the game while this lookup is still loading (a map lock held here would deadlock)
+        registry.setLoader(id -> { registry.put(id, "winner"); return "loser"; });
+
+        assertEquals("winner", registry.get("g1"));
+        assertEquals("winner", registry.peek("g1"));
+        assertEquals(1, registry.size());
+        assertEquals(2, hooks.get(), "the hook also saw the discarded copy");
+    }
+}
@@ -0,0 +1,53 @@
+package com.flip.backend.game.engine.view;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectionCacheTest {
+
+    private final List<String> built = new ArrayList<>();
+    private final ProjectionCache<String, String> cache = new ProjectionCache<>();
+
+    private String view(String game, long version, String perspective) {
+        return cache.get(game, version, perspective,
+            () -> { built.add("public@" + version); return game + "@" + version; },
+            (pub, p) -> { built.add(p + "@" + version); return p == null ? pub : pub + "/" + p; });
+    }
+
+    @Test
+    void publicPartIsBuiltOncePerVersionAndSharedByPerspectives() {
+        assertEquals("g@1/A", view("g", 1, "A"));
+        assertEquals("g@1/B", view("g", 1, "B"));
+        assertEquals("g@1", view("g", 1, null));
+        assertEquals("g@1/A", view("g", 1, "A"));
+        assertEquals(List.of("public@1", "A@1", "B@1", "null@1"), built);
+        assertEquals(1, cache.hits());
+        assertEquals(3, cache.misses());
+    }
+
+    @Test
+    void newerVersionReplacesTheEntry() {
+        view("g", 1, "A");
+        assertEquals("g@2/A", view("g", 2, "A"));
+        assertEquals(List.of("public@1", "A@1", "public@2", "A@2"), built);
+        // an older version is served uncached and does not roll the entry back
+        assertEquals("g@1/A", view("g", 1, "A"));
+        assertEquals("g@2/A", view("g", 2, "A"));
+        assertEquals(1, cache.hits());
+    }
+
+    @Test
+    void invalidateDropsGame() {
+        view("g", 1, "A");
+        view("h", 1, "A");
+        assertEquals(2, cache.size());
+        cache.invalidate("g");
+        assertEquals(1, cache.size());
+        view("g", 1, "A");
+        assertEquals(0, cache.hits());
+    }
+}
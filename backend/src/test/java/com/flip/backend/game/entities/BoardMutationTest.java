@@ -48,4 +48,27 @@ public class BoardMutationTest {
         Board<MutationPlayer> b = base();
         assertThrows(java.util.NoSuchElementException.class, () -> b.insertAfter("Z", new MutationPlayer("N")));
     }
+
+    @Test
+    void removeCurrentAtLastSeatWrapsClockwise() {
+        Board<MutationPlayer> b = new Board<>(List.of(new MutationPlayer("A"), new MutationPlayer("B"), new MutationPlayer("C"), new MutationPlayer("D")));
+        b.step(3); // D current
+        assertTrue(b.remove("D"));
+        assertEquals("A", b.currentPlayer().getId());
+        assertNull(b.find("D"));
+    }
+
+    @Test
+    void seatChangesBeforeCurrentKeepCurrentPlayer() {
+        Board<MutationPlayer> b = new Board<>(List.of(new MutationPlayer("A"), new MutationPlayer("B"), new MutationPlayer("C"), new MutationPlayer("D")));
+        b.step(2); // C current
+        b.insertAfter("A", new MutationPlayer("X")); // A X B C D
+        assertEquals("C", b.currentPlayer().getId());
+        assertEquals(1, b.seatOf("X"));
+        assertTrue(b.remove("B")); // A X C D
+        assertEquals("C", b.currentPlayer().getId());
+        assertEquals(2, b.seatOf("C"));
+        b.step(1);
+        assertEquals("D", b.currentPlayer().getId());
+    }
 }
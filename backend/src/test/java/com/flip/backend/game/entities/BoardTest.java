@@ -64,4 +64,21 @@ public class BoardTest {
         for (int i=0;i<4;i++) b.step(1);
         assertEquals("P0", b.currentPlayer().getId());
     }
+
+    @Test
+    void lookupAndOffsetIteration() {
+        Board<TestPlayer> b = make4();
+        b.step(2); // P2 current
+        assertEquals("P2", b.playerAt(0).getId());
+        assertEquals("P3", b.playerAt(1).getId());
+        assertEquals("P1", b.playerAt(-1).getId());
+        assertEquals(b.snapshotOrder().get(3), b.playerAt(3));
+        assertEquals("P1", b.find("P1").getId());
+        assertNull(b.find("nobody"));
+        assertEquals(1, b.seatOf("P1"));
+        assertEquals(-1, b.seatOf("nobody"));
+        assertEquals(2, b.currentSeat());
+        b.reverse();
+        assertEquals("P1", b.peekNext().getId());
+    }
 }
@@ -0,0 +1,66 @@
+package com.flip.backend.game.rng;
+
+import com.flip.backend.uno.entities.UnoCard;
+import com.flip.backend.uno.entities.UnoDeck;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RandomSourceTest {
+
+    @Test
+    void sameSeedSameSequence() {
+        RandomSource a = RandomSource.seeded(123L), b = RandomSource.seeded(123L);
+        for (int i = 0; i < 100; i++) assertEquals(a.nextLong(), b.nextLong());
+        assertEquals(123L, a.seed());
+        assertFalse(a.isSecure());
+    }
+
+    @Test
+    void nextIntStaysInBoundsAndCoversRange() {
+        RandomSource r = RandomSource.seeded(9L);
+        int[] hits = new int[7];
+        for (int i = 0; i < 7_000; i++) hits[r.nextInt(7)]++;
+        for (int h : hits) assertTrue(h > 800 && h < 1200, "skewed bucket: " + h);
+        assertThrows(IllegalArgumentException.class, () -> r.nextInt(0));
+    }
+
+    @Test
+    void splitDiverges() {
+        RandomSource parent = RandomSource.seeded(5L);
+        RandomSource child = parent.split();
+        assertNotEquals(parent.nextLong(), child.nextLong());
+    }
+
+    @Test
+    void shuffleIsPermutation() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 52; i++) list.add(i);
+        List<Integer> sorted = List.copyOf(list);
+        RandomSource.seeded(77L).shuffle(list);
+        assertEquals(52, new HashSet<>(list).size());
+        assertNotEquals(sorted, list);
+    }
+
+    @Test
+    void seededDecksDealIdentically() {
+        UnoDeck a = new UnoDeck(RandomSource.seeded(2024L)), b = new UnoDeck(RandomSource.seeded(2024L));
+        a.initialize(); b.initialize();
+        int n = a.total();
+        for (int i = 0; i < n; i++) {
+            UnoCard x = a.draw(), y = b.draw();
+            assertEquals(x.getDisplay(), y.getDisplay());
+        }
+    }
+
+    @Test
+    void secureSourceRecordsNoSeed() {
+        RandomSource s = RandomSource.secure();
+        assertNull(s.seed());
+        assertTrue(s.isSecure());
+    }
+}
@@ -0,0 +1,100 @@
+package com.flip.backend.service.game;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flip.backend.dvc.engine.DVCGameRegistry;
+import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
+import com.flip.backend.dvc.engine.phase.DVCStartPhase;
+import com.flip.backend.game.rng.RandomSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DVCBotTurnsTest {
+
+    private final GameActorService actors = new GameActorService(2, 256);
+    private final GameWriteBehind writeBehind = new GameWriteBehind(new GameWriteBehindTest.RecordingJdbc(), new SimpleMeterRegistry(), 500);
+    private final GameStateStore states = new GameStateStore(null, new ObjectMapper(), writeBehind, false);
+    private final DVCGameRegistry registry = new DVCGameRegistry();
+
+    /** Bots settle on their own in the start phase; humans settle here. */
+    private DVCRuntimePhase resident(String gameId, List<String> ids, long seed) {
+        DVCStartPhase start = new DVCStartPhase(ids, RandomSource.seeded(seed));
+        start.enter();
+        ids.forEach(start::settled);
+        DVCRuntimePhase rt = start.transit();
+        rt.enter();
+        registry.put(gameId, rt);
+        return rt;
+    }
+
+    private DVCBotTurns turns(Duration think, List<Long> publishedAt) {
+        DVCBotTurns turns = new DVCBotTurns(registry, actors, states, new SimpleMeterRegistry(), think, Duration.ZERO);
+        turns.setListener((id, rt) -> publishedAt.add(System.nanoTime()));
+        return turns;
+    }
+
+    private static void await(String what, java.util.function.BooleanSupplier done) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (!done.getAsBoolean()) {
+            if (System.nanoTime() > deadline) fail(what);
+            Thread.sleep(2);
+        }
+    }
+
+    @Test
+    void eachBotInputIsItsOwnTaskAfterTheThinkDelay() throws Exception {
+        Duration think = Duration.ofMillis(25);
+        List<Long> publishedAt = new CopyOnWriteArrayList<>();
+        DVCBotTurns turns = turns(think, publishedAt);
+        DVCRuntimePhase rt = resident("g", List.of("BOT1", "BOT2"), 5);
+        long version = rt.stateVersion();
+        long scheduledAt = System.nanoTime();
+        actors.submit("g", () -> { turns.schedule("g", rt); return null; }).get(10, TimeUnit.SECONDS);
+        assertEquals(version, rt.stateVersion(), "nothing is played inline");
+        assertEquals(1, turns.pendingGames());
+
+        await("bots did not move", () -> publishedAt.size() >= 4 || rt.isFinished());
+        turns.shutdown();
+        long thinkNanos = think.toNanos();
+        assertTrue(publishedAt.get(0) - scheduledAt >= thinkNanos, "the first input waits for the think delay");
+        for (int i = 1; i < publishedAt.size(); i++)
+            assertTrue(publishedAt.get(i) - publishedAt.get(i - 1) >= thinkNanos, "input " + i + " came before its delay");
+        assertNotNull(writeBehind.pending("g"), "bot inputs are staged");
+        actors.shutdown();
+    }
+
+    @Test
+    void botsPlayABotOnlyGameToTheEndOneInputAtATime() throws Exception {
+        List<Long> publishedAt = new CopyOnWriteArrayList<>();
+        DVCBotTurns turns = turns(Duration.ZERO, publishedAt);
+        DVCRuntimePhase rt = resident("g", List.of("BOT1", "BOT2", "BOT3"), 9);
+        long version = rt.stateVersion();
+        turns.schedule("g", rt);
+        await("bot-only game did not end", () -> actors.submit("g", rt::isFinished).join() && turns.pendingGames() == 0);
+        assertTrue(publishedAt.size() > 1);
+        assertEquals(publishedAt.size(), rt.stateVersion() - version, "one published state per bot input");
+        turns.shutdown();
+        actors.shutdown();
+    }
+
+    @Test
+    void nothingIsScheduledWhileAHumanIsToMove() throws Exception {
+        List<Long> publishedAt = new CopyOnWriteArrayList<>();
+        DVCBotTurns turns = turns(Duration.ZERO, publishedAt);
+        for (long seed = 1; seed < 20; seed++) {
+            DVCRuntimePhase rt = resident("g" + seed, List.of("P1_ANN", "BOT1"), seed);
+            if (rt.botToMove()) continue; // seed-dependent: a bot opens
+            turns.schedule("g" + seed, rt);
+            assertEquals(0, turns.pendingGames());
+        }
+        assertTrue(publishedAt.isEmpty());
+        turns.shutdown();
+        actors.shutdown();
+    }
+}
@@ -0,0 +1,86 @@
+package com.flip.backend.service.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameActorServiceTest {
+
+    @Test
+    void tasksOfOneGameRunInOrderAndNeverOverlap() throws Exception {
+        GameActorService actors = new GameActorService(4, 10_000);
+        List<Integer> seen = new ArrayList<>(); // deliberately unsynchronized: the actor must serialize access
+        AtomicInteger inFlight = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            int n = i;
+            futures.add(actors.execute("g1", () -> {
+                assertEquals(1, inFlight.incrementAndGet());
+                seen.add(n);
+                inFlight.decrementAndGet();
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        for (int i = 0; i < 2_000; i++) assertEquals(i, seen.get(i));
+        actors.shutdown();
+    }
+
+    @Test
+    void differentGamesRunInParallel() throws Exception {
+        GameActorService actors = new GameActorService(2, 16);
+        CountDownLatch both = new CountDownLatch(2);
+        // Each task waits for the other: only completes if the two games are on different workers at once
+        var a = actors.submit("a", () -> { both.countDown(); return await(both); });
+        var b = actors.submit("b", () -> { both.countDown(); return await(both); });
+        assertTrue(a.get(5, TimeUnit.SECONDS));
+        assertTrue(b.get(5, TimeUnit.SECONDS));
+        actors.shutdown();
+    }
+
+    @Test
+    void fullMailboxRejectsAndFailuresPropagate() throws Exception {
+        GameActorService actors = new GameActorService(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        var blocker = actors.submit("g", () -> await(release));
+        var rejected = actors.submit("g", () -> true);
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, ex.getCause());
+        release.countDown();
+        assertTrue(blocker.get(5, TimeUnit.SECONDS));
+        var failing = actors.submit("g", () -> { throw new IllegalStateException("boom"); });
+        ex = assertThrows(ExecutionException.class, () -> failing.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+        actors.retire("g");
+        assertEquals(0, actors.activeMailboxes());
+        actors.shutdown();
+    }
+
+    @Test
+    void completedTaskHasReleasedItsSlotAndMailbox() throws Exception {
+        GameActorService actors = new GameActorService(1, 1);
+        for (int i = 0; i < 2_000; i++) {
+            int n = i;
+            // Capacity 1: a submit right after the previous result is seen must never be rejected
+            assertEquals(n, actors.submit("g", () -> n).get(5, TimeUnit.SECONDS));
+            if (i % 100 == 0) {
+                actors.retire("g");
+                assertEquals(0, actors.activeMailboxes());
+            }
+        }
+        actors.shutdown();
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try { return latch.await(5, TimeUnit.SECONDS); }
+        catch (InterruptedException e) { Thread.currentThread().interrupt(); return false; }
+    }
+}
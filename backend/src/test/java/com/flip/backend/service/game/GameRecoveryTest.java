@@ -0,0 +1,97 @@
+package com.flip.backend.service.game;
+
+import com.flip.backend.dvc.engine.DVCGameRegistry;
+import com.flip.backend.dvc.engine.DVCStartRegistry;
+import com.flip.backend.dvc.engine.phase.DVCRuntimePhase;
+import com.flip.backend.dvc.engine.phase.DVCStartPhase;
+import com.flip.backend.dvc.engine.state.DVCSnapshotCodec;
+import com.flip.backend.game.rng.RandomSource;
+import com.flip.backend.uno.engine.UnoGameRegistry;
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.engine.phase.UnoStartPhase;
+import com.flip.backend.uno.engine.state.UnoSnapshotCodec;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameRecoveryTest {
+
+    private static UnoRuntimePhase uno(long seed) {
+        UnoStartPhase start = new UnoStartPhase(List.of("BOT1", "BOT2", "BOT3"), RandomSource.seeded(seed));
+        start.enter();
+        UnoRuntimePhase rt = start.transit();
+        for (int i = 0; i < 5 && rt.winnerId() == null; i++) rt.runSingleTurn();
+        return rt;
+    }
+
+    private static DVCStartPhase dvcStart(long seed) {
+        DVCStartPhase start = new DVCStartPhase(List.of("A", "B"), RandomSource.seeded(seed));
+        start.enter();
+        return start;
+    }
+
+    @Test
+    void restoresEveryKindInParallelAndSkipsCorruptRows() {
+        UnoGameRegistry unoReg = new UnoGameRegistry();
+        DVCGameRegistry dvcReg = new DVCGameRegistry();
+        DVCStartRegistry startReg = new DVCStartRegistry();
+        Set<String> hooked = ConcurrentHashMap.newKeySet();
+        unoReg.setResidentHook((id, rt) -> hooked.add(id));
+
+        List<GameRecovery.Row> rows = new ArrayList<>();
+        List<UnoRuntimePhase> originals = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            UnoRuntimePhase rt = uno(i);
+            originals.add(rt);
+            rows.add(new GameRecovery.Row("u" + i, UnoSnapshotCodec.encode(rt.snapshot())));
+        }
+        for (int i = 0; i < 300; i++) {
+            DVCStartPhase sp = dvcStart(i);
+            rows.add(new GameRecovery.Row("s" + i, DVCSnapshotCodec.encode(sp.snapshot())));
+            DVCStartPhase settled = dvcStart(i + 1000);
+            settled.settled("A");
+            settled.settled("B");
+            DVCRuntimePhase rt = settled.transit();
+            rt.enter();
+            rows.add(new GameRecovery.Row("d" + i, DVCSnapshotCodec.encode(rt.snapshot())));
+        }
+        rows.add(new GameRecovery.Row("bad1", new byte[] { 1, 2, 3 }));
+        rows.add(new GameRecovery.Row("bad2", new byte[0]));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            GameRecovery.Report report = new GameRecovery(unoReg, dvcReg, startReg).recover(rows, pool);
+            assertEquals(600, report.uno());
+            assertEquals(300, report.dvcStart());
+            assertEquals(300, report.dvc());
+            assertEquals(2, report.failed());
+            assertEquals(1200, report.recovered());
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(600, unoReg.size());
+        assertEquals(300, dvcReg.size());
+        assertEquals(300, startReg.size());
+        assertEquals(600, hooked.size(), "turn listener hook must run for every recovered UNO game");
+        for (int i = 0; i < originals.size(); i += 37) {
+            assertEquals(originals.get(i).buildView("BOT1"), unoReg.peek("u" + i).buildView("BOT1"));
+        }
+        assertFalse(unoReg.exists("bad1"));
+    }
+
+    @Test
+    void reportsAddUp() {
+        GameRecovery.Report a = new GameRecovery.Report(1, 2, 3, 4, 5);
+        GameRecovery.Report sum = a.plus(a);
+        assertEquals(new GameRecovery.Report(2, 4, 6, 8, 10), sum);
+        assertEquals(12, sum.recovered());
+        assertTrue(GameRecovery.EMPTY.format().startsWith("recovered 0 games"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.flip.backend.service.game;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameWriteBehindTest {
+
+    /** Captures batches instead of talking to a database; can fail or run a hook mid-flush. */
+    static class RecordingJdbc extends JdbcTemplate {
+        final List<List<Object>> batches = new ArrayList<>();
+        boolean fail;
+        Runnable duringWrite = () -> {};
+
+        @Override
+        public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize, ParameterizedPreparedStatementSetter<T> pss) {
+            if (fail) throw new DataAccessResourceFailureException("db down");
+            duringWrite.run();
+            batches.add(new ArrayList<>(batchArgs));
+            return new int[0][];
+        }
+    }
+
+    private static GameWriteBehind.Dirty dirty(int marker, String state) {
+        return new GameWriteBehind.Dirty(new byte[] { (byte) marker }, null, state);
+    }
+
+    @Test
+    void repeatedUpdatesCoalesceIntoOneRow() {
+        RecordingJdbc jdbc = new RecordingJdbc();
+        GameWriteBehind wb = new GameWriteBehind(jdbc, new SimpleMeterRegistry(), 500);
+        wb.enqueue("g1", dirty(1, "RUNNING"));
+        wb.enqueue("g1", dirty(2, "RUNNING"));
+        wb.enqueue("g2", dirty(3, "ENDED"));
+        assertEquals(2, wb.dirtyCount());
+        assertEquals(2, wb.pending("g1").blob()[0]);
+
+        wb.flush();
+        assertEquals(1, jdbc.batches.size());
+        assertEquals(2, jdbc.batches.get(0).size());
+        @SuppressWarnings("unchecked")
+        var g1 = jdbc.batches.get(0).stream().map(o -> (Map.Entry<String, GameWriteBehind.Dirty>) o)
+            .filter(e -> e.getKey().equals("g1")).findFirst().orElseThrow();
+        assertEquals(2, g1.getValue().blob()[0]);
+        assertEquals(0, wb.dirtyCount());
+        assertNull(wb.pending("g1"));
+
+        wb.flush(); // nothing dirty -> no database call
+        assertEquals(1, jdbc.batches.size());
+    }
+
+    @Test
+    void failedFlushKeepsEverythingForRetry() {
+        RecordingJdbc jdbc = new RecordingJdbc();
+        GameWriteBehind wb = new GameWriteBehind(jdbc, new SimpleMeterRegistry(), 500);
+        wb.enqueue("g1", dirty(1, "RUNNING"));
+        jdbc.fail = true;
+        wb.flush();
+        assertEquals(1, wb.dirtyCount());
+        jdbc.fail = false;
+        wb.flush();
+        assertEquals(0, wb.dirtyCount());
+        assertEquals(1, jdbc.batches.size());
+    }
+
+    @Test
+    void updateArrivingDuringFlushIsNotLost() {
+        RecordingJdbc jdbc = new RecordingJdbc();
+        GameWriteBehind wb = new GameWriteBehind(jdbc, new SimpleMeterRegistry(), 500);
+        wb.enqueue("g1", dirty(1, "RUNNING"));
+        jdbc.duringWrite = () -> wb.enqueue("g1", dirty(9, "RUNNING"));
+        wb.flush();
+        assertEquals(1, wb.dirtyCount());
+        assertEquals(9, wb.pending("g1").blob()[0]);
+    }
+}
@@ -0,0 +1,123 @@
+package com.flip.backend.service.game;
+
+import com.flip.backend.api.dto.LobbyDtos.PlayerStartInfo;
+import com.flip.backend.persistence.GameSeatEntity;
+import com.flip.backend.persistence.GameSeatRepository;
+import com.flip.backend.persistence.SessionMemberEntity;
+import com.flip.backend.persistence.SessionMemberRepository;
+import com.flip.backend.persistence.UserEntity;
+import com.flip.backend.persistence.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeatAccessServiceTest {
+    private static final String SESSION = "s1";
+    private static final String GAME = "s1:UNO:r1";
+
+    /** Host 1 ("Ann"), members 2 ("Bob") and 3 ("B.O.B"), whose seat names both sanitise to BOB. */
+    private final List<SessionMemberEntity> members = List.of(
+        member(1L, "Ann"), member(2L, "Bob"), member(3L, "B.O.B"));
+    private final Map<String, Long> usersByEmail = Map.of("ann@x", 1L, "bob@x", 2L, "bob2@x", 3L, "eve@x", 4L);
+    private final List<GameSeatEntity> saved = new ArrayList<>();
+    private final AtomicInteger seatLookups = new AtomicInteger();
+
+    private final SeatAccessService access = new SeatAccessService(
+        repo(GameSeatRepository.class, Map.of(
+            "save", a -> { saved.add((GameSeatEntity) a[0]); return a[0]; },
+            "findByGameIdAndPlayerId", a -> {
+                seatLookups.incrementAndGet();
+                return saved.stream().filter(s -> s.getGameId().equals(a[0]) && s.getPlayerId().equals(a[1])).findFirst();
+            })),
+        repo(SessionMemberRepository.class, Map.of(
+            "findBySessionId", a -> SESSION.equals(a[0]) ? members : List.of())),
+        repo(UserRepository.class, Map.of(
+            "findByEmail", a -> Optional.ofNullable(usersByEmail.get((String) a[0]))
+                .map(id -> UserEntity.builder().id(id).email((String) a[0]).build()))));
+
+    private static SessionMemberEntity member(long userId, String nickname) {
+        return SessionMemberEntity.builder().sessionId(SESSION).userId(userId).nickname(nickname).build();
+    }
+
+    /** Repository double answering only the methods the service calls. */
+    @SuppressWarnings("unchecked")
+    private static <R> R repo(Class<R> type, Map<String, Function<Object[], Object>> methods) {
+        return (R) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            Function<Object[], Object> f = methods.get(method.getName());
+            if (f == null) throw new UnsupportedOperationException(method.getName());
+            return f.apply(args);
+        });
+    }
+
+    private void start(List<PlayerStartInfo> players) {
+        access.checkSeats(SESSION, players);
+        access.recordSeats(GAME, players);
+    }
+
+    private static PlayerStartInfo human(String playerId, String name, Long userId) {
+        return new PlayerStartInfo(playerId, name, false, true, userId);
+    }
+
+    @Test
+    void ownSeatIsAllowed() {
+        start(List.of(human("P1_ANN", "Ann", 1L), human("P2_BOB", "Bob", 2L)));
+        assertTrue(access.mayView(GAME, "ann@x", "P1_ANN"));
+        assertTrue(access.mayView(GAME, "bob@x", "P2_BOB"));
+    }
+
+    @Test
+    void anotherPlayersSeatIsDenied() {
+        start(List.of(human("P1_ANN", "Ann", 1L), human("P2_BOB", "Bob", 2L)));
+        assertFalse(access.mayView(GAME, "bob@x", "P1_ANN"));
+        assertFalse(access.mayView(GAME, "eve@x", "P2_BOB"), "not in the game at all");
+        assertFalse(access.mayView(GAME, "nobody@x", "P2_BOB"), "unknown user");
+        assertFalse(access.mayView("s1:UNO:r2", "bob@x", "P2_BOB"), "seats are per game");
+    }
+
+    @Test
+    void hostIsDeniedOnSeatsThatAreNotTheirs() {
+        start(List.of(human("P1_ANN", "Ann", 1L), human("P2_BOB", "Bob", 2L), new PlayerStartInfo("BOT1", "Bot1", true, true, null),
+            human("P3_CARL", "Carl", null)));
+        assertTrue(access.mayView(GAME, "ann@x", "P1_ANN"));
+        assertFalse(access.mayView(GAME, "ann@x", "P2_BOB"));
+        assertFalse(access.mayView(GAME, "ann@x", "BOT1"));
+        assertFalse(access.mayView(GAME, "ann@x", "P3_CARL"), "a seat started without a user has no private view");
+    }
+
+    @Test
+    void collidingNicknamesStayOnTheirOwnSeats() {
+        // "Bob" and "B.O.B" both sanitise to BOB: only the recorded user decides
+        start(List.of(human("P1_BOB", "Bob", 2L), human("P2_BOB", "B.O.B", 3L)));
+        assertTrue(access.mayView(GAME, "bob@x", "P1_BOB"));
+        assertFalse(access.mayView(GAME, "bob@x", "P2_BOB"));
+        assertTrue(access.mayView(GAME, "bob2@x", "P2_BOB"));
+        assertFalse(access.mayView(GAME, "bob2@x", "P1_BOB"));
+    }
+
+    @Test
+    void commandsAreBoundToTheSeatsUserAndOwnersAreLookedUpOnce() {
+        start(List.of(human("P1_ANN", "Ann", 1L), human("P2_BOB", "Bob", 2L)));
+        assertTrue(access.holdsSeat(GAME, 2L, "P2_BOB"));
+        assertFalse(access.holdsSeat(GAME, 1L, "P2_BOB"), "the host cannot act for another seat");
+        assertFalse(access.holdsSeat(GAME, null, "P2_BOB"));
+        int lookups = seatLookups.get();
+        for (int i = 0; i < 5; i++) assertTrue(access.holdsSeat(GAME, 2L, "P2_BOB"));
+        assertEquals(lookups, seatLookups.get(), "the recorded owner is cached");
+    }
+
+    @Test
+    void seatsMustBelongToDistinctSessionMembers() {
+        assertThrows(IllegalArgumentException.class, () -> access.checkSeats(SESSION, List.of(human("P1_EVE", "Eve", 4L))));
+        assertThrows(IllegalArgumentException.class,
+            () -> access.checkSeats(SESSION, List.of(human("P1_ANN", "Ann", 1L), human("P2_BOB", "Bob", 1L))));
+        assertTrue(saved.isEmpty());
+    }
+}
@@ -0,0 +1,150 @@
+package com.flip.backend.service.game;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flip.backend.game.rng.RandomSource;
+import com.flip.backend.uno.engine.UnoGameRegistry;
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.engine.phase.UnoStartPhase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnoBotTurnsTest {
+
+    private final GameActorService actors = new GameActorService(2, 256);
+    private final GameWriteBehind writeBehind = new GameWriteBehind(new GameWriteBehindTest.RecordingJdbc(), new SimpleMeterRegistry(), 500);
+    private final GameStateStore states = new GameStateStore(null, new ObjectMapper(), writeBehind, false);
+    private final UnoGameRegistry registry = new UnoGameRegistry();
+
+    private UnoBotTurns turns(UnoBotSearchService.Tier tier, Duration think) {
+        UnoBotSearchService search = new UnoBotSearchService(new SimpleMeterRegistry(), tier, 1, 4, Duration.ofMillis(5), 200);
+        return new UnoBotTurns(registry, actors, states, search, new SimpleMeterRegistry(), think, Duration.ZERO);
+    }
+
+    /** Bot turns publish through the scheduler's listener, as the controller wires it. */
+    private UnoBotTurns turns(UnoBotSearchService.Tier tier, Duration think, List<Long> publishedAt) {
+        UnoBotTurns turns = turns(tier, think);
+        turns.setListener((id, rt) -> publishedAt.add(System.nanoTime()));
+        return turns;
+    }
+
+    /** A game whose first seat is a human, the way the controller keeps resident runtimes. */
+    private UnoRuntimePhase resident(String gameId) {
+        UnoStartPhase start = new UnoStartPhase(List.of("P1_ANN", "BOT1", "BOT2"), RandomSource.seeded(12));
+        start.enter();
+        UnoRuntimePhase rt = start.transit();
+        rt.setDeferBotTurns(true);
+        registry.put(gameId, rt);
+        return rt;
+    }
+
+    /** Drawing is always legal and always ends the human's turn. */
+    private static UnoRuntimePhase.PlayerCommand humanCommand(UnoRuntimePhase rt) {
+        return new UnoRuntimePhase.PlayerCommand("DRAW_CARD", rt.board().currentPlayer().getId(), null, null);
+    }
+
+    private void awaitHumanOrEnd(String gameId, UnoBotTurns turns) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            boolean botToMove = actors.submit(gameId, () -> registry.get(gameId).botToMove()).get(10, TimeUnit.SECONDS);
+            if (!botToMove && turns.pendingGames() == 0) return;
+            Thread.sleep(2);
+        }
+        fail("bots did not hand the turn back");
+    }
+
+    @Test
+    void theCommandReturnsBeforeTheBotsWhoThenPlayInTheirOwnTasksAfterTheThinkDelay() throws Exception {
+        Duration think = Duration.ofMillis(25);
+        for (UnoBotSearchService.Tier tier : UnoBotSearchService.Tier.values()) {
+            String gameId = "g-" + tier;
+            List<Long> publishedAt = new CopyOnWriteArrayList<>();
+            UnoRuntimePhase rt = resident(gameId);
+            UnoBotTurns turns = turns(tier, think, publishedAt);
+            int botRounds = 0;
+            for (int round = 0; round < 10 && rt.winnerId() == null; round++) {
+                long[] scheduledAt = new long[1];
+                int humanPublishes = actors.submit(gameId, () -> {
+                    assertFalse(rt.botToMove(), "the human is to move");
+                    assertTrue(rt.applyPlayerCommand(humanCommand(rt)).applied());
+                    int published = publishedAt.size();
+                    scheduledAt[0] = System.nanoTime();
+                    turns.schedule(gameId, rt);
+                    if (rt.botToMove()) {
+                        // the bot is still to move when the human's task ends: its turn is a later task
+                        assertEquals(1, turns.pendingGames());
+                        assertEquals(published, publishedAt.size(), "no bot turn is played inline");
+                    }
+                    return published;
+                }).get(10, TimeUnit.SECONDS);
+                boolean botNext = publishedAt.size() > humanPublishes || turns.pendingGames() > 0;
+                awaitHumanOrEnd(gameId, turns);
+                if (!botNext) continue;
+                botRounds++;
+                assertTrue(publishedAt.size() > humanPublishes, "each bot turn is published");
+                assertTrue(publishedAt.get(humanPublishes) - scheduledAt[0] >= think.toNanos(),
+                    "the first bot turn waits for the think delay");
+            }
+            assertTrue(botRounds > 0, "bots moved in " + tier);
+            assertNotNull(writeBehind.pending(gameId), "bot turns are staged");
+            turns.shutdown();
+        }
+        actors.shutdown();
+    }
+
+    @Test
+    void aWinningBotTurnIsPublished() throws Exception {
+        UnoStartPhase start = new UnoStartPhase(List.of("BOT1", "BOT2"), RandomSource.seeded(4));
+        start.enter();
+        UnoRuntimePhase rt = start.transit();
+        rt.setDeferBotTurns(true);
+        registry.put("g", rt);
+        // the runtime's own turn listener is not called for the winning turn; the scheduler's listener is
+        List<String> winners = new CopyOnWriteArrayList<>();
+        List<Long> versions = new CopyOnWriteArrayList<>();
+        UnoBotTurns turns = turns(UnoBotSearchService.Tier.BASIC, Duration.ZERO);
+        turns.setListener((id, r) -> { winners.add(String.valueOf(r.winnerId())); versions.add(r.stateVersion()); });
+        actors.submit("g", () -> { turns.schedule("g", rt); return null; }).get(10, TimeUnit.SECONDS);
+        awaitHumanOrEnd("g", turns);
+        assertNotNull(rt.winnerId(), "a bot-only game ends");
+        assertEquals(rt.winnerId(), winners.get(winners.size() - 1), "the winning turn is published");
+        assertEquals(rt.stateVersion(), versions.get(versions.size() - 1), "subscribers see the final state");
+        assertEquals(1, winners.stream().filter(w -> !w.equals("null")).count());
+        turns.shutdown();
+        actors.shutdown();
+    }
+
+    /** The first seed whose deal gives the opening turn to a bot (who opens depends on the deal). */
+    private static UnoRuntimePhase botOpens(List<String> ids) {
+        for (long seed = 1; seed < 200; seed++) {
+            UnoStartPhase start = new UnoStartPhase(ids, RandomSource.seeded(seed));
+            start.enter();
+            UnoRuntimePhase rt = start.transit();
+            if (rt.botToMove()) return rt;
+        }
+        fail("no seed lets a bot open");
+        return null;
+    }
+
+    @Test
+    void aBotToMoveWhenTheGameBecomesResidentIsPickedUp() throws Exception {
+        UnoRuntimePhase rt = botOpens(List.of("BOT1", "P1_ANN"));
+        rt.setDeferBotTurns(true);
+        registry.put("g", rt);
+        long version = rt.stateVersion();
+        UnoBotTurns turns = turns(UnoBotSearchService.Tier.BASIC, Duration.ZERO);
+        turns.schedule("g", rt);
+        assertEquals(1, turns.pendingGames());
+        awaitHumanOrEnd("g", turns);
+        assertTrue(rt.stateVersion() > version, "the bot moved");
+        assertTrue(rt.winnerId() != null || !rt.botToMove());
+        turns.shutdown();
+        actors.shutdown();
+    }
+}
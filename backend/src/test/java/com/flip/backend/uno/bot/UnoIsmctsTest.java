@@ -0,0 +1,94 @@
+package com.flip.backend.uno.bot;
+
+import com.flip.backend.game.rng.RandomSource;
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.engine.phase.UnoStartPhase;
+import com.flip.backend.uno.entities.UnoCard;
+import com.flip.backend.uno.entities.UnoPlayer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnoIsmctsTest {
+
+    private static UnoRuntimePhase game(long seed, int turns) {
+        UnoStartPhase start = new UnoStartPhase(List.of("BOT0", "BOT1", "BOT2", "BOT3"), RandomSource.seeded(seed));
+        start.enter();
+        UnoRuntimePhase rt = start.transit();
+        for (int i = 0; i < turns && rt.winnerId() == null; i++) rt.runSingleTurn();
+        return rt;
+    }
+
+    private static UnoPlayer current(UnoRuntimePhase rt) { return (UnoPlayer) rt.board().currentPlayer(); }
+
+    @Test
+    void determinisationsKeepEveryCardAndTheKnownHandSizes() {
+        SplittableRandom rng = new SplittableRandom(1);
+        for (long seed = 1; seed <= 20; seed++) {
+            UnoRuntimePhase rt = game(seed, (int) seed * 3);
+            if (rt.winnerId() != null) continue;
+            UnoPlayer me = current(rt);
+            UnoInfoSet info = UnoInfoSet.capture(rt, me);
+            UnoSearchState s = new UnoSearchState(info.players);
+            for (int d = 0; d < 5; d++) {
+                info.determinize(s, rng);
+                int total = s.pileSize + s.discardSize + (s.top >= 0 ? 1 : 0);
+                for (int p = 0; p < s.players; p++) {
+                    int inHand = 0;
+                    for (int f = 0; f < UnoFaces.COUNT; f++) inHand += s.hands[p * UnoFaces.COUNT + f];
+                    assertEquals(s.handSize[p], inHand);
+                    assertEquals(rt.board().seatAt(p).cardCount(), inHand, "seat " + p + " keeps its size");
+                    total += inHand;
+                }
+                assertEquals(108, total, "seed " + seed);
+                for (UnoCard c : me.getHand().view()) assertTrue(s.hands[info.observer * UnoFaces.COUNT + UnoFaces.of(c)] > 0);
+            }
+        }
+    }
+
+    @Test
+    void searchReturnsAMoveTheRuntimeAccepts() {
+        for (long seed = 1; seed <= 10; seed++) {
+            UnoRuntimePhase rt = game(seed, 10);
+            if (rt.winnerId() != null) continue;
+            UnoPlayer me = current(rt);
+            UnoIsmcts.Result r = UnoIsmcts.search(UnoInfoSet.capture(rt, me), new SplittableRandom(seed), Long.MAX_VALUE, 200);
+            assertTrue(r.iterations() <= 200);
+            UnoMove move = r.toMove(me);
+            if (!move.isDraw()) {
+                assertTrue(me.getHand().view().contains(move.card()));
+                boolean wild = move.card().getType() == UnoCard.Type.WILD || move.card().getType() == UnoCard.Type.WILD_DRAW_FOUR;
+                assertEquals(wild, move.color() != null, "only wilds name a colour");
+            }
+            long before = rt.lastEventSeq();
+            rt.setBotPolicy((runtime, bot) -> move);
+            rt.runSingleTurn();
+            assertTrue(rt.lastEventSeq() > before);
+        }
+    }
+
+    @Test
+    void theDeadlineBoundsTheSearch() {
+        UnoRuntimePhase rt = game(4, 6);
+        UnoIsmcts.Result r = UnoIsmcts.search(UnoInfoSet.capture(rt, current(rt)), new SplittableRandom(4), System.nanoTime(), 1_000_000);
+        assertTrue(r.iterations() <= 1, "an expired deadline stops at the first clock read");
+    }
+
+    @Test
+    void seededGamesWithASearchingSeatFinishAndRepeat() {
+        String[] winners = new String[2];
+        for (int run = 0; run < 2; run++) {
+            UnoRuntimePhase rt = game(9, 0);
+            UnoIsmctsPolicy search = new UnoIsmctsPolicy(9, Long.MAX_VALUE, 100);
+            rt.setBotPolicy((runtime, bot) -> bot.getId().equals("BOT1") ? search.choose(runtime, bot) : null);
+            for (int t = 0; t < 3000 && rt.winnerId() == null; t++) rt.runSingleTurn();
+            assertNotNull(rt.winnerId());
+            assertTrue(search.iterations() > 0);
+            winners[run] = rt.winnerId();
+        }
+        assertEquals(winners[0], winners[1], "iteration-bounded searches are reproducible");
+    }
+}
@@ -0,0 +1,106 @@
+package com.flip.backend.uno.engine;
+
+import com.flip.backend.game.rng.RandomSource;
+import com.flip.backend.uno.engine.phase.UnoRuntimePhase;
+import com.flip.backend.uno.engine.phase.UnoStartPhase;
+import com.flip.backend.uno.engine.state.UnoSnapshot;
+import com.flip.backend.uno.engine.state.UnoSnapshotCodec;
+import com.flip.backend.uno.entities.UnoCard;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Passivation round trip: a restored runtime must continue exactly like the original. */
+public class UnoSnapshotTest {
+
+    private static UnoRuntimePhase seededGame(long seed) {
+        UnoStartPhase start = new UnoStartPhase(List.of("BOT1", "BOT2", "BOT3", "BOT4"), RandomSource.seeded(seed));
+        start.enter();
+        return start.transit();
+    }
+
+    @Test
+    void restoredGameFinishesIdenticallyToOriginal() {
+        for (long seed = 1; seed <= 20; seed++) {
+            UnoRuntimePhase original = seededGame(seed);
+            for (int i = 0; i < 15 && original.winnerId() == null; i++) original.runSingleTurn();
+            UnoRuntimePhase restored = UnoRuntimePhase.restore(original.snapshot());
+            assertEquals(original.buildView("BOT1"), restored.buildView("BOT1"));
+
+            int guard = 0;
+            while (original.winnerId() == null && guard++ < 5000) {
+                original.runSingleTurn();
+                restored.runSingleTurn();
+            }
+            assertEquals(original.winnerId(), restored.winnerId(), "seed " + seed);
+            assertEquals(original.buildView(null), restored.buildView(null));
+            assertEquals(texts(original), texts(restored));
+            assertNotNull(restored.endingPhase());
+        }
+    }
+
+    @Test
+    void snapshotKeepsTableOrderAndRngState() {
+        UnoRuntimePhase original = seededGame(42);
+        for (int i = 0; i < 7 && original.winnerId() == null; i++) original.runSingleTurn();
+        UnoSnapshot s = original.snapshot();
+        assertEquals(List.of("BOT1", "BOT2", "BOT3", "BOT4"), s.seats().stream().map(UnoSnapshot.Seat::id).toList());
+        assertEquals(42L, s.rngSeed());
+        assertNotNull(s.rngState());
+        UnoSnapshot again = UnoRuntimePhase.restore(s).snapshot();
+        assertEquals(s.currentSeat(), again.currentSeat());
+        assertEquals(s.direction(), again.direction());
+        assertEquals(s.rngState(), again.rngState());
+        assertArrayEquals(s.drawPile(), again.drawPile());
+        assertArrayEquals(s.discardPile(), again.discardPile());
+        for (int i = 0; i < s.seats().size(); i++) {
+            assertArrayEquals(s.seats().get(i).hand(), again.seats().get(i).hand());
+        }
+    }
+
+    @Test
+    void cardCodesRoundTripPhysicalAndAdHocCards() {
+        for (int id = 0; id < UnoCard.PHYSICAL_COUNT; id++) {
+            assertSame(UnoCard.physical(id), UnoCard.fromCode(UnoCard.physical(id).code()));
+        }
+        for (UnoCard adHoc : List.of(UnoCard.number(UnoCard.Color.BLUE, 9), UnoCard.skip(UnoCard.Color.RED),
+                UnoCard.wild(), UnoCard.wildDrawFour(), UnoCard.drawTwo(UnoCard.Color.GREEN))) {
+            UnoCard back = UnoCard.fromCode(adHoc.code());
+            assertFalse(back.isPhysical());
+            assertEquals(adHoc.getDisplay(), back.getDisplay());
+        }
+    }
+
+    @Test
+    void binaryCodecRoundTripsEveryStateOfAGame() {
+        UnoRuntimePhase original = seededGame(11);
+        int guard = 0;
+        do {
+            UnoSnapshot s = original.snapshot();
+            byte[] blob = UnoSnapshotCodec.encode(s);
+            UnoSnapshot decoded = UnoSnapshotCodec.decode(blob);
+            assertArrayEquals(blob, UnoSnapshotCodec.encode(decoded));
+            UnoRuntimePhase restored = UnoRuntimePhase.restore(decoded);
+            assertEquals(original.buildView("BOT2"), restored.buildView("BOT2"));
+            assertEquals(original.actionLogSnapshot(), restored.actionLogSnapshot());
+            original.runSingleTurn();
+        } while (original.winnerId() == null && guard++ < 5000);
+        UnoSnapshot end = UnoSnapshotCodec.decode(UnoSnapshotCodec.encode(original.snapshot()));
+        assertEquals(original.winnerId(), end.winnerId());
+    }
+
+    @Test
+    void binaryCodecIsCompactAndRejectsForeignData() {
+        UnoRuntimePhase rt = seededGame(3);
+        byte[] blob = UnoSnapshotCodec.encode(rt.snapshot());
+        assertTrue(blob.length < 300, "fresh 4-player game should encode in a few hundred bytes, was " + blob.length);
+        assertThrows(IllegalArgumentException.class, () -> UnoSnapshotCodec.decode(new byte[] { 1, 2, 3, 4 }));
+        assertThrows(IllegalArgumentException.class, () -> UnoSnapshotCodec.decode(java.util.Arrays.copyOf(blob, blob.length - 3)));
+    }
+
+    private static List<String> texts(UnoRuntimePhase rt) {
+        return rt.actionLogSnapshot().stream().map(e -> e.seq() + ":" + e.text()).toList();
+    }
+}
@@ -1,6 +1,10 @@
 package com.flip.backend.uno.entities;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class UnoHandTest {
@@ -20,4 +24,66 @@ class UnoHandTest {
         assertTrue(hand.removeByDisplay("GREEN 9"));
         assertEquals(0, hand.size());
     }
+
+    @Test
+    void physicalIdsCoverTheDeckOnce() {
+        UnoDeck deck = new UnoDeck();
+        deck.initialize();
+        Set<Integer> ids = new HashSet<>();
+        UnoCard c;
+        while ((c = deck.draw()) != null) {
+            assertTrue(c.isPhysical());
+            assertSame(c, UnoCard.physical(c.id()));
+            assertTrue(ids.add(c.id()), "duplicate id " + c.id());
+        }
+        assertEquals(UnoCard.PHYSICAL_COUNT, ids.size());
+        assertEquals("BLUE DRAW_TWO", UnoCard.physical(99).getDisplay());
+        assertEquals("YELLOW 9", UnoCard.physical(25 + 18).getDisplay());
+    }
+
+    @Test
+    void membershipAndFindTrackAddRemove() {
+        UnoHand hand = new UnoHand();
+        UnoCard red5 = UnoCard.physical(UnoCard.physicalBase(UnoCard.Color.RED, UnoCard.Type.NUMBER, 5) + 1);
+        UnoCard loose = UnoCard.skip(UnoCard.Color.GREEN); // ad-hoc, no physical id
+        hand.add(red5);
+        hand.add(loose);
+        assertTrue(hand.contains(red5));
+        assertTrue(hand.contains(loose));
+        assertFalse(hand.contains(UnoCard.skip(UnoCard.Color.GREEN)));
+        assertSame(red5, hand.find(UnoCard.Color.RED, UnoCard.Type.NUMBER, 5));
+        assertSame(red5, hand.find(null, UnoCard.Type.NUMBER, 5));
+        assertNull(hand.find(UnoCard.Color.BLUE, UnoCard.Type.NUMBER, 5));
+        assertSame(loose, hand.find(UnoCard.Color.GREEN, UnoCard.Type.SKIP, null));
+        assertTrue(hand.remove(red5));
+        assertFalse(hand.remove(red5));
+        assertFalse(hand.contains(red5));
+        assertEquals(1, hand.size());
+        assertEquals(0, hand.countOf(UnoCard.Color.RED));
+    }
+
+    @Test
+    void playableCheckMatchesRules() {
+        UnoHand hand = new UnoHand();
+        hand.add(UnoCard.number(UnoCard.Color.BLUE, 3));
+        UnoCard redSeven = UnoCard.number(UnoCard.Color.RED, 7);
+        assertFalse(hand.hasPlayable(redSeven, UnoCard.Color.RED));
+        assertTrue(hand.hasPlayable(UnoCard.number(UnoCard.Color.GREEN, 3), UnoCard.Color.GREEN)); // number match
+        assertTrue(hand.hasPlayable(redSeven, UnoCard.Color.BLUE)); // active color after a wild
+        hand.add(UnoCard.reverse(UnoCard.Color.YELLOW));
+        assertTrue(hand.hasPlayable(UnoCard.reverse(UnoCard.Color.RED), UnoCard.Color.RED)); // same action type
+        hand.add(UnoCard.wild());
+        assertTrue(hand.hasPlayable(redSeven, UnoCard.Color.RED));
+    }
+
+    @Test
+    void dominantColorPrefersEnumOrderOnTies() {
+        UnoHand hand = new UnoHand();
+        assertNull(hand.dominantColor());
+        hand.add(UnoCard.number(UnoCard.Color.GREEN, 1));
+        hand.add(UnoCard.number(UnoCard.Color.YELLOW, 1));
+        assertEquals(UnoCard.Color.YELLOW, hand.dominantColor());
+        hand.add(UnoCard.number(UnoCard.Color.GREEN, 2));
+        assertEquals(UnoCard.Color.GREEN, hand.dominantColor());
+    }
 }
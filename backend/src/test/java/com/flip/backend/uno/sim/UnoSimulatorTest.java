@@ -0,0 +1,30 @@
+package com.flip.backend.uno.sim;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnoSimulatorTest {
+
+    @Test
+    void sameSeedSameOutcomeRegardlessOfThreads() {
+        UnoSimulator sim = new UnoSimulator();
+        SimulationReport single = sim.run(new SimulationConfig(600, 4, 42L, 2_000, 1));
+        SimulationReport parallel = sim.run(new SimulationConfig(600, 4, 42L, 2_000, 4));
+        assertTrue(single.sameOutcome(parallel), "seeded runs must not depend on thread count");
+    }
+
+    @Test
+    void everyGameIsAccountedFor() {
+        SimulationReport r = new UnoSimulator().run(new SimulationConfig(300, 3, 7L, 2_000, 2));
+        assertEquals(300, r.games());
+        long wins = 0;
+        for (long w : r.winsBySeat()) wins += w;
+        assertEquals(r.finished(), wins);
+        long histogram = 0;
+        for (long h : r.turnHistogram()) histogram += h;
+        assertEquals(r.finished(), histogram);
+        assertTrue(r.turnPercentile(0.5) <= r.turnPercentile(0.99));
+        assertTrue(r.gamesPerSecond() > 0);
+    }
+}
@@ -0,0 +1,94 @@
+package com.flip.backend.ws;
+
+import com.flip.backend.persistence.UserEntity;
+import com.flip.backend.persistence.UserRepository;
+import com.flip.backend.security.JwtService;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StompAuthInterceptorTest {
+    private static final String SECRET = "0123456789abcdef0123456789abcdef-test-secret";
+
+    private final JwtService jwt = new JwtService(SECRET, 60_000);
+    private final Map<String, Long> userIds = Map.of("ann@x", 7L);
+    private final StompAuthInterceptor interceptor = new StompAuthInterceptor(jwt,
+        email -> {
+            if (!userIds.containsKey(email)) throw new UsernameNotFoundException(email);
+            return new User(email, "hash", List.of());
+        },
+        users());
+    private final MessageChannel channel = (message, timeout) -> true;
+
+    @SuppressWarnings("unchecked")
+    private UserRepository users() {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(), new Class<?>[] { UserRepository.class },
+            (proxy, method, args) -> {
+                if (!method.getName().equals("findByEmail")) throw new UnsupportedOperationException(method.getName());
+                return Optional.ofNullable(userIds.get((String) args[0]))
+                    .map(id -> UserEntity.builder().id(id).email((String) args[0]).build());
+            });
+    }
+
+    private static StompHeaderAccessor frame(StompCommand command, String authorization) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        if (authorization != null) accessor.addNativeHeader("Authorization", authorization);
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+
+    private static Message<byte[]> message(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    @Test
+    void anUnauthenticatedConnectIsRefused() {
+        StompHeaderAccessor anonymous = frame(StompCommand.CONNECT, null);
+        assertThrows(MessagingException.class, () -> interceptor.preSend(message(anonymous), channel));
+        assertNull(anonymous.getUser());
+
+        StompHeaderAccessor basic = frame(StompCommand.CONNECT, "Basic YW5uOng=");
+        assertThrows(MessagingException.class, () -> interceptor.preSend(message(basic), channel));
+    }
+
+    @Test
+    void aTokenThatDoesNotParseIsRefused() {
+        String forged = new JwtService("another-secret-of-at-least-32-bytes!!", 60_000).generate("ann@x", Map.of());
+        assertThrows(MessagingException.class, () -> interceptor.preSend(message(frame(StompCommand.CONNECT, "Bearer " + forged)), channel));
+        assertThrows(MessagingException.class, () -> interceptor.preSend(message(frame(StompCommand.CONNECT, "Bearer nope")), channel));
+        String unknownUser = jwt.generate("eve@x", Map.of());
+        assertThrows(MessagingException.class, () -> interceptor.preSend(message(frame(StompCommand.CONNECT, "Bearer " + unknownUser)), channel));
+    }
+
+    @Test
+    void aValidTokenAuthenticatesTheSessionWithItsUserId() {
+        StompHeaderAccessor connect = frame(StompCommand.CONNECT, "Bearer " + jwt.generate("ann@x", Map.of()));
+        Message<byte[]> msg = message(connect);
+        assertSame(msg, interceptor.preSend(msg, channel));
+        Authentication user = assertInstanceOf(Authentication.class, connect.getUser());
+        assertEquals("ann@x", user.getName());
+        assertEquals(7L, user.getDetails(), "seats are bound to the user id");
+    }
+
+    @Test
+    void framesAfterConnectPassUntouched() {
+        StompHeaderAccessor send = frame(StompCommand.SEND, null);
+        Message<byte[]> msg = message(send);
+        assertSame(msg, interceptor.preSend(msg, channel));
+        assertNull(send.getUser());
+    }
+}
@@ -39,3 +39,8 @@ export async function selfReveal(gameId, playerId, ownIndex, token) {
 export async function settle(gameId, playerId, hand, isSettled=true, token) {
   return jsonFetch(`/api/dvc/${gameId}/settle`, { method: 'POST', body: JSON.stringify({ playerId, isSettled, hand }), headers: token? { Authorization: `Bearer ${token}` }: {} });
 }
+
+// Several steps (e.g. continued guesses) in one request, broadcast once; steps are { type: 'GUESS' | 'DRAW_COLOR' | ..., ...fields }
+export async function dvcBatch(gameId, steps, token) {
+  return jsonFetch(`/api/dvc/${gameId}/batch`, { method: 'POST', body: JSON.stringify(steps), headers: token? { Authorization: `Bearer ${token}` }: {} });
+}
@@ -0,0 +1,46 @@
+// Authenticated STOMP command channel: commands are published to /app/..., and each result comes back on the
+// user's queue with the request-id header we sent. The token is checked once, on CONNECT.
+let seq = 0;
+
+export async function openCommandSocket(token) {
+  const { Client } = await import('@stomp/stompjs');
+  const pending = new Map();
+  let connected = false;
+  const failAll = (reason) => {
+    for (const p of pending.values()) p.reject(new Error(reason));
+    pending.clear();
+  };
+  const client = new Client({
+    brokerURL: `${location.protocol==='https:'?'wss':'ws'}://${location.host}/ws`,
+    connectHeaders: { Authorization: `Bearer ${token}` },
+    reconnectDelay: 3000,
+    onConnect: () => {
+      connected = true;
+      for (const queue of ['/user/queue/uno/results', '/user/queue/dvc/results']) {
+        client.subscribe(queue, (msg) => {
+          const p = pending.get(msg.headers['request-id']);
+          if (!p) return;
+          pending.delete(msg.headers['request-id']);
+          try { p.resolve(JSON.parse(msg.body)); } catch (e) { p.reject(e); }
+        });
+      }
+    },
+    onWebSocketClose: () => { connected = false; failAll('Connection lost'); },
+  });
+  client.activate();
+  return {
+    get connected() { return connected; },
+    request(destination, body, timeoutMs = 5000) {
+      const id = String(++seq);
+      return new Promise((resolve, reject) => {
+        const timer = setTimeout(() => { pending.delete(id); reject(new Error('Command timed out')); }, timeoutMs);
+        pending.set(id, {
+          resolve: (v) => { clearTimeout(timer); resolve(v); },
+          reject: (e) => { clearTimeout(timer); reject(e); },
+        });
+        client.publish({ destination, body: JSON.stringify(body), headers: { 'request-id': id } });
+      });
+    },
+    close() { failAll('Closed'); client.deactivate(); },
+  };
+}
@@ -23,3 +23,8 @@ export function getUnoView(gameId, viewerId, token) {
 export function unoCommand(gameId, command, token) {
   return send(`/games/uno/${gameId}/commands`, { method: 'POST', body: command, token });
 }
+
+// Ordered commands applied together on the server (stops at the first rejection) with a single broadcast
+export function unoCommandBatch(gameId, commands, token) {
+  return send(`/games/uno/${gameId}/commands/batch`, { method: 'POST', body: commands, token });
+}
@@ -1,5 +1,6 @@
 import { useCallback, useEffect, useMemo, useRef, useState } from 'react';
-import { getUnoView, unoCommand } from '../api/uno';
+import { getUnoView, unoCommand, unoCommandBatch } from '../api/uno';
+import { openCommandSocket } from '../api/gameSocket';
 
 // card util helper (includes activeColor after wild plays)
 function matchesTop(card, top, activeColor) {
@@ -13,6 +14,32 @@ function matchesTop(card, top, activeColor) {
   return card.value === top.value || (card.color && top.color && card.color === top.color) || card.value === 'WILD' || card.value === 'WILD_DRAW_FOUR';
 }
 
+const EVENT_LIMIT = 50; // server keeps the last 50 action log entries
+
+// Apply a DELTA (only changed fields, new events) to the current view. Returns null when the delta does not
+// start from our version, in which case the caller resyncs with a full view.
+function applyDelta(v, d) {
+  if (!v || typeof v.version !== 'number') return null;
+  if (d.version <= v.version) return v; // already covered (e.g. by a command response)
+  if (d.baseVersion !== v.version) return null;
+  const next = { ...v, version: d.version };
+  for (const k of ['phase', 'winnerId', 'turnCount', 'top', 'activeColor', 'pendingDraw', 'pendingDrawType', 'mustChooseColor', 'colorChooser', 'lastEventSeq']) {
+    if (k in d) next[k] = d[k];
+  }
+  let players = Array.isArray(v.players) ? v.players : [];
+  if (d.handSizes) players = players.map(p => (p.playerId in d.handSizes ? { ...p, handSize: d.handSizes[p.playerId] } : p));
+  if (d.currentPlayerId) {
+    // Players are listed clockwise from the current one: rotate instead of re-sending the list
+    const i = players.findIndex(p => p.playerId === d.currentPlayerId);
+    if (i > 0) players = [...players.slice(i), ...players.slice(0, i)];
+    players = players.map(p => ({ ...p, isCurrent: p.playerId === d.currentPlayerId }));
+  }
+  if ('winnerId' in d) players = players.map(p => ({ ...p, isWinner: p.playerId === d.winnerId }));
+  next.players = players;
+  if (Array.isArray(d.events)) next.events = [...(v.events || []), ...d.events].slice(-EVENT_LIMIT);
+  return next;
+}
+
 export default function useUnoGame({ gameId, playerId, token, autoPoll = false, pollMs = 5000 }) {
   const [view, setView] = useState(null);
   const [events, setEvents] = useState([]);
@@ -23,6 +50,10 @@ export default function useUnoGame({ gameId, playerId, token, autoPoll = false,
   const timerRef = useRef(null);
   const sseRef = useRef(null);
   const sseFailures = useRef(0);
+  const viewRef = useRef(null); // latest view for synchronous delta application in SSE handlers
+  const socketRef = useRef(null); // STOMP command channel; REST is used until (and whenever not) connected
+  const [latency, setLatency] = useState(null); // last command round trip: { transport, ms }
+  useEffect(() => { viewRef.current = view; }, [view]);
 
   const load = useCallback(async () => {
   if (!gameId || !playerId) { setLoading(false); return; }
@@ -44,15 +75,40 @@ export default function useUnoGame({ gameId, playerId, token, autoPoll = false,
     // Avoid duplicate
     if (sseRef.current) return;
     try {
-      const ev = new EventSource(`/api/games/uno/${gameId}/stream`);
+      // Private stream: public events plus our own hand (HAND), so bot turns and penalties need no GET /view
+      const qs = new URLSearchParams({ viewerId: playerId, access_token: token });
+      const ev = new EventSource(`/api/games/uno/${gameId}/stream/private?${qs}`);
       sseRef.current = ev;
       ev.onmessage = (m) => {
         // Default unnamed events (INIT) ignored; named handled in addEventListener below
       };
+      ev.addEventListener('DELTA', (e) => {
+        try {
+          const delta = JSON.parse(e.data);
+          const current = viewRef.current;
+          const next = applyDelta(current, delta);
+          if (next === null) { load(); return; } // missed an update: resync with a full view
+          if (next === current) return;
+          viewRef.current = next;
+          setView(next);
+          if (Array.isArray(next.events)) setEvents(next.events);
+        } catch {/* ignore parse errors */}
+      });
+      ev.addEventListener('HAND', (e) => {
+        try {
+          const { playerId: owner, hand } = JSON.parse(e.data);
+          const current = viewRef.current;
+          if (!current || owner !== playerId || !Array.isArray(hand)) return;
+          const players = (current.players || []).map(p => (p.playerId === owner ? { ...p, hand, handSize: hand.length } : p));
+          const next = { ...current, players };
+          viewRef.current = next;
+          setView(next);
+        } catch {/* ignore parse errors */}
+      });
       ev.addEventListener('VIEW', (e) => {
         try {
           const payload = JSON.parse(e.data);
-          // Because SSE broadcast uses null perspective, we only take public fields (no private hand) unless a command response overrides later.
+          // Personal views carry our hand; keep the one we have if a payload omits it.
           setView(v => {
             if (!v) return payload;
             const existingPlayers = Array.isArray(v.players) ? v.players : [];
@@ -73,15 +129,35 @@ export default function useUnoGame({ gameId, playerId, token, autoPoll = false,
         } catch {/* ignore parse errors */}
       });
       ev.onerror = () => {
+        // While CONNECTING the browser reconnects by itself and sends Last-Event-ID: the server replays what we
+        // missed. Only a closed stream (rejected by the server) falls back to polling.
+        if (ev.readyState !== EventSource.CLOSED) return;
         sseFailures.current += 1;
-        ev.close();
         sseRef.current = null;
       };
     } catch (e) {
       sseFailures.current += 1;
     }
     return () => { if (sseRef.current) { sseRef.current.close(); sseRef.current = null; } };
-  }, [gameId, playerId, token]);
+  }, [gameId, playerId, token, load]);
+
+  // Commands over the WebSocket avoid an HTTP request (and token check) per play
+  useEffect(() => {
+    if (!gameId || !token) return;
+    let closed = false;
+    openCommandSocket(token).then(sock => { if (closed) sock.close(); else socketRef.current = sock; }).catch(() => {});
+    return () => { closed = true; socketRef.current?.close(); socketRef.current = null; };
+  }, [gameId, token]);
+
+  // Round trip over STOMP when connected, REST otherwise; the measured time is kept for comparison
+  const submit = useCallback(async (suffix, body, rest) => {
+    const sock = socketRef.current;
+    const transport = sock?.connected ? 'stomp' : 'rest';
+    const t0 = performance.now();
+    const resp = transport === 'stomp' ? await sock.request(`/app/uno/${gameId}/${suffix}`, body) : await rest();
+    setLatency({ transport, ms: performance.now() - t0 });
+    return resp;
+  }, [gameId]);
 
   // polling optional (for future multi-human games)
   useEffect(() => {
@@ -132,12 +208,12 @@ export default function useUnoGame({ gameId, playerId, token, autoPoll = false,
     if (sending || !gameId) return;
     setSending(true);
     try {
-      const resp = await unoCommand(gameId, command, token);
+      const resp = await submit('commands', command, () => unoCommand(gameId, command, token));
       applyResult(resp);
     } catch (e) {
       setError(e.message || 'Command failed');
     } finally { setSending(false); }
-  }, [gameId, token, sending]);
+  }, [gameId, token, sending, submit]);
 
   const playCard = useCallback((card) => {
     if (!myTurn || mustChooseColor) return;
@@ -146,6 +222,21 @@ export default function useUnoGame({ gameId, playerId, token, autoPoll = false,
     send({ type: 'PLAY_CARD', playerId, color: card.color, value: card.value });
   }, [myTurn, mustChooseColor, playableCards, send, playerId]);
 
+  // Wild with its color chosen up front: play and CHOOSE_COLOR go out as one batch (one round trip, one broadcast)
+  const playWild = useCallback(async (card, color) => {
+    if (!myTurn || mustChooseColor || sending || !gameId) return;
+    setSending(true);
+    try {
+      const commands = [
+        { type: 'PLAY_CARD', playerId, color: card.color, value: card.value },
+        { type: 'CHOOSE_COLOR', playerId, color },
+      ];
+      applyResult(await submit('commands/batch', commands, () => unoCommandBatch(gameId, commands, token)));
+    } catch (e) {
+      setError(e.message || 'Command failed');
+    } finally { setSending(false); }
+  }, [myTurn, mustChooseColor, sending, gameId, playerId, token, submit]);
+
   const drawCard = useCallback(() => {
     if (!canDraw) return;
     send({ type: 'DRAW_CARD', playerId });
@@ -162,9 +253,9 @@ export default function useUnoGame({ gameId, playerId, token, autoPoll = false,
   }, [canDeclareUno, send, playerId]);
 
   return {
-    view, loading, sending, error, lastResult,
+    view, loading, sending, error, lastResult, latency,
   events,
     myTurn, hand, playableCards, canDraw, canDeclareUno, mustChooseColor, pendingDraw, isFinished,
-    actions: { playCard, drawCard, chooseColor, declareUno, reload: load },
+    actions: { playCard, playWild, drawCard, chooseColor, declareUno, reload: load },
   };
 }
@@ -78,6 +78,7 @@ export default function DVCPlayScreen({ initial }) {
 			const { Client } = await import('@stomp/stompjs');
 			client = new Client({
 				brokerURL: `${location.protocol==='https:'?'wss':'ws'}://${location.host}/ws`,
+				connectHeaders: { Authorization: `Bearer ${token}` },
 				reconnectDelay: 3000,
 				onConnect: () => {
 					connected = true;
@@ -108,7 +109,7 @@ export default function DVCPlayScreen({ initial }) {
 			client.activate();
 		})();
 		return () => { active = false; try { if (connected) client?.deactivate(); } catch {} };
-	}, [gameId, myPlayerId]);
+	}, [gameId, myPlayerId, token]);
 
 	const game = useDVCGame({ view, myPlayerId });
 	const { board, awaiting, parsedHand: myCards, isMyTurn, reorderHand, canDragInitial } = game;
@@ -49,7 +49,7 @@ export default function Lobby() {
         const info = await getSession(sessionid, token);
         if (alive) {
           setSessionInfo(info);
-          setPlayers((info.players||[]).map(p=>({ name: p.nickname, bot: false, ready: true })));
+          setPlayers((info.players||[]).map(p=>({ name: p.nickname, bot: false, ready: true, userId: p.userId })));
         }
       } catch (e) {
         setError(e.message || 'Failed to load session');
@@ -101,6 +101,7 @@ export default function Lobby() {
       const { Client } = await import('@stomp/stompjs');
       client = new Client({
         brokerURL: `${location.protocol==='https:'?'wss':'ws'}://${location.host}/ws`,
+        connectHeaders: { Authorization: `Bearer ${token}` },
         reconnectDelay: 3000,
         onConnect: () => {
           subscribed = true;
@@ -109,7 +110,7 @@ export default function Lobby() {
               const payload = JSON.parse(msg.body);
               // Expect payload structure of SessionView
               setSessionInfo(payload);
-              setPlayers((payload.players||[]).map(p=>({ name: p.nickname, bot:false, ready:true })));
+              setPlayers((payload.players||[]).map(p=>({ name: p.nickname, bot:false, ready:true, userId: p.userId })));
             } catch {}
           });
       if (userTopic) {
@@ -127,7 +128,7 @@ export default function Lobby() {
     }
     connect();
     return () => { try { if (subscribed) client.deactivate(); } catch {} };
-  }, [sessionid, myUserId, nav, sessionInfo?.gameType]);
+  }, [sessionid, myUserId, nav, sessionInfo?.gameType, token]);
 
   return (
     <PageContainer>
@@ -107,7 +107,7 @@ export default function UnoPlayScreen(presentationalProps) {
 	const startNext = useCallback(async () => {
 		if (roundIndex >= totalRounds) return;
 		try {
-			const payloadPlayers = playersMeta.map(p => ({ name: p.name, bot: p.bot, ready: true }));
+			const payloadPlayers = playersMeta.map(p => ({ name: p.name, bot: p.bot, ready: true, userId: p.userId }));
 			const resp = await startNextGame(sessionid, { rounds: totalRounds, players: payloadPlayers }, token);
 			nav(`/playscreen/${sessionid}` , { state: { gameId: resp.gameId, roundIndex: resp.roundIndex, playerId: resp.myPlayerId, players: resp.players, totalRounds, results: [...pastResults, { round: roundIndex, winnerId: winner.playerId, winnerName, turns: view?.turnCount || 0 }] } });
 		} catch (e) { console.error(e); }